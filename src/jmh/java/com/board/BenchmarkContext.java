@@ -0,0 +1,35 @@
+package com.board;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 스프링 컨텍스트가 필요한 벤치마크용 애플리케이션 기동 헬퍼
+ *
+ * 개발 프로필(H2 인메모리)로 띄우되 SQL/디버그 로그는 끄고 템플릿 캐시를 켜서
+ * 운영 환경과 비슷한 조건에서 측정합니다.
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String databaseName) {
+        return new SpringApplicationBuilder(BoardApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.jpa.properties.hibernate.use_sql_comments=false",
+                        "spring.thymeleaf.cache=true",
+                        "spring.h2.console.enabled=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.board=WARN",
+                        "logging.level.org.springframework.security=WARN",
+                        "logging.level.org.hibernate.SQL=WARN")
+                .run();
+    }
+}
@@ -0,0 +1,110 @@
+package com.board.domain;
+
+import com.board.BenchmarkContext;
+import com.board.domain.entity.Comment;
+import com.board.domain.entity.Post;
+import com.board.domain.entity.User;
+import com.board.domain.enums.Role;
+import com.board.domain.repository.PostRepository;
+import com.board.domain.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대량 INSERT 처리량 측정 (행/초)
+ *
+ * jdbcBatchSize=1 은 배치 없이 행마다 왕복하던 IDENTITY 시절과 같은 전송 패턴이고,
+ * jdbcBatchSize=50 은 pooled 시퀀스 + hibernate.jdbc.batch_size 설정을 적용한 현재 동작이다.
+ * H2 인메모리는 왕복 비용이 거의 없으므로 실제 MySQL 에서는 차이가 훨씬 크게 난다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BulkInsertBenchmark {
+
+    private static final int ROWS = 500;
+    private static final int FLUSH_INTERVAL = 50;
+
+    @Param({"1", "50"})
+    private int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private User author;
+    private Post post;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("bulkinsertbench");
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        author = context.getBean(UserRepository.class).save(User.builder()
+                .username("bulkbench")
+                .email("bulkbench@example.com")
+                .password("password")
+                .nickname("대량입력")
+                .role(Role.USER)
+                .build());
+        post = context.getBean(PostRepository.class).save(Post.builder()
+                .title("댓글 대량 입력 대상")
+                .content("내용")
+                .category("자유")
+                .author(author)
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertPosts() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            for (int i = 0; i < ROWS; i++) {
+                entityManager.persist(Post.builder()
+                        .title("대량 입력 게시글 " + i)
+                        .content("대량 입력 본문 " + i)
+                        .category("자유")
+                        .author(author)
+                        .build());
+                flushPeriodically(i);
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertComments() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            for (int i = 0; i < ROWS; i++) {
+                entityManager.persist(Comment.builder()
+                        .content("대량 입력 댓글 " + i)
+                        .post(post)
+                        .author(author)
+                        .build());
+                flushPeriodically(i);
+            }
+        });
+    }
+
+    private void flushPeriodically(int index) {
+        if ((index + 1) % FLUSH_INTERVAL == 0) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.board.domain;
+
+import com.board.BenchmarkContext;
+import com.board.domain.entity.Post;
+import com.board.domain.entity.User;
+import com.board.domain.enums.Role;
+import com.board.domain.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록/정렬 쿼리 한 페이지 조회 시간 측정 (본문 분리 전후)
+ *
+ * withBody 는 본문이 posts 행에 있던 때처럼 목록 행마다 본문까지 읽는 경우이고,
+ * withoutBody 는 본문을 post_contents 로 떼어 낸 현재 목록 쿼리와 같은 컬럼만 읽는다.
+ * 두 쿼리는 본문 조인/컬럼 외에는 같다. H2 인메모리는 버퍼 풀/디스크 읽기가 없으므로
+ * 실제 MySQL 에서는 본문이 클수록 차이가 더 크게 난다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostListQueryBenchmark {
+
+    private static final int POSTS = 2_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int FLUSH_INTERVAL = 50;
+
+    private static final String COLUMNS = "p.id, p.title, p.category, p.isNotice, p.viewCount, p.likeCount, " +
+            "p.createdAt, p.thumbnailUrl, p.excerpt, a.id, a.username, a.nickname";
+
+    @Param({"latest", "views", "likes"})
+    private String sort;
+
+    @Param({"2000"})
+    private int bodyLength;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private String withoutBodyQuery;
+    private String withBodyQuery;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("postlistbench");
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+
+        User author = context.getBean(UserRepository.class).save(User.builder()
+                .username("listbench")
+                .email("listbench@example.com")
+                .password("password")
+                .nickname("목록측정")
+                .role(Role.USER)
+                .build());
+
+        String body = "목록 조회 측정용 본문 ".repeat(bodyLength / 12 + 1).substring(0, bodyLength);
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            for (int i = 0; i < POSTS; i++) {
+                Post post = Post.builder()
+                        .title("목록 측정 게시글 " + i)
+                        .content(body)
+                        .category("자유")
+                        .author(author)
+                        .build();
+                post.updatePreview(null, "목록 측정 요약 " + i);
+                entityManager.persist(post);
+                if ((i + 1) % FLUSH_INTERVAL == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+        // 정렬 컬럼마다 값이 퍼지도록 조회수/추천수를 섞어 둔다
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status ->
+                entityManager.createQuery("UPDATE Post p SET p.viewCount = MOD(p.id * 7, 1000), p.likeCount = MOD(p.id * 13, 100)")
+                        .executeUpdate());
+
+        String orderBy = switch (sort) {
+            case "views" -> " ORDER BY p.viewCount DESC, p.createdAt DESC";
+            case "likes" -> " ORDER BY p.likeCount DESC, p.createdAt DESC";
+            default -> " ORDER BY p.createdAt DESC";
+        };
+        withoutBodyQuery = "SELECT " + COLUMNS + " FROM Post p JOIN p.author a WHERE p.deleted = false" + orderBy;
+        withBodyQuery = "SELECT " + COLUMNS + ", b.content FROM Post p JOIN p.author a JOIN p.body b WHERE p.deleted = false" + orderBy;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Object[]> withoutBody() {
+        return entityManager.createQuery(withoutBodyQuery, Object[].class)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+    }
+
+    @Benchmark
+    public List<Object[]> withBody() {
+        return entityManager.createQuery(withBodyQuery, Object[].class)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+    }
+}
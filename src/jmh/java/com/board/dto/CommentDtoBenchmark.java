@@ -0,0 +1,84 @@
+package com.board.dto;
+
+import com.board.domain.entity.Comment;
+import com.board.domain.entity.Post;
+import com.board.domain.entity.User;
+import com.board.domain.enums.Role;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CommentDto 변환 비용 측정
+ *
+ * 댓글 목록 API가 댓글 트리 전체를 재귀적으로 DTO로 변환하는 비용을 측정합니다.
+ * 엔티티는 메모리에서만 구성하므로 DB 접근 비용은 포함되지 않습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentDtoBenchmark {
+
+    @Param({"10", "100", "300"})
+    private int topLevelComments;
+
+    @Param({"0", "5"})
+    private int repliesPerComment;
+
+    private List<Comment> comments;
+
+    @Setup
+    public void setUp() {
+        User author = User.builder()
+                .username("bench")
+                .email("bench@example.com")
+                .password("password")
+                .nickname("벤치마크")
+                .role(Role.USER)
+                .build();
+
+        Post post = Post.builder()
+                .title("벤치마크 게시글")
+                .content("벤치마크 내용")
+                .author(author)
+                .build();
+
+        comments = new ArrayList<>(topLevelComments);
+        for (int i = 0; i < topLevelComments; i++) {
+            Comment parent = Comment.builder()
+                    .content("댓글 " + i)
+                    .post(post)
+                    .author(author)
+                    .build();
+            for (int j = 0; j < repliesPerComment; j++) {
+                Comment.builder()
+                        .content("대댓글 " + i + "-" + j)
+                        .post(post)
+                        .author(author)
+                        .parent(parent)
+                        .build();
+            }
+            comments.add(parent);
+        }
+    }
+
+    @Benchmark
+    public List<CommentDto> fromTree() {
+        List<CommentDto> result = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            result.add(CommentDto.from(comment));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<CommentDto> fromTreeWithLikeState() {
+        List<CommentDto> result = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            result.add(CommentDto.from(comment, true));
+        }
+        return result;
+    }
+}
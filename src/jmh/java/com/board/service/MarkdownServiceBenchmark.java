@@ -0,0 +1,58 @@
+package com.board.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MarkdownService 변환 비용 측정
+ *
+ * 게시글 상세 조회마다 호출되는 마크다운/일반 텍스트 렌더링과 썸네일 추출을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MarkdownServiceBenchmark {
+
+    @Param({"1", "20"})
+    private int sections;
+
+    private MarkdownService markdownService;
+    private String markdown;
+    private String plainText;
+
+    @Setup
+    public void setUp() {
+        markdownService = new MarkdownService();
+
+        StringBuilder md = new StringBuilder();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < sections; i++) {
+            md.append("## 섹션 ").append(i).append("\n\n")
+              .append("스프링 부트 **게시판** 성능 측정을 위한 _본문_ 입니다. [링크](https://example.com/").append(i).append(")\n\n")
+              .append("- 항목 1\n- 항목 2\n- 항목 3\n\n")
+              .append("```java\nSystem.out.println(\"hello\");\n```\n\n");
+            text.append("일반 텍스트 게시글 ").append(i).append("줄 <script>alert('x')</script> & 특수문자\n");
+        }
+        // 이미지는 본문 뒤쪽에 두어 정규식이 전체를 훑도록 한다
+        md.append("![썸네일](https://example.com/images/thumbnail.png)\n");
+
+        markdown = md.toString();
+        plainText = text.toString();
+    }
+
+    @Benchmark
+    public String markdownToHtml() {
+        return markdownService.markdownToHtml(markdown);
+    }
+
+    @Benchmark
+    public String convertPlainTextToHtml() {
+        return markdownService.convertPlainTextToHtml(plainText);
+    }
+
+    @Benchmark
+    public String extractFirstImageUrl() {
+        return markdownService.extractFirstImageUrl(markdown);
+    }
+}
@@ -0,0 +1,40 @@
+package com.board.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SearchService 검색어 전처리 비용 측정
+ *
+ * 모든 검색 요청 앞단에서 실행되는 공백 정규화와 LIKE 특수문자 이스케이프를 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SearchKeywordBenchmark {
+
+    @Param({"simple", "whitespace", "special", "long"})
+    private String keywordType;
+
+    private SearchService searchService;
+    private String keyword;
+
+    @Setup
+    public void setUp() {
+        // 전처리만 측정하므로 저장소는 사용하지 않는다
+        searchService = new SearchService(null, new SimpleMeterRegistry());
+        keyword = switch (keywordType) {
+            case "whitespace" -> "   스프링    부트   게시판   검색   ";
+            case "special" -> "100%_할인 %이벤트_ 50%";
+            case "long" -> "검색어".repeat(60);
+            default -> "스프링";
+        };
+    }
+
+    @Benchmark
+    public String preprocessKeyword() {
+        return searchService.preprocessKeyword(keyword);
+    }
+}
@@ -0,0 +1,151 @@
+package com.board.view;
+
+import com.board.BenchmarkContext;
+import com.board.domain.entity.Comment;
+import com.board.domain.entity.Post;
+import com.board.domain.entity.User;
+import com.board.domain.enums.Role;
+import com.board.dto.PostSummary;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.View;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+
+import jakarta.servlet.ServletContext;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thymeleaf 템플릿 렌더링 비용 측정
+ *
+ * 실제 애플리케이션 컨텍스트의 ThymeleafViewResolver로 posts/list, posts/detail 뷰를 만들고
+ * 고정된 모델(fixture)로 렌더링합니다. DB 조회는 포함되지 않습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ThymeleafRenderBenchmark {
+
+    @Param({"10", "50"})
+    private int listSize;
+
+    @Param({"0", "30"})
+    private int commentCount;
+
+    private ConfigurableApplicationContext context;
+    private ServletContext servletContext;
+    private View listView;
+    private View detailView;
+    private Map<String, Object> listModel;
+    private Map<String, Object> detailModel;
+    private CsrfToken csrfToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = BenchmarkContext.start("thymeleafbench");
+        servletContext = ((WebApplicationContext) context).getServletContext();
+
+        ThymeleafViewResolver resolver = context.getBean(ThymeleafViewResolver.class);
+        listView = resolver.resolveViewName("posts/list", Locale.KOREAN);
+        detailView = resolver.resolveViewName("posts/detail", Locale.KOREAN);
+
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                "benchmark", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+        csrfToken = new DefaultCsrfToken("X-CSRF-TOKEN", "_csrf", "benchmark-token");
+
+        User author = User.builder()
+                .username("bench")
+                .email("bench@example.com")
+                .password("password")
+                .nickname("벤치마크")
+                .role(Role.USER)
+                .build();
+
+        List<PostSummary> posts = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            posts.add(new PostSummary((long) i + 1, "벤치마크 게시글 " + i, i % 2 == 0 ? "자유" : "질문", i == 0,
+                    0, 0, LocalDateTime.now(), null, "내용 " + i, 1L, author.getUsername(), author.getNickname()));
+        }
+        listModel = new HashMap<>();
+        listModel.put("posts", new PageImpl<>(posts, PageRequest.of(0, listSize), 1000));
+        listModel.put("currentSort", "latest");
+
+        Post post = Post.builder()
+                .title("상세 벤치마크 게시글")
+                .content("상세 내용")
+                .category("자유")
+                .author(author)
+                .isMarkdown(true)
+                .build();
+        @SuppressWarnings("unchecked")
+        List<Comment> comments = (List<Comment>) ReflectionTestUtils.getField(post, "comments");
+        for (int i = 0; i < commentCount; i++) {
+            Comment parent = Comment.builder()
+                    .content("댓글 " + i)
+                    .post(post)
+                    .author(author)
+                    .build();
+            comments.add(parent);
+            if (i % 3 == 0) {
+                comments.add(Comment.builder()
+                        .content("대댓글 " + i)
+                        .post(post)
+                        .author(author)
+                        .parent(parent)
+                        .build());
+            }
+        }
+        detailModel = new HashMap<>();
+        detailModel.put("post", post);
+        detailModel.put("htmlContent", "<h2>제목</h2><p>렌더링된 <strong>본문</strong></p>".repeat(10));
+        detailModel.put("currentUser", null);
+        detailModel.put("currentUserId", null);
+        detailModel.put("isAdmin", false);
+        detailModel.put("_csrf", csrfToken);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public String renderList() throws Exception {
+        return render(listView, listModel, "/posts");
+    }
+
+    @Benchmark
+    public String renderDetail() throws Exception {
+        return render(detailView, detailModel, "/posts/1");
+    }
+
+    private String render(View view, Map<String, Object> model, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", uri);
+        request.setAttribute(DispatcherServlet.WEB_APPLICATION_CONTEXT_ATTRIBUTE, context);
+        request.setAttribute(CsrfToken.class.getName(), csrfToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCharacterEncoding("UTF-8");
+
+        view.render(model, request, response);
+        return response.getContentAsString();
+    }
+}
@@ -0,0 +1,249 @@
+package com.board.cache;
+
+import com.board.event.PostChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.ServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 비로그인 사용자에게 보여줄 렌더링된 HTML 페이지 캐시 (PageCacheFilter 가 사용)
+ *
+ * 항목은 fresh 기간 동안 그대로 응답하고, 이후 stale 기간 동안은 한 요청만 다시 렌더링하는 사이
+ * 나머지 요청에 이전 페이지를 응답한다(stale-while-revalidate). 게시글/댓글/추천이 바뀌면 커밋 직후
+ * 해당 상세 페이지와, 바뀐 내용이 보이는 목록 페이지만 지운다 ({@link PostChangedEvent.Scope}).
+ * 목록 페이지는 컨트롤러가 {@link #recordListedPosts} 로 남긴 게시글 ID 를 함께 저장해 두고 무효화 대상을 고른다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "board.page-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PageCache {
+
+    private static final String DETAIL_PREFIX = "/posts/";
+    private static final String LISTED_POSTS_ATTRIBUTE = PageCache.class.getName() + ".LISTED_POSTS";
+    /** 추천순 목록 키 (PageCacheFilter 가 파라미터를 name=value& 로 이어 붙인다) - 추천 하나로 순서가 바뀔 수 있다 */
+    private static final String LIKE_SORTED_KEY_PART = "sort=likeCount&";
+    private static final int GZIP_MIN_BYTES = 1024;
+
+    private final Cache<String, CachedPage> cache;
+    private final long freshNanos;
+    private final boolean gzip;
+
+    /** 무효화 세대 - 렌더링 도중 무효화가 일어나면 그 결과는 저장하지 않는다 */
+    private final AtomicLong generation = new AtomicLong();
+
+    public PageCache(MeterRegistry meterRegistry,
+                     @Value("${board.page-cache.max-entries:2000}") long maxEntries,
+                     @Value("${board.page-cache.fresh-seconds:10}") long freshSeconds,
+                     @Value("${board.page-cache.stale-seconds:60}") long staleSeconds,
+                     @Value("${board.page-cache.gzip:true}") boolean gzip) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(freshSeconds + staleSeconds))
+                .recordStats()
+                .build();
+        this.freshNanos = TimeUnit.SECONDS.toNanos(freshSeconds);
+        this.gzip = gzip;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "board.page");
+    }
+
+    public static String detailKey(Long postId) {
+        return DETAIL_PREFIX + postId;
+    }
+
+    /**
+     * 목록 화면에 실린 게시글 ID 를 요청에 남긴다 - 추천 수처럼 목록 한 줄만 바뀌는 변경은 이 게시글이 실린 목록만 지운다
+     */
+    public static void recordListedPosts(ServletRequest request, Collection<Long> postIds) {
+        request.setAttribute(LISTED_POSTS_ATTRIBUTE, Set.copyOf(postIds));
+    }
+
+    /**
+     * @return 목록에 실린 게시글 ID, 남기지 않았으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public static Set<Long> listedPosts(ServletRequest request) {
+        return (Set<Long>) request.getAttribute(LISTED_POSTS_ATTRIBUTE);
+    }
+
+    public CachedPage get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * 렌더링을 시작하기 전에 읽어 두고 {@link #put} 에 넘긴다
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * @param etag         컨트롤러가 설정한 ETag 헤더 값 (없으면 null)
+     * @param lastModified 컨트롤러가 설정한 Last-Modified (epoch 밀리초, 없으면 -1)
+     * @return 저장했으면 true, 렌더링 중에 무효화가 있었으면 false
+     */
+    public boolean put(String key, long renderGeneration, byte[] body, String contentType,
+                       String etag, long lastModified, Set<Long> listedPostIds) {
+        if (renderGeneration != generation.get()) {
+            return false;
+        }
+        byte[] gzipped = gzip && body.length >= GZIP_MIN_BYTES ? gzip(body) : null;
+        cache.put(key, new CachedPage(body, gzipped, contentType, etag, lastModified,
+                System.nanoTime() + freshNanos, listedPostIds));
+        return true;
+    }
+
+    /**
+     * 게시글이 바뀌면 그 상세 페이지와, 변경 범위에 따라 영향을 받는 목록 페이지를 지운다.
+     * <ul>
+     *     <li>DETAIL - 상세 페이지만 (목록에는 댓글이 보이지 않는다)</li>
+     *     <li>LIKES - 그 게시글이 실린 목록과 추천순 목록 (게시글 ID 를 모르는 목록도 함께)</li>
+     *     <li>LISTS - 모든 목록 페이지 (정렬/카테고리/페이지 번호별)</li>
+     * </ul>
+     * 트랜잭션 밖에서 발행된 이벤트는 즉시 처리한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.postId() == null) {
+            invalidateAll();
+            log.debug("페이지 캐시 전체 무효화");
+            return;
+        }
+        generation.incrementAndGet();
+        Long postId = event.postId();
+        String detailKey = detailKey(postId);
+        cache.asMap().entrySet().removeIf(entry -> {
+            String key = entry.getKey();
+            if (key.equals(detailKey)) {
+                return true;
+            }
+            if (isDetailKey(key)) {
+                return false;
+            }
+            return switch (event.scope()) {
+                case DETAIL -> false;
+                case LIKES -> key.contains(LIKE_SORTED_KEY_PART) || entry.getValue().mayList(postId);
+                case LISTS -> true;
+            };
+        });
+        log.debug("페이지 캐시 무효화: postId={}, scope={}", postId, event.scope());
+    }
+
+    private static boolean isDetailKey(String key) {
+        if (!key.startsWith(DETAIL_PREFIX) || key.length() == DETAIL_PREFIX.length()) {
+            return false;
+        }
+        for (int i = DETAIL_PREFIX.length(); i < key.length(); i++) {
+            if (!Character.isDigit(key.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output)) {
+            gzipOutput.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * 캐시된 페이지 한 건
+     */
+    public static final class CachedPage {
+        private final byte[] body;
+        private final byte[] gzipped;
+        private final String contentType;
+        private final String etag;
+        private final long lastModified;
+        private final long freshUntilNanos;
+        private final Set<Long> listedPostIds;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private CachedPage(byte[] body, byte[] gzipped, String contentType, String etag, long lastModified,
+                           long freshUntilNanos, Set<Long> listedPostIds) {
+            this.body = body;
+            this.gzipped = gzipped;
+            this.contentType = contentType;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.freshUntilNanos = freshUntilNanos;
+            this.listedPostIds = listedPostIds;
+        }
+
+        /**
+         * 실린 게시글 ID 를 모르면 실려 있을 수 있다고 본다
+         */
+        private boolean mayList(Long postId) {
+            return listedPostIds == null || listedPostIds.contains(postId);
+        }
+
+        public boolean isFresh() {
+            return System.nanoTime() - freshUntilNanos < 0;
+        }
+
+        /**
+         * stale 항목을 다시 렌더링할 요청 하나만 true 를 받는다
+         */
+        public boolean tryStartRefresh() {
+            return refreshing.compareAndSet(false, true);
+        }
+
+        /**
+         * 다시 렌더링에 실패하면 다음 요청이 재시도할 수 있게 한다
+         */
+        public void refreshFailed() {
+            refreshing.set(false);
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public byte[] getGzipped() {
+            return gzipped;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        /**
+         * 렌더링할 때 컨트롤러가 설정한 ETag - 캐시에서 응답할 때도 조건부 GET 에 쓴다
+         */
+        public String getEtag() {
+            return etag;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+    }
+}
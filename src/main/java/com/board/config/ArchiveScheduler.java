@@ -0,0 +1,27 @@
+package com.board.config;
+
+import com.board.service.ArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 오래된 삭제 게시글/댓글 보관 주기 실행 (board.archive.enabled=true 인 경우)
+ *
+ * 여러 인스턴스에서 동시에 돌면 같은 행을 두고 경합하므로 한 인스턴스에서만 켠다.
+ */
+@Configuration
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "board.archive", name = "enabled", havingValue = "true")
+public class ArchiveScheduler {
+
+    private final ArchiveService archiveService;
+
+    @Scheduled(initialDelayString = "${board.archive.initial-delay:5m}", fixedDelayString = "${board.archive.interval:10m}")
+    public void archiveExpired() {
+        archiveService.archiveExpired();
+    }
+}
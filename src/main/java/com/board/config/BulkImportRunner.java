@@ -0,0 +1,61 @@
+package com.board.config;
+
+import com.board.service.BulkImportService;
+import com.board.service.BulkImportService.Format;
+import com.board.service.BulkImportService.ImportResult;
+import com.board.service.BulkImportService.Target;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 명령줄 대량 가져오기
+ *
+ * java -jar board.jar --spring.main.web-application-type=none \
+ *     --board.import.file=/data/posts.ndjson --board.import.target=posts
+ *
+ * 형식은 확장자(.csv 이면 CSV, 그 외 NDJSON)로 정하며 board.import.format 으로 지정할 수도 있다.
+ * 작업 이름(board.import.job, 기본값은 파일 이름)이 같으면 마지막 체크포인트부터 이어서 진행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "board.import", name = "file")
+public class BulkImportRunner implements ApplicationRunner {
+
+    private final BulkImportService bulkImportService;
+
+    @Value("${board.import.file}")
+    private Path file;
+
+    @Value("${board.import.target}")
+    private String target;
+
+    @Value("${board.import.format:}")
+    private String format;
+
+    @Value("${board.import.job:}")
+    private String job;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        String fileName = file.getFileName().toString();
+        Format inputFormat = !format.isBlank() ? Format.from(format)
+                : fileName.toLowerCase().endsWith(".csv") ? Format.CSV : Format.NDJSON;
+        String jobName = !job.isBlank() ? job : fileName.replaceAll("[^A-Za-z0-9._-]", "_");
+
+        try (InputStream input = Files.newInputStream(file)) {
+            ImportResult result = bulkImportService.importData(Target.from(target), inputFormat, input, jobName);
+            log.info("대량 가져오기 종료: file={}, 삽입 {}건, 중복 {}건, 실패 {}건, 체크포인트 {}",
+                    file, result.getInserted(), result.getSkipped(), result.getFailed(), result.getCheckpoint());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.board.config;
+
+import com.board.util.Bulkhead;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * 격리 구역 설정
+ *
+ * - search: 키워드 검색 (/posts/search, 카테고리 목록 제외) - 댓글 조인 전체 검색이 커넥션을 오래 잡는다
+ * - admin: 관리자 화면/신고 관리/가져오기/내보내기 (/admin/**)
+ *
+ * 두 구역의 동시 실행 한도를 합쳐도 커넥션 풀에 목록/상세/쓰기용 예약 커넥션이 남아야 하며,
+ * 설정이 이를 어기면 애플리케이션을 시작하지 않는다.
+ */
+@Slf4j
+@Configuration
+public class BulkheadConfig implements WebMvcConfigurer {
+
+    private final Bulkhead searchBulkhead;
+    private final Bulkhead adminBulkhead;
+
+    public BulkheadConfig(MeterRegistry meterRegistry,
+                          @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                          @Value("${board.bulkhead.reserved-connections:4}") int reservedConnections,
+                          @Value("${board.bulkhead.retry-after-seconds:2}") long retryAfterSeconds,
+                          @Value("${board.bulkhead.search.max-concurrent:4}") int searchMaxConcurrent,
+                          @Value("${board.bulkhead.search.max-queue:8}") int searchMaxQueue,
+                          @Value("${board.bulkhead.search.queue-timeout:500ms}") Duration searchQueueTimeout,
+                          @Value("${board.bulkhead.admin.max-concurrent:2}") int adminMaxConcurrent,
+                          @Value("${board.bulkhead.admin.max-queue:4}") int adminMaxQueue,
+                          @Value("${board.bulkhead.admin.queue-timeout:1s}") Duration adminQueueTimeout) {
+        int isolated = searchMaxConcurrent + adminMaxConcurrent;
+        if (poolSize - isolated < reservedConnections) {
+            throw new IllegalStateException(String.format(
+                    "격리 구역 동시 실행 한도 합계(%d)가 커넥션 풀(%d)에서 예약 커넥션(%d)을 뺀 값보다 큽니다",
+                    isolated, poolSize, reservedConnections));
+        }
+
+        this.searchBulkhead = new Bulkhead("search", searchMaxConcurrent, searchMaxQueue, searchQueueTimeout,
+                retryAfterSeconds, meterRegistry);
+        this.adminBulkhead = new Bulkhead("admin", adminMaxConcurrent, adminMaxQueue, adminQueueTimeout,
+                retryAfterSeconds, meterRegistry);
+        log.info("격리 구역: search {}, admin {}, 나머지 요청용 커넥션 {} / 풀 {}",
+                searchMaxConcurrent, adminMaxConcurrent, poolSize - isolated, poolSize);
+    }
+
+    @Bean
+    public Bulkhead searchBulkhead() {
+        return searchBulkhead;
+    }
+
+    @Bean
+    public Bulkhead adminBulkhead() {
+        return adminBulkhead;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new BulkheadInterceptor(searchBulkhead,
+                        request -> !"category".equals(request.getParameter("searchType"))))
+                .addPathPatterns("/posts/search");
+        registry.addInterceptor(new BulkheadInterceptor(adminBulkhead, request -> true))
+                .addPathPatterns("/admin/**");
+    }
+}
@@ -0,0 +1,47 @@
+package com.board.config;
+
+import com.board.util.Bulkhead;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.function.Predicate;
+
+/**
+ * 요청 단위로 격리 구역 허가를 잡는 인터셉터
+ *
+ * OSIV 때문에 DB 커넥션은 뷰 렌더링이 끝날 때까지 요청에 묶여 있으므로, 서비스 메서드가 아니라
+ * 요청이 완전히 끝날 때(afterCompletion) 허가를 반납한다. 비동기 응답(대량 내보내기)은 비동기 처리가
+ * 끝난 뒤 다시 디스패치될 때 반납한다.
+ */
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+
+    private final Bulkhead bulkhead;
+    private final Predicate<HttpServletRequest> applies;
+    private final String permitAttribute;
+
+    public BulkheadInterceptor(Bulkhead bulkhead, Predicate<HttpServletRequest> applies) {
+        this.bulkhead = bulkhead;
+        this.applies = applies;
+        this.permitAttribute = BulkheadInterceptor.class.getName() + "." + bulkhead.getName();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 재디스패치에서는 처음 잡은 허가를 그대로 쓴다
+        if (request.getAttribute(permitAttribute) != null || !applies.test(request)) {
+            return true;
+        }
+        bulkhead.acquire();
+        request.setAttribute(permitAttribute, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(permitAttribute) != null && !request.isAsyncStarted()) {
+            request.removeAttribute(permitAttribute);
+            bulkhead.release();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.board.config;
+
+import com.board.event.OutboxDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 아웃박스 이벤트 전달/정리 주기 실행 (board.outbox.dispatcher.enabled=true 인 경우)
+ *
+ * 여러 인스턴스에서 함께 돌아도 OutboxDispatcher 가 배치를 점유해 넘기므로 같은 이벤트를 동시에 넘기지 않는다.
+ */
+@Configuration
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "board.outbox.dispatcher", name = "enabled", havingValue = "true")
+public class OutboxScheduler {
+
+    private final OutboxDispatcher outboxDispatcher;
+
+    @Scheduled(initialDelayString = "${board.outbox.dispatcher.initial-delay:10s}",
+               fixedDelayString = "${board.outbox.dispatcher.interval:1s}")
+    public void dispatchPending() {
+        outboxDispatcher.dispatchPending();
+    }
+
+    @Scheduled(initialDelayString = "${board.outbox.dispatcher.initial-delay:10s}",
+               fixedDelayString = "${board.outbox.purge-interval:1h}")
+    public void purgeDispatched() {
+        outboxDispatcher.purgeDispatched();
+    }
+}
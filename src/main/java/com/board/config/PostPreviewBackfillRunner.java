@@ -0,0 +1,65 @@
+package com.board.config;
+
+import com.board.domain.entity.Post;
+import com.board.domain.repository.PostRepository;
+import com.board.dto.PostPreview;
+import com.board.service.MarkdownService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 기존 게시글의 목록 미리보기(썸네일/요약) 채우기
+ *
+ * java -jar board.jar --spring.main.web-application-type=none --board.post-preview.backfill=true
+ *
+ * 미리보기 컬럼이 생기기 전에 쓴 글은 값이 비어 있어 목록에 요약이 나오지 않는다.
+ * 요약이 없는 글만 ID 순으로 chunk-size 개씩 읽어 채우므로 중간에 멈춰도 다시 실행하면 이어서 진행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "board.post-preview", name = "backfill", havingValue = "true")
+public class PostPreviewBackfillRunner implements ApplicationRunner {
+
+    private final PostRepository postRepository;
+    private final MarkdownService markdownService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${board.post-preview.chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lastId = 0;
+        int filled = 0;
+        while (true) {
+            long afterId = lastId;
+            List<Long> ids = transactionTemplate.execute(status -> fillChunk(afterId));
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            lastId = ids.get(ids.size() - 1);
+            filled += ids.size();
+            log.info("게시글 미리보기 채우는 중: {}건 (마지막 ID {})", filled, lastId);
+        }
+        log.info("게시글 미리보기 채우기 종료: {}건", filled);
+    }
+
+    private List<Long> fillChunk(long afterId) {
+        List<Post> posts = postRepository.findWithoutPreview(afterId, PageRequest.of(0, chunkSize));
+        for (Post post : posts) {
+            PostPreview preview = markdownService.extractPreview(post.getContent(), post.getIsMarkdown());
+            postRepository.updatePreview(post.getId(), preview.thumbnailUrl(), preview.excerpt());
+        }
+        return posts.stream().map(Post::getId).toList();
+    }
+}
@@ -0,0 +1,92 @@
+package com.board.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본 라우팅 설정 - board.datasource.replica-urls 가 있을 때만 적용된다
+ *
+ * primary 커넥션 풀은 기존 spring.datasource.* 설정으로 만들고, 복제본은 같은 계정/드라이버로
+ * URL 마다 커넥션 풀을 하나씩 만든다.
+ */
+@Configuration
+@ConditionalOnExpression("!'${board.datasource.replica-urls:}'.isBlank()")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${board.datasource.replica-urls}") List<String> replicaUrls,
+            @Value("${board.datasource.replica-pool-size:10}") int replicaPoolSize,
+            @Value("${board.datasource.replica-lag-query:}") String lagQuery,
+            @Value("${board.datasource.replica-max-lag-seconds:5}") long maxLagSeconds,
+            @Value("${board.datasource.replica-check-interval:5s}") Duration checkInterval,
+            @Value("${board.datasource.read-your-writes-window:10s}") Duration readYourWritesWindow) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(replicaUrls.get(i).trim())
+                    .build();
+            replica.setPoolName(name);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            // 복제본이 내려가 있어도 애플리케이션은 primary 만으로 시작한다
+            replica.setInitializationFailTimeout(-1);
+            replica.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            replica.setMetricRegistry(meterRegistry);
+            replicas.put(name, replica);
+        }
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                primaryDataSource, replicas, lagQuery, maxLagSeconds, readYourWritesWindow, meterRegistry);
+        routingDataSource.startHealthCheck(checkInterval);
+        return routingDataSource;
+    }
+
+    /**
+     * JPA 가 사용하는 DataSource - 실제 커넥션은 첫 SQL 을 실행할 때 가져오므로
+     * 그 시점에는 트랜잭션의 readOnly 여부를 보고 라우팅할 수 있다
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * 기본값(세션이 닫힐 때까지 커넥션 유지)이면 OSIV 로 열린 요청 안에서 앞선 읽기 트랜잭션의
+     * 복제본 커넥션을 이후 쓰기 트랜잭션이 그대로 쓰게 되므로, 트랜잭션마다 커넥션을 반납한다
+     */
+    @Bean
+    public HibernatePropertiesCustomizer replicaConnectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -0,0 +1,238 @@
+package com.board.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본(replica)으로 보내는 라우팅 DataSource
+ *
+ * - 쓰기 트랜잭션과 트랜잭션 밖의 조회(OSIV 지연 로딩 등)는 항상 primary 로 보낸다.
+ * - 읽기 전용 트랜잭션은 사용 가능한 복제본에 라운드로빈으로 나눈다.
+ * - 복제본은 주기적으로 연결과 복제 지연을 확인해서, 응답이 없거나 지연이 기준을 넘으면 빼고 primary 로 보낸다.
+ * - 쓰기를 커밋한 로그인 사용자는 잠시 동안(read-your-writes 구간) 읽기도 primary 에서 한다.
+ *   방금 쓴 글이 복제본에 아직 없어서 404 가 나는 일을 막기 위함이다.
+ *
+ * 라우팅은 첫 SQL 을 실행할 때 결정되어야 하므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 쓴다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Cache<String, Boolean> recentWriters;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private final MeterRegistry meterRegistry;
+    private ScheduledExecutorService healthChecker;
+
+    /**
+     * @param replicas 복제본 이름 -> DataSource (순서 유지)
+     * @param lagQuery 복제본에서 실행할 복제 지연(초) 조회 SQL - 비어 있으면 연결만 확인한다
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, String lagQuery,
+                                    long maxLagSeconds, Duration readYourWritesWindow, MeterRegistry meterRegistry) {
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        this.meterRegistry = meterRegistry;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .maximumSize(100_000)
+                .build();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            this.replicas.add(replica);
+            targets.put(name, dataSource);
+            Gauge.builder("board.datasource.replica.available", replica, r -> r.available ? 1 : 0)
+                    .description("복제본 사용 가능 여부 (1: 사용, 0: 제외)")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+            Gauge.builder("board.datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .description("마지막으로 확인한 복제 지연 (초)")
+                    .tag("replica", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        });
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * 복제본 상태 확인을 주기적으로 실행 - 첫 확인이 끝나기 전까지는 모든 읽기를 primary 로 보낸다
+     */
+    public void startHealthCheck(Duration interval) {
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriterOnCommit();
+            return PRIMARY;
+        }
+
+        String username = currentUsername();
+        if (username != null && recentWriters.getIfPresent(username) != null) {
+            count(PRIMARY, "read-your-writes");
+            return PRIMARY;
+        }
+
+        Replica replica = nextAvailableReplica();
+        if (replica == null) {
+            count(PRIMARY, "no-replica");
+            return PRIMARY;
+        }
+        count(replica.name, "read-only");
+        return replica.name;
+    }
+
+    private Replica nextAvailableReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋되면 그 사용자를 read-your-writes 구간에 넣는다
+     */
+    private void rememberWriterOnCommit() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String username = currentUsername();
+        if (username == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(username, Boolean.TRUE);
+            }
+        });
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    /**
+     * 모든 복제본의 연결과 복제 지연을 확인해서 사용 여부를 갱신한다
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean available;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                available = connection.isValid(2) && isLagAcceptable(replica, connection);
+            } catch (SQLException | RuntimeException e) {
+                log.debug("복제본 상태 확인 실패: {}", replica.name, e);
+                replica.lagSeconds = Double.NaN;
+                available = false;
+            }
+
+            if (replica.available != available) {
+                if (available) {
+                    log.info("복제본 사용 재개: {} (지연 {}초)", replica.name, replica.lagSeconds);
+                } else {
+                    log.warn("복제본 제외, primary 로 읽기 전환: {} (지연 {}초, 기준 {}초)",
+                            replica.name, replica.lagSeconds, maxLagSeconds);
+                }
+            }
+            replica.available = available;
+        }
+    }
+
+    private boolean isLagAcceptable(Replica replica, Connection connection) throws SQLException {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            replica.lagSeconds = 0;
+            return true;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            Object lag = resultSet.next() ? resultSet.getObject(1) : null;
+            if (!(lag instanceof Number number)) {
+                // 복제가 멈춘 경우(지연 값 없음)도 제외한다
+                replica.lagSeconds = Double.NaN;
+                return false;
+            }
+            replica.lagSeconds = number.doubleValue();
+            return replica.lagSeconds <= maxLagSeconds;
+        }
+    }
+
+    private void count(String target, String reason) {
+        meterRegistry.counter("board.datasource.routing", "target", target, "reason", reason).increment();
+    }
+
+    @Override
+    public void close() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("복제본 커넥션 풀 종료 실패: {}", replica.name, e);
+                }
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available;
+        private volatile double lagSeconds = Double.NaN;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.board.config;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -19,8 +20,12 @@ public class SecurityConfig {
         http
             .authorizeHttpRequests((authorize) -> authorize
                 .requestMatchers("/", "/posts", "/posts/{id}", "/posts/search").permitAll()
+                .requestMatchers(HttpMethod.POST, "/posts/{id}/view").permitAll() // 조회 비콘 (비로그인 조회도 집계)
+                .requestMatchers(HttpMethod.GET, "/posts/{id}/live").permitAll() // 실시간 갱신 구독 (SSE)
                 .requestMatchers("/register", "/login", "/css/**", "/js/**", "/images/**").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
+                .requestMatchers("/actuator/health/**", "/actuator/info", "/actuator/prometheus").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers("/admin/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
@@ -42,7 +47,8 @@ public class SecurityConfig {
                 .maxSessionsPreventsLogin(false)
             )
             .csrf((csrf) -> csrf
-                .ignoringRequestMatchers("/h2-console/**")
+                // 조회 비콘은 캐시된 비로그인 페이지(다른 세션의 토큰이 들어 있음)에서도 보내지므로 CSRF 검사 제외
+                .ignoringRequestMatchers("/h2-console/**", "/posts/*/view")
             )
             .headers((headers) -> headers
                 .frameOptions(frameOptions -> frameOptions.sameOrigin())
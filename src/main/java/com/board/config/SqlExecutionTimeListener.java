@@ -0,0 +1,34 @@
+package com.board.config;
+
+import com.board.util.SqlStatementContext;
+import org.hibernate.SessionEventListener;
+
+/**
+ * JDBC 실행 시간을 현재 요청의 측정 구간에 기록
+ * hibernate.session.events.auto 로 등록되어 세션마다 새 인스턴스가 만들어진다.
+ */
+public class SqlExecutionTimeListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementContext.recordExecutionTime(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementContext.recordExecutionTime(System.nanoTime() - batchStart);
+    }
+}
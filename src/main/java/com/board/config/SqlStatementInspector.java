@@ -0,0 +1,17 @@
+package com.board.config;
+
+import com.board.util.SqlStatementContext;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 모든 SQL 문을 현재 요청의 측정 구간에 기록
+ * SQL 은 바인드 파라미터(?)가 치환되기 전 형태이므로 같은 문자열 = 같은 쿼리의 반복 실행이다.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementContext.recordStatement(sql);
+        return sql;
+    }
+}
@@ -1,27 +1,53 @@
 package com.board.controller;
 
+import com.board.domain.entity.ArchivedComment;
+import com.board.domain.entity.ArchivedPost;
 import com.board.domain.entity.Comment;
 import com.board.domain.entity.Post;
 import com.board.domain.entity.User;
+import com.board.domain.enums.AdminSort;
 import com.board.domain.enums.Role;
+import com.board.dto.AdminListPage;
+import com.board.dto.AdminListRequest;
+import com.board.dto.ModerationRequest;
+import com.board.exception.ResourceNotFoundException;
 import com.board.service.AdminService;
+import com.board.service.BulkExportService;
+import com.board.service.BulkImportService;
+import com.board.service.BulkModerationService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 @Controller
 @RequestMapping("/admin")
 @RequiredArgsConstructor
 public class AdminController {
 
     private final AdminService adminService;
+    private final BulkImportService bulkImportService;
+    private final BulkExportService bulkExportService;
 
     /**
      * 관리자 대시보드
@@ -37,54 +63,27 @@ public class AdminController {
     }
 
     /**
-     * 게시글 관리 페이지
+     * 게시글 관리 페이지 (커서 기반)
+     * GET /admin/posts?sort=newest|oldest|views|likes|reports&status=active|deleted&author=&from=2024-01-01&to=&cursor=
      */
     @GetMapping("/posts")
-    public String managePosts(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir,
-            Authentication auth,
-            Model model) {
-
-        String username = auth.getName();
-        
-        Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
-        
-        Page<Post> posts = adminService.getAllPosts(username, pageable);
+    public String managePosts(@ModelAttribute("filter") AdminListRequest filter, Authentication auth, Model model) {
+        AdminListPage<Post> posts = adminService.getPostList(auth.getName(), filter);
         model.addAttribute("posts", posts);
-        model.addAttribute("currentPage", page);
-        model.addAttribute("sortBy", sortBy);
-        model.addAttribute("sortDir", sortDir);
-        
+        model.addAttribute("sorts", AdminSort.values());
+
         return "admin/posts";
     }
 
     /**
-     * 댓글 관리 페이지
+     * 댓글 관리 페이지 (커서 기반, 조회수 정렬 제외)
      */
     @GetMapping("/comments")
-    public String manageComments(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir,
-            Authentication auth,
-            Model model) {
-
-        String username = auth.getName();
-        
-        Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
-        
-        Page<Comment> comments = adminService.getAllComments(username, pageable);
+    public String manageComments(@ModelAttribute("filter") AdminListRequest filter, Authentication auth, Model model) {
+        AdminListPage<Comment> comments = adminService.getCommentList(auth.getName(), filter);
         model.addAttribute("comments", comments);
-        model.addAttribute("currentPage", page);
-        model.addAttribute("sortBy", sortBy);
-        model.addAttribute("sortDir", sortDir);
-        
+        model.addAttribute("sorts", Arrays.stream(AdminSort.values()).filter(AdminSort::isForComments).toList());
+
         return "admin/comments";
     }
 
@@ -178,4 +177,166 @@ public class AdminController {
         
         return "redirect:/admin/users";
     }
+
+    /**
+     * 보관된 게시글 목록 (최근 보관순)
+     * GET /admin/archive/posts?page=0&size=20
+     */
+    @GetMapping("/archive/posts")
+    @ResponseBody
+    public Page<ArchivedPost> archivedPosts(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication auth) {
+
+        return adminService.getArchivedPosts(auth.getName(), PageRequest.of(page, Math.min(size, 100)));
+    }
+
+    /**
+     * 보관된 게시글 하나
+     */
+    @GetMapping("/archive/posts/{id}")
+    @ResponseBody
+    public ArchivedPost archivedPost(@PathVariable Long id, Authentication auth) {
+        return adminService.getArchivedPost(id, auth.getName());
+    }
+
+    /**
+     * 보관된 댓글 목록 - postId 를 주면 그 게시글의 댓글만
+     * GET /admin/archive/comments?postId=1&page=0&size=50
+     */
+    @GetMapping("/archive/comments")
+    @ResponseBody
+    public Page<ArchivedComment> archivedComments(
+            @RequestParam(required = false) Long postId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            Authentication auth) {
+
+        return adminService.getArchivedComments(postId, auth.getName(), PageRequest.of(page, Math.min(size, 100)));
+    }
+
+    /**
+     * 보관된 게시글 복원
+     */
+    @PostMapping("/archive/posts/{id}/restore")
+    public String restoreArchivedPost(
+            @PathVariable Long id,
+            Authentication auth,
+            RedirectAttributes redirectAttributes) {
+
+        try {
+            adminService.restoreArchivedPost(id, auth.getName());
+            redirectAttributes.addFlashAttribute("successMessage", "보관된 게시글이 복원되었습니다.");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("errorMessage", "게시글 복원에 실패했습니다: " + e.getMessage());
+        }
+
+        return "redirect:/admin/posts";
+    }
+
+    /**
+     * 보관된 댓글 복원
+     */
+    @PostMapping("/archive/comments/{id}/restore")
+    public String restoreArchivedComment(
+            @PathVariable Long id,
+            Authentication auth,
+            RedirectAttributes redirectAttributes) {
+
+        try {
+            adminService.restoreArchivedComment(id, auth.getName());
+            redirectAttributes.addFlashAttribute("successMessage", "보관된 댓글이 복원되었습니다.");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("errorMessage", "댓글 복원에 실패했습니다: " + e.getMessage());
+        }
+
+        return "redirect:/admin/comments";
+    }
+
+    /**
+     * 일괄 관리 작업 시작 (삭제/복원/신고 처리) - 바로 202 와 작업 정보를 돌려주고 백그라운드에서 실행한다
+     * POST /admin/moderation/jobs
+     * {"target": "posts", "action": "delete", "author": "spammer", "from": "2024-01-01T00:00:00"}
+     */
+    @PostMapping("/moderation/jobs")
+    @ResponseBody
+    public ResponseEntity<?> startModeration(@RequestBody ModerationRequest request, Authentication auth) {
+        try {
+            return ResponseEntity.accepted().body(adminService.startBulkModeration(request, auth.getName()));
+        } catch (IllegalArgumentException | ResourceNotFoundException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 최근 일괄 관리 작업 목록 (최신순)
+     */
+    @GetMapping("/moderation/jobs")
+    @ResponseBody
+    public List<BulkModerationService.ModerationJob> moderationJobs(Authentication auth) {
+        return adminService.getModerationJobs(auth.getName());
+    }
+
+    /**
+     * 일괄 관리 작업 진행 상황
+     */
+    @GetMapping("/moderation/jobs/{id}")
+    @ResponseBody
+    public BulkModerationService.ModerationJob moderationJob(@PathVariable Long id, Authentication auth) {
+        return adminService.getModerationJob(id, auth.getName());
+    }
+
+    /**
+     * 일괄 관리 작업 취소 - 처리 중인 chunk 까지만 반영된다
+     */
+    @PostMapping("/moderation/jobs/{id}/cancel")
+    @ResponseBody
+    public BulkModerationService.ModerationJob cancelModerationJob(@PathVariable Long id, Authentication auth) {
+        return adminService.cancelModerationJob(id, auth.getName());
+    }
+
+    /**
+     * 이전 게시판 데이터 대량 가져오기 (요청 본문을 스트리밍으로 처리)
+     * POST /admin/import/{target}?format=ndjson|csv&job=작업이름
+     */
+    @PostMapping("/import/{target}")
+    @ResponseBody
+    public ResponseEntity<?> bulkImport(
+            @PathVariable String target,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam String job,
+            HttpServletRequest request) throws IOException {
+
+        try {
+            BulkImportService.ImportResult result = bulkImportService.importData(
+                    BulkImportService.Target.from(target), BulkImportService.Format.from(format), request.getInputStream(), job);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 감사용 전체 데이터 내보내기 (응답을 스트리밍으로 전송)
+     * GET /admin/export/{target}?format=ndjson|csv
+     * target: posts, comments, post-likes, comment-likes, post-reports, comment-reports
+     */
+    @GetMapping("/export/{target}")
+    public ResponseEntity<StreamingResponseBody> bulkExport(
+            @PathVariable String target,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        // 응답이 시작되기 전에 검증해야 잘못된 요청에 400 을 돌려줄 수 있다
+        BulkExportService.Target exportTarget = BulkExportService.Target.from(target);
+        BulkExportService.Format exportFormat = BulkExportService.Format.from(format);
+        String fileName = exportTarget.getFileName() + "-"
+                + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + "." + exportFormat.getExtension();
+
+        StreamingResponseBody body = output -> bulkExportService.export(exportTarget, exportFormat, output);
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.parseMediaType(exportFormat.getContentType()), StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
 }
@@ -4,24 +4,39 @@ import com.board.domain.entity.Comment;
 import com.board.domain.entity.User;
 import com.board.domain.repository.UserRepository;
 import com.board.service.CommentService;
+import com.board.service.PostService;
+import com.board.service.PostDetailService;
 import com.board.service.CommentLikeService;
 import com.board.service.ReportService;
+import com.board.dto.CommentCursor;
 import com.board.dto.CommentDto;
+import com.board.dto.CommentThreadDto;
+import com.board.dto.CursorSlice;
+import com.board.dto.PostRevision;
+import com.board.util.ConditionalGetUtil;
+import com.board.util.IdSet;
+import com.board.util.SessionUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Map;
+import java.util.Optional;
 
 @Controller
 @RequiredArgsConstructor
 public class CommentController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+    private static final int MAX_REPLIES_PER_COMMENT = 20;
+
     private final CommentService commentService;
+    private final PostService postService;
+    private final PostDetailService postDetailService;
     private final CommentLikeService commentLikeService;
     private final ReportService reportService;
     private final UserRepository userRepository;
@@ -104,18 +119,95 @@ public class CommentController {
 
     /**
      * 게시글별 댓글 목록 조회 (AJAX)
+     * 댓글/추천 수가 바뀌지 않았으면 댓글을 읽지 않고 304 로 응답
      */
     @GetMapping("/posts/{postId}/comments")
     @ResponseBody
     public ResponseEntity<Page<CommentDto>> getComments(
             @PathVariable Long postId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            HttpServletRequest request,
+            WebRequest webRequest) {
+
+        // 좋아요 표시가 보는 사람마다 다르므로 ETag 도 보는 사람별로 구분
+        Long viewerId = viewerId(request);
+        PostRevision revision = postService.findRevision(postId).orElse(null);
+        if (revision != null && ConditionalGetUtil.checkNotModified(webRequest, revision,
+                "comments:" + page + ":" + size + ":" + viewerId)) {
+            return null;
+        }
+
+        // 댓글 페이지는 같은 검증값으로 동시에 조회한 사람들이 함께 쓰므로, 좋아요 표시만 보는 사람 기준으로 입힌다
+        Page<CommentDto> comments = postDetailService.getCommentPage(postId, revision, page, size);
+        IdSet likedIds = commentLikeService.findLikedCommentIds(viewerId,
+                comments.stream().flatMap(CommentDto::ids).toList());
+        return ResponseEntity.ok(likedIds.isEmpty() ? comments : comments.map(comment -> comment.withLikes(likedIds)));
+    }
+
+    /**
+     * 게시글별 댓글 목록 조회 - 커서 기반 (AJAX)
+     * 최상위 댓글을 작성 순으로 size 개씩, 댓글마다 앞쪽 대댓글 replies 개를 함께 돌려준다.
+     * 다음 페이지는 응답의 nextCursor 를, 나머지 대댓글은 moreRepliesCursor 를 cursor 로 넘겨 받는다.
+     */
+    @GetMapping("/api/posts/{postId}/comments")
+    @ResponseBody
+    public ResponseEntity<CursorSlice<CommentThreadDto>> getCommentThreads(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int replies,
+            HttpServletRequest request,
+            WebRequest webRequest) {
+
+        CommentCursor after;
+        try {
+            after = CommentCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+        int repliesPerComment = Math.clamp(replies, 0, MAX_REPLIES_PER_COMMENT);
+
+        Long viewerId = viewerId(request);
+        Optional<PostRevision> revision = postService.findRevision(postId);
+        if (revision.isPresent() && ConditionalGetUtil.checkNotModified(webRequest, revision.get(),
+                "threads:" + cursor + ":" + pageSize + ":" + repliesPerComment + ":" + viewerId)) {
+            return null;
+        }
 
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Comment> comments = commentService.getCommentsByPost(postId, pageable);
-        Page<CommentDto> commentDtos = comments.map(CommentDto::from);
-        return ResponseEntity.ok(commentDtos);
+        try {
+            return ResponseEntity.ok(commentService.getCommentThreads(postId, after, pageSize, repliesPerComment,
+                    viewerId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * 대댓글 목록 조회 - 커서 기반 (AJAX)
+     */
+    @GetMapping("/api/comments/{commentId}/replies")
+    @ResponseBody
+    public ResponseEntity<CursorSlice<CommentDto>> getReplies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest request) {
+
+        CommentCursor after;
+        try {
+            after = CommentCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            return ResponseEntity.ok(commentService.getReplies(commentId, after,
+                    Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE), viewerId(request)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
     }
 
     /**
@@ -276,4 +368,12 @@ public class CommentController {
             return ResponseEntity.badRequest().body(errorResponse);
         }
     }
+
+    /**
+     * 좋아요 표시를 채울 보는 사람 ID (비로그인이면 null) - 조회만 하는 요청이라 세션을 새로 만들지 않는다
+     */
+    private static Long viewerId(HttpServletRequest request) {
+        User viewer = SessionUtil.getCurrentUser(request.getSession(false));
+        return viewer != null ? viewer.getId() : null;
+    }
 }
@@ -6,9 +6,17 @@ import com.board.domain.repository.UserRepository;
 import com.board.service.PostService;
 import com.board.service.LikeService;
 import com.board.service.ViewService;
-import com.board.service.MarkdownService;
+import com.board.service.PostDetailService;
+import com.board.service.PostLiveService;
+import com.board.cache.PageCache;
+import com.board.dto.PostDetailDto;
+import com.board.dto.PostRevision;
+import com.board.dto.PostSummary;
+import com.board.exception.ResourceNotFoundException;
+import com.board.util.ConditionalGetUtil;
 import com.board.util.SessionUtil;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -22,11 +30,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.RequestContextUtils;
 
 import jakarta.validation.Valid;
 import java.util.HashMap;
@@ -48,7 +60,8 @@ public class PostController {
     private final UserRepository userRepository;
     private final LikeService likeService;
     private final ViewService viewService;
-    private final MarkdownService markdownService;
+    private final PostDetailService postDetailService;
+    private final PostLiveService postLiveService;
 
     /**
      * 게시글 목록 조회
@@ -58,11 +71,12 @@ public class PostController {
     public String getPosts(@RequestParam(defaultValue = "0") int page,
                           @RequestParam(defaultValue = "10") int size,
                           @RequestParam(defaultValue = "latest") String sort,
-                          Model model) {
+                          Model model, HttpServletRequest request) {
         log.debug("게시글 목록 조회 요청 - 페이지: {}, 크기: {}, 정렬: {}", page, size, sort);
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Post> posts = postService.findAllWithSort(pageable, sort);
+        Page<PostSummary> posts = postService.findAllWithSort(pageable, sort);
+        PageCache.recordListedPosts(request, posts.map(PostSummary::getId).getContent());
 
         model.addAttribute("posts", posts);
         model.addAttribute("currentSort", sort);
@@ -76,41 +90,41 @@ public class PostController {
     /**
      * 게시글 상세 조회
      * GET /posts/{id}
+     *
+     * 게시글/댓글/추천 수가 바뀌지 않았으면 본문과 댓글을 읽거나 렌더링하지 않고 304 로 응답합니다.
+     * 조회수는 상세 페이지가 보내는 조회 비콘(POST /posts/{id}/view)에서 증가시킵니다.
      */
     @GetMapping("/{id}")
-    public String getPost(@PathVariable Long id, Model model, HttpServletRequest request, HttpSession session) {
+    public String getPost(@PathVariable Long id, Model model, HttpServletRequest request, HttpSession session,
+                          WebRequest webRequest) {
         log.debug("게시글 상세 조회 요청 - ID: {}", id);
 
-        try {
-            Post post = postService.findById(id);
-
-            // ViewService를 사용하여 조회수 증가 (중복 조회 방지)
-            viewService.increaseViewCount(id, request);
-
-            // 조회수가 증가된 후 다시 조회
-            post = postService.findById(id);
-
-            // 마크다운 설정에 따라 조건부로 HTML 변환
-            String htmlContent;
-            if (Boolean.TRUE.equals(post.getIsMarkdown())) {
-                // 마크다운으로 작성된 경우: 마크다운을 HTML로 변환
-                htmlContent = markdownService.markdownToHtml(post.getContent());
-                log.debug("마크다운 렌더링 적용 - 게시글 ID: {}", post.getId());
-            } else {
-                // 일반 텍스트로 작성된 경우: HTML 이스케이프 + 줄바꿈 처리
-                htmlContent = markdownService.convertPlainTextToHtml(post.getContent());
-                log.debug("일반 텍스트 렌더링 적용 (줄바꿈 포함) - 게시글 ID: {}", post.getId());
+        // 현재 사용자 정보 (템플릿 전달 + 보는 사람별 ETag 구분)
+        User currentUser = SessionUtil.getCurrentUser(session);
+
+        // 플래시 메시지가 있는 응답은 한 번만 보여줘야 하므로 캐시 검증을 하지 않는다
+        Map<String, ?> flashAttributes = RequestContextUtils.getInputFlashMap(request);
+        PostRevision revision = null;
+        if (flashAttributes == null || flashAttributes.isEmpty()) {
+            revision = postService.findRevision(id).orElse(null);
+            if (revision != null && ConditionalGetUtil.checkNotModified(webRequest, revision,
+                    "detail:" + ConditionalGetUtil.viewerKey(request, currentUser))) {
+                log.debug("게시글 상세 조회 - 변경 없음(304), ID: {}", id);
+                return null;
             }
+        }
+
+        try {
+            // 본문 HTML 과 댓글은 보는 사람과 관계없으므로, 같은 검증값으로 동시에 조회 중인 요청이 있으면 그 결과를 함께 쓴다
+            PostDetailDto post = postDetailService.getDetail(id, revision);
 
-            // 현재 사용자 정보를 템플릿에 전달
-            User currentUser = SessionUtil.getCurrentUser(session);
             Long currentUserId = SessionUtil.getCurrentUserIdSafe(session);
 
             // 현재 사용자가 관리자인지 확인
             boolean isAdmin = currentUser != null && currentUser.getRole() == com.board.domain.enums.Role.ADMIN;
 
             model.addAttribute("post", post);
-            model.addAttribute("htmlContent", htmlContent);
+            model.addAttribute("htmlContent", post.getHtmlContent());
             model.addAttribute("currentUser", currentUser);
             model.addAttribute("currentUserId", currentUserId);
             model.addAttribute("isAdmin", isAdmin); // 관리자 여부 추가
@@ -124,6 +138,21 @@ public class PostController {
         }
     }
 
+    /**
+     * 조회 비콘 - 상세 페이지가 열릴 때마다(304 로 캐시된 페이지 포함) 브라우저가 보내 조회수를 증가시킵니다.
+     * POST /posts/{id}/view
+     */
+    @PostMapping("/{id}/view")
+    @ResponseBody
+    public Map<String, Object> recordView(@PathVariable Long id, HttpServletRequest request) {
+        Integer viewCount = viewService.increaseViewCount(id, request);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("viewCount", viewCount);
+        return response;
+    }
+
     /**
      * 게시글 작성 폼
      * GET /posts/new
@@ -201,7 +230,7 @@ public class PostController {
         log.debug("게시글 수정 폼 요청 - ID: {}, 사용자 ID: {}", id, userId);
 
         try {
-            Post post = postService.findById(id);
+            Post post = postService.findWithBodyById(id);
             User user = userRepository.findById(userId)
                     .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
@@ -441,6 +470,26 @@ public class PostController {
         }
     }
 
+    /**
+     * 게시글 실시간 갱신 구독 (Server-Sent Events)
+     * GET /posts/{id}/live
+     *
+     * 새 댓글, 댓글 삭제, 추천/비추천 수, 댓글 좋아요 수 변화를 "update" 이벤트로 받는다 (비로그인도 가능).
+     */
+    @GetMapping(value = "/{id}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter subscribeLive(@PathVariable Long id, HttpServletResponse response) {
+        SseEmitter emitter;
+        try {
+            emitter = postLiveService.subscribe(id);
+        } catch (ResourceNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+        // Nginx 프록시가 이벤트를 모아 두지 않고 바로 넘기도록
+        response.setHeader("X-Accel-Buffering", "no");
+        return emitter;
+    }
+
     /**
      * 게시글 생성 요청 DTO
      */
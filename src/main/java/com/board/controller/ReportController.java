@@ -4,6 +4,7 @@ import com.board.domain.entity.ReportedComment;
 import com.board.domain.entity.ReportedPost;
 import com.board.domain.entity.User;
 import com.board.domain.enums.ReportStatus;
+import com.board.dto.ReportTargetDto;
 import com.board.service.ReportService;
 import com.board.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -124,18 +125,25 @@ public class ReportController {
             @RequestParam(defaultValue = "PENDING") String status,
             Model model) {
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         ReportStatus reportStatus = ReportStatus.valueOf(status);
-
-        if ("post".equals(type)) {
-            Page<ReportedPost> reports = reportService.getPostReportsByStatus(reportStatus, pageable);
-            model.addAttribute("reports", reports);
-            model.addAttribute("reportType", "post");
+        String reportType = "post".equals(type) ? "post" : "comment";
+
+        if (reportStatus == ReportStatus.PENDING) {
+            // 대기중인 신고는 신고된 게시글/댓글 단위로 묶어서 신고 수 많은 순으로 보여준다
+            Pageable pageable = PageRequest.of(page, size);
+            Page<ReportTargetDto> targets = "post".equals(reportType)
+                    ? reportService.getPostReportQueue(pageable)
+                    : reportService.getCommentReportQueue(pageable);
+            model.addAttribute("targets", targets);
+            model.addAttribute("reports", targets);
         } else {
-            Page<ReportedComment> reports = reportService.getCommentReportsByStatus(reportStatus, pageable);
+            Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+            Page<?> reports = "post".equals(reportType)
+                    ? reportService.getPostReportsByStatus(reportStatus, pageable)
+                    : reportService.getCommentReportsByStatus(reportStatus, pageable);
             model.addAttribute("reports", reports);
-            model.addAttribute("reportType", "comment");
         }
+        model.addAttribute("reportType", reportType);
 
         // 신고 통계
         ReportService.ReportStats stats = reportService.getReportStats();
@@ -174,6 +182,60 @@ public class ReportController {
         }
     }
 
+    /**
+     * 관리자 - 게시글에 쌓인 대기중 신고를 한꺼번에 처리 (기각이면 신고 누적으로 숨겨진 게시글을 되살림)
+     */
+    @PostMapping("/admin/reports/posts/targets/{postId}/status")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> resolvePostReports(
+            @PathVariable Long postId,
+            @RequestParam String status) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            int updated = reportService.resolvePostReports(postId, ReportStatus.valueOf(status));
+
+            response.put("success", true);
+            response.put("message", updated + "건의 신고가 처리되었습니다.");
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("신고 일괄 처리 중 오류 발생", e);
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
+    /**
+     * 관리자 - 댓글에 쌓인 대기중 신고를 한꺼번에 처리
+     */
+    @PostMapping("/admin/reports/comments/targets/{commentId}/status")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> resolveCommentReports(
+            @PathVariable Long commentId,
+            @RequestParam String status) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            int updated = reportService.resolveCommentReports(commentId, ReportStatus.valueOf(status));
+
+            response.put("success", true);
+            response.put("message", updated + "건의 신고가 처리되었습니다.");
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("신고 일괄 처리 중 오류 발생", e);
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
     /**
      * 관리자 - 댓글 신고 상태 변경
      */
@@ -1,7 +1,9 @@
 package com.board.controller;
 
-import com.board.domain.entity.Post;
+import com.board.cache.PageCache;
+import com.board.dto.PostSummary;
 import com.board.service.SearchService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -30,13 +32,14 @@ public class SearchController {
             @RequestParam(defaultValue = "") String author,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            Model model) {
+            Model model, HttpServletRequest request) {
 
         // 페이징 설정
         Pageable pageable = PageRequest.of(page, size);
 
         // 검색 실행
-        Page<Post> searchResults = searchService.search(searchType, keyword, category, author, pageable);
+        Page<PostSummary> searchResults = searchService.search(searchType, keyword, category, author, pageable);
+        PageCache.recordListedPosts(request, searchResults.map(PostSummary::getId).getContent());
 
         // 모델에 데이터 추가
         model.addAttribute("posts", searchResults);
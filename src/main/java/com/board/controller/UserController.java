@@ -1,7 +1,7 @@
 package com.board.controller;
 
 import com.board.domain.entity.Comment;
-import com.board.domain.entity.Post;
+import com.board.dto.PostSummary;
 import com.board.service.UserProfileService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -46,7 +46,7 @@ public class UserController {
             model.addAttribute("currentTab", "comments");
         } else {
             // 기본값은 게시글 탭
-            Page<Post> posts = userProfileService.getUserPosts(username, pageable);
+            Page<PostSummary> posts = userProfileService.getUserPosts(username, pageable);
             model.addAttribute("posts", posts);
             model.addAttribute("currentTab", "posts");
         }
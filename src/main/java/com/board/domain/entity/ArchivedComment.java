@@ -0,0 +1,62 @@
+package com.board.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 댓글 (comments_archive)
+ *
+ * 보관된 게시글의 댓글 전부, 또는 삭제 후 보관 기간이 지났고 남은 대댓글이 없는 댓글을 comments 에서 옮겨 둔 행이다.
+ * 컬럼은 comments 와 같고 보관 시각만 더 있다.
+ */
+@Entity
+@Table(name = "comments_archive",
+       indexes = {
+           @Index(name = "idx_comments_archive_post", columnList = "post_id"),
+           @Index(name = "idx_comments_archive_archived_at", columnList = "archivedAt")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedComment {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    @Column(nullable = false)
+    private Integer likeCount;
+
+    @Column(nullable = false)
+    private Integer reportCount;
+
+    @Column(nullable = false)
+    private Boolean deleted;
+
+    private LocalDateTime deletedAt;
+
+    private Long legacyId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
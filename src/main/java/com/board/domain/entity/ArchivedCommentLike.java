@@ -0,0 +1,34 @@
+package com.board.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 댓글 좋아요 (comment_likes_archive) - 댓글과 함께 보관/복원된다
+ */
+@Entity
+@Table(name = "comment_likes_archive",
+       indexes = @Index(name = "idx_comment_likes_archive_comment", columnList = "comment_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedCommentLike {
+
+    @Id
+    private Long id;
+
+    @Column(name = "comment_id", nullable = false)
+    private Long commentId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,81 @@
+package com.board.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 게시글 (posts_archive)
+ *
+ * 삭제 후 보관 기간이 지난 게시글을 posts 에서 옮겨 둔 행이다. 컬럼은 posts 와 같고, 본문(post_contents)과 보관 시각을 함께 둔다.
+ * 행은 ArchiveService 가 INSERT ... SELECT 로 옮기므로 엔티티로 직접 만들지 않으며, 관리자 조회/복원에만 쓴다.
+ */
+@Entity
+@Table(name = "posts_archive",
+       indexes = {
+           @Index(name = "idx_posts_archive_archived_at", columnList = "archivedAt"),
+           @Index(name = "idx_posts_archive_author", columnList = "author_id")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedPost {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    // 원래 post_contents 행 ID - 복원할 때 같은 ID 로 본문을 되돌린다 (본문 자체는 아래 content 에 보관)
+    @Column(name = "content_id", nullable = false)
+    private Long contentId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(nullable = false)
+    private Boolean isMarkdown;
+
+    @Column(length = 50)
+    private String category;
+
+    @Column(length = 500)
+    private String thumbnailUrl;
+
+    @Column(length = 200)
+    private String excerpt;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @Column(nullable = false)
+    private Integer viewCount;
+
+    @Column(nullable = false)
+    private Integer likeCount;
+
+    @Column(nullable = false)
+    private Integer reportCount;
+
+    @Column(nullable = false)
+    private Boolean deleted;
+
+    @Column(nullable = false, name = "notice")
+    private Boolean isNotice;
+
+    private LocalDateTime deletedAt;
+
+    private Long legacyId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
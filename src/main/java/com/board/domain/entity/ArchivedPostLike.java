@@ -0,0 +1,37 @@
+package com.board.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 게시글 추천 (post_likes_archive) - 게시글과 함께 보관/복원된다
+ */
+@Entity
+@Table(name = "post_likes_archive",
+       indexes = @Index(name = "idx_post_likes_archive_post", columnList = "post_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedPostLike {
+
+    @Id
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Boolean isLike;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -2,21 +2,29 @@ package com.board.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
-import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "comments",
        indexes = {
-           @Index(name = "idx_post_id", columnList = "post_id"),
+           @Index(name = "idx_comments_post_parent_created", columnList = "post_id, parent_id, createdAt, id"),
            @Index(name = "idx_created_at", columnList = "createdAt"),
            @Index(name = "idx_deleted", columnList = "deleted"),
-           @Index(name = "idx_parent_id", columnList = "parent_id")
+           @Index(name = "idx_comments_parent_created", columnList = "parent_id, createdAt, id"),
+           @Index(name = "uk_comments_legacy_id", columnList = "legacyId", unique = true),
+           // 신고 관리 대기열 (처리되지 않은 신고가 있는 댓글만 신고 수 순으로)
+           @Index(name = "idx_comments_report_count", columnList = "reportCount"),
+           // 관리자 목록 정렬 (AdminSort)
+           @Index(name = "idx_comments_deleted_created", columnList = "deleted, createdAt, id"),
+           @Index(name = "idx_comments_author_deleted_created", columnList = "author_id, deleted, createdAt, id"),
+           @Index(name = "idx_comments_deleted_likes", columnList = "deleted, likeCount, id"),
+           @Index(name = "idx_comments_deleted_reports", columnList = "deleted, reportCount, id")
        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -25,7 +33,8 @@ import java.util.List;
 public class Comment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq_gen")
+    @SequenceGenerator(name = "comments_seq_gen", sequenceName = "comments_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -50,12 +59,23 @@ public class Comment {
     @Column(nullable = false)
     private Integer likeCount = 0;
 
+    // 처리되지 않은 신고 수 - 신고할 때 UPDATE 로 올리고 관리자가 처리하면 0 으로 되돌린다
+    @Column(nullable = false)
+    private Integer reportCount = 0;
+
     @Column(nullable = false)
     private Boolean deleted = false;
 
+    // 신고 누적으로 자동 숨김된 상태 (deleted 도 true) - 신고가 기각되면 이 경우만 되살리고, 보관 대상에서도 뺀다
+    @Column(nullable = false)
+    private Boolean hiddenByReports = false;
+
     private LocalDateTime deletedAt;
 
-    @CreatedDate
+    // 이전 게시판에서 가져온 댓글의 원본 ID (가져오기 재실행 시 중복 방지)
+    private Long legacyId;
+
+    // 생성 시각은 생성자에서 직접 설정 (이전 게시판에서 가져온 데이터의 원래 작성 시각 보존)
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -64,7 +84,7 @@ public class Comment {
     private LocalDateTime updatedAt;
 
     @Builder
-    public Comment(String content, Post post, User author, Comment parent) {
+    public Comment(String content, Post post, User author, Comment parent, LocalDateTime createdAt, Long legacyId) {
         validateContent(content);
         validatePost(post);
         validateAuthor(author);
@@ -75,9 +95,13 @@ public class Comment {
         this.author = author;
         this.parent = parent;
         this.likeCount = 0;
+        this.reportCount = 0;
         this.deleted = false;
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        this.hiddenByReports = false;
+        // 컬럼 정밀도(마이크로초)에 맞춰 둔다 - 커서(CommentCursor)에 담긴 값과 DB 에 저장된 값이 달라지지 않도록
+        this.createdAt = (createdAt != null ? createdAt : LocalDateTime.now()).truncatedTo(ChronoUnit.MICROS);
+        this.updatedAt = this.createdAt;
+        this.legacyId = legacyId;
 
         // 부모 댓글이 있으면 자식 목록에 추가
         if (parent != null) {
@@ -103,12 +127,14 @@ public class Comment {
 
     public void delete() {
         this.deleted = true;
+        this.hiddenByReports = false;
         this.deletedAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
 
     public void restore() {
         this.deleted = false;
+        this.hiddenByReports = false;
         this.deletedAt = null;
         this.updatedAt = LocalDateTime.now();
     }
@@ -24,7 +24,8 @@ import java.time.LocalDateTime;
 public class CommentLike {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_likes_seq_gen")
+    @SequenceGenerator(name = "comment_likes_seq_gen", sequenceName = "comment_likes_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
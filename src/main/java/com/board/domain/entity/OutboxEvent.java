@@ -0,0 +1,83 @@
+package com.board.domain.entity;
+
+import com.board.event.OutboxEventType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 (outbox_events)
+ *
+ * 쓰기 트랜잭션 안에서 핵심 행과 함께 INSERT 되고, 커밋된 뒤 OutboxDispatcher 가 ID 순으로 읽어 소비자에게 넘긴다.
+ * 같은 트랜잭션에서 기록하므로 커밋된 쓰기의 이벤트는 빠지지 않고, 롤백된 쓰기의 이벤트는 남지 않는다.
+ * 여러 인스턴스가 함께 전달하므로, 전달하는 동안은 claimToken/claimedUntil 로 점유해 다른 인스턴스가 가져가지 않게 한다.
+ */
+@Entity
+@Table(name = "outbox_events",
+       indexes = @Index(name = "idx_outbox_events_status", columnList = "status, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    public enum Status {
+        PENDING,    // 전달 대기
+        DISPATCHED, // 모든 소비자에게 전달됨
+        FAILED      // 재시도 횟수를 넘겨 포기함
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_seq_gen")
+    @SequenceGenerator(name = "outbox_seq_gen", sequenceName = "outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private OutboxEventType type;
+
+    private Long postId;
+
+    private Long targetId;
+
+    private Long actorId;
+
+    @Column(length = 40)
+    private String detail;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(length = 500)
+    private String lastError;
+
+    /** 전달 중인 인스턴스의 점유 토큰 - 전달을 마치면 비운다 */
+    @Column(length = 36)
+    private String claimToken;
+
+    /** 점유 만료 시각 - 지나면 전달 중에 죽은 것으로 보고 다른 인스턴스가 다시 가져갈 수 있다 */
+    private LocalDateTime claimedUntil;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime dispatchedAt;
+
+    @Builder
+    public OutboxEvent(OutboxEventType type, Long postId, Long targetId, Long actorId, String detail) {
+        this.type = type;
+        this.postId = postId;
+        this.targetId = targetId;
+        this.actorId = actorId;
+        this.detail = detail;
+        this.status = Status.PENDING;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+    }
+}
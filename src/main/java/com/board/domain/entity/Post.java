@@ -2,11 +2,11 @@ package com.board.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
-import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,23 +21,35 @@ import java.util.List;
            @Index(name = "idx_search_deleted_created", columnList = "deleted, createdAt"),
            @Index(name = "idx_search_category_deleted", columnList = "category, deleted, createdAt"),
            @Index(name = "idx_search_title_deleted", columnList = "title, deleted"),
-           @Index(name = "idx_author_deleted_created", columnList = "author_id, deleted, createdAt")
+           @Index(name = "idx_author_deleted_created", columnList = "author_id, deleted, createdAt"),
+           @Index(name = "uk_posts_legacy_id", columnList = "legacyId", unique = true),
+           @Index(name = "uk_posts_content_id", columnList = "content_id", unique = true),
+           // 신고 관리 대기열 (처리되지 않은 신고가 있는 게시글만 신고 수 순으로)
+           @Index(name = "idx_posts_report_count", columnList = "reportCount"),
+           // 관리자 목록 정렬 (AdminSort) - 최신/오래된순은 idx_search_deleted_created 를 쓴다
+           @Index(name = "idx_posts_deleted_views", columnList = "deleted, viewCount, id"),
+           @Index(name = "idx_posts_deleted_likes", columnList = "deleted, likeCount, id"),
+           @Index(name = "idx_posts_deleted_reports", columnList = "deleted, reportCount, id")
        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
-@ToString(exclude = {"author", "comments"})
+@ToString(exclude = {"body", "author", "comments"})
 public class Post {
 
+    // IDENTITY 는 INSERT 마다 키를 받아와야 해서 JDBC 배치가 꺼진다 - pooled 시퀀스 사용 (MySQL 은 테이블로 에뮬레이션)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posts_seq_gen")
+    @SequenceGenerator(name = "posts_seq_gen", sequenceName = "posts_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
     private String title;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
-    private String content;
+    // 본문은 post_contents 에 따로 둔다 - 목록/정렬 쿼리가 posts 를 읽을 때 본문을 함께 읽지 않도록 (PostContent)
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true, optional = false)
+    @JoinColumn(name = "content_id", nullable = false, foreignKey = @ForeignKey(name = "fk_posts_content"))
+    private PostContent body;
 
     // 마크다운 지원을 위한 필드 추가
     @Column(nullable = false)
@@ -46,6 +58,13 @@ public class Post {
     @Column(length = 50)
     private String category;
 
+    // 목록 화면용 미리보기 - 쓰거나 고칠 때 본문에서 뽑아 두므로 목록은 content 를 읽지 않는다 (PostPreview)
+    @Column(length = 500)
+    private String thumbnailUrl;
+
+    @Column(length = 200)
+    private String excerpt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
@@ -56,16 +75,27 @@ public class Post {
     @Column(nullable = false)
     private Integer likeCount = 0;
 
+    // 처리되지 않은 신고 수 - 신고할 때 UPDATE 로 올리고 관리자가 처리하면 0 으로 되돌린다
+    @Column(nullable = false)
+    private Integer reportCount = 0;
+
     @Column(nullable = false)
     private Boolean deleted = false;
 
+    // 신고 누적으로 자동 숨김된 상태 (deleted 도 true) - 신고가 기각되면 이 경우만 되살리고, 보관 대상에서도 뺀다
+    @Column(nullable = false)
+    private Boolean hiddenByReports = false;
+
     // 공지사항 여부 (실무에서 필수)
     @Column(nullable = false, name = "notice")
     private Boolean isNotice = false;
 
     private LocalDateTime deletedAt;
 
-    @CreatedDate
+    // 이전 게시판에서 가져온 게시글의 원본 ID (가져오기 재실행 시 중복 방지)
+    private Long legacyId;
+
+    // 생성 시각은 생성자에서 직접 설정 (이전 게시판에서 가져온 데이터의 원래 작성 시각 보존)
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -78,22 +108,27 @@ public class Post {
     private List<Comment> comments = new ArrayList<>();
 
     @Builder
-    public Post(String title, String content, String category, User author, Boolean isNotice, Boolean isMarkdown) {
+    public Post(String title, String content, String category, User author, Boolean isNotice, Boolean isMarkdown,
+                LocalDateTime createdAt, Long legacyId) {
         validateTitle(title);
         validateContent(content);
         validateAuthor(author);
 
         this.title = title;
-        this.content = content;
+        this.body = new PostContent(content);
         this.category = category;
         this.author = author;
         this.viewCount = 0;
         this.likeCount = 0;
+        this.reportCount = 0;
         this.deleted = false;
+        this.hiddenByReports = false;
         this.isNotice = isNotice != null ? isNotice : false;
         this.isMarkdown = isMarkdown != null ? isMarkdown : false;
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        // 컬럼 정밀도(마이크로초)에 맞춰 둔다 - 관리자 목록 커서(AdminCursor)에 담긴 값과 DB 에 저장된 값이 달라지지 않도록
+        this.createdAt = (createdAt != null ? createdAt : LocalDateTime.now()).truncatedTo(ChronoUnit.MICROS);
+        this.updatedAt = this.createdAt;
+        this.legacyId = legacyId;
     }
 
     public void update(String title, String content, String category, Boolean isMarkdown) {
@@ -101,12 +136,17 @@ public class Post {
         validateContent(content);
 
         this.title = title;
-        this.content = content;
+        this.body.update(content);
         this.category = category;
         this.isMarkdown = isMarkdown != null ? isMarkdown : false;
         this.updatedAt = LocalDateTime.now();
     }
 
+    public void updatePreview(String thumbnailUrl, String excerpt) {
+        this.thumbnailUrl = thumbnailUrl;
+        this.excerpt = excerpt;
+    }
+
     // 공지사항 설정 (관리자만 가능)
     public void setNotice(boolean isNotice, User requestUser) {
         if (!requestUser.isAdmin()) {
@@ -132,16 +172,25 @@ public class Post {
 
     public void delete() {
         this.deleted = true;
+        this.hiddenByReports = false;
         this.deletedAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
 
     public void restore() {
         this.deleted = false;
+        this.hiddenByReports = false;
         this.deletedAt = null;
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 본문 - 본문을 함께 조회하지 않았다면 이때 post_contents 에서 읽는다
+     */
+    public String getContent() {
+        return this.body.getContent();
+    }
+
     public boolean isAuthor(User user) {
         return this.author.equals(user);
     }
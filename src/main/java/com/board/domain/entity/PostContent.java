@@ -0,0 +1,36 @@
+package com.board.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 본문 (post_contents)
+ *
+ * 본문(TEXT)을 posts 행에서 떼어 둔 테이블이다. 목록/정렬/검색 쿼리가 posts 를 훑을 때 큰 본문이 버퍼 풀에 함께 올라오지 않는다.
+ * 게시글({@link Post#getBody()})에서 지연 로딩으로만 읽으며, 상세/수정 화면은 저장소에서 본문을 함께 조회한다.
+ * 게시글과 함께 저장/삭제되므로 따로 만들지 않는다.
+ */
+@Entity
+@Table(name = "post_contents")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostContent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_contents_seq_gen")
+    @SequenceGenerator(name = "post_contents_seq_gen", sequenceName = "post_contents_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    PostContent(String content) {
+        this.content = content;
+    }
+
+    void update(String content) {
+        this.content = content;
+    }
+}
@@ -0,0 +1,44 @@
+package com.board.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 소비자별로 처리를 마친 아웃박스 이벤트 (outbox_processed_events)
+ *
+ * OutboxDispatcher 가 소비자에게 넘기기 전에 이미 처리한 이벤트를 걸러 내는 데 쓴다. 전달 완료를 기록하기 전에
+ * 인스턴스가 죽거나 점유 기간이 지나 다른 인스턴스가 다시 가져가도, 처리한 소비자는 같은 이벤트를 다시 받지 않는다.
+ * 이벤트가 정리될 때 함께 지운다.
+ */
+@Entity
+@Table(name = "outbox_processed_events",
+       uniqueConstraints = @UniqueConstraint(name = "uk_outbox_processed_event_consumer",
+                                             columnNames = {"eventId", "consumer"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProcessedOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_processed_seq_gen")
+    @SequenceGenerator(name = "outbox_processed_seq_gen", sequenceName = "outbox_processed_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false, length = 40)
+    private String consumer;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime processedAt;
+
+    public ProcessedOutboxEvent(Long eventId, String consumer) {
+        this.eventId = eventId;
+        this.consumer = consumer;
+        this.processedAt = LocalDateTime.now();
+    }
+}
@@ -12,6 +12,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "reported_posts", indexes = {
     @Index(name = "idx_post_id", columnList = "post_id"),
+    // 같은 사용자는 같은 게시글을 한 번만 신고 - 동시에 신고해도 DB 가 막는다
+    @Index(name = "uk_reported_posts_post_reporter", columnList = "post_id, reporter_id", unique = true),
     @Index(name = "idx_reporter_id", columnList = "reporter_id"),
     @Index(name = "idx_status", columnList = "status"),
     @Index(name = "idx_created_at", columnList = "createdAt")
@@ -23,7 +25,8 @@ import java.time.LocalDateTime;
 public class ReportedPost {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reported_posts_seq_gen")
+    @SequenceGenerator(name = "reported_posts_seq_gen", sequenceName = "reported_posts_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
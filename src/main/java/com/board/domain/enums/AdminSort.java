@@ -0,0 +1,58 @@
+package com.board.domain.enums;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 게시글/댓글 목록에서 허용하는 정렬
+ *
+ * 목록은 항상 deleted 로 거른 뒤 정렬하므로 정렬마다 (deleted, 정렬 컬럼) 인덱스가 있다 (InnoDB 보조 인덱스는 끝에 id 를 포함).
+ * 같은 값이 많은 컬럼이라 id 를 두 번째 정렬 키로 써서 순서를 확정하고, 다음 페이지는 (정렬 값, id) 커서 다음부터 읽는다.
+ * <pre>
+ * NEWEST/OLDEST  idx_search_deleted_created / idx_comments_deleted_created (작성자 조건이 있으면 *_author_deleted_created)
+ * MOST_VIEWED    idx_posts_deleted_views (게시글만)
+ * MOST_LIKED     idx_posts_deleted_likes / idx_comments_deleted_likes
+ * MOST_REPORTED  idx_posts_deleted_reports / idx_comments_deleted_reports
+ * </pre>
+ */
+@Getter
+public enum AdminSort {
+    NEWEST("newest", "최신순", "createdAt", true, true),
+    OLDEST("oldest", "오래된순", "createdAt", false, true),
+    MOST_VIEWED("views", "조회수순", "viewCount", true, false),
+    MOST_LIKED("likes", "좋아요순", "likeCount", true, true),
+    MOST_REPORTED("reports", "신고순", "reportCount", true, true);
+
+    /** 요청 파라미터 값 */
+    private final String key;
+    private final String label;
+    /** 정렬 컬럼 (엔티티 속성) */
+    private final String property;
+    private final boolean descending;
+    private final boolean forComments;
+
+    AdminSort(String key, String label, String property, boolean descending, boolean forComments) {
+        this.key = key;
+        this.label = label;
+        this.property = property;
+        this.descending = descending;
+        this.forComments = forComments;
+    }
+
+    public static AdminSort from(String key) {
+        for (AdminSort sort : values()) {
+            if (sort.key.equalsIgnoreCase(key)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 정렬입니다: " + key);
+    }
+
+    /**
+     * 커서에 문자열로 담긴 정렬 값을 정렬 컬럼 타입으로
+     */
+    public Object parseValue(String value) {
+        return "createdAt".equals(property) ? LocalDateTime.parse(value) : Integer.valueOf(value);
+    }
+}
@@ -0,0 +1,145 @@
+package com.board.domain.repository;
+
+import com.board.domain.entity.Comment;
+import com.board.domain.entity.Post;
+import com.board.domain.enums.AdminSort;
+import com.board.dto.AdminCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관리자 게시글/댓글 목록 (커서 기반)
+ *
+ * 조건마다 @Query 를 따로 두면 조합이 너무 많고, ":x IS NULL OR ..." 로 묶으면 MySQL 이 인덱스 범위를 잡지 못하므로
+ * 주어진 조건만 넣어 JPQL 을 만든다. 정렬은 {@link AdminSort} 에 있는 것만 쓸 수 있다.
+ */
+@Repository
+public class AdminListRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 목록 조건 - deleted 는 항상 지정하고, 나머지는 null 이면 적용하지 않는다
+     *
+     * @param from 작성 시각 from 이상
+     * @param to   작성 시각 to 미만
+     */
+    public record Filter(boolean deleted, Long authorId, LocalDateTime from, LocalDateTime to) {
+    }
+
+    /**
+     * 게시글 목록 (작성자 함께 조회)
+     *
+     * @param cursor 이전 페이지의 마지막 위치 (첫 페이지면 null)
+     */
+    public List<Post> findPosts(Filter filter, AdminSort sort, AdminCursor cursor, int limit) {
+        String jpql = "SELECT p FROM Post p JOIN FETCH p.author"
+                + where("p", filter, sort, cursor) + orderBy("p", sort);
+        return bind(entityManager.createQuery(jpql, Post.class), filter, cursor)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * 댓글 목록 (작성자/게시글 함께 조회)
+     */
+    public List<Comment> findComments(Filter filter, AdminSort sort, AdminCursor cursor, int limit) {
+        if (!sort.isForComments()) {
+            throw new IllegalArgumentException("댓글 목록에서 쓸 수 없는 정렬입니다: " + sort.getKey());
+        }
+        String jpql = "SELECT c FROM Comment c JOIN FETCH c.author JOIN FETCH c.post"
+                + where("c", filter, sort, cursor) + orderBy("c", sort);
+        return bind(entityManager.createQuery(jpql, Comment.class), filter, cursor)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * 조건에 맞는 게시글 수를 cap + 1 까지만 센다 - cap 보다 크면 "cap 건 이상"으로 보여준다
+     */
+    public long countPostsUpTo(Filter filter, int cap) {
+        return countUpTo("posts", filter, cap);
+    }
+
+    /**
+     * 조건에 맞는 댓글 수를 cap + 1 까지만 센다 ({@link #countPostsUpTo} 와 같은 방식)
+     */
+    public long countCommentsUpTo(Filter filter, int cap) {
+        return countUpTo("comments", filter, cap);
+    }
+
+    /**
+     * ID 를 애플리케이션으로 가져오지 않도록 LIMIT 을 건 파생 테이블을 DB 에서 센다 (인덱스의 ID 만 읽음).
+     * JPQL 은 서브쿼리의 LIMIT 에 ORDER BY 가 있어야 해서 정렬 없이 쓰려고 네이티브 쿼리로 둔다.
+     */
+    private long countUpTo(String table, Filter filter, int cap) {
+        List<String> conditions = new ArrayList<>();
+        conditions.add("deleted = :deleted");
+        if (filter.authorId() != null) {
+            conditions.add("author_id = :authorId");
+        }
+        if (filter.from() != null) {
+            conditions.add("created_at >= :from");
+        }
+        if (filter.to() != null) {
+            conditions.add("created_at < :to");
+        }
+        String sql = "SELECT COUNT(*) FROM (SELECT id FROM " + table + " WHERE " + String.join(" AND ", conditions)
+                + " LIMIT :limit) t";
+        Query query = bind(entityManager.createNativeQuery(sql), filter, null)
+                .setParameter("limit", cap + 1);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    private static String where(String alias, Filter filter, AdminSort sort, AdminCursor cursor) {
+        List<String> conditions = new ArrayList<>();
+        conditions.add(alias + ".deleted = :deleted");
+        if (filter.authorId() != null) {
+            conditions.add(alias + ".author.id = :authorId");
+        }
+        if (filter.from() != null) {
+            conditions.add(alias + ".createdAt >= :from");
+        }
+        if (filter.to() != null) {
+            conditions.add(alias + ".createdAt < :to");
+        }
+        if (cursor != null) {
+            // (정렬 값, id) 가 커서보다 뒤인 행 - 행 값 비교 (a, b) < (?, ?) 를 풀어 쓴 형태
+            String column = alias + "." + sort.getProperty();
+            String op = sort.isDescending() ? "<" : ">";
+            conditions.add("(" + column + " " + op + " :cursorValue OR (" + column + " = :cursorValue AND "
+                    + alias + ".id " + op + " :cursorId))");
+        }
+        return " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static String orderBy(String alias, AdminSort sort) {
+        String direction = sort.isDescending() ? " DESC" : " ASC";
+        return " ORDER BY " + alias + "." + sort.getProperty() + direction + ", " + alias + ".id" + direction;
+    }
+
+    private static <Q extends Query> Q bind(Q query, Filter filter, AdminCursor cursor) {
+        query.setParameter("deleted", filter.deleted());
+        if (filter.authorId() != null) {
+            query.setParameter("authorId", filter.authorId());
+        }
+        if (filter.from() != null) {
+            query.setParameter("from", filter.from());
+        }
+        if (filter.to() != null) {
+            query.setParameter("to", filter.to());
+        }
+        if (cursor != null) {
+            query.setParameter("cursorValue", cursor.sortValue());
+            query.setParameter("cursorId", cursor.id());
+        }
+        return query;
+    }
+}
@@ -0,0 +1,140 @@
+package com.board.domain.repository;
+
+import com.board.domain.entity.ArchivedComment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 댓글 보관/복원
+ *
+ * {@link ArchivedPostRepository} 와 같이 INSERT ... SELECT 와 DELETE 로 행을 옮긴다.
+ * comments.parent_id 는 같은 테이블을 참조하므로 지울 때는 대댓글을 먼저, 되돌릴 때는 최상위 댓글을 먼저 처리한다.
+ */
+public interface ArchivedCommentRepository extends JpaRepository<ArchivedComment, Long> {
+
+    /**
+     * 단독 보관 대상 댓글 ID - 삭제된 지 cutoff 보다 오래됐고 남아 있는 대댓글이 없는 댓글 (ID 순)
+     *
+     * 대댓글이 남아 있는 부모 댓글은 "삭제된 댓글입니다" 로 계속 보여야 하므로 대댓글이 모두 보관된 뒤에 보관한다.
+     * 신고 누적으로 숨겨졌거나 처리되지 않은 신고가 남은 댓글은 관리자가 처리할 때까지 남겨 둔다.
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.deleted = true AND c.hiddenByReports = false " +
+           "AND COALESCE(c.deletedAt, c.updatedAt) < :cutoff " +
+           "AND NOT EXISTS (SELECT 1 FROM ReportedComment rc WHERE rc.comment = c " +
+           "AND rc.status = com.board.domain.enums.ReportStatus.PENDING) " +
+           "AND NOT EXISTS (SELECT 1 FROM Comment r WHERE r.parent = c) ORDER BY c.id")
+    List<Long> findArchivableCommentIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Query(value = "SELECT id FROM comments WHERE post_id IN (:postIds)", nativeQuery = true)
+    List<Long> findCommentIdsByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Query(value = "SELECT DISTINCT post_id FROM comments WHERE id IN (:commentIds)", nativeQuery = true)
+    List<Long> findPostIdsByCommentIdIn(@Param("commentIds") Collection<Long> commentIds);
+
+    @Query("SELECT c.id FROM ArchivedComment c WHERE c.postId = :postId")
+    List<Long> findIdsByPostId(@Param("postId") Long postId);
+
+    Page<ArchivedComment> findAllByOrderByArchivedAtDesc(Pageable pageable);
+
+    Page<ArchivedComment> findByPostIdOrderByCreatedAtAsc(Long postId, Pageable pageable);
+
+    // ===== 보관 (원본 -> 보관 테이블) =====
+
+    @Modifying
+    @Query(value = "INSERT INTO comments_archive (id, content, post_id, author_id, parent_id, like_count, report_count, " +
+                   "deleted, deleted_at, legacy_id, created_at, updated_at, archived_at) " +
+                   "SELECT id, content, post_id, author_id, parent_id, like_count, report_count, " +
+                   "deleted, deleted_at, legacy_id, created_at, updated_at, :archivedAt " +
+                   "FROM comments WHERE id IN (:commentIds)",
+           nativeQuery = true)
+    int archiveComments(@Param("commentIds") Collection<Long> commentIds,
+                        @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO comment_likes_archive (id, comment_id, user_id, created_at, archived_at) " +
+                   "SELECT id, comment_id, user_id, created_at, :archivedAt " +
+                   "FROM comment_likes WHERE comment_id IN (:commentIds)",
+           nativeQuery = true)
+    int archiveCommentLikes(@Param("commentIds") Collection<Long> commentIds,
+                            @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO reported_comments_archive (id, comment_id, reporter_id, reason, status, created_at, " +
+                   "updated_at, archived_at) " +
+                   "SELECT id, comment_id, reporter_id, reason, status, created_at, updated_at, :archivedAt " +
+                   "FROM reported_comments WHERE comment_id IN (:commentIds)",
+           nativeQuery = true)
+    int archiveReportedComments(@Param("commentIds") Collection<Long> commentIds,
+                                @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM comment_likes WHERE comment_id IN (:commentIds)", nativeQuery = true)
+    int deleteCommentLikes(@Param("commentIds") Collection<Long> commentIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM reported_comments WHERE comment_id IN (:commentIds)", nativeQuery = true)
+    int deleteReportedComments(@Param("commentIds") Collection<Long> commentIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM comments WHERE id IN (:commentIds) AND parent_id IS NOT NULL", nativeQuery = true)
+    int deleteReplies(@Param("commentIds") Collection<Long> commentIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM comments WHERE id IN (:commentIds) AND parent_id IS NULL", nativeQuery = true)
+    int deleteTopLevelComments(@Param("commentIds") Collection<Long> commentIds);
+
+    // ===== 복원 (보관 테이블 -> 원본) =====
+
+    @Modifying
+    @Query(value = "INSERT INTO comments (id, content, post_id, author_id, parent_id, like_count, report_count, " +
+                   "deleted, hidden_by_reports, deleted_at, legacy_id, created_at, updated_at) " +
+                   "SELECT id, content, post_id, author_id, parent_id, like_count, report_count, " +
+                   "deleted, FALSE, deleted_at, legacy_id, created_at, updated_at " +
+                   "FROM comments_archive WHERE id IN (:commentIds) AND parent_id IS NULL",
+           nativeQuery = true)
+    int restoreTopLevelComments(@Param("commentIds") Collection<Long> commentIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO comments (id, content, post_id, author_id, parent_id, like_count, report_count, " +
+                   "deleted, hidden_by_reports, deleted_at, legacy_id, created_at, updated_at) " +
+                   "SELECT id, content, post_id, author_id, parent_id, like_count, report_count, " +
+                   "deleted, FALSE, deleted_at, legacy_id, created_at, updated_at " +
+                   "FROM comments_archive WHERE id IN (:commentIds) AND parent_id IS NOT NULL",
+           nativeQuery = true)
+    int restoreReplies(@Param("commentIds") Collection<Long> commentIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO comment_likes (id, comment_id, user_id, created_at) " +
+                   "SELECT id, comment_id, user_id, created_at " +
+                   "FROM comment_likes_archive WHERE comment_id IN (:commentIds)",
+           nativeQuery = true)
+    int restoreCommentLikes(@Param("commentIds") Collection<Long> commentIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO reported_comments (id, comment_id, reporter_id, reason, status, created_at, " +
+                   "updated_at) " +
+                   "SELECT id, comment_id, reporter_id, reason, status, created_at, updated_at " +
+                   "FROM reported_comments_archive WHERE comment_id IN (:commentIds)",
+           nativeQuery = true)
+    int restoreReportedComments(@Param("commentIds") Collection<Long> commentIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM comment_likes_archive WHERE comment_id IN (:commentIds)", nativeQuery = true)
+    int deleteArchivedCommentLikes(@Param("commentIds") Collection<Long> commentIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM reported_comments_archive WHERE comment_id IN (:commentIds)", nativeQuery = true)
+    int deleteArchivedReportedComments(@Param("commentIds") Collection<Long> commentIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM comments_archive WHERE id IN (:commentIds)", nativeQuery = true)
+    int deleteArchivedComments(@Param("commentIds") Collection<Long> commentIds);
+}
@@ -0,0 +1,134 @@
+package com.board.domain.repository;
+
+import com.board.domain.entity.ArchivedPost;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 게시글 보관/복원
+ *
+ * 행을 엔티티로 읽어 다시 저장하지 않고 INSERT ... SELECT 와 DELETE 로 테이블 사이에서 그대로 옮긴다.
+ * 보관 테이블과 원본 테이블의 컬럼은 보관 시각(archived_at)을 빼면 같다.
+ */
+public interface ArchivedPostRepository extends JpaRepository<ArchivedPost, Long> {
+
+    /**
+     * 보관 대상 게시글 ID - 삭제된 지 cutoff 보다 오래된 게시글 (ID 순)
+     *
+     * 신고 누적으로 숨겨진 글과, 게시글이나 그 댓글에 처리되지 않은 신고가 남은 글은 관리자가 처리할 때까지 남겨 둔다.
+     */
+    @Query("SELECT p.id FROM Post p WHERE p.deleted = true AND p.hiddenByReports = false " +
+           "AND COALESCE(p.deletedAt, p.updatedAt) < :cutoff " +
+           "AND NOT EXISTS (SELECT 1 FROM ReportedPost rp WHERE rp.post = p " +
+           "AND rp.status = com.board.domain.enums.ReportStatus.PENDING) " +
+           "AND NOT EXISTS (SELECT 1 FROM ReportedComment rc WHERE rc.comment.post = p " +
+           "AND rc.status = com.board.domain.enums.ReportStatus.PENDING) ORDER BY p.id")
+    List<Long> findArchivablePostIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    Page<ArchivedPost> findAllByOrderByArchivedAtDesc(Pageable pageable);
+
+    // ===== 보관 (원본 -> 보관 테이블) =====
+
+    @Modifying
+    @Query(value = "INSERT INTO posts_archive (id, title, content_id, content, is_markdown, category, thumbnail_url, " +
+                   "excerpt, author_id, view_count, like_count, report_count, deleted, notice, deleted_at, legacy_id, " +
+                   "created_at, updated_at, archived_at) " +
+                   "SELECT p.id, p.title, p.content_id, c.content, p.is_markdown, p.category, p.thumbnail_url, " +
+                   "p.excerpt, p.author_id, p.view_count, p.like_count, p.report_count, p.deleted, p.notice, " +
+                   "p.deleted_at, p.legacy_id, p.created_at, p.updated_at, :archivedAt " +
+                   "FROM posts p JOIN post_contents c ON c.id = p.content_id WHERE p.id IN (:postIds)",
+           nativeQuery = true)
+    int archivePosts(@Param("postIds") Collection<Long> postIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO post_likes_archive (id, post_id, user_id, is_like, created_at, archived_at) " +
+                   "SELECT id, post_id, user_id, is_like, created_at, :archivedAt " +
+                   "FROM post_likes WHERE post_id IN (:postIds)",
+           nativeQuery = true)
+    int archivePostLikes(@Param("postIds") Collection<Long> postIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO reported_posts_archive (id, post_id, reporter_id, reason, status, created_at, " +
+                   "updated_at, archived_at) " +
+                   "SELECT id, post_id, reporter_id, reason, status, created_at, updated_at, :archivedAt " +
+                   "FROM reported_posts WHERE post_id IN (:postIds)",
+           nativeQuery = true)
+    int archiveReportedPosts(@Param("postIds") Collection<Long> postIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM post_likes WHERE post_id IN (:postIds)", nativeQuery = true)
+    int deletePostLikes(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM reported_posts WHERE post_id IN (:postIds)", nativeQuery = true)
+    int deleteReportedPosts(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM posts WHERE id IN (:postIds)", nativeQuery = true)
+    int deletePosts(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 보관한 게시글의 본문 삭제 - posts 가 본문을 참조하므로 게시글을 지운 뒤, 보관 테이블의 content_id 로 찾는다
+     */
+    @Modifying
+    @Query(value = "DELETE FROM post_contents WHERE id IN " +
+                   "(SELECT content_id FROM posts_archive WHERE id IN (:postIds))",
+           nativeQuery = true)
+    int deletePostContents(@Param("postIds") Collection<Long> postIds);
+
+    // ===== 복원 (보관 테이블 -> 원본) =====
+
+    /**
+     * 본문 복원 - 게시글이 본문을 참조하므로 게시글보다 먼저 넣는다
+     */
+    @Modifying
+    @Query(value = "INSERT INTO post_contents (id, content) " +
+                   "SELECT content_id, content FROM posts_archive WHERE id IN (:postIds)",
+           nativeQuery = true)
+    int restorePostContents(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO posts (id, title, content_id, is_markdown, category, thumbnail_url, excerpt, " +
+                   "author_id, view_count, like_count, report_count, deleted, hidden_by_reports, notice, deleted_at, " +
+                   "legacy_id, created_at, updated_at) " +
+                   "SELECT id, title, content_id, is_markdown, category, thumbnail_url, excerpt, " +
+                   "author_id, view_count, like_count, report_count, deleted, FALSE, notice, deleted_at, legacy_id, " +
+                   "created_at, updated_at " +
+                   "FROM posts_archive WHERE id IN (:postIds)",
+           nativeQuery = true)
+    int restorePosts(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO post_likes (id, post_id, user_id, is_like, created_at) " +
+                   "SELECT id, post_id, user_id, is_like, created_at " +
+                   "FROM post_likes_archive WHERE post_id IN (:postIds)",
+           nativeQuery = true)
+    int restorePostLikes(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO reported_posts (id, post_id, reporter_id, reason, status, created_at, updated_at) " +
+                   "SELECT id, post_id, reporter_id, reason, status, created_at, updated_at " +
+                   "FROM reported_posts_archive WHERE post_id IN (:postIds)",
+           nativeQuery = true)
+    int restoreReportedPosts(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM post_likes_archive WHERE post_id IN (:postIds)", nativeQuery = true)
+    int deleteArchivedPostLikes(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM reported_posts_archive WHERE post_id IN (:postIds)", nativeQuery = true)
+    int deleteArchivedReportedPosts(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM posts_archive WHERE id IN (:postIds)", nativeQuery = true)
+    int deleteArchivedPosts(@Param("postIds") Collection<Long> postIds);
+}
@@ -3,12 +3,18 @@ package com.board.domain.repository;
 import com.board.domain.entity.Comment;
 import com.board.domain.entity.CommentLike;
 import com.board.domain.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
@@ -30,6 +36,12 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
     @Query("SELECT COUNT(cl) > 0 FROM CommentLike cl WHERE cl.comment.id = :commentId AND cl.user.id = :userId")
     boolean existsByCommentIdAndUserId(@Param("commentId") Long commentId, @Param("userId") Long userId);
 
+    /**
+     * 주어진 댓글 중 사용자가 좋아요한 댓글 ID 조회 (댓글 목록 한 페이지를 한 번에 확인)
+     */
+    @Query("SELECT cl.comment.id FROM CommentLike cl WHERE cl.user.id = :userId AND cl.comment.id IN :commentIds")
+    List<Long> findLikedCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
+
     /**
      * 특정 댓글에 대한 모든 좋아요 삭제 (댓글 삭제 시 사용)
      */
@@ -39,4 +51,15 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
      * 특정 사용자의 모든 댓글 좋아요 삭제 (사용자 탈퇴 시 사용)
      */
     void deleteByUser(User user);
+
+    /**
+     * 전체 댓글 좋아요 기록을 ID 순으로 스트리밍 조회 (대량 내보내기용)
+     * 호출한 트랜잭션 안에서 소비하고 반드시 닫아야 한다
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT cl FROM CommentLike cl JOIN FETCH cl.user ORDER BY cl.id")
+    Stream<CommentLike> streamAllForExport();
 }
@@ -3,11 +3,21 @@ package com.board.domain.repository;
 import com.board.domain.entity.Comment;
 import com.board.domain.entity.Post;
 import com.board.domain.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
@@ -41,11 +51,83 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     long countByPostAndDeletedFalse(Post post);
 
+    /**
+     * 여러 게시글의 댓글 수를 한 번에 조회 (삭제되지 않은 것만) - [게시글 ID, 댓글 수] (댓글이 없는 게시글은 빠짐)
+     */
+    @Query("SELECT c.post.id, COUNT(c) FROM Comment c " +
+           "WHERE c.post.id IN :postIds AND c.deleted = false GROUP BY c.post.id")
+    List<Object[]> countLiveByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 댓글 좋아요 수 조회 - [댓글 ID, 좋아요 수]
+     */
+    @Query("SELECT c.id, c.likeCount FROM Comment c WHERE c.id IN :ids")
+    List<Object[]> findLikeCountsByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * 특정 게시글의 모든 댓글 조회 (삭제된 댓글도 포함)
      */
     Page<Comment> findByPostOrderByCreatedAtAsc(Post post, Pageable pageable);
 
+    /**
+     * 게시글의 최상위 댓글 첫 페이지 (삭제된 댓글 포함, 작성자 함께 조회) - 커서 기반 목록
+     * 가져올 개수는 pageable 의 size 로 정하며 count 쿼리는 실행하지 않는다
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author " +
+           "WHERE c.post.id = :postId AND c.parent IS NULL " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findTopLevelByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 게시글의 최상위 댓글 중 커서 (createdAt, id) 다음 페이지 - idx_comments_post_parent_created 사용
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author " +
+           "WHERE c.post.id = :postId AND c.parent IS NULL " +
+           "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findTopLevelByPostIdAfter(@Param("postId") Long postId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    /**
+     * 여러 댓글의 대댓글을 부모마다 앞에서부터 perParent 개까지만 ID 로 조회 (한 번의 IN 쿼리)
+     * 부모별 순번은 ROW_NUMBER 로 매기며 idx_comments_parent_created 로 부모마다 정렬 없이 읽는다
+     */
+    @Query(value = "SELECT r.id FROM (" +
+                   "SELECT c.id, ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.created_at, c.id) AS rn " +
+                   "FROM comments c WHERE c.parent_id IN (:parentIds)) r " +
+                   "WHERE r.rn <= :perParent",
+           nativeQuery = true)
+    List<Long> findReplyIdsPerParent(@Param("parentIds") Collection<Long> parentIds,
+                                     @Param("perParent") int perParent);
+
+    /**
+     * ID 목록으로 댓글 조회 (작성자 함께 조회, 작성 순)
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.id IN :ids ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findWithAuthorByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 대댓글 첫 페이지 (삭제된 대댓글 포함, 작성자 함께 조회)
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author " +
+           "WHERE c.parent.id = :parentId " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRepliesByParentId(@Param("parentId") Long parentId, Pageable pageable);
+
+    /**
+     * 대댓글 중 커서 (createdAt, id) 다음 페이지
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author " +
+           "WHERE c.parent.id = :parentId " +
+           "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRepliesByParentIdAfter(@Param("parentId") Long parentId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
     /**
      * 특정 게시글의 최상위 댓글 수 조회 (대댓글 제외)
      */
@@ -61,6 +143,11 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     Page<Comment> findByAuthorUsernameAndDeletedFalseOrderByCreatedAtDesc(String username, Pageable pageable);
 
+    /**
+     * 사용자가 쓴 댓글 수 (삭제되지 않은 것만)
+     */
+    long countByAuthorUsernameAndDeletedFalse(String username);
+
     /**
      * 최근 댓글 조회 (전체, 삭제되지 않은 것만)
      */
@@ -70,4 +157,154 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * 인기 댓글 조회 (좋아요 수 기준)
      */
     Page<Comment> findByDeletedFalseOrderByLikeCountDescCreatedAtDesc(Pageable pageable);
+
+    /**
+     * 원본 ID(legacyId)로 댓글 ID 일괄 조회 - [legacyId, id] 배열 목록 (대량 가져오기용)
+     */
+    @Query("SELECT c.legacyId, c.id FROM Comment c WHERE c.legacyId IN :legacyIds")
+    List<Object[]> findIdsByLegacyIdIn(@Param("legacyIds") Collection<Long> legacyIds);
+
+    /**
+     * 전체 댓글을 ID 순으로 스트리밍 조회 - 삭제된 댓글 포함 (대량 내보내기용)
+     * 호출한 트랜잭션 안에서 소비하고 반드시 닫아야 한다
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author ORDER BY c.id")
+    Stream<Comment> streamAllForExport();
+
+    /**
+     * 댓글이 달린 게시글 ID (댓글 엔티티를 읽지 않음)
+     */
+    @Query("SELECT c.post.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findPostIdById(@Param("commentId") Long commentId);
+
+    /**
+     * 신고 수 1 증가 (삭제되지 않은 댓글만) - 댓글 행을 잠그므로 같은 댓글의 신고는 차례로 처리된다
+     *
+     * @return 0 이면 댓글이 없거나 삭제됨
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.reportCount = c.reportCount + 1 WHERE c.id = :commentId AND c.deleted = false")
+    int incrementReportCount(@Param("commentId") Long commentId);
+
+    /**
+     * 신고 수 1 감소 (관리자가 신고 하나를 처리한 경우)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.reportCount = c.reportCount - 1 WHERE c.id = :commentId AND c.reportCount > 0")
+    int decrementReportCount(@Param("commentId") Long commentId);
+
+    /**
+     * 신고 수를 0 으로 (관리자가 댓글의 신고를 한꺼번에 처리한 경우)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.reportCount = 0 WHERE c.id = :commentId")
+    int resetReportCount(@Param("commentId") Long commentId);
+
+    /**
+     * 신고 수가 threshold 이상이면 숨김 - 기준을 넘는 순간 한 번만 1 을 돌려준다 (PostRepository#hideIfReportedAtLeast 와 같은 방식)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.deleted = true, c.hiddenByReports = true, c.updatedAt = :now " +
+           "WHERE c.id = :commentId AND c.deleted = false AND c.reportCount >= :threshold")
+    int hideIfReportedAtLeast(@Param("commentId") Long commentId, @Param("threshold") int threshold,
+                              @Param("now") LocalDateTime now);
+
+    /**
+     * 신고 누적으로 숨겨진 댓글을 되살림 (신고가 기각된 경우) - 작성자/관리자가 삭제한 댓글은 건드리지 않는다
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.deleted = false, c.hiddenByReports = false, c.updatedAt = :now " +
+           "WHERE c.id = :commentId AND c.hiddenByReports = true")
+    int unhideHiddenByReports(@Param("commentId") Long commentId, @Param("now") LocalDateTime now);
+
+    /**
+     * 신고가 받아들여진 경우 숨김을 삭제로 확정 - 이때부터 삭제 시각 기준으로 보관 대상이 된다
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.hiddenByReports = false, c.deletedAt = :now, c.updatedAt = :now " +
+           "WHERE c.id IN :commentIds AND c.hiddenByReports = true")
+    int confirmHiddenByReportsByIdIn(@Param("commentIds") Collection<Long> commentIds,
+                                     @Param("now") LocalDateTime now);
+
+    /**
+     * 신고 관리 대기열 - 처리되지 않은 신고가 있는 댓글 (신고 수 많은 순, 숨겨진 댓글 포함)
+     */
+    @Query(value = "SELECT c FROM Comment c JOIN FETCH c.author JOIN FETCH c.post WHERE c.reportCount > 0 " +
+                   "ORDER BY c.reportCount DESC, c.id DESC",
+           countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.reportCount > 0")
+    Page<Comment> findReportQueue(Pageable pageable);
+
+    /**
+     * 일괄 관리 대상 댓글 ID - afterId 다음부터 ID 순 (키셋), null 인 조건은 적용하지 않는다
+     * 분류(category)는 댓글이 달린 게시글의 분류, 검색어는 댓글 내용에서 찾는다
+     *
+     * @param deleted      null 이면 삭제 여부와 상관없이
+     * @param reportedOnly true 면 처리되지 않은 신고가 있는 댓글만
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.id > :afterId " +
+           "AND (:deleted IS NULL OR c.deleted = :deleted) " +
+           "AND (:reportedOnly = false OR c.reportCount > 0) " +
+           "AND (:authorId IS NULL OR c.author.id = :authorId) " +
+           "AND (:category IS NULL OR c.post.category = :category) " +
+           "AND (:keyword IS NULL OR c.content LIKE CONCAT('%', :keyword, '%')) " +
+           "AND (:from IS NULL OR c.createdAt >= :from) " +
+           "AND (:to IS NULL OR c.createdAt < :to) " +
+           "ORDER BY c.id")
+    List<Long> findModerationTargetIds(@Param("afterId") Long afterId, @Param("deleted") Boolean deleted,
+                                       @Param("reportedOnly") boolean reportedOnly, @Param("authorId") Long authorId,
+                                       @Param("category") String category, @Param("keyword") String keyword,
+                                       @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                       Pageable pageable);
+
+    /**
+     * 일괄 관리 대상 댓글 수 ({@link #findModerationTargetIds} 와 같은 조건, 진행률 표시용)
+     */
+    @Query("SELECT COUNT(c) FROM Comment c WHERE " +
+           "(:deleted IS NULL OR c.deleted = :deleted) " +
+           "AND (:reportedOnly = false OR c.reportCount > 0) " +
+           "AND (:authorId IS NULL OR c.author.id = :authorId) " +
+           "AND (:category IS NULL OR c.post.category = :category) " +
+           "AND (:keyword IS NULL OR c.content LIKE CONCAT('%', :keyword, '%')) " +
+           "AND (:from IS NULL OR c.createdAt >= :from) " +
+           "AND (:to IS NULL OR c.createdAt < :to)")
+    long countModerationTargets(@Param("deleted") Boolean deleted, @Param("reportedOnly") boolean reportedOnly,
+                                @Param("authorId") Long authorId, @Param("category") String category,
+                                @Param("keyword") String keyword, @Param("from") LocalDateTime from,
+                                @Param("to") LocalDateTime to);
+
+    /**
+     * 댓글 일괄 삭제 처리 (이미 삭제된 댓글은 건너뜀, 신고 누적으로 숨겨진 댓글은 삭제로 바꿈)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.deleted = true, c.hiddenByReports = false, c.deletedAt = :now, c.updatedAt = :now " +
+           "WHERE c.id IN :commentIds AND (c.deleted = false OR c.hiddenByReports = true)")
+    int softDeleteByIdIn(@Param("commentIds") Collection<Long> commentIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 댓글 일괄 복원 (삭제되지 않은 댓글은 건너뜀)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.deleted = false, c.hiddenByReports = false, c.deletedAt = null, c.updatedAt = :now " +
+           "WHERE c.id IN :commentIds AND c.deleted = true")
+    int restoreByIdIn(@Param("commentIds") Collection<Long> commentIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 여러 댓글의 신고 수를 0 으로 ({@link #resetReportCount} 의 일괄 처리판)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.reportCount = 0 WHERE c.id IN :commentIds AND c.reportCount > 0")
+    int resetReportCountByIdIn(@Param("commentIds") Collection<Long> commentIds);
+
+    /**
+     * 신고 누적으로 숨겨진 댓글 여러 개를 되살림 ({@link #unhideHiddenByReports} 의 일괄 처리판)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.deleted = false, c.hiddenByReports = false, c.updatedAt = :now " +
+           "WHERE c.id IN :commentIds AND c.hiddenByReports = true")
+    int unhideHiddenByReportsByIdIn(@Param("commentIds") Collection<Long> commentIds,
+                                    @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,79 @@
+package com.board.domain.repository;
+
+import com.board.domain.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 점유할 수 있는 전달 대기 이벤트 ID 를 ID 순으로 - 다른 인스턴스가 점유 중인 이벤트는 건너뛴다 (idx_outbox_events_status)
+     */
+    @Query("SELECT e.id FROM OutboxEvent e " +
+           "WHERE e.status = com.board.domain.entity.OutboxEvent.Status.PENDING " +
+           "AND (e.claimedUntil IS NULL OR e.claimedUntil < :now) ORDER BY e.id")
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 이벤트 점유 - 조회와 점유 사이에 다른 인스턴스가 먼저 점유한 행은 조건에 걸려 바뀌지 않는다
+     *
+     * @return 점유한 이벤트 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.claimToken = :token, e.claimedUntil = :until " +
+           "WHERE e.id IN :ids AND e.status = com.board.domain.entity.OutboxEvent.Status.PENDING " +
+           "AND (e.claimedUntil IS NULL OR e.claimedUntil < :now)")
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") String token,
+              @Param("until") LocalDateTime until, @Param("now") LocalDateTime now);
+
+    /**
+     * 점유 토큰으로 점유한 이벤트를 ID 순으로
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.claimToken = :token ORDER BY e.id")
+    List<OutboxEvent> findByClaimToken(@Param("token") String token);
+
+    /**
+     * 가장 오래된 이벤트 (전달 지연 측정)
+     */
+    Optional<OutboxEvent> findFirstByStatusOrderByIdAsc(OutboxEvent.Status status);
+
+    /**
+     * 전달 완료 처리 (점유 해제)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = com.board.domain.entity.OutboxEvent.Status.DISPATCHED, " +
+           "e.dispatchedAt = :now, e.claimToken = null, e.claimedUntil = null WHERE e.id IN :ids")
+    int markDispatched(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 전달 실패 기록 (점유 해제) - 시도 횟수가 maxAttempts 에 닿으면 FAILED 로 바꿔 더는 재시도하지 않는다
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error, " +
+           "e.claimToken = null, e.claimedUntil = null, " +
+           "e.status = CASE WHEN e.attempts + 1 >= :maxAttempts " +
+           "THEN com.board.domain.entity.OutboxEvent.Status.FAILED ELSE e.status END " +
+           "WHERE e.id IN :ids")
+    int recordFailure(@Param("ids") Collection<Long> ids, @Param("error") String error,
+                      @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 보관 기간이 지난 전달 완료 이벤트 ID (정리용)
+     */
+    @Query("SELECT e.id FROM OutboxEvent e " +
+           "WHERE e.status = com.board.domain.entity.OutboxEvent.Status.DISPATCHED AND e.dispatchedAt < :cutoff " +
+           "ORDER BY e.id")
+    List<Long> findDispatchedIdsBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
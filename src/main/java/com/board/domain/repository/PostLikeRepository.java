@@ -3,11 +3,17 @@ package com.board.domain.repository;
 import com.board.domain.entity.Post;
 import com.board.domain.entity.PostLike;
 import com.board.domain.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
@@ -34,8 +40,28 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     @Query("SELECT pl.isLike FROM PostLike pl WHERE pl.post = :post AND pl.user = :user")
     Optional<Boolean> findUserLikeStatus(@Param("post") Post post, @Param("user") User user);
 
+    /**
+     * 여러 게시글의 추천/비추천 수를 한 번에 조회 - [게시글 ID, 추천 수, 비추천 수] (기록이 없는 게시글은 빠짐)
+     */
+    @Query("SELECT pl.post.id, " +
+           "SUM(CASE WHEN pl.isLike = true THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN pl.isLike = false THEN 1 ELSE 0 END) " +
+           "FROM PostLike pl WHERE pl.post.id IN :postIds GROUP BY pl.post.id")
+    List<Object[]> countReactionsByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
     /**
      * 특정 게시글의 모든 추천/비추천 기록 삭제 (게시글 삭제 시 사용)
      */
     void deleteByPost(Post post);
+
+    /**
+     * 전체 게시글 추천/비추천 기록을 ID 순으로 스트리밍 조회 (대량 내보내기용)
+     * 호출한 트랜잭션 안에서 소비하고 반드시 닫아야 한다
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT pl FROM PostLike pl JOIN FETCH pl.user ORDER BY pl.id")
+    Stream<PostLike> streamAllForExport();
 }
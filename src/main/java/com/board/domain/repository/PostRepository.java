@@ -2,25 +2,34 @@ package com.board.domain.repository;
 
 import com.board.domain.entity.Post;
 import com.board.domain.entity.User;
+import com.board.dto.PostRevision;
+import com.board.dto.PostSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
     /**
-     * 삭제되지 않은 게시글만 조회 (페이징)
+     * 목록 한 줄(PostSummary) 생성자 표현식 - 본문 없이 목록에 쓰는 컬럼과 작성자만 읽는다.
+     * FROM 절에서 작성자를 a 로 조인해야 한다.
      */
-    Page<Post> findByDeletedFalseOrderByCreatedAtDesc(Pageable pageable);
+    String SUMMARY = "new com.board.dto.PostSummary(p.id, p.title, p.category, p.isNotice, p.viewCount, p.likeCount, " +
+                     "p.createdAt, p.thumbnailUrl, p.excerpt, a.id, a.username, a.nickname) ";
+
 
-    /**
-     * 카테고리별 게시글 조회 (삭제되지 않은 것만)
-     */
-    Page<Post> findByCategoryAndDeletedFalseOrderByCreatedAtDesc(String category, Pageable pageable);
 
     /**
      * 작성자별 게시글 조회 (삭제되지 않은 것만)
@@ -35,7 +44,7 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     /**
      * 내용으로 검색 (부분 일치, 삭제되지 않은 것만)
      */
-    Page<Post> findByContentContainingAndDeletedFalseOrderByCreatedAtDesc(String keyword, Pageable pageable);
+    Page<Post> findByBodyContentContainingAndDeletedFalseOrderByCreatedAtDesc(String keyword, Pageable pageable);
 
     /**
      * 카테고리 목록 조회 (중복 제거)
@@ -49,9 +58,10 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     long countByDeletedFalse();
 
     /**
-     * 사용자명으로 게시글 조회 (삭제되지 않은 것만)
+     * 삭제되지 않은 게시글인지 확인
      */
-    Page<Post> findByAuthorUsernameAndDeletedFalseOrderByCreatedAtDesc(String username, Pageable pageable);
+    boolean existsByIdAndDeletedFalse(Long id);
+
 
     /**
      * 카테고리별 게시글 수 (삭제되지 않은 것만)
@@ -73,33 +83,72 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      */
     long countByIsNoticeTrueAndDeletedFalse();
 
+
+
+    /**
+     * 게시글 목록 (최신순) - 본문 없이 목록 한 줄만
+     */
+    @Query(value = "SELECT " + SUMMARY + "FROM Post p JOIN p.author a WHERE p.deleted = false " +
+                   "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.deleted = false")
+    Page<PostSummary> findSummariesOrderByCreatedAtDesc(Pageable pageable);
+
+    /**
+     * 게시글 목록 (조회수순) - 본문 없이 목록 한 줄만
+     */
+    @Query(value = "SELECT " + SUMMARY + "FROM Post p JOIN p.author a WHERE p.deleted = false " +
+                   "ORDER BY p.viewCount DESC, p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.deleted = false")
+    Page<PostSummary> findSummariesOrderByViewCountDesc(Pageable pageable);
+
     /**
-     * 조회수 기준으로 게시글 조회 (삭제되지 않은 것만, 페이징)
+     * 게시글 목록 (추천순) - 본문 없이 목록 한 줄만
      */
-    Page<Post> findByDeletedFalseOrderByViewCountDescCreatedAtDesc(Pageable pageable);
+    @Query(value = "SELECT " + SUMMARY + "FROM Post p JOIN p.author a WHERE p.deleted = false " +
+                   "ORDER BY p.likeCount DESC, p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.deleted = false")
+    Page<PostSummary> findSummariesOrderByLikeCountDesc(Pageable pageable);
 
     /**
-     * 좋아요 수 기준으로 게시글 조회 (삭제되지 않은 것만, 페이징)
+     * 카테고리별 게시글 목록 (최신순) - 본문 없이 목록 한 줄만
      */
-    Page<Post> findByDeletedFalseOrderByLikeCountDescCreatedAtDesc(Pageable pageable);
+    @Query(value = "SELECT " + SUMMARY + "FROM Post p JOIN p.author a " +
+                   "WHERE p.category = :category AND p.deleted = false ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.category = :category AND p.deleted = false")
+    Page<PostSummary> findSummariesByCategory(@Param("category") String category, Pageable pageable);
+
+    /**
+     * 사용자가 쓴 게시글 목록 (최신순, 프로필 화면) - 본문 없이 목록 한 줄만
+     */
+    @Query(value = "SELECT " + SUMMARY + "FROM Post p JOIN p.author a " +
+                   "WHERE a.username = :username AND p.deleted = false ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.author.username = :username AND p.deleted = false")
+    Page<PostSummary> findSummariesByAuthorUsername(@Param("username") String username, Pageable pageable);
+
+    /**
+     * 사용자가 쓴 게시글 수 (삭제되지 않은 것만)
+     */
+    long countByAuthorUsernameAndDeletedFalse(String username);
 
     /**
      * 작성자 닉네임으로 검색 (부분 일치, 삭제되지 않은 것만)
      */
-    @Query("SELECT p FROM Post p JOIN p.author a WHERE a.nickname LIKE %:nickname% AND p.deleted = false ORDER BY p.createdAt DESC")
-    Page<Post> findByAuthorNicknameContainingAndDeletedFalse(@Param("nickname") String nickname, Pageable pageable);
+    @Query(value = "SELECT " + SUMMARY + "FROM Post p JOIN p.author a " +
+                   "WHERE a.nickname LIKE %:nickname% AND p.deleted = false ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p JOIN p.author a WHERE a.nickname LIKE %:nickname% AND p.deleted = false")
+    Page<PostSummary> findByAuthorNicknameContainingAndDeletedFalse(@Param("nickname") String nickname, Pageable pageable);
 
     /**
      * 제목 또는 내용으로 검색 (복합 검색, 삭제되지 않은 것만)
      */
-    @Query("SELECT p FROM Post p WHERE (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) AND p.deleted = false ORDER BY p.createdAt DESC")
+    @Query("SELECT p FROM Post p WHERE (p.title LIKE %:keyword% OR p.body.content LIKE %:keyword%) AND p.deleted = false ORDER BY p.createdAt DESC")
     Page<Post> findByTitleContainingOrContentContainingAndDeletedFalse(@Param("keyword") String keyword, Pageable pageable);
 
     /**
      * 모든 필드에서 검색 (제목, 내용, 카테고리, 작성자 닉네임)
      */
     @Query("SELECT p FROM Post p JOIN p.author a WHERE " +
-           "(p.title LIKE %:keyword% OR p.content LIKE %:keyword% OR " +
+           "(p.title LIKE %:keyword% OR p.body.content LIKE %:keyword% OR " +
            "p.category LIKE %:keyword% OR a.nickname LIKE %:keyword%) AND " +
            "p.deleted = false ORDER BY p.createdAt DESC")
     Page<Post> findByAllFieldsContaining(@Param("keyword") String keyword, Pageable pageable);
@@ -107,20 +156,24 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     /**
      * 카테고리와 키워드로 검색 (제목 또는 내용에서)
      */
-    @Query("SELECT p FROM Post p WHERE p.category = :category AND " +
-           "(p.title LIKE %:keyword% OR p.content LIKE %:keyword%) AND " +
-           "p.deleted = false ORDER BY p.createdAt DESC")
-    Page<Post> findByCategoryAndKeyword(@Param("category") String category,
+    @Query(value = "SELECT " + SUMMARY + "FROM Post p JOIN p.author a WHERE p.category = :category AND " +
+                   "(p.title LIKE %:keyword% OR p.body.content LIKE %:keyword%) AND " +
+                   "p.deleted = false ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.category = :category AND " +
+                        "(p.title LIKE %:keyword% OR p.body.content LIKE %:keyword%) AND p.deleted = false")
+    Page<PostSummary> findByCategoryAndKeyword(@Param("category") String category,
                                        @Param("keyword") String keyword,
                                        Pageable pageable);
 
     /**
      * 작성자와 키워드로 검색 (제목 또는 내용에서)
      */
-    @Query("SELECT p FROM Post p JOIN p.author a WHERE a.nickname LIKE %:authorName% AND " +
-           "(p.title LIKE %:keyword% OR p.content LIKE %:keyword%) AND " +
-           "p.deleted = false ORDER BY p.createdAt DESC")
-    Page<Post> findByAuthorAndKeyword(@Param("authorName") String authorName,
+    @Query(value = "SELECT " + SUMMARY + "FROM Post p JOIN p.author a WHERE a.nickname LIKE %:authorName% AND " +
+                   "(p.title LIKE %:keyword% OR p.body.content LIKE %:keyword%) AND " +
+                   "p.deleted = false ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p JOIN p.author a WHERE a.nickname LIKE %:authorName% AND " +
+                        "(p.title LIKE %:keyword% OR p.body.content LIKE %:keyword%) AND p.deleted = false")
+    Page<PostSummary> findByAuthorAndKeyword(@Param("authorName") String authorName,
                                      @Param("keyword") String keyword,
                                      Pageable pageable);
 
@@ -131,43 +184,57 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     /**
      * 제목 검색 (LIKE 쿼리 최적화)
      */
-    @Query("SELECT p FROM Post p WHERE " +
-           "p.deleted = false AND " +
-           "LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "ORDER BY p.createdAt DESC")
-    Page<Post> findByTitleContainingIgnoreCaseAndDeletedFalse(@Param("keyword") String keyword, Pageable pageable);
+    @Query(value = "SELECT " + SUMMARY + "FROM Post p JOIN p.author a WHERE " +
+                   "p.deleted = false AND " +
+                   "LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+                   "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.deleted = false AND " +
+                        "LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    Page<PostSummary> findByTitleContainingIgnoreCaseAndDeletedFalse(@Param("keyword") String keyword, Pageable pageable);
 
     /**
      * 내용 검색 (FULLTEXT 검색 시뮬레이션)
      */
-    @Query("SELECT p FROM Post p WHERE " +
-           "p.deleted = false AND " +
-           "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "ORDER BY p.createdAt DESC")
-    Page<Post> findByContentContainingIgnoreCaseAndDeletedFalse(@Param("keyword") String keyword, Pageable pageable);
+    @Query(value = "SELECT " + SUMMARY + "FROM Post p JOIN p.author a WHERE " +
+                   "p.deleted = false AND " +
+                   "LOWER(p.body.content) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+                   "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.deleted = false AND " +
+                        "LOWER(p.body.content) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    Page<PostSummary> findByContentContainingIgnoreCaseAndDeletedFalse(@Param("keyword") String keyword, Pageable pageable);
 
     /**
      * 최적화된 복합 검색 (제목 + 내용)
      */
-    @Query("SELECT p FROM Post p WHERE " +
-           "p.deleted = false AND " +
-           "(LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           " LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-           "ORDER BY p.createdAt DESC")
-    Page<Post> findByTitleOrContentContainingIgnoreCaseAndDeletedFalse(@Param("keyword") String keyword, Pageable pageable);
+    @Query(value = "SELECT " + SUMMARY + "FROM Post p JOIN p.author a WHERE " +
+                   "p.deleted = false AND " +
+                   "(LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                   " LOWER(p.body.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+                   "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.deleted = false AND " +
+                        "(LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        " LOWER(p.body.content) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    Page<PostSummary> findByTitleOrContentContainingIgnoreCaseAndDeletedFalse(@Param("keyword") String keyword, Pageable pageable);
 
     /**
      * 최적화된 전체 검색 (모든 필드 + 댓글 내용 포함)
      */
-    @Query("SELECT DISTINCT p FROM Post p LEFT JOIN p.author a LEFT JOIN p.comments c WHERE " +
-           "p.deleted = false AND " +
-           "(LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           " LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           " LOWER(p.category) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           " LOWER(a.nickname) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           " (c.deleted = false AND LOWER(c.content) LIKE LOWER(CONCAT('%', :keyword, '%')))) " +
-           "ORDER BY p.createdAt DESC")
-    Page<Post> findByAllFieldsContainingIgnoreCase(@Param("keyword") String keyword, Pageable pageable);
+    @Query(value = "SELECT DISTINCT " + SUMMARY + "FROM Post p JOIN p.author a LEFT JOIN p.comments c WHERE " +
+                   "p.deleted = false AND " +
+                   "(LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                   " LOWER(p.body.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                   " LOWER(p.category) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                   " LOWER(a.nickname) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                   " (c.deleted = false AND LOWER(c.content) LIKE LOWER(CONCAT('%', :keyword, '%')))) " +
+                   "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(DISTINCT p) FROM Post p JOIN p.author a LEFT JOIN p.comments c WHERE " +
+                        "p.deleted = false AND " +
+                        "(LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        " LOWER(p.body.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        " LOWER(p.category) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        " LOWER(a.nickname) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        " (c.deleted = false AND LOWER(c.content) LIKE LOWER(CONCAT('%', :keyword, '%'))))")
+    Page<PostSummary> findByAllFieldsContainingIgnoreCase(@Param("keyword") String keyword, Pageable pageable);
 
     /**
      * 카운트 쿼리 최적화 (검색 결과 수 조회)
@@ -179,17 +246,20 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     @Query("SELECT COUNT(p) FROM Post p WHERE " +
            "p.deleted = false AND " +
-           "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+           "LOWER(p.body.content) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     Long countByContentContainingIgnoreCaseAndDeletedFalse(@Param("keyword") String keyword);
 
     /**
      * 댓글 내용으로 게시글 검색 (최적화)
      */
-    @Query("SELECT DISTINCT p FROM Post p JOIN p.comments c WHERE " +
-           "p.deleted = false AND c.deleted = false AND " +
-           "LOWER(c.content) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "ORDER BY p.createdAt DESC")
-    Page<Post> findByCommentsContentContainingIgnoreCaseAndDeletedFalse(@Param("keyword") String keyword, Pageable pageable);
+    @Query(value = "SELECT DISTINCT " + SUMMARY + "FROM Post p JOIN p.author a JOIN p.comments c WHERE " +
+                   "p.deleted = false AND c.deleted = false AND " +
+                   "LOWER(c.content) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+                   "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(DISTINCT p) FROM Post p JOIN p.comments c WHERE " +
+                        "p.deleted = false AND c.deleted = false AND " +
+                        "LOWER(c.content) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    Page<PostSummary> findByCommentsContentContainingIgnoreCaseAndDeletedFalse(@Param("keyword") String keyword, Pageable pageable);
 
     /**
      * 댓글 내용 검색 결과 카운트
@@ -198,4 +268,190 @@ public interface PostRepository extends JpaRepository<Post, Long> {
            "p.deleted = false AND c.deleted = false AND " +
            "LOWER(c.content) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     Long countByCommentsContentContainingIgnoreCaseAndDeletedFalse(@Param("keyword") String keyword);
+
+    /**
+     * 게시글을 본문과 함께 조회 (상세/수정 화면) - 본문을 따로 지연 로딩하지 않도록 한 번에 읽는다
+     */
+    @Query("SELECT p FROM Post p JOIN FETCH p.body WHERE p.id = :postId")
+    Optional<Post> findWithBodyById(@Param("postId") Long postId);
+
+    /**
+     * 조건부 GET 검증값 조회 - 게시글 수정 시각/추천 수와 댓글 마지막 변경 시각/개수/추천 합계, 댓글 마지막 추천 시각을 한 번에 집계
+     */
+    @Query("SELECT new com.board.dto.PostRevision(p.id, p.updatedAt, p.likeCount, MAX(c.updatedAt), COUNT(c), SUM(c.likeCount), " +
+           "(SELECT MAX(cl.createdAt) FROM CommentLike cl WHERE cl.comment.post.id = p.id)) " +
+           "FROM Post p LEFT JOIN p.comments c WHERE p.id = :postId GROUP BY p.id, p.updatedAt, p.likeCount")
+    Optional<PostRevision> findRevisionById(@Param("postId") Long postId);
+
+    /**
+     * 조회수 1 증가 (삭제되지 않은 게시글만) - 엔티티를 읽지 않는 원자적 UPDATE 라서 동시 조회에도 누락이 없고,
+     * 감사(@LastModifiedDate) 대상이 아니므로 updatedAt(조건부 GET 검증값)이 바뀌지 않는다
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :postId AND p.deleted = false")
+    int incrementViewCount(@Param("postId") Long postId);
+
+    /**
+     * 조회수만 조회
+     */
+    @Query("SELECT p.viewCount FROM Post p WHERE p.id = :postId")
+    Optional<Integer> findViewCountById(@Param("postId") Long postId);
+
+    /**
+     * 원본 ID(legacyId)로 게시글 ID 일괄 조회 - [legacyId, id] 배열 목록 (대량 가져오기용)
+     */
+    @Query("SELECT p.legacyId, p.id FROM Post p WHERE p.legacyId IN :legacyIds")
+    List<Object[]> findIdsByLegacyIdIn(@Param("legacyIds") Collection<Long> legacyIds);
+
+    /**
+     * 전체 게시글을 ID 순으로 스트리밍 조회 - 삭제된 글 포함 (대량 내보내기용)
+     * 호출한 트랜잭션 안에서 소비하고 반드시 닫아야 한다
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Post p JOIN FETCH p.author JOIN FETCH p.body ORDER BY p.id")
+    Stream<Post> streamAllForExport();
+
+    /**
+     * 신고 수 1 증가 (삭제되지 않은 게시글만) - 게시글 행을 잠그므로 같은 게시글의 신고는 차례로 처리된다
+     *
+     * @return 0 이면 게시글이 없거나 삭제됨
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.reportCount = p.reportCount + 1 WHERE p.id = :postId AND p.deleted = false")
+    int incrementReportCount(@Param("postId") Long postId);
+
+    /**
+     * 신고 수 1 감소 (관리자가 신고 하나를 처리한 경우)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.reportCount = p.reportCount - 1 WHERE p.id = :postId AND p.reportCount > 0")
+    int decrementReportCount(@Param("postId") Long postId);
+
+    /**
+     * 신고 수를 0 으로 (관리자가 게시글의 신고를 한꺼번에 처리한 경우)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.reportCount = 0 WHERE p.id = :postId")
+    int resetReportCount(@Param("postId") Long postId);
+
+    /**
+     * 신고 수가 threshold 이상이면 숨김 - 기준을 넘는 순간 한 번만 1 을 돌려준다
+     *
+     * 목록/상세/검색에서 빠지도록 deleted 도 true 로 두지만 삭제 시각은 남기지 않는다 (삭제가 아니므로 보관 대상이 아님).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.deleted = true, p.hiddenByReports = true, p.updatedAt = :now " +
+           "WHERE p.id = :postId AND p.deleted = false AND p.reportCount >= :threshold")
+    int hideIfReportedAtLeast(@Param("postId") Long postId, @Param("threshold") int threshold,
+                              @Param("now") LocalDateTime now);
+
+    /**
+     * 신고 누적으로 숨겨진 게시글을 되살림 (신고가 기각된 경우) - 작성자/관리자가 삭제한 글은 건드리지 않는다
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.deleted = false, p.hiddenByReports = false, p.updatedAt = :now " +
+           "WHERE p.id = :postId AND p.hiddenByReports = true")
+    int unhideHiddenByReports(@Param("postId") Long postId, @Param("now") LocalDateTime now);
+
+    /**
+     * 신고가 받아들여진 경우 숨김을 삭제로 확정 - 이때부터 삭제 시각 기준으로 보관 대상이 된다
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.hiddenByReports = false, p.deletedAt = :now, p.updatedAt = :now " +
+           "WHERE p.id IN :postIds AND p.hiddenByReports = true")
+    int confirmHiddenByReportsByIdIn(@Param("postIds") Collection<Long> postIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 신고 관리 대기열 - 처리되지 않은 신고가 있는 게시글 (신고 수 많은 순, 숨겨진 글 포함)
+     */
+    @Query(value = "SELECT p FROM Post p JOIN FETCH p.author WHERE p.reportCount > 0 " +
+                   "ORDER BY p.reportCount DESC, p.id DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.reportCount > 0")
+    Page<Post> findReportQueue(Pageable pageable);
+
+    /**
+     * 일괄 관리 대상 게시글 ID - afterId 다음부터 ID 순 (키셋), null 인 조건은 적용하지 않는다
+     *
+     * @param deleted      null 이면 삭제 여부와 상관없이
+     * @param reportedOnly true 면 처리되지 않은 신고가 있는 게시글만
+     */
+    @Query("SELECT p.id FROM Post p WHERE p.id > :afterId " +
+           "AND (:deleted IS NULL OR p.deleted = :deleted) " +
+           "AND (:reportedOnly = false OR p.reportCount > 0) " +
+           "AND (:authorId IS NULL OR p.author.id = :authorId) " +
+           "AND (:category IS NULL OR p.category = :category) " +
+           "AND (:keyword IS NULL OR p.title LIKE CONCAT('%', :keyword, '%')) " +
+           "AND (:from IS NULL OR p.createdAt >= :from) " +
+           "AND (:to IS NULL OR p.createdAt < :to) " +
+           "ORDER BY p.id")
+    List<Long> findModerationTargetIds(@Param("afterId") Long afterId, @Param("deleted") Boolean deleted,
+                                       @Param("reportedOnly") boolean reportedOnly, @Param("authorId") Long authorId,
+                                       @Param("category") String category, @Param("keyword") String keyword,
+                                       @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                       Pageable pageable);
+
+    /**
+     * 일괄 관리 대상 게시글 수 ({@link #findModerationTargetIds} 와 같은 조건, 진행률 표시용)
+     */
+    @Query("SELECT COUNT(p) FROM Post p WHERE " +
+           "(:deleted IS NULL OR p.deleted = :deleted) " +
+           "AND (:reportedOnly = false OR p.reportCount > 0) " +
+           "AND (:authorId IS NULL OR p.author.id = :authorId) " +
+           "AND (:category IS NULL OR p.category = :category) " +
+           "AND (:keyword IS NULL OR p.title LIKE CONCAT('%', :keyword, '%')) " +
+           "AND (:from IS NULL OR p.createdAt >= :from) " +
+           "AND (:to IS NULL OR p.createdAt < :to)")
+    long countModerationTargets(@Param("deleted") Boolean deleted, @Param("reportedOnly") boolean reportedOnly,
+                                @Param("authorId") Long authorId, @Param("category") String category,
+                                @Param("keyword") String keyword, @Param("from") LocalDateTime from,
+                                @Param("to") LocalDateTime to);
+
+    /**
+     * 게시글 일괄 삭제 처리 (이미 삭제된 글은 건너뜀, 신고 누적으로 숨겨진 글은 삭제로 바꿈)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.deleted = true, p.hiddenByReports = false, p.deletedAt = :now, p.updatedAt = :now " +
+           "WHERE p.id IN :postIds AND (p.deleted = false OR p.hiddenByReports = true)")
+    int softDeleteByIdIn(@Param("postIds") Collection<Long> postIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 게시글 일괄 복원 (삭제되지 않은 글은 건너뜀)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.deleted = false, p.hiddenByReports = false, p.deletedAt = null, p.updatedAt = :now " +
+           "WHERE p.id IN :postIds AND p.deleted = true")
+    int restoreByIdIn(@Param("postIds") Collection<Long> postIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 여러 게시글의 신고 수를 0 으로 ({@link #resetReportCount} 의 일괄 처리판)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.reportCount = 0 WHERE p.id IN :postIds AND p.reportCount > 0")
+    int resetReportCountByIdIn(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 신고 누적으로 숨겨진 게시글 여러 개를 되살림 ({@link #unhideHiddenByReports} 의 일괄 처리판)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.deleted = false, p.hiddenByReports = false, p.updatedAt = :now " +
+           "WHERE p.id IN :postIds AND p.hiddenByReports = true")
+    int unhideHiddenByReportsByIdIn(@Param("postIds") Collection<Long> postIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 미리보기(썸네일/요약)가 아직 없는 게시글 - afterId 다음부터 ID 순 (키셋, 기존 데이터 채우기용)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT p FROM Post p JOIN FETCH p.body WHERE p.id > :afterId AND p.excerpt IS NULL ORDER BY p.id")
+    List<Post> findWithoutPreview(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 미리보기 저장 - 수정 시각은 바꾸지 않는다 (캐시/ETag 가 무효화되지 않도록)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.thumbnailUrl = :thumbnailUrl, p.excerpt = :excerpt WHERE p.id = :postId")
+    int updatePreview(@Param("postId") Long postId, @Param("thumbnailUrl") String thumbnailUrl,
+                      @Param("excerpt") String excerpt);
 }
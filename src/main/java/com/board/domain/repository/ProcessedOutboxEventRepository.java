@@ -0,0 +1,26 @@
+package com.board.domain.repository;
+
+import com.board.domain.entity.ProcessedOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface ProcessedOutboxEventRepository extends JpaRepository<ProcessedOutboxEvent, Long> {
+
+    /**
+     * 주어진 이벤트 중 소비자가 이미 처리한 이벤트 ID (uk_outbox_processed_event_consumer)
+     */
+    @Query("SELECT p.eventId FROM ProcessedOutboxEvent p WHERE p.consumer = :consumer AND p.eventId IN :eventIds")
+    Set<Long> findProcessedEventIds(@Param("consumer") String consumer, @Param("eventIds") Collection<Long> eventIds);
+
+    /**
+     * 정리되는 이벤트의 처리 기록 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM ProcessedOutboxEvent p WHERE p.eventId IN :eventIds")
+    int deleteByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+}
@@ -4,14 +4,21 @@ import com.board.domain.entity.ReportedComment;
 import com.board.domain.entity.Comment;
 import com.board.domain.entity.User;
 import com.board.domain.enums.ReportStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ReportedCommentRepository extends JpaRepository<ReportedComment, Long> {
 
@@ -46,4 +53,34 @@ public interface ReportedCommentRepository extends JpaRepository<ReportedComment
      */
     @Query("SELECT rc FROM ReportedComment rc ORDER BY rc.createdAt DESC")
     Page<ReportedComment> findRecentReports(Pageable pageable);
+
+    /**
+     * 전체 댓글 신고를 ID 순으로 스트리밍 조회 (대량 내보내기용)
+     * 호출한 트랜잭션 안에서 소비하고 반드시 닫아야 한다
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT rc FROM ReportedComment rc JOIN FETCH rc.reporter ORDER BY rc.id")
+    Stream<ReportedComment> streamAllForExport();
+
+    /**
+     * 댓글의 대기중인 신고를 한꺼번에 처리
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReportedComment rc SET rc.status = :status, rc.updatedAt = :now " +
+           "WHERE rc.comment.id = :commentId AND rc.status = :pending")
+    int updatePendingStatusByCommentId(@Param("commentId") Long commentId, @Param("status") ReportStatus status,
+                                       @Param("pending") ReportStatus pending, @Param("now") LocalDateTime now);
+
+    /**
+     * 여러 댓글의 대기중인 신고를 한꺼번에 처리 (일괄 관리용)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReportedComment rc SET rc.status = :status, rc.updatedAt = :now " +
+           "WHERE rc.comment.id IN :commentIds AND rc.status = :pending")
+    int updatePendingStatusByCommentIdIn(@Param("commentIds") Collection<Long> commentIds,
+                                         @Param("status") ReportStatus status, @Param("pending") ReportStatus pending,
+                                         @Param("now") LocalDateTime now);
 }
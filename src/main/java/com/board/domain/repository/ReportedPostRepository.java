@@ -4,14 +4,21 @@ import com.board.domain.entity.ReportedPost;
 import com.board.domain.entity.Post;
 import com.board.domain.entity.User;
 import com.board.domain.enums.ReportStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ReportedPostRepository extends JpaRepository<ReportedPost, Long> {
 
@@ -46,4 +53,33 @@ public interface ReportedPostRepository extends JpaRepository<ReportedPost, Long
      */
     @Query("SELECT rp FROM ReportedPost rp ORDER BY rp.createdAt DESC")
     Page<ReportedPost> findRecentReports(Pageable pageable);
+
+    /**
+     * 전체 게시글 신고를 ID 순으로 스트리밍 조회 (대량 내보내기용)
+     * 호출한 트랜잭션 안에서 소비하고 반드시 닫아야 한다
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT rp FROM ReportedPost rp JOIN FETCH rp.reporter ORDER BY rp.id")
+    Stream<ReportedPost> streamAllForExport();
+
+    /**
+     * 게시글의 대기중인 신고를 한꺼번에 처리
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReportedPost rp SET rp.status = :status, rp.updatedAt = :now " +
+           "WHERE rp.post.id = :postId AND rp.status = :pending")
+    int updatePendingStatusByPostId(@Param("postId") Long postId, @Param("status") ReportStatus status,
+                                    @Param("pending") ReportStatus pending, @Param("now") LocalDateTime now);
+
+    /**
+     * 여러 게시글의 대기중인 신고를 한꺼번에 처리 (일괄 관리용)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReportedPost rp SET rp.status = :status, rp.updatedAt = :now " +
+           "WHERE rp.post.id IN :postIds AND rp.status = :pending")
+    int updatePendingStatusByPostIdIn(@Param("postIds") Collection<Long> postIds, @Param("status") ReportStatus status,
+                                      @Param("pending") ReportStatus pending, @Param("now") LocalDateTime now);
 }
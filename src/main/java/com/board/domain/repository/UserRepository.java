@@ -3,7 +3,10 @@ package com.board.domain.repository;
 import com.board.domain.entity.User;
 import com.board.domain.enums.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,4 +46,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 닉네임으로 사용자 검색 (부분 일치)
      */
     List<User> findByNicknameContaining(String nickname);
+
+    /**
+     * username 으로 사용자 ID 일괄 조회 - [username, id] 배열 목록 (대량 가져오기용)
+     */
+    @Query("SELECT u.username, u.id FROM User u WHERE u.username IN :usernames")
+    List<Object[]> findIdsByUsernameIn(@Param("usernames") Collection<String> usernames);
 }
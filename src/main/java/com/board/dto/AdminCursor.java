@@ -0,0 +1,73 @@
+package com.board.dto;
+
+import com.board.domain.entity.Comment;
+import com.board.domain.entity.Post;
+import com.board.domain.enums.AdminSort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 관리자 목록 커서 - 마지막으로 받은 행의 (정렬 값, ID)
+ *
+ * 정렬마다 값의 타입이 달라 커서에 정렬도 함께 담고, 다른 정렬의 커서로 이어 읽는 것은 막는다.
+ */
+public record AdminCursor(AdminSort sort, String value, Long id) {
+
+    public static AdminCursor of(AdminSort sort, Post post) {
+        Object value = switch (sort) {
+            case NEWEST, OLDEST -> post.getCreatedAt();
+            case MOST_VIEWED -> post.getViewCount();
+            case MOST_LIKED -> post.getLikeCount();
+            case MOST_REPORTED -> post.getReportCount();
+        };
+        return new AdminCursor(sort, String.valueOf(value), post.getId());
+    }
+
+    public static AdminCursor of(AdminSort sort, Comment comment) {
+        Object value = switch (sort) {
+            case NEWEST, OLDEST -> comment.getCreatedAt();
+            case MOST_LIKED -> comment.getLikeCount();
+            case MOST_REPORTED -> comment.getReportCount();
+            case MOST_VIEWED -> throw new IllegalArgumentException("댓글 목록에서 쓸 수 없는 정렬입니다: " + sort.getKey());
+        };
+        return new AdminCursor(sort, String.valueOf(value), comment.getId());
+    }
+
+    public String encode() {
+        String raw = sort.getKey() + "|" + value + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서에 담긴 정렬 값 (정렬 컬럼 타입)
+     */
+    public Object sortValue() {
+        return sort.parseValue(value);
+    }
+
+    /**
+     * @param value    {@link #encode()} 로 만든 문자열, 비어 있으면 첫 페이지
+     * @param expected 지금 요청한 정렬
+     * @return 커서 (첫 페이지면 null)
+     * @throws IllegalArgumentException 형식이 맞지 않거나 다른 정렬의 커서인 경우
+     */
+    public static AdminCursor decode(String value, AdminSort expected) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || AdminSort.from(parts[0]) != expected) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + value);
+            }
+            AdminCursor cursor = new AdminCursor(expected, parts[1], Long.valueOf(parts[2]));
+            cursor.sortValue();
+            return cursor;
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.board.dto;
+
+import java.util.List;
+
+/**
+ * 관리자 목록 응답 - 커서 기반 페이지와 대략적인 전체 개수
+ *
+ * @param content     이번 페이지 항목
+ * @param nextCursor  다음 페이지 커서 (마지막 페이지면 null)
+ * @param total       조건에 맞는 행 수 - totalCapped 면 실제로는 이보다 많음, 세지 않았으면 -1
+ * @param totalCapped 개수를 상한까지만 셌는지
+ */
+public record AdminListPage<T>(List<T> content, String nextCursor, long total, boolean totalCapped) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.board.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * 관리자 게시글/댓글 목록 조건 (쿼리 파라미터)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class AdminListRequest {
+    /** newest, oldest, views(게시글만), likes, reports */
+    private String sort = "newest";
+    /** active, deleted */
+    private String status = "active";
+    /** 작성자 사용자명 */
+    private String author;
+    /** 작성일 from 이후 (포함) */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+    /** 작성일 to 까지 (포함) */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+    /** 이전 페이지의 nextCursor (첫 페이지면 비움) */
+    private String cursor;
+    private int size = 20;
+}
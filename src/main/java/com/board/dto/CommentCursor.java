@@ -0,0 +1,52 @@
+package com.board.dto;
+
+import com.board.domain.entity.Comment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 댓글 목록 커서 - 마지막으로 받은 댓글의 (작성 시각, ID)
+ *
+ * 댓글은 작성 시각 순으로 보여주지만 같은 시각에 작성된 댓글이 있을 수 있어 ID 로 순서를 확정한다.
+ * 다음 페이지는 이 위치 다음부터 읽으므로 OFFSET 처럼 앞쪽 댓글을 건너뛰며 읽지 않고,
+ * 그 사이에 댓글이 추가/삭제되어도 중복되거나 빠지지 않는다.
+ */
+public record CommentCursor(LocalDateTime createdAt, Long id) {
+
+    public static CommentCursor of(Comment comment) {
+        return new CommentCursor(comment.getCreatedAt(), comment.getId());
+    }
+
+    /**
+     * 클라이언트에 전달할 문자열 (URL 에 그대로 쓸 수 있는 Base64)
+     */
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param value {@link #encode()} 로 만든 문자열, 비어 있으면 첫 페이지
+     * @return 커서 (첫 페이지면 null)
+     * @throws IllegalArgumentException 형식이 맞지 않는 경우
+     */
+    public static CommentCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + value);
+            }
+            return new CommentCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + value, e);
+        }
+    }
+}
@@ -1,15 +1,17 @@
 package com.board.dto;
 
 import com.board.domain.entity.Comment;
+import com.board.util.IdSet;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class CommentDto {
     private Long id;
     private String content;
@@ -25,6 +27,60 @@ public class CommentDto {
     private Boolean likedByCurrentUser;
 
     public static CommentDto from(Comment comment) {
+        return from(comment, IdSet.empty());
+    }
+
+    /**
+     * 댓글과 대댓글을 변환하면서 보는 사람의 좋아요 여부를 함께 채운다
+     *
+     * @param likedIds 보는 사람이 좋아요한 댓글 ID ({@code CommentLikeService.findLikedCommentIds} 로 한 번에 조회)
+     */
+    public static CommentDto from(Comment comment, IdSet likedIds) {
+        return base(comment)
+                .children(comment.getChildren().stream()
+                        .map(child -> from(child, likedIds))
+                        .collect(Collectors.toList()))
+                .likedByCurrentUser(likedIds.contains(comment.getId()))
+                .build();
+    }
+
+    public static CommentDto from(Comment comment, boolean likedByCurrentUser) {
+        return base(comment)
+                .children(comment.getChildren().stream()
+                        .map(CommentDto::from)
+                        .collect(Collectors.toList()))
+                .likedByCurrentUser(likedByCurrentUser)
+                .build();
+    }
+
+    /**
+     * 대댓글을 읽지 않고 댓글 자신만 변환 (커서 기반 목록 - 대댓글은 페이지 단위로 따로 조회)
+     */
+    public static CommentDto withoutChildren(Comment comment, IdSet likedIds) {
+        return base(comment)
+                .children(List.of())
+                .likedByCurrentUser(likedIds.contains(comment.getId()))
+                .build();
+    }
+
+    /**
+     * 좋아요 여부만 보는 사람 기준으로 바꾼 사본 (여러 사람이 함께 쓰는 목록에 각자의 좋아요 표시를 입힐 때)
+     */
+    public CommentDto withLikes(IdSet likedIds) {
+        return toBuilder()
+                .children(children.stream().map(child -> child.withLikes(likedIds)).collect(Collectors.toList()))
+                .likedByCurrentUser(likedIds.contains(id))
+                .build();
+    }
+
+    /**
+     * 자신과 모든 대댓글의 ID
+     */
+    public Stream<Long> ids() {
+        return Stream.concat(Stream.of(id), children.stream().flatMap(CommentDto::ids));
+    }
+
+    private static CommentDtoBuilder base(Comment comment) {
         return CommentDto.builder()
                 .id(comment.getId())
                 .content(comment.getDisplayContent())
@@ -35,29 +91,6 @@ public class CommentDto {
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
                 .isReply(comment.isReply())
-                .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
-                .children(comment.getChildren().stream()
-                        .map(CommentDto::from)
-                        .collect(Collectors.toList()))
-                .likedByCurrentUser(false) // 기본값, 별도로 설정 필요
-                .build();
-    }
-
-    public static CommentDto from(Comment comment, boolean likedByCurrentUser) {
-        CommentDto dto = from(comment);
-        return CommentDto.builder()
-                .id(dto.getId())
-                .content(dto.getContent())
-                .authorNickname(dto.getAuthorNickname())
-                .authorId(dto.getAuthorId())
-                .likeCount(dto.getLikeCount())
-                .deleted(dto.getDeleted())
-                .createdAt(dto.getCreatedAt())
-                .updatedAt(dto.getUpdatedAt())
-                .isReply(dto.getIsReply())
-                .parentId(dto.getParentId())
-                .children(dto.getChildren())
-                .likedByCurrentUser(likedByCurrentUser)
-                .build();
+                .parentId(comment.getParent() != null ? comment.getParent().getId() : null);
     }
 }
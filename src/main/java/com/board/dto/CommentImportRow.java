@@ -0,0 +1,23 @@
+package com.board.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 대량 가져오기 입력 행 (NDJSON 한 줄 또는 CSV 한 레코드)
+ * 게시글/부모 댓글은 이전 게시판의 원본 ID 로 참조한다. 부모 댓글은 답글보다 먼저 나와야 한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class CommentImportRow {
+    private Long legacyId;
+    private Long postLegacyId;
+    private Long parentLegacyId;
+    private String author;
+    private String content;
+    private LocalDateTime createdAt;
+}
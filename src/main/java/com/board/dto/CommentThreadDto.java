@@ -0,0 +1,16 @@
+package com.board.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 댓글 목록의 항목 - 최상위 댓글과 앞쪽 대댓글 일부
+ *
+ * @param comment           최상위 댓글 (children 은 비어 있고 대댓글은 replies 로 전달)
+ * @param replies           앞에서부터 최대 replies 개의 대댓글
+ * @param hasMoreReplies    replies 뒤에 대댓글이 더 있는지
+ * @param moreRepliesCursor 나머지 대댓글을 이어 받을 커서 (GET /api/comments/{id}/replies).
+ *                          더 없거나, 대댓글을 하나도 싣지 않아 처음부터 받아야 하면 null
+ */
+public record CommentThreadDto(CommentDto comment, List<CommentDto> replies, boolean hasMoreReplies,
+                               String moreRepliesCursor) {
+}
@@ -0,0 +1,17 @@
+package com.board.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답 - 전체 개수를 세지 않고, 다음 페이지가 있으면 그 커서만 알려준다
+ *
+ * @param content    이번 페이지 항목
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지가 있는지
+ */
+public record CursorSlice<T>(List<T> content, String nextCursor, boolean hasNext) {
+
+    public static <T> CursorSlice<T> of(List<T> content, String nextCursor) {
+        return new CursorSlice<>(content, nextCursor, nextCursor != null);
+    }
+}
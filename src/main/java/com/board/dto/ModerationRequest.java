@@ -0,0 +1,34 @@
+package com.board.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일괄 관리 요청 (관리자 JSON 요청 본문)
+ *
+ * 대상은 ID 목록으로 직접 고르거나, 작성자/분류/검색어/작성 기간 조건으로 고른다 (둘을 섞을 수는 없음).
+ * 조건은 모두 AND 로 묶이며, 전체 게시글을 한 번에 건드리지 않도록 적어도 하나는 있어야 한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ModerationRequest {
+    /** posts, comments */
+    private String target;
+    /** delete, restore, resolve-reports, dismiss-reports */
+    private String action;
+    private List<Long> ids;
+    /** 작성자 사용자명 */
+    private String author;
+    private String category;
+    /** 게시글은 제목, 댓글은 내용에서 찾는다 */
+    private String keyword;
+    /** 작성 시각 from 이상 */
+    private LocalDateTime from;
+    /** 작성 시각 to 미만 */
+    private LocalDateTime to;
+}
@@ -0,0 +1,93 @@
+package com.board.dto;
+
+import com.board.domain.entity.Comment;
+import com.board.domain.entity.Post;
+import com.board.domain.entity.User;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 상세 화면 데이터 (본문 HTML + 댓글/대댓글)
+ *
+ * 같은 게시글을 동시에 요청한 사용자들이 한 번 읽은 결과를 함께 쓰므로, 엔티티 대신 값만 복사해 둔 불변 객체다.
+ * 보는 사람에 따라 달라지는 값(현재 사용자, 관리자 여부)은 넣지 않는다.
+ * 속성 이름은 템플릿(posts/detail.html)이 엔티티를 쓰던 때와 같게 맞췄다.
+ */
+@Getter
+@Builder
+public class PostDetailDto {
+    private final Long id;
+    private final String title;
+    private final String category;
+    private final boolean notice;
+    private final Boolean isMarkdown;
+    private final AuthorDto author;
+    private final Integer viewCount;
+    private final Integer likeCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final String htmlContent;
+    private final List<CommentItem> comments;
+
+    /**
+     * 엔티티에서 화면 데이터를 만든다 - 댓글/작성자를 읽으므로 영속성 컨텍스트가 열려 있을 때 호출해야 한다
+     */
+    public static PostDetailDto from(Post post, String htmlContent) {
+        return PostDetailDto.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .category(post.getCategory())
+                .notice(post.isNotice())
+                .isMarkdown(post.getIsMarkdown())
+                .author(AuthorDto.from(post.getAuthor()))
+                .viewCount(post.getViewCount())
+                .likeCount(post.getLikeCount())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .htmlContent(htmlContent)
+                .comments(post.getComments().stream().map(CommentItem::from).toList())
+                .build();
+    }
+
+    @Getter
+    @Builder
+    public static class AuthorDto {
+        private final Long id;
+        private final String nickname;
+
+        static AuthorDto from(User user) {
+            return new AuthorDto(user.getId(), user.getNickname());
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class CommentItem {
+        private final Long id;
+        private final String content;
+        private final String displayContent;
+        private final AuthorDto author;
+        private final Integer likeCount;
+        private final boolean deleted;
+        private final boolean reply;
+        private final LocalDateTime createdAt;
+        private final List<CommentItem> children;
+
+        static CommentItem from(Comment comment) {
+            return CommentItem.builder()
+                    .id(comment.getId())
+                    .content(comment.getContent())
+                    .displayContent(comment.getDisplayContent())
+                    .author(AuthorDto.from(comment.getAuthor()))
+                    .likeCount(comment.getLikeCount())
+                    .deleted(comment.isDeleted())
+                    .reply(comment.isReply())
+                    .createdAt(comment.getCreatedAt())
+                    .children(comment.getChildren().stream().map(CommentItem::from).toList())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.board.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 대량 가져오기 입력 행 (NDJSON 한 줄 또는 CSV 한 레코드)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PostImportRow {
+    private Long legacyId;
+    private String title;
+    private String content;
+    private String category;
+    private String author;
+    private Boolean isMarkdown;
+    private Boolean isNotice;
+    private LocalDateTime createdAt;
+}
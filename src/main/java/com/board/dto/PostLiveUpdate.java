@@ -0,0 +1,30 @@
+package com.board.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 실시간 갱신 (SSE "update" 이벤트 데이터)
+ *
+ * 묶음 주기 동안 바뀐 것만 담는다. 바뀌지 않은 항목은 null 또는 빈 컬렉션이다.
+ *
+ * @param postId            게시글 ID
+ * @param likeCount         추천 수 (추천/비추천이 바뀌지 않았으면 null)
+ * @param dislikeCount      비추천 수 (추천/비추천이 바뀌지 않았으면 null)
+ * @param commentCount      삭제되지 않은 댓글 수 (댓글이 바뀌지 않았으면 null)
+ * @param newComments       새 댓글/답글 (작성 순)
+ * @param deletedCommentIds 삭제된 댓글 ID
+ * @param commentLikes      좋아요 수가 바뀐 댓글 ID -> 좋아요 수
+ */
+public record PostLiveUpdate(Long postId,
+                             Long likeCount,
+                             Long dislikeCount,
+                             Long commentCount,
+                             List<NewComment> newComments,
+                             List<Long> deletedCommentIds,
+                             Map<Long, Integer> commentLikes) {
+
+    public record NewComment(Long id, Long parentId, String authorNickname, String content, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.board.dto;
+
+/**
+ * 목록 화면용 게시글 미리보기 (썸네일 + 본문 요약)
+ *
+ * 글을 쓰거나 고칠 때 한 번 만들어 posts 행에 저장한다. 목록/검색/프로필 화면은 본문(TEXT)을 읽지 않고 이 값만 쓴다.
+ *
+ * @param thumbnailUrl 본문의 첫 번째 이미지 주소 (없거나 허용하지 않는 주소면 null)
+ * @param excerpt      서식을 뺀 본문 앞부분 (최대 {@link #EXCERPT_LENGTH}자)
+ */
+public record PostPreview(String thumbnailUrl, String excerpt) {
+
+    public static final int EXCERPT_LENGTH = 150;
+    public static final int THUMBNAIL_URL_LENGTH = 500;
+}
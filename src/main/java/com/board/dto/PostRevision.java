@@ -0,0 +1,46 @@
+package com.board.dto;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 게시글 상세/댓글 응답의 조건부 GET 검증값 (ETag / Last-Modified)
+ *
+ * 게시글 본문 수정 시각, 댓글의 마지막 변경 시각/개수, 추천 수, 댓글 추천의 마지막 시각을 한 번의 집계 쿼리로 읽어 만든다.
+ * 댓글 추천 합계만으로는 한 사람이 취소하고 다른 사람이 추천하면 값이 같아져 좋아요 표시가 낡은 채 304 가 나가므로,
+ * 새 추천이 생기면 바뀌는 마지막 추천 시각을 함께 넣는다 (취소는 합계가 줄어드는 것으로 드러난다).
+ * 조회수는 포함하지 않는다 - 다른 사람이 볼 때마다 모든 사용자의 캐시가 무효화되기 때문이며,
+ * 화면의 조회수는 조회 비콘 응답으로 갱신한다.
+ */
+public record PostRevision(Long postId,
+                           LocalDateTime updatedAt,
+                           Integer likeCount,
+                           LocalDateTime lastCommentUpdatedAt,
+                           Long commentCount,
+                           Long commentLikeCount,
+                           LocalDateTime lastCommentLikedAt) {
+
+    /**
+     * 약한 ETag - 같은 검증값이라도 응답 종류/보는 사람에 따라 내용이 다르면 variant 로 구분한다
+     */
+    public String etag(String variant) {
+        String source = postId + "|" + updatedAt + "|" + likeCount + "|" + lastCommentUpdatedAt + "|"
+                + commentCount + "|" + commentLikeCount + "|" + lastCommentLikedAt + "|" + variant;
+        return "W/\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Last-Modified 값 (epoch 밀리초) - 게시글, 댓글, 댓글 추천 중 가장 늦은 변경 시각
+     */
+    public long lastModified() {
+        LocalDateTime latest = later(later(updatedAt, lastCommentUpdatedAt), lastCommentLikedAt);
+        return latest.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return b != null && b.isAfter(a) ? b : a;
+    }
+}
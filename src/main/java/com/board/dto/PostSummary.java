@@ -0,0 +1,54 @@
+package com.board.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 한 줄 (목록/정렬/검색/프로필 화면)
+ *
+ * 저장소가 JPQL 생성자 표현식(SELECT new ...)으로 필요한 컬럼만 읽어 만든다. 본문(content)은 읽지 않고,
+ * 작성자는 같은 쿼리에서 조인해 가져오므로 행마다 작성자를 지연 로딩하지 않으며, 엔티티가 아니라 변경 감지 스냅샷도 남지 않는다.
+ * 속성 이름은 템플릿이 엔티티를 쓰던 때와 같게 맞췄다 (post.author.nickname, post.notice 등).
+ */
+@Getter
+public class PostSummary {
+    private final Long id;
+    private final String title;
+    private final String category;
+    private final boolean notice;
+    private final Integer viewCount;
+    private final Integer likeCount;
+    private final LocalDateTime createdAt;
+    private final String thumbnailUrl;
+    private final String excerpt;
+    private final AuthorSummary author;
+
+    public PostSummary(Long id, String title, String category, Boolean notice, Integer viewCount, Integer likeCount,
+                       LocalDateTime createdAt, String thumbnailUrl, String excerpt,
+                       Long authorId, String authorUsername, String authorNickname) {
+        this.id = id;
+        this.title = title;
+        this.category = category;
+        this.notice = Boolean.TRUE.equals(notice);
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.createdAt = createdAt;
+        this.thumbnailUrl = thumbnailUrl;
+        this.excerpt = excerpt;
+        this.author = new AuthorSummary(authorId, authorUsername, authorNickname);
+    }
+
+    @Getter
+    public static class AuthorSummary {
+        private final Long id;
+        private final String username;
+        private final String nickname;
+
+        AuthorSummary(Long id, String username, String nickname) {
+            this.id = id;
+            this.username = username;
+            this.nickname = nickname;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.board.dto;
+
+import com.board.domain.entity.Comment;
+import com.board.domain.entity.Post;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 신고 관리 대기열 항목 - 신고 행 하나가 아니라 신고된 게시글/댓글 하나
+ */
+@Getter
+@Builder
+public class ReportTargetDto {
+    private String type;            // post, comment
+    private Long targetId;
+    private Long postId;
+    private String postTitle;
+    private String content;         // 댓글 내용 (게시글이면 null)
+    private String authorNickname;
+    private int reportCount;        // 처리되지 않은 신고 수
+    private boolean hidden;         // 신고 누적으로 숨겨진 상태
+    private boolean deleted;        // 작성자/관리자가 삭제한 상태
+
+    public static ReportTargetDto from(Post post) {
+        return ReportTargetDto.builder()
+                .type("post")
+                .targetId(post.getId())
+                .postId(post.getId())
+                .postTitle(post.getTitle())
+                .authorNickname(post.getAuthor().getNickname())
+                .reportCount(post.getReportCount())
+                .hidden(post.getHiddenByReports())
+                .deleted(post.getDeleted() && !post.getHiddenByReports())
+                .build();
+    }
+
+    public static ReportTargetDto from(Comment comment) {
+        return ReportTargetDto.builder()
+                .type("comment")
+                .targetId(comment.getId())
+                .postId(comment.getPost().getId())
+                .postTitle(comment.getPost().getTitle())
+                .content(comment.getContent())
+                .authorNickname(comment.getAuthor().getNickname())
+                .reportCount(comment.getReportCount())
+                .hidden(comment.getHiddenByReports())
+                .deleted(comment.getDeleted() && !comment.getHiddenByReports())
+                .build();
+    }
+}
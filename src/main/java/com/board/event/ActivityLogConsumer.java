@@ -0,0 +1,63 @@
+package com.board.event;
+
+import com.board.domain.entity.OutboxEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 활동 로그와 쓰기 집계 (아웃박스 소비자)
+ *
+ * 요청 처리 중에 하던 추천/좋아요 쓰기 카운터(board.like.writes)와 활동 로그를 커밋 이후로 옮겼다.
+ * 활동 로그는 "board.activity" 로거에 이벤트 하나당 한 줄로 남긴다.
+ *
+ * 이미 처리한 이벤트는 OutboxDispatcher 가 처리 기록(outbox_processed_events)을 보고 걸러 내므로 다시 오지 않는다.
+ * 처리한 직후 기록을 남기기 전에 인스턴스가 죽은 경우에만 카운터가 드물게 더 셀 수 있다
+ * (로그 줄은 이벤트 ID 로 중복을 가릴 수 있다).
+ */
+@Component
+@RequiredArgsConstructor
+public class ActivityLogConsumer implements OutboxConsumer {
+
+    private static final Logger activityLog = LoggerFactory.getLogger("board.activity");
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public String name() {
+        return "activity-log";
+    }
+
+    @Override
+    public Set<OutboxEventType> types() {
+        return EnumSet.allOf(OutboxEventType.class);
+    }
+
+    @Override
+    public void handle(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            record(event);
+        }
+    }
+
+    private void record(OutboxEvent event) {
+        meterRegistry.counter("board.activity", "type", event.getType().name()).increment();
+        switch (event.getType()) {
+            case POST_LIKE_CHANGED -> meterRegistry.counter("board.like.writes",
+                    "target", "post", "action", event.getDetail()).increment();
+            case COMMENT_LIKE_CHANGED -> meterRegistry.counter("board.like.writes",
+                    "target", "comment", "action", event.getDetail()).increment();
+            default -> {
+            }
+        }
+        activityLog.info("event={} type={} postId={} targetId={} actorId={} detail={} at={}",
+                event.getId(), event.getType(), event.getPostId(), event.getTargetId(),
+                event.getActorId(), event.getDetail(), event.getCreatedAt());
+    }
+}
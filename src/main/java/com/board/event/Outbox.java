@@ -0,0 +1,44 @@
+package com.board.event;
+
+import com.board.domain.entity.OutboxEvent;
+import com.board.domain.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 아웃박스 기록
+ *
+ * 쓰기 서비스가 핵심 행을 바꾼 트랜잭션 안에서 호출한다. 부수 작업(집계, 활동 로그 등)은 요청 중에 하지 않고
+ * 커밋된 이벤트를 OutboxDispatcher 가 나중에 소비자에게 넘긴다.
+ * 트랜잭션 밖에서 부르면 핵심 행과 원자적으로 남지 않으므로 예외가 난다 (MANDATORY).
+ *
+ * 기록한 이벤트는 같은 인스턴스 안에도 발행한다. 커밋 직후 바로 반응해야 하는 구독자(실시간 갱신 등)는
+ * {@code @TransactionalEventListener} 로 {@link OutboxEvent} 를 받는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class Outbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType type, Long postId, Long targetId, Long actorId, String detail) {
+        OutboxEvent event = outboxEventRepository.save(OutboxEvent.builder()
+                .type(type)
+                .postId(postId)
+                .targetId(targetId)
+                .actorId(actorId)
+                .detail(detail)
+                .build());
+        eventPublisher.publishEvent(event);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType type, Long postId, Long actorId) {
+        append(type, postId, null, actorId, null);
+    }
+}
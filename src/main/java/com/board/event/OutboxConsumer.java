@@ -0,0 +1,28 @@
+package com.board.event;
+
+import com.board.domain.entity.OutboxEvent;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 아웃박스 이벤트 소비자
+ *
+ * 전달은 최소 한 번(at-least-once)이다. 처리를 마친 이벤트는 디스패처가 소비자별로 기록해 두고 다시 넘기지 않지만,
+ * 처리 도중이나 기록하기 전에 인스턴스가 죽으면 같은 이벤트가 다시 오므로 여러 번 받아도 결과가 같게 구현한다.
+ */
+public interface OutboxConsumer {
+
+    /** 메트릭 태그와 로그에 쓰는 이름 */
+    String name();
+
+    /** 받을 이벤트 종류 */
+    Set<OutboxEventType> types();
+
+    /**
+     * 이벤트 배치 처리 - ID 순, 받을 종류만 담겨 온다
+     *
+     * @throws RuntimeException 처리하지 못한 경우 - 디스패처가 이벤트를 하나씩 다시 넘겨 실패한 이벤트만 재시도한다
+     */
+    void handle(List<OutboxEvent> events);
+}
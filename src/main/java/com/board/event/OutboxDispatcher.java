@@ -0,0 +1,293 @@
+package com.board.event;
+
+import com.board.domain.entity.OutboxEvent;
+import com.board.domain.entity.ProcessedOutboxEvent;
+import com.board.domain.repository.OutboxEventRepository;
+import com.board.domain.repository.ProcessedOutboxEventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 아웃박스 이벤트 전달
+ *
+ * 커밋된 PENDING 이벤트를 ID 순으로 batch-size 만큼 읽어, 소비자마다 받을 종류만 모아 한 번에 넘긴다.
+ * 모든 소비자가 처리한 이벤트는 DISPATCHED 로 바꾸고, 하나라도 실패한 이벤트는 PENDING 으로 남겨 다음 실행에서
+ * 다시 넘긴다 (이미 처리한 소비자도 다시 받으므로 소비자는 멱등이어야 한다). max-attempts 번 실패하면 FAILED 로 두고
+ * 더는 넘기지 않는다.
+ *
+ * 배치 전체가 실패하면 이벤트를 하나씩 다시 넘겨 실패 원인이 된 이벤트만 재시도 대상으로 남긴다.
+ *
+ * 스케줄러(OutboxScheduler)가 인스턴스마다 주기적으로 호출한다. 배치는 claim-timeout 동안 점유 토큰으로 점유한 뒤
+ * 넘기므로 여러 인스턴스가 같은 이벤트를 동시에 넘기지 않고, 점유한 채 죽은 인스턴스의 이벤트는 만료 후 다시 넘긴다.
+ * 소비자마다 처리한 이벤트는 outbox_processed_events 에 남겨, 다시 전달되더라도 그 소비자에게는 넘기지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ProcessedOutboxEventRepository processedOutboxEventRepository;
+    private final List<OutboxConsumer> consumers;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${board.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${board.outbox.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${board.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${board.outbox.claim-timeout:5m}")
+    private Duration claimTimeout;
+
+    @Value("${board.outbox.retention:1d}")
+    private Duration retention;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("board.outbox.lag", this, OutboxDispatcher::getLagSeconds)
+                .description("가장 오래된 전달 대기 이벤트가 기다린 시간(초)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전달 대기 이벤트를 소비자에게 넘긴다 (스케줄러에서 주기적으로 호출)
+     *
+     * 이미 실행 중이면 바로 돌아간다. 실패한 이벤트가 나온 배치 뒤에는 멈추고 다음 주기에 다시 시도한다.
+     */
+    public RunResult dispatchPending() {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("아웃박스 전달이 이미 실행 중입니다");
+            return new RunResult(0, 0);
+        }
+        try {
+            int dispatched = 0;
+            int failed = 0;
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                List<OutboxEvent> events = claimBatch();
+                if (events.isEmpty()) {
+                    break;
+                }
+                Map<Long, String> failures = deliver(events);
+                dispatched += complete(events, failures);
+                failed += failures.size();
+                if (!failures.isEmpty() || events.size() < batchSize) {
+                    break;
+                }
+            }
+            if (failed > 0) {
+                log.warn("아웃박스 전달: {}건 완료, {}건 실패", dispatched, failed);
+            } else if (dispatched > 0) {
+                log.debug("아웃박스 전달: {}건 완료", dispatched);
+            }
+            return new RunResult(dispatched, failed);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 점유하지 않은 전달 대기 이벤트를 batch-size 만큼 점유한다
+     *
+     * 조회한 뒤 조건부 UPDATE 로 점유하므로, 그 사이 다른 인스턴스가 먼저 점유한 이벤트는 이번 배치에서 빠진다.
+     *
+     * @return 이번에 점유한 이벤트 (ID 순)
+     */
+    private List<OutboxEvent> claimBatch() {
+        String token = UUID.randomUUID().toString();
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = outboxEventRepository.findClaimableIds(now, PageRequest.of(0, batchSize));
+            if (ids.isEmpty() || outboxEventRepository.claim(ids, token, now.plus(claimTimeout), now) == 0) {
+                return List.of();
+            }
+            return outboxEventRepository.findByClaimToken(token);
+        });
+    }
+
+    /**
+     * 배치를 소비자마다 넘긴다 - 소비자가 이미 처리한 이벤트는 빼고 넘긴다
+     *
+     * @return 실패한 이벤트 ID -> 오류 메시지 (처음 실패한 소비자 기준)
+     */
+    private Map<Long, String> deliver(List<OutboxEvent> events) {
+        Map<Long, String> failures = new LinkedHashMap<>();
+        for (OutboxConsumer consumer : consumers) {
+            List<OutboxEvent> subset = events.stream()
+                    .filter(event -> consumer.types().contains(event.getType()))
+                    .toList();
+            if (!subset.isEmpty()) {
+                Set<Long> processed = processedOutboxEventRepository.findProcessedEventIds(
+                        consumer.name(), subset.stream().map(OutboxEvent::getId).toList());
+                subset = subset.stream().filter(event -> !processed.contains(event.getId())).toList();
+            }
+            if (subset.isEmpty()) {
+                continue;
+            }
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                consumer.handle(subset);
+                count(consumer, "success", subset.size());
+                recordProcessed(consumer, subset);
+            } catch (RuntimeException e) {
+                log.warn("아웃박스 소비자 배치 실패, 한 건씩 다시 전달 - 소비자: {}, {}건: {}",
+                        consumer.name(), subset.size(), e.getMessage());
+                deliverOneByOne(consumer, subset, failures);
+            } finally {
+                sample.stop(Timer.builder("board.outbox.consumer.time")
+                        .description("아웃박스 소비자 배치 처리 시간")
+                        .tag("consumer", consumer.name())
+                        .register(meterRegistry));
+            }
+        }
+        return failures;
+    }
+
+    private void deliverOneByOne(OutboxConsumer consumer, List<OutboxEvent> events, Map<Long, String> failures) {
+        for (OutboxEvent event : events) {
+            try {
+                consumer.handle(List.of(event));
+                count(consumer, "success", 1);
+                recordProcessed(consumer, List.of(event));
+            } catch (RuntimeException e) {
+                log.warn("아웃박스 이벤트 처리 실패 - 소비자: {}, 이벤트 ID: {}, 종류: {}",
+                        consumer.name(), event.getId(), event.getType(), e);
+                failures.putIfAbsent(event.getId(), consumer.name() + ": " + e);
+                count(consumer, "failure", 1);
+            }
+        }
+    }
+
+    /**
+     * 소비자가 처리한 이벤트를 기록한다 (별도 트랜잭션)
+     *
+     * 점유가 만료되어 다른 인스턴스가 같은 이벤트를 함께 처리한 경우에는 유니크 제약에 걸리며, 이미 기록된 것이므로 넘어간다.
+     */
+    private void recordProcessed(OutboxConsumer consumer, List<OutboxEvent> events) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> processedOutboxEventRepository.saveAll(events.stream()
+                    .map(event -> new ProcessedOutboxEvent(event.getId(), consumer.name()))
+                    .toList()));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("아웃박스 처리 기록이 이미 있습니다 - 소비자: {}, {}건", consumer.name(), events.size());
+        }
+    }
+
+    /**
+     * 성공한 이벤트는 DISPATCHED 로, 실패한 이벤트는 시도 횟수를 올린다 (하나의 트랜잭션)
+     *
+     * @return DISPATCHED 로 바꾼 이벤트 수
+     */
+    private int complete(List<OutboxEvent> events, Map<Long, String> failures) {
+        List<Long> succeeded = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            if (!failures.containsKey(event.getId())) {
+                succeeded.add(event.getId());
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!succeeded.isEmpty()) {
+                outboxEventRepository.markDispatched(succeeded, LocalDateTime.now());
+            }
+            failures.forEach((id, error) -> outboxEventRepository.recordFailure(
+                    List.of(id), abbreviate(error), maxAttempts));
+        });
+        return succeeded.size();
+    }
+
+    /**
+     * 보관 기간이 지난 DISPATCHED 이벤트 삭제 - batch-size 씩 나눠 지운다
+     *
+     * FAILED 이벤트는 원인을 확인할 수 있도록 남겨 둔다.
+     *
+     * @return 삭제한 이벤트 수
+     */
+    public int purgeDispatched() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int purged = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = outboxEventRepository.findDispatchedIdsBefore(cutoff, PageRequest.of(0, batchSize));
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                processedOutboxEventRepository.deleteByEventIdIn(ids);
+                return outboxEventRepository.deleteByIdIn(ids);
+            });
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            purged += deleted;
+        }
+        if (purged > 0) {
+            log.info("전달 완료된 아웃박스 이벤트 {}건 삭제", purged);
+        }
+        return purged;
+    }
+
+    /**
+     * 가장 오래된 전달 대기 이벤트가 기다린 시간(초) - 대기 중인 이벤트가 없으면 0
+     *
+     * 전달이 멈춘 경우에도 보이도록 조회할 때마다 DB 에서 읽는다 (idx_outbox_events_status 의 첫 행).
+     * DB 에 닿지 않으면 NaN.
+     */
+    public double getLagSeconds() {
+        Optional<LocalDateTime> oldest;
+        try {
+            oldest = outboxEventRepository.findFirstByStatusOrderByIdAsc(OutboxEvent.Status.PENDING)
+                    .map(OutboxEvent::getCreatedAt);
+        } catch (DataAccessException e) {
+            log.debug("아웃박스 지연 조회 실패: {}", e.getMessage());
+            return Double.NaN;
+        }
+        return oldest.map(createdAt -> Math.max(0, Duration.between(createdAt, LocalDateTime.now()).toMillis() / 1000.0))
+                .orElse(0.0);
+    }
+
+    private void count(OutboxConsumer consumer, String result, int events) {
+        meterRegistry.counter("board.outbox.events", "consumer", consumer.name(), "result", result)
+                .increment(events);
+    }
+
+    private static String abbreviate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * 한 번 실행한 결과
+     *
+     * @param dispatched 모든 소비자에게 전달한 이벤트 수
+     * @param failed     실패해 다시 시도하거나 포기한 이벤트 수
+     */
+    public record RunResult(int dispatched, int failed) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.board.event;
+
+/**
+ * 아웃박스에 기록하는 도메인 이벤트 종류
+ *
+ * 이벤트 행의 postId/targetId/actorId/detail 에 무엇이 들어가는지는 종류마다 다르다.
+ */
+public enum OutboxEventType {
+    /** postId, actorId(작성자) */
+    POST_CREATED,
+    /** postId, actorId(수정한 사람) */
+    POST_UPDATED,
+    /** postId, actorId(삭제한 사람) */
+    POST_DELETED,
+    /** postId, targetId(댓글), actorId(작성자), detail(comment/reply) */
+    COMMENT_CREATED,
+    /** postId, targetId(댓글), actorId(수정한 사람) */
+    COMMENT_UPDATED,
+    /** postId, targetId(댓글), actorId(삭제한 사람) */
+    COMMENT_DELETED,
+    /** postId, actorId(사용자), detail(like/dislike/cancel) */
+    POST_LIKE_CHANGED,
+    /** postId, targetId(댓글), actorId(사용자), detail(like/cancel) */
+    COMMENT_LIKE_CHANGED,
+    /** postId, targetId(신고), actorId(신고자) */
+    POST_REPORTED,
+    /** targetId(댓글), actorId(신고자), detail(신고 ID) */
+    COMMENT_REPORTED
+}
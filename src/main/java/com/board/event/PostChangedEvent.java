@@ -0,0 +1,28 @@
+package com.board.event;
+
+/**
+ * 게시글 화면(상세/목록)에 보이는 내용이 바뀌었음을 알리는 이벤트
+ *
+ * 게시글/댓글/추천 쓰기 트랜잭션 안에서 발행하며, 구독자는 커밋 이후에 처리한다.
+ *
+ * @param postId 바뀐 게시글 ID - 대량 가져오기처럼 특정 게시글을 지정할 수 없으면 null (전체 해당)
+ * @param scope  바뀐 내용이 보이는 화면 범위
+ */
+public record PostChangedEvent(Long postId, Scope scope) {
+
+    /**
+     * 게시글 자체가 생기거나/고쳐지거나/사라진 경우 - 목록 전체에 영향
+     */
+    public PostChangedEvent(Long postId) {
+        this(postId, Scope.LISTS);
+    }
+
+    public enum Scope {
+        /** 상세 화면에만 보이는 변경 (댓글, 댓글 좋아요, 댓글 숨김) */
+        DETAIL,
+        /** 추천 수 변경 - 상세, 그 게시글이 실린 목록, 추천순 목록 */
+        LIKES,
+        /** 제목/분류/공지/삭제/새 글 등 - 어느 목록에 실릴지가 바뀔 수 있으므로 목록 전체 */
+        LISTS
+    }
+}
@@ -1,12 +1,20 @@
 package com.board.exception;
 
+import com.board.util.RequestUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
+
+import java.util.Map;
 
 /**
  * 전역 예외 처리 핸들러
@@ -22,7 +30,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(ResponseStatusException.class)
     public String handleResponseStatusException(ResponseStatusException e, Model model,
-                                              jakarta.servlet.http.HttpServletResponse response) {
+                                              HttpServletResponse response) {
         log.warn("ResponseStatusException 발생: {} {}", e.getStatusCode(), e.getMessage());
 
         // HTTP 상태 코드 설정
@@ -59,6 +67,29 @@ public class GlobalExceptionHandler {
         return "error/400";
     }
 
+    /**
+     * 격리 구역 포화 처리 - 기다리게 하지 않고 바로 503 으로 응답해 다시 시도하게 한다
+     *
+     * API/AJAX 요청에는 오류 화면 대신 다른 JSON 응답과 같은 {"success":false,"message":...} 본문으로 응답한다.
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ModelAndView handleServiceOverloadedException(ServiceOverloadedException e, HttpServletRequest request,
+                                                         HttpServletResponse response) {
+        log.warn("ServiceOverloadedException 발생: {}", e.getMessage());
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        if (RequestUtil.wantsJson(request)) {
+            return new ModelAndView(new MappingJackson2JsonView(),
+                    Map.of("success", false, "message", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."));
+        }
+
+        ModelAndView modelAndView = new ModelAndView("error/503");
+        modelAndView.addObject("error", "요청이 많아 처리하지 못했습니다.");
+        modelAndView.addObject("message", "잠시 후 다시 시도해주세요.");
+        return modelAndView;
+    }
+
     /**
      * 일반적인 예외 처리
      */
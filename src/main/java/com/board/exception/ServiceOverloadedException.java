@@ -0,0 +1,18 @@
+package com.board.exception;
+
+/**
+ * 격리 구역(bulkhead)의 동시 실행 한도와 대기열이 모두 찬 경우 - 503 과 Retry-After 로 응답한다
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,125 @@
+package com.board.filter;
+
+import com.board.util.AdaptiveConcurrencyLimiter;
+import com.board.util.RequestUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 과부하 시 동시 처리 요청 수를 자동으로 줄여 초과 요청을 바로 503 으로 거절하는 필터
+ *
+ * DB 가 느려지면 요청 스레드가 모두 커넥션 대기(connection-timeout)에 묶여 모든 화면이 함께 느려지므로,
+ * 응답 시간이 늘어나는 만큼 동시 처리 한도를 줄이고 남는 요청은 기다리게 하지 않는다.
+ * 한도는 요청 그룹별 share 로 나눠 쓰며, 목록/상세/쓰기(core)는 한도 전체를, 검색과 관리자 요청은
+ * 일부만 쓸 수 있어 한도가 줄어들면 검색/관리자 요청부터 거절된다.
+ *
+ * Spring Security 보다 앞에서 실행해서 거절되는 요청은 세션/인증 처리 비용도 쓰지 않는다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@ConditionalOnProperty(prefix = "board.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Map<String, Double> shares;
+    private final MeterRegistry meterRegistry;
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry,
+                                  @Value("${board.concurrency-limit.initial-limit:20}") int initialLimit,
+                                  @Value("${board.concurrency-limit.min-limit:5}") int minLimit,
+                                  @Value("${board.concurrency-limit.max-limit:200}") int maxLimit,
+                                  @Value("${board.concurrency-limit.smoothing:0.2}") double smoothing,
+                                  @Value("${board.concurrency-limit.rtt-tolerance:1.5}") double rttTolerance,
+                                  @Value("${board.concurrency-limit.long-window:600}") int longWindow,
+                                  @Value("${board.concurrency-limit.search.share:0.5}") double searchShare,
+                                  @Value("${board.concurrency-limit.admin.share:0.25}") double adminShare) {
+        this.meterRegistry = meterRegistry;
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, smoothing, rttTolerance, longWindow);
+        this.shares = Map.of("core", 1.0, "search", searchShare, "admin", adminShare);
+
+        Gauge.builder("board.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("현재 동시 처리 한도")
+                .register(meterRegistry);
+        Gauge.builder("board.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                .description("처리 중인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("board.concurrency.rtt.long", limiter, AdaptiveConcurrencyLimiter::getLongRttMillis)
+                .description("한도 계산에 쓰는 평소 응답 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 정적 리소스, 헬스체크/메트릭 수집, H2 콘솔은 제한하지 않는다
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = RequestUtil.path(request);
+        return path.startsWith("/css/") || path.startsWith("/js/") || path.startsWith("/images/")
+                || path.startsWith("/actuator/") || path.startsWith("/h2-console") || path.equals("/favicon.ico");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String group = group(request);
+        int inflightAtStart = limiter.tryAcquire(shares.get(group));
+        if (inflightAtStart < 0) {
+            count(group, "rejected");
+            log.debug("동시 처리 한도 초과로 거절: group={}, limit={}, inflight={}",
+                    group, limiter.getLimit(), limiter.getInflight());
+            FilterResponses.reject(request, response, HttpStatus.SERVICE_UNAVAILABLE, RETRY_AFTER_SECONDS,
+                    "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        count(group, "accepted");
+        long start = System.nanoTime();
+        boolean sampled = false;
+        try {
+            filterChain.doFilter(request, response);
+            // 비동기 응답(대량 내보내기)은 처리 시간이 부하와 무관하므로 한도 계산에서 뺀다
+            if (!request.isAsyncStarted()) {
+                limiter.onSuccess(System.nanoTime() - start, inflightAtStart);
+                sampled = true;
+            }
+        } finally {
+            if (!sampled) {
+                limiter.onIgnore();
+            }
+        }
+    }
+
+    private static String group(HttpServletRequest request) {
+        String path = RequestUtil.path(request);
+        if (path.startsWith("/admin")) {
+            return "admin";
+        }
+        if (path.equals("/posts/search") && !"category".equals(request.getParameter("searchType"))) {
+            return "search";
+        }
+        return "core";
+    }
+
+    private void count(String group, String result) {
+        meterRegistry.counter("board.concurrency.requests", "group", group, "result", result).increment();
+    }
+}
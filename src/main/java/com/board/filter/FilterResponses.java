@@ -0,0 +1,39 @@
+package com.board.filter;
+
+import com.board.util.RequestUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 필터에서 요청을 바로 거절할 때 쓰는 응답 작성 유틸리티
+ *
+ * 컨트롤러까지 가지 않으므로 GlobalExceptionHandler 의 오류 화면 대신 짧은 본문으로 응답한다.
+ */
+final class FilterResponses {
+
+    private FilterResponses() {
+    }
+
+    /**
+     * API/AJAX 요청에는 {"success":false,"message":...} JSON, 그 외에는 텍스트로 응답
+     */
+    static void reject(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                       long retryAfterSeconds, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        if (RequestUtil.wantsJson(request)) {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"success\":false,\"message\":\"" + message + "\"}");
+        } else {
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write(message);
+        }
+    }
+}
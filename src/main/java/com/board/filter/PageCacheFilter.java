@@ -0,0 +1,282 @@
+package com.board.filter;
+
+import com.board.cache.PageCache;
+import com.board.cache.PageCache.CachedPage;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.support.SessionFlashMapManager;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * 비로그인 사용자의 게시글 목록/상세/카테고리 목록 페이지를 렌더링된 HTML 그대로 캐시해서 응답하는 필터
+ *
+ * 로그인 여부를 알아야 하므로 Spring Security 필터 체인 안쪽에서 실행된다.
+ * 로그인 사용자는 화면마다 버튼/메뉴가 달라 통째로 캐시하지 않고, 공통 조각인 본문 렌더링만
+ * MarkdownService 에서 캐시한다.
+ * 캐시된 페이지는 다른 방문자에게도 그대로 나가므로, 렌더링하면서 CSRF 토큰을 읽은 페이지는 저장하지 않는다.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 20)
+@ConditionalOnProperty(prefix = "board.page-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PageCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern DETAIL_PATH = Pattern.compile("/posts/\\d+");
+    private static final String FLASH_MAPS_ATTRIBUTE = SessionFlashMapManager.class.getName() + ".FLASH_MAPS";
+    private static final String CACHE_HEADER = "X-Page-Cache";
+    private static final int MAX_PAGE_SIZE = 50;
+
+    /** 경로별로 캐시 키에 넣을 파라미터와 기본값 - 이 밖의 파라미터가 붙은 요청은 캐시하지 않는다 */
+    private static final Map<String, Map<String, String>> LIST_PARAMETERS = Map.of(
+            "/posts", Map.of("page", "0", "size", "10", "sort", "latest"),
+            "/posts/search", Map.of("searchType", "", "keyword", "", "page", "0", "size", "10"));
+
+    private final PageCache pageCache;
+    private final MeterRegistry meterRegistry;
+    private final int maxPage;
+
+    public PageCacheFilter(PageCache pageCache, MeterRegistry meterRegistry,
+                           @Value("${board.page-cache.max-page:5}") int maxPage) {
+        this.pageCache = pageCache;
+        this.meterRegistry = meterRegistry;
+        this.maxPage = maxPage;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = cacheKey(request);
+        if (key == null || !isAnonymous() || hasFlashAttributes(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CachedPage cached = pageCache.get(key);
+        if (cached != null) {
+            if (cached.isFresh()) {
+                write(request, response, cached, "HIT");
+                return;
+            }
+            if (!cached.tryStartRefresh()) {
+                // 다른 요청이 다시 렌더링하는 동안에는 이전 페이지로 응답
+                write(request, response, cached, "STALE");
+                return;
+            }
+        }
+
+        long generation = pageCache.currentGeneration();
+        CsrfTokenTrackingRequest requestWrapper = new CsrfTokenTrackingRequest(request);
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        responseWrapper.setHeader(CACHE_HEADER, cached == null ? "MISS" : "REFRESH");
+        boolean stored = false;
+        try {
+            filterChain.doFilter(requestWrapper, responseWrapper);
+            if (isCacheable(responseWrapper) && !requestWrapper.isTokenRead()) {
+                stored = pageCache.put(key, generation, responseWrapper.getContentAsByteArray(),
+                        responseWrapper.getContentType(), responseWrapper.getHeader(HttpHeaders.ETAG),
+                        lastModified(responseWrapper), PageCache.listedPosts(request));
+            }
+        } finally {
+            if (cached != null && !stored) {
+                cached.refreshFailed();
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+        count(cached == null ? "miss" : "refresh");
+    }
+
+    /**
+     * 캐시 대상이면 정규화된 키(경로 + 정렬된 파라미터), 아니면 null
+     */
+    private String cacheKey(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (DETAIL_PATH.matcher(path).matches()) {
+            return request.getQueryString() == null ? path : null;
+        }
+
+        Map<String, String> defaults = LIST_PARAMETERS.get(path);
+        if (defaults == null) {
+            return null;
+        }
+        Map<String, String> parameters = new TreeMap<>(defaults);
+        for (Map.Entry<String, String[]> entry : request.getParameterMap().entrySet()) {
+            if (!defaults.containsKey(entry.getKey()) || entry.getValue().length != 1) {
+                return null;
+            }
+            parameters.put(entry.getKey(), entry.getValue()[0]);
+        }
+
+        // 카테고리 목록만 캐시하고 자유 검색어는 캐시하지 않는다
+        if (path.equals("/posts/search") && !"category".equals(parameters.get("searchType"))) {
+            return null;
+        }
+        if (!isWithin(parameters.get("page"), maxPage) || !isWithin(parameters.get("size"), MAX_PAGE_SIZE)) {
+            return null;
+        }
+
+        StringBuilder key = new StringBuilder(path).append('?');
+        parameters.forEach((name, value) -> key.append(name).append('=').append(value).append('&'));
+        return key.toString();
+    }
+
+    private static boolean isWithin(String value, int max) {
+        try {
+            int number = Integer.parseInt(value);
+            return number >= 0 && number <= max;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isAnonymous() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated();
+    }
+
+    /**
+     * 리다이렉트 직후의 플래시 메시지는 한 번만 보여야 하므로 캐시된 페이지로 응답하지 않는다
+     */
+    private static boolean hasFlashAttributes(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            return false;
+        }
+        Object flashMaps = session.getAttribute(FLASH_MAPS_ATTRIBUTE);
+        return flashMaps instanceof Collection<?> collection && !collection.isEmpty();
+    }
+
+    private static boolean isCacheable(ContentCachingResponseWrapper response) {
+        String contentType = response.getContentType();
+        return response.getStatus() == HttpServletResponse.SC_OK
+                && contentType != null
+                && MediaType.TEXT_HTML.isCompatibleWith(MediaType.parseMediaType(contentType))
+                && response.getHeader(HttpHeaders.CONTENT_ENCODING) == null;
+    }
+
+    /**
+     * 렌더링 응답의 Last-Modified (epoch 밀리초), 없으면 -1
+     */
+    private static long lastModified(HttpServletResponse response) {
+        String value = response.getHeader(HttpHeaders.LAST_MODIFIED);
+        if (value == null) {
+            return -1;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.LAST_MODIFIED, value);
+        return headers.getLastModified();
+    }
+
+    /**
+     * 캐시된 페이지로 응답 - 렌더링할 때의 ETag/Last-Modified 와 요청의 조건부 헤더가 맞으면 본문 없이 304
+     */
+    private void write(HttpServletRequest request, HttpServletResponse response, CachedPage cached, String result)
+            throws IOException {
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader(CACHE_HEADER, result);
+        if ((cached.getEtag() != null || cached.getLastModified() >= 0)
+                && new ServletWebRequest(request, response).checkNotModified(cached.getEtag(), cached.getLastModified())) {
+            count(result.toLowerCase());
+            return;
+        }
+
+        byte[] body = cached.getBody();
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (cached.getGzipped() != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            body = cached.getGzipped();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.getContentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        count(result.toLowerCase());
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("board.page.cache.requests", "result", result).increment();
+    }
+
+    /**
+     * 요청 속성의 CSRF 토큰(_csrf, CsrfToken)을 감싸서 렌더링 중에 토큰 값을 읽었는지 기록한다.
+     * 템플릿의 ${_csrf.token} 과 POST 폼에 자동으로 붙는 hidden 필드 모두 이 요청을 거쳐 토큰을 읽는다.
+     */
+    private static final class CsrfTokenTrackingRequest extends HttpServletRequestWrapper {
+
+        private final Map<CsrfToken, CsrfToken> tracked = new IdentityHashMap<>();
+        private boolean tokenRead;
+
+        private CsrfTokenTrackingRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            Object value = super.getAttribute(name);
+            if (value instanceof CsrfToken token) {
+                return tracked.computeIfAbsent(token, TrackingCsrfToken::new);
+            }
+            return value;
+        }
+
+        private boolean isTokenRead() {
+            return tokenRead;
+        }
+
+        private final class TrackingCsrfToken implements CsrfToken {
+
+            private final CsrfToken delegate;
+
+            private TrackingCsrfToken(CsrfToken delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public String getHeaderName() {
+                return delegate.getHeaderName();
+            }
+
+            @Override
+            public String getParameterName() {
+                return delegate.getParameterName();
+            }
+
+            @Override
+            public String getToken() {
+                tokenRead = true;
+                return delegate.getToken();
+            }
+        }
+    }
+}
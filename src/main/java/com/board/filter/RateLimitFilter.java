@@ -0,0 +1,115 @@
+package com.board.filter;
+
+import com.board.util.RateLimiter;
+import com.board.util.RequestUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 경로별 토큰 버킷 요청 제한 필터
+ *
+ * - search: 키워드 검색 (카테고리 목록 제외) - 무작위 검색어로 긁어 가는 요청은 매번 전체 스캔이 된다
+ * - comment: 댓글/대댓글 작성
+ * - post: 게시글 작성
+ *
+ * 로그인 사용자는 사용자 이름, 비로그인 사용자는 IP 별로 센다. 프록시 뒤에서는 실제 클라이언트 IP 가
+ * 보이도록 server.forward-headers-strategy 를 설정해야 한다. 한도를 넘으면 429 와 Retry-After 로 응답한다.
+ */
+@Slf4j
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 10)
+@ConditionalOnProperty(prefix = "board.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Pattern COMMENT_WRITE_PATH = Pattern.compile("(/api)?/posts/\\d+/comments|/comments/\\d+/replies");
+
+    private final List<Policy> policies;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(MeterRegistry meterRegistry,
+                           @Value("${board.rate-limit.max-keys:100000}") long maxKeys,
+                           @Value("${board.rate-limit.idle-expiry:10m}") Duration idleExpiry,
+                           @Value("${board.rate-limit.search.capacity:30}") int searchCapacity,
+                           @Value("${board.rate-limit.search.refill-per-minute:30}") int searchRefill,
+                           @Value("${board.rate-limit.comment.capacity:5}") int commentCapacity,
+                           @Value("${board.rate-limit.comment.refill-per-minute:10}") int commentRefill,
+                           @Value("${board.rate-limit.post.capacity:3}") int postCapacity,
+                           @Value("${board.rate-limit.post.refill-per-minute:5}") int postRefill) {
+        this.meterRegistry = meterRegistry;
+        this.policies = List.of(
+                new Policy("search", new RateLimiter(searchCapacity, searchRefill, maxKeys, idleExpiry),
+                        request -> "GET".equals(request.getMethod())
+                                && "/posts/search".equals(RequestUtil.path(request))
+                                && !"category".equals(request.getParameter("searchType"))),
+                new Policy("comment", new RateLimiter(commentCapacity, commentRefill, maxKeys, idleExpiry),
+                        request -> "POST".equals(request.getMethod())
+                                && COMMENT_WRITE_PATH.matcher(RequestUtil.path(request)).matches()),
+                new Policy("post", new RateLimiter(postCapacity, postRefill, maxKeys, idleExpiry),
+                        request -> "POST".equals(request.getMethod())
+                                && "/posts".equals(RequestUtil.path(request))));
+        policies.forEach(policy -> CaffeineCacheMetrics.monitor(
+                meterRegistry, policy.limiter().getBuckets(), "board.ratelimit." + policy.name()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        for (Policy policy : policies) {
+            if (!policy.matcher().test(request)) {
+                continue;
+            }
+            String key = clientKey(request);
+            long waitNanos = policy.limiter().tryAcquire(key);
+            if (waitNanos > 0) {
+                reject(request, response, policy, key, waitNanos);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, Policy policy, String key,
+                        long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        meterRegistry.counter("board.ratelimit.rejected", "policy", policy.name(),
+                "client", key.startsWith("user:") ? "user" : "ip").increment();
+        log.debug("요청 제한: policy={}, key={}, retryAfter={}s", policy.name(), key, retryAfterSeconds);
+
+        FilterResponses.reject(request, response, HttpStatus.TOO_MANY_REQUESTS, retryAfterSeconds,
+                "요청이 너무 많습니다. " + retryAfterSeconds + "초 후에 다시 시도해주세요.");
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private record Policy(String name, RateLimiter limiter, Predicate<HttpServletRequest> matcher) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.board.filter;
+
+import com.board.util.SqlStatementContext;
+import com.board.util.SqlStatementContext.RepeatedStatement;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 단위 SQL 문 수와 DB 시간을 집계하고 N+1 의심 패턴을 경고하는 필터
+ *
+ * 뷰 렌더링(OSIV 지연 로딩)까지 포함하도록 필터 체인의 가장 바깥쪽에서 측정한다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 200;
+
+    private final MeterRegistry meterRegistry;
+    private final int statementWarnThreshold;
+    private final int repeatWarnThreshold;
+
+    public SqlStatementFilter(MeterRegistry meterRegistry,
+                              @Value("${board.sql.statement-warn-threshold:30}") int statementWarnThreshold,
+                              @Value("${board.sql.repeat-warn-threshold:5}") int repeatWarnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.statementWarnThreshold = statementWarnThreshold;
+        this.repeatWarnThreshold = repeatWarnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementContext.Scope scope = SqlStatementContext.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementContext.end(scope);
+            report(request, scope);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementContext.Scope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        int statements = scope.getStatementCount();
+        double dbMillis = scope.getExecutionNanos() / 1_000_000.0;
+
+        DistributionSummary.builder("board.request.sql.statements")
+                .description("요청당 실행된 SQL 문 수")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+        Timer.builder("board.request.sql.time")
+                .description("요청당 DB 실행 시간 합계")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(scope.getExecutionNanos(), TimeUnit.NANOSECONDS);
+
+        List<RepeatedStatement> repeated = scope.getRepeatedStatements(repeatWarnThreshold);
+        if (!repeated.isEmpty()) {
+            meterRegistry.counter("board.request.sql.repeated", "uri", uri).increment();
+            RepeatedStatement worst = repeated.get(0);
+            log.warn("N+1 의심: {} {} - 동일 SQL {}회 반복 (총 {}건, {}ms): {}",
+                    request.getMethod(), uri, worst.count(), statements, String.format("%.1f", dbMillis), abbreviate(worst.sql()));
+        } else if (statements > statementWarnThreshold) {
+            log.warn("SQL 문 과다: {} {} - {}건, {}ms", request.getMethod(), uri, statements, String.format("%.1f", dbMillis));
+        } else if (log.isDebugEnabled() && statements > 0) {
+            log.debug("SQL 통계: {} {} - {}건, {}ms", request.getMethod(), uri, statements, String.format("%.1f", dbMillis));
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        return singleLine.length() > MAX_LOGGED_SQL_LENGTH
+                ? singleLine.substring(0, MAX_LOGGED_SQL_LENGTH) + "..."
+                : singleLine;
+    }
+}
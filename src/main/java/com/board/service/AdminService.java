@@ -1,28 +1,59 @@
 package com.board.service;
 
+import com.board.domain.entity.ArchivedComment;
+import com.board.domain.entity.ArchivedPost;
 import com.board.domain.entity.Comment;
 import com.board.domain.entity.Post;
 import com.board.domain.entity.User;
+import com.board.domain.enums.AdminSort;
 import com.board.domain.enums.Role;
+import com.board.domain.repository.AdminListRepository;
+import com.board.domain.repository.ArchivedCommentRepository;
+import com.board.domain.repository.ArchivedPostRepository;
 import com.board.domain.repository.CommentRepository;
 import com.board.domain.repository.PostRepository;
 import com.board.domain.repository.UserRepository;
+import com.board.dto.AdminCursor;
+import com.board.dto.AdminListPage;
+import com.board.dto.AdminListRequest;
+import com.board.dto.ModerationRequest;
+import com.board.event.PostChangedEvent;
 import com.board.exception.ResourceNotFoundException;
 import com.board.exception.UnauthorizedException;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed("board.service")
 public class AdminService {
 
+    private static final int MAX_LIST_SIZE = 100;
+
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final ArchivedPostRepository archivedPostRepository;
+    private final ArchivedCommentRepository archivedCommentRepository;
+    private final ArchiveService archiveService;
+    private final BulkModerationService bulkModerationService;
+    private final AdminListRepository adminListRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 관리자 목록 개수는 이 수까지만 센다 (0 이면 세지 않음) */
+    @Value("${board.admin.list.count-cap:10000}")
+    private int listCountCap;
 
     /**
      * 관리자 권한 확인
@@ -48,6 +79,7 @@ public class AdminService {
         
         post.delete();
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 
     /**
@@ -62,6 +94,7 @@ public class AdminService {
         
         comment.delete();
         commentRepository.save(comment);
+        eventPublisher.publishEvent(new PostChangedEvent(comment.getPost().getId(), PostChangedEvent.Scope.DETAIL));
     }
 
     /**
@@ -79,21 +112,76 @@ public class AdminService {
     }
 
     /**
-     * 모든 게시글 조회 (삭제된 것 포함)
+     * 관리자 게시글 목록 (커서 기반) - 허용된 정렬만, 삭제 여부는 항상 나눠서 본다
      */
-    public Page<Post> getAllPosts(String adminUsername, Pageable pageable) {
+    public AdminListPage<Post> getPostList(String adminUsername, AdminListRequest request) {
         validateAdminRole(adminUsername);
-        
-        return postRepository.findAll(pageable);
+
+        AdminSort sort = AdminSort.from(request.getSort());
+        AdminCursor cursor = AdminCursor.decode(request.getCursor(), sort);
+        Optional<AdminListRepository.Filter> filter = toListFilter(request);
+        if (filter.isEmpty()) {
+            return new AdminListPage<>(List.of(), null, 0, false);
+        }
+
+        int size = Math.max(1, Math.min(request.getSize(), MAX_LIST_SIZE));
+        List<Post> rows = adminListRepository.findPosts(filter.get(), sort, cursor, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<Post> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? AdminCursor.of(sort, page.get(page.size() - 1)).encode() : null;
+
+        long counted = listCountCap > 0 ? adminListRepository.countPostsUpTo(filter.get(), listCountCap) : -1;
+        return new AdminListPage<>(page, nextCursor, Math.min(counted, listCountCap), counted > listCountCap);
     }
 
     /**
-     * 모든 댓글 조회 (삭제된 것 포함)
+     * 관리자 댓글 목록 (커서 기반, {@link #getPostList} 와 같은 방식 - 조회수 정렬은 없음)
      */
-    public Page<Comment> getAllComments(String adminUsername, Pageable pageable) {
+    public AdminListPage<Comment> getCommentList(String adminUsername, AdminListRequest request) {
         validateAdminRole(adminUsername);
-        
-        return commentRepository.findAll(pageable);
+
+        AdminSort sort = AdminSort.from(request.getSort());
+        if (!sort.isForComments()) {
+            throw new IllegalArgumentException("댓글 목록에서 쓸 수 없는 정렬입니다: " + sort.getKey());
+        }
+        AdminCursor cursor = AdminCursor.decode(request.getCursor(), sort);
+        Optional<AdminListRepository.Filter> filter = toListFilter(request);
+        if (filter.isEmpty()) {
+            return new AdminListPage<>(List.of(), null, 0, false);
+        }
+
+        int size = Math.max(1, Math.min(request.getSize(), MAX_LIST_SIZE));
+        List<Comment> rows = adminListRepository.findComments(filter.get(), sort, cursor, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<Comment> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? AdminCursor.of(sort, page.get(page.size() - 1)).encode() : null;
+
+        long counted = listCountCap > 0 ? adminListRepository.countCommentsUpTo(filter.get(), listCountCap) : -1;
+        return new AdminListPage<>(page, nextCursor, Math.min(counted, listCountCap), counted > listCountCap);
+    }
+
+    /**
+     * 목록 조건 변환 - 없는 작성자면 빈 목록이므로 empty
+     */
+    private Optional<AdminListRepository.Filter> toListFilter(AdminListRequest request) {
+        boolean deleted = switch (request.getStatus() == null ? "" : request.getStatus().toLowerCase()) {
+            case "active" -> false;
+            case "deleted" -> true;
+            default -> throw new IllegalArgumentException("상태는 active 또는 deleted 여야 합니다: " + request.getStatus());
+        };
+
+        Long authorId = null;
+        if (request.getAuthor() != null && !request.getAuthor().isBlank()) {
+            Optional<User> author = userRepository.findByUsername(request.getAuthor().trim());
+            if (author.isEmpty()) {
+                return Optional.empty();
+            }
+            authorId = author.get().getId();
+        }
+
+        LocalDateTime from = request.getFrom() != null ? request.getFrom().atStartOfDay() : null;
+        LocalDateTime to = request.getTo() != null ? request.getTo().plusDays(1).atStartOfDay() : null;
+        return Optional.of(new AdminListRepository.Filter(deleted, authorId, from, to));
     }
 
     /**
@@ -105,6 +193,82 @@ public class AdminService {
         return userRepository.findAll(pageable);
     }
 
+    /**
+     * 보관된 게시글 조회 (최근 보관순)
+     */
+    public Page<ArchivedPost> getArchivedPosts(String adminUsername, Pageable pageable) {
+        validateAdminRole(adminUsername);
+
+        return archivedPostRepository.findAllByOrderByArchivedAtDesc(pageable);
+    }
+
+    public ArchivedPost getArchivedPost(Long postId, String adminUsername) {
+        validateAdminRole(adminUsername);
+
+        return archivedPostRepository.findById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("보관된 게시글을 찾을 수 없습니다: " + postId));
+    }
+
+    /**
+     * 보관된 댓글 조회 - postId 가 있으면 그 게시글의 댓글만 (작성순), 없으면 전체 (최근 보관순)
+     */
+    public Page<ArchivedComment> getArchivedComments(Long postId, String adminUsername, Pageable pageable) {
+        validateAdminRole(adminUsername);
+
+        return postId != null
+                ? archivedCommentRepository.findByPostIdOrderByCreatedAtAsc(postId, pageable)
+                : archivedCommentRepository.findAllByOrderByArchivedAtDesc(pageable);
+    }
+
+    /**
+     * 보관된 게시글 복원 - 댓글/추천/신고와 함께 원래 ID 로 되돌리고 삭제 상태를 해제한다
+     */
+    @Transactional
+    public Post restoreArchivedPost(Long postId, String adminUsername) {
+        validateAdminRole(adminUsername);
+
+        Post post = archiveService.restorePost(postId);
+        post.restore();
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+        return post;
+    }
+
+    /**
+     * 보관된 댓글 복원 - 원래 ID 로 되돌리고 삭제 상태를 해제한다 (보관된 부모 댓글은 삭제 상태 그대로 함께 복원)
+     */
+    @Transactional
+    public Comment restoreArchivedComment(Long commentId, String adminUsername) {
+        validateAdminRole(adminUsername);
+
+        Comment comment = archiveService.restoreComment(commentId);
+        comment.restore();
+        eventPublisher.publishEvent(new PostChangedEvent(comment.getPost().getId(), PostChangedEvent.Scope.DETAIL));
+        return comment;
+    }
+
+    /**
+     * 일괄 관리 작업 시작 - 백그라운드에서 chunk 단위로 실행되고, 진행 상황은 작업 ID 로 조회한다
+     */
+    public BulkModerationService.ModerationJob startBulkModeration(ModerationRequest request, String adminUsername) {
+        validateAdminRole(adminUsername);
+        return bulkModerationService.submit(request, adminUsername);
+    }
+
+    public BulkModerationService.ModerationJob getModerationJob(Long jobId, String adminUsername) {
+        validateAdminRole(adminUsername);
+        return bulkModerationService.getJob(jobId);
+    }
+
+    public List<BulkModerationService.ModerationJob> getModerationJobs(String adminUsername) {
+        validateAdminRole(adminUsername);
+        return bulkModerationService.getJobs();
+    }
+
+    public BulkModerationService.ModerationJob cancelModerationJob(Long jobId, String adminUsername) {
+        validateAdminRole(adminUsername);
+        return bulkModerationService.cancel(jobId);
+    }
+
     /**
      * 관리자 대시보드 통계 정보 조회
      */
@@ -0,0 +1,296 @@
+package com.board.service;
+
+import com.board.domain.entity.ArchivedComment;
+import com.board.domain.entity.Comment;
+import com.board.domain.entity.Post;
+import com.board.domain.repository.ArchivedCommentRepository;
+import com.board.domain.repository.ArchivedPostRepository;
+import com.board.domain.repository.CommentRepository;
+import com.board.domain.repository.PostRepository;
+import com.board.event.PostChangedEvent;
+import com.board.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 오래된 삭제 게시글/댓글 보관
+ *
+ * 삭제(soft delete)된 지 보관 기간이 지난 게시글과 댓글을 추천/좋아요/신고와 함께 *_archive 테이블로 옮긴다.
+ * 목록/검색 인덱스에서 삭제된 행이 빠지므로 원본 테이블과 인덱스 크기가 살아 있는 글 수에 맞춰 유지된다.
+ *
+ * 한 번에 batch 크기만큼만 짧은 트랜잭션으로 옮기고, 배치 사이에 쉬어 DB 사용 시간이 max-db-time-ratio 를
+ * 넘지 않게 한다. 커넥션을 기다리는 요청이 있으면(hikaricp.connections.pending) 이번 실행을 멈추고 다음 주기에 이어간다.
+ * 보관된 글은 관리자 화면에서 조회하고 원래 ID 그대로 복원할 수 있다 ({@link AdminService}).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArchiveService {
+
+    private final ArchivedPostRepository archivedPostRepository;
+    private final ArchivedCommentRepository archivedCommentRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${board.archive.retention:30d}")
+    private Duration retention;
+
+    @Value("${board.archive.post-batch-size:20}")
+    private int postBatchSize;
+
+    @Value("${board.archive.comment-batch-size:200}")
+    private int commentBatchSize;
+
+    @Value("${board.archive.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Value("${board.archive.max-db-time-ratio:0.1}")
+    private double maxDbTimeRatio;
+
+    /**
+     * 보관 기간이 지난 삭제 게시글, 그다음 삭제 댓글을 보관한다 (스케줄러에서 주기적으로 호출)
+     *
+     * 이미 실행 중이면 바로 돌아간다.
+     */
+    public RunResult archiveExpired() {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("보관 작업이 이미 실행 중입니다");
+            return RunResult.EMPTY;
+        }
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+            RunResult result = new RunResult();
+            long started = System.nanoTime();
+
+            while (result.batches < maxBatchesPerRun && !result.paused) {
+                int moved = runBatch(() -> archivePostBatch(cutoff), result);
+                if (moved == 0) {
+                    break;
+                }
+                result.posts += moved;
+            }
+            while (result.batches < maxBatchesPerRun && !result.paused) {
+                int moved = runBatch(() -> archiveCommentBatch(cutoff), result);
+                if (moved == 0) {
+                    break;
+                }
+                result.comments += moved;
+            }
+
+            if (result.posts > 0 || result.comments > 0 || result.paused) {
+                log.info("보관 작업: 게시글 {}건, 댓글 {}건, 배치 {}회, {}ms{}", result.posts, result.comments,
+                        result.batches, Duration.ofNanos(System.nanoTime() - started).toMillis(),
+                        result.paused ? " (DB 부하로 중단)" : "");
+            }
+            return result;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 배치 하나를 실행하고 DB 사용 비율에 맞춰 쉰다
+     *
+     * @return 옮긴 게시글/댓글 수 (0 이면 더 옮길 것이 없음)
+     */
+    private int runBatch(LongSupplier batch, RunResult result) {
+        if (hasPendingConnections()) {
+            result.paused = true;
+            meterRegistry.counter("board.archive.paused").increment();
+            return 0;
+        }
+        long started = System.nanoTime();
+        int moved = (int) batch.getAsLong();
+        long elapsed = System.nanoTime() - started;
+        if (moved == 0) {
+            return 0;
+        }
+        result.batches++;
+        throttle(elapsed);
+        return moved;
+    }
+
+    /**
+     * 배치에 걸린 시간이 전체의 maxDbTimeRatio 가 되도록 쉰다 (0.1 이면 배치 시간의 9배)
+     */
+    private void throttle(long batchNanos) {
+        if (maxDbTimeRatio >= 1.0) {
+            return;
+        }
+        double ratio = Math.max(maxDbTimeRatio, 0.01);
+        long sleepNanos = (long) (batchNanos * (1.0 - ratio) / ratio);
+        try {
+            Thread.sleep(Duration.ofNanos(sleepNanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean hasPendingConnections() {
+        return meterRegistry.find("hikaricp.connections.pending").gauges().stream()
+                .mapToDouble(Gauge::value)
+                .anyMatch(pending -> pending > 0);
+    }
+
+    /**
+     * 게시글 batch 하나를 댓글/추천/신고와 함께 보관 (하나의 트랜잭션)
+     *
+     * 외래 키 순서대로 댓글 좋아요/신고 -> 대댓글 -> 댓글 -> 게시글 추천/신고 -> 게시글 -> 본문 을 옮긴다.
+     */
+    private long archivePostBatch(LocalDateTime cutoff) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> postIds = archivedPostRepository.findArchivablePostIds(cutoff, PageRequest.of(0, postBatchSize));
+            if (postIds.isEmpty()) {
+                return 0;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> commentIds = archivedCommentRepository.findCommentIdsByPostIdIn(postIds);
+            if (!commentIds.isEmpty()) {
+                moveComments(commentIds, now);
+            }
+            archivedPostRepository.archivePostLikes(postIds, now);
+            archivedPostRepository.archiveReportedPosts(postIds, now);
+            archivedPostRepository.archivePosts(postIds, now);
+            archivedPostRepository.deletePostLikes(postIds);
+            archivedPostRepository.deleteReportedPosts(postIds);
+            archivedPostRepository.deletePosts(postIds);
+            archivedPostRepository.deletePostContents(postIds);
+            return postIds.size();
+        });
+        if (moved != null && moved > 0) {
+            // 삭제된 게시글은 목록/상세 캐시에 없으므로 캐시를 비우지 않는다
+            meterRegistry.counter("board.archive.rows", "target", "posts").increment(moved);
+        }
+        return moved != null ? moved : 0;
+    }
+
+    /**
+     * 삭제 댓글 batch 하나를 보관 (하나의 트랜잭션)
+     */
+    private long archiveCommentBatch(LocalDateTime cutoff) {
+        List<Long> postIds = new ArrayList<>();
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> commentIds = archivedCommentRepository.findArchivableCommentIds(
+                    cutoff, PageRequest.of(0, commentBatchSize));
+            if (commentIds.isEmpty()) {
+                return 0;
+            }
+            postIds.addAll(archivedCommentRepository.findPostIdsByCommentIdIn(commentIds));
+            moveComments(commentIds, LocalDateTime.now());
+            return commentIds.size();
+        });
+        if (moved != null && moved > 0) {
+            // 삭제된 댓글이 "삭제된 댓글입니다" 로 보이던 댓글 페이지 캐시를 비운다
+            meterRegistry.counter("board.archive.rows", "target", "comments").increment(moved);
+            postIds.forEach(postId -> eventPublisher.publishEvent(new PostChangedEvent(postId)));
+        }
+        return moved != null ? moved : 0;
+    }
+
+    private void moveComments(List<Long> commentIds, LocalDateTime archivedAt) {
+        archivedCommentRepository.archiveCommentLikes(commentIds, archivedAt);
+        archivedCommentRepository.archiveReportedComments(commentIds, archivedAt);
+        archivedCommentRepository.archiveComments(commentIds, archivedAt);
+        archivedCommentRepository.deleteCommentLikes(commentIds);
+        archivedCommentRepository.deleteReportedComments(commentIds);
+        archivedCommentRepository.deleteReplies(commentIds);
+        archivedCommentRepository.deleteTopLevelComments(commentIds);
+    }
+
+    /**
+     * 보관된 게시글을 댓글/추천/신고와 함께 원래 ID 로 되돌린다 (게시글은 삭제 상태 그대로 돌아온다)
+     *
+     * @throws ResourceNotFoundException 보관된 게시글이 없는 경우
+     */
+    @Transactional
+    public Post restorePost(Long postId) {
+        if (!archivedPostRepository.existsById(postId)) {
+            throw new ResourceNotFoundException("보관된 게시글을 찾을 수 없습니다: " + postId);
+        }
+        List<Long> postIds = List.of(postId);
+        archivedPostRepository.restorePostContents(postIds);
+        archivedPostRepository.restorePosts(postIds);
+        archivedPostRepository.restorePostLikes(postIds);
+        archivedPostRepository.restoreReportedPosts(postIds);
+
+        List<Long> commentIds = archivedCommentRepository.findIdsByPostId(postId);
+        if (!commentIds.isEmpty()) {
+            restoreComments(commentIds);
+        }
+
+        archivedPostRepository.deleteArchivedPostLikes(postIds);
+        archivedPostRepository.deleteArchivedReportedPosts(postIds);
+        archivedPostRepository.deleteArchivedPosts(postIds);
+
+        return postRepository.findById(postId)
+                .orElseThrow(() -> new IllegalStateException("복원한 게시글을 읽지 못했습니다: " + postId));
+    }
+
+    /**
+     * 보관된 댓글을 원래 ID 로 되돌린다 (보관된 부모 댓글이 있으면 함께, 댓글은 삭제 상태 그대로 돌아온다)
+     *
+     * @throws ResourceNotFoundException 보관된 댓글이 없는 경우
+     * @throws IllegalArgumentException  게시글이 보관되어 있는 경우 (게시글을 먼저 복원해야 함)
+     */
+    @Transactional
+    public Comment restoreComment(Long commentId) {
+        ArchivedComment archived = archivedCommentRepository.findById(commentId)
+                .orElseThrow(() -> new ResourceNotFoundException("보관된 댓글을 찾을 수 없습니다: " + commentId));
+        if (!postRepository.existsById(archived.getPostId())) {
+            throw new IllegalArgumentException("게시글이 보관되어 있습니다. 게시글을 먼저 복원하세요: " + archived.getPostId());
+        }
+        List<Long> commentIds = new ArrayList<>();
+        commentIds.add(commentId);
+        if (archived.getParentId() != null && archivedCommentRepository.existsById(archived.getParentId())) {
+            commentIds.add(archived.getParentId());
+        }
+        restoreComments(commentIds);
+
+        return commentRepository.findById(commentId)
+                .orElseThrow(() -> new IllegalStateException("복원한 댓글을 읽지 못했습니다: " + commentId));
+    }
+
+    private void restoreComments(List<Long> commentIds) {
+        archivedCommentRepository.restoreTopLevelComments(commentIds);
+        archivedCommentRepository.restoreReplies(commentIds);
+        archivedCommentRepository.restoreCommentLikes(commentIds);
+        archivedCommentRepository.restoreReportedComments(commentIds);
+        archivedCommentRepository.deleteArchivedCommentLikes(commentIds);
+        archivedCommentRepository.deleteArchivedReportedComments(commentIds);
+        archivedCommentRepository.deleteArchivedComments(commentIds);
+    }
+
+    /**
+     * 보관 작업 한 번의 결과
+     */
+    @Getter
+    public static class RunResult {
+        static final RunResult EMPTY = new RunResult();
+
+        private int posts;
+        private int comments;
+        private int batches;
+        private boolean paused;
+    }
+}
@@ -0,0 +1,256 @@
+package com.board.service;
+
+import com.board.domain.entity.Comment;
+import com.board.domain.entity.CommentLike;
+import com.board.domain.entity.Post;
+import com.board.domain.entity.PostLike;
+import com.board.domain.entity.ReportedComment;
+import com.board.domain.entity.ReportedPost;
+import com.board.domain.repository.CommentLikeRepository;
+import com.board.domain.repository.CommentRepository;
+import com.board.domain.repository.PostLikeRepository;
+import com.board.domain.repository.PostRepository;
+import com.board.domain.repository.ReportedCommentRepository;
+import com.board.domain.repository.ReportedPostRepository;
+import com.board.util.CsvWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 감사용 전체 데이터 대량 내보내기 (NDJSON / CSV)
+ *
+ * 전진 전용 스트림 쿼리(fetch size 힌트)로 한 행씩 읽어 바로 출력에 쓰고, 일정 행마다 출력을 flush 하고
+ * 영속성 컨텍스트를 비운다. 따라서 테이블 크기와 관계없이 힙 사용량이 일정하고, 첫 바이트가 곧바로 전송된다.
+ * MySQL 은 접속 URL 에 useCursorFetch=true 가 있어야 결과 전체를 미리 받아오지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkExportService {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final ReportedPostRepository reportedPostRepository;
+    private final ReportedCommentRepository reportedCommentRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${board.export.flush-rows:500}")
+    private int flushRows;
+
+    /** 내보내기 대상 */
+    public enum Target {
+        POSTS, COMMENTS, POST_LIKES, COMMENT_LIKES, POST_REPORTS, COMMENT_REPORTS;
+
+        /** URL 에서는 post-likes 처럼 소문자/하이픈으로 받는다 */
+        public static Target from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase().replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 대상입니다: " + value);
+            }
+        }
+
+        public String getFileName() {
+            return name().toLowerCase().replace('_', '-');
+        }
+    }
+
+    /** 출력 형식 */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static Format from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 출력 형식입니다: " + value);
+            }
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * 대상 테이블 전체를 출력 스트림에 쓴다. 스트림은 호출자가 닫는다.
+     *
+     * @return 내보낸 행 수
+     */
+    @Transactional(readOnly = true)
+    public long export(Target target, Format format, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        RowWriter rowWriter = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+
+        long startedAt = System.nanoTime();
+        long rows = switch (target) {
+            case POSTS -> write(postRepository.streamAllForExport(), rowWriter, List.of(
+                    "id", "legacyId", "title", "content", "category", "authorId", "authorUsername",
+                    "isNotice", "isMarkdown", "viewCount", "likeCount", "deleted", "deletedAt", "createdAt", "updatedAt"),
+                    (Post p) -> Arrays.asList(
+                            p.getId(), p.getLegacyId(), p.getTitle(), p.getContent(), p.getCategory(),
+                            p.getAuthor().getId(), p.getAuthor().getUsername(), p.getIsNotice(), p.getIsMarkdown(),
+                            p.getViewCount(), p.getLikeCount(), p.getDeleted(), p.getDeletedAt(), p.getCreatedAt(), p.getUpdatedAt()));
+            case COMMENTS -> write(commentRepository.streamAllForExport(), rowWriter, List.of(
+                    "id", "legacyId", "postId", "parentId", "authorId", "authorUsername", "content",
+                    "likeCount", "deleted", "deletedAt", "createdAt", "updatedAt"),
+                    (Comment c) -> Arrays.asList(
+                            c.getId(), c.getLegacyId(), c.getPost().getId(), c.getParent() != null ? c.getParent().getId() : null,
+                            c.getAuthor().getId(), c.getAuthor().getUsername(), c.getContent(),
+                            c.getLikeCount(), c.getDeleted(), c.getDeletedAt(), c.getCreatedAt(), c.getUpdatedAt()));
+            case POST_LIKES -> write(postLikeRepository.streamAllForExport(), rowWriter, List.of(
+                    "id", "postId", "userId", "username", "isLike", "createdAt"),
+                    (PostLike pl) -> Arrays.asList(
+                            pl.getId(), pl.getPost().getId(), pl.getUser().getId(), pl.getUser().getUsername(),
+                            pl.getIsLike(), pl.getCreatedAt()));
+            case COMMENT_LIKES -> write(commentLikeRepository.streamAllForExport(), rowWriter, List.of(
+                    "id", "commentId", "userId", "username", "createdAt"),
+                    (CommentLike cl) -> Arrays.asList(
+                            cl.getId(), cl.getComment().getId(), cl.getUser().getId(), cl.getUser().getUsername(),
+                            cl.getCreatedAt()));
+            case POST_REPORTS -> write(reportedPostRepository.streamAllForExport(), rowWriter, List.of(
+                    "id", "postId", "reporterId", "reporterUsername", "reason", "status", "createdAt", "updatedAt"),
+                    (ReportedPost rp) -> Arrays.asList(
+                            rp.getId(), rp.getPost().getId(), rp.getReporter().getId(), rp.getReporter().getUsername(),
+                            rp.getReason(), rp.getStatus(), rp.getCreatedAt(), rp.getUpdatedAt()));
+            case COMMENT_REPORTS -> write(reportedCommentRepository.streamAllForExport(), rowWriter, List.of(
+                    "id", "commentId", "reporterId", "reporterUsername", "reason", "status", "createdAt", "updatedAt"),
+                    (ReportedComment rc) -> Arrays.asList(
+                            rc.getId(), rc.getComment().getId(), rc.getReporter().getId(), rc.getReporter().getUsername(),
+                            rc.getReason(), rc.getStatus(), rc.getCreatedAt(), rc.getUpdatedAt()));
+        };
+        rowWriter.flush();
+
+        meterRegistry.counter("board.export.rows", "target", target.getFileName()).increment(rows);
+        log.info("내보내기 완료: target={}, format={}, {}건, {}ms",
+                target, format, rows, (System.nanoTime() - startedAt) / 1_000_000);
+        return rows;
+    }
+
+    /**
+     * 엔티티 스트림을 한 행씩 출력한다. 연관 엔티티는 ID 만 꺼내므로(프록시 초기화 없음) 추가 쿼리가 나가지 않는다.
+     */
+    private <T> long write(Stream<T> source, RowWriter rowWriter, List<String> columns,
+                           Function<T, List<Object>> mapper) throws IOException {
+        try (source) {
+            rowWriter.writeHeader(columns);
+            rowWriter.flush(); // 헤더(또는 빈 응답)를 바로 보내 클라이언트가 다운로드 시작을 알 수 있게 한다
+
+            long rows = 0;
+            Iterator<T> iterator = source.iterator();
+            while (iterator.hasNext()) {
+                rowWriter.writeRow(columns, mapper.apply(iterator.next()));
+                // 첫 행은 바로 내보내고, 이후에는 flushRows 마다 내보내며 읽은 엔티티를 비운다
+                if (++rows == 1 || rows % flushRows == 0) {
+                    rowWriter.flush();
+                    entityManager.clear();
+                }
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * 출력 형식별 행 쓰기
+     */
+    private interface RowWriter {
+        void writeHeader(List<String> columns) throws IOException;
+
+        void writeRow(List<String> columns, List<Object> values) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private static class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+        private final CsvWriter csv;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+            this.csv = new CsvWriter(writer);
+        }
+
+        @Override
+        public void writeHeader(List<String> columns) throws IOException {
+            csv.writeRecord(columns);
+        }
+
+        @Override
+        public void writeRow(List<String> columns, List<Object> values) throws IOException {
+            csv.writeRecord(values);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private class NdjsonRowWriter implements RowWriter {
+        private final Writer writer;
+
+        private NdjsonRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void writeHeader(List<String> columns) {
+            // NDJSON 은 행마다 필드 이름이 들어가므로 헤더가 없다
+        }
+
+        @Override
+        public void writeRow(List<String> columns, List<Object> values) throws IOException {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                row.put(columns.get(i), values.get(i));
+            }
+            writer.write(objectMapper.writeValueAsString(row));
+            writer.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,442 @@
+package com.board.service;
+
+import com.board.domain.entity.Comment;
+import com.board.domain.entity.Post;
+import com.board.domain.entity.User;
+import com.board.domain.repository.CommentRepository;
+import com.board.domain.repository.PostRepository;
+import com.board.domain.repository.UserRepository;
+import com.board.dto.CommentImportRow;
+import com.board.dto.PostImportRow;
+import com.board.dto.PostPreview;
+import com.board.event.PostChangedEvent;
+import com.board.util.CsvReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 이전 게시판 데이터 대량 가져오기
+ *
+ * 입력은 NDJSON/CSV 를 한 행씩 스트리밍으로 읽고, chunk 단위 트랜잭션으로 나눠 JDBC 배치로 저장한다.
+ * chunk 가 커밋될 때마다 처리한 행 수를 체크포인트 파일에 기록하므로, 중단된 작업은 같은 작업 이름으로
+ * 다시 실행하면 이어서 진행된다. 체크포인트 직후 구간은 원본 ID(legacyId)로 중복을 걸러낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkImportService {
+
+    private static final Pattern JOB_NAME = Pattern.compile("[A-Za-z0-9._-]{1,100}");
+    private static final int AUTHOR_CACHE_SIZE = 100_000;
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MarkdownService markdownService;
+
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${board.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${board.import.flush-size:50}")
+    private int flushSize;
+
+    @Value("${board.import.checkpoint-dir:import-checkpoints}")
+    private Path checkpointDir;
+
+    /** 가져오기 대상 */
+    public enum Target {
+        POSTS, COMMENTS;
+
+        public static Target from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 가져오기 대상입니다: " + value);
+            }
+        }
+    }
+
+    /** 입력 형식 */
+    public enum Format {
+        NDJSON, CSV;
+
+        public static Format from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 입력 형식입니다: " + value);
+            }
+        }
+    }
+
+    /**
+     * 입력 스트림을 끝까지 읽어 가져온다. 스트림은 호출자가 닫는다.
+     *
+     * @param jobName 체크포인트 식별자 - 같은 이름으로 다시 실행하면 마지막 체크포인트 이후부터 이어서 처리
+     */
+    public ImportResult importData(Target target, Format format, InputStream input, String jobName) throws IOException {
+        if (jobName == null || !JOB_NAME.matcher(jobName).matches()) {
+            throw new IllegalArgumentException("작업 이름은 영문/숫자/._- 조합 100자 이내여야 합니다: " + jobName);
+        }
+        if (!runningJobs.add(jobName)) {
+            throw new IllegalStateException("이미 실행 중인 가져오기 작업입니다: " + jobName);
+        }
+
+        try {
+            long checkpoint = readCheckpoint(jobName);
+            ImportResult result = new ImportResult(target, jobName, checkpoint);
+            Map<String, Long> authorIds = newAuthorCache();
+            Iterator<?> rows = openRows(input, format, target == Target.POSTS ? PostImportRow.class : CommentImportRow.class);
+
+            log.info("가져오기 시작: job={}, target={}, format={}, checkpoint={}", jobName, target, format, checkpoint);
+
+            // 이전 실행에서 이미 커밋된 행은 파싱만 하고 건너뛴다
+            for (long skipped = 0; skipped < checkpoint && rows.hasNext(); skipped++) {
+                rows.next();
+            }
+
+            List<Object> chunk = new ArrayList<>(chunkSize);
+            while (rows.hasNext()) {
+                chunk.add(rows.next());
+                if (chunk.size() == chunkSize) {
+                    processChunk(target, chunk, authorIds, result);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(target, chunk, authorIds, result);
+            }
+
+            log.info("가져오기 완료: job={}, 처리 {}건 (삽입 {}, 중복 {}, 실패 {}), {}건/s",
+                    jobName, result.getProcessed(), result.getInserted(), result.getSkipped(), result.getFailed(),
+                    Math.round(result.getRowsPerSecond()));
+            return result;
+        } finally {
+            runningJobs.remove(jobName);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void processChunk(Target target, List<Object> chunk, Map<String, Long> authorIds, ImportResult result) throws IOException {
+        ChunkResult chunkResult = transactionTemplate.execute(status -> target == Target.POSTS
+                ? insertPosts((List<PostImportRow>) (List<?>) chunk, authorIds)
+                : insertComments((List<CommentImportRow>) (List<?>) chunk, authorIds));
+
+        result.add(chunk.size(), chunkResult);
+        if (chunkResult.inserted > 0) {
+            eventPublisher.publishEvent(new PostChangedEvent(null));
+        }
+        writeCheckpoint(result.getJobName(), result.getCheckpoint());
+        chunk.clear();
+
+        String name = target.name().toLowerCase();
+        meterRegistry.counter("board.import.rows", "target", name, "result", "inserted").increment(chunkResult.inserted);
+        meterRegistry.counter("board.import.rows", "target", name, "result", "skipped").increment(chunkResult.skipped);
+        meterRegistry.counter("board.import.rows", "target", name, "result", "failed").increment(chunkResult.failed);
+
+        log.info("가져오기 진행: job={}, 처리 {}건 (삽입 {}, 중복 {}, 실패 {}), {}건/s",
+                result.getJobName(), result.getProcessed(), result.getInserted(), result.getSkipped(), result.getFailed(),
+                Math.round(result.getRowsPerSecond()));
+    }
+
+    private ChunkResult insertPosts(List<PostImportRow> rows, Map<String, Long> authorIds) {
+        ChunkResult result = new ChunkResult();
+        resolveAuthors(rows.stream().map(PostImportRow::getAuthor).toList(), authorIds);
+        Set<Long> existing = new HashSet<>(toIdMap(postRepository.findIdsByLegacyIdIn(
+                rows.stream().map(PostImportRow::getLegacyId).filter(Objects::nonNull).toList())).keySet());
+
+        for (PostImportRow row : rows) {
+            if (row.getLegacyId() == null) {
+                result.fail(row.getLegacyId(), "legacyId 가 없습니다");
+                continue;
+            }
+            if (!existing.add(row.getLegacyId())) {
+                result.skipped++;
+                continue;
+            }
+            Long authorId = row.getAuthor() != null ? authorIds.get(row.getAuthor()) : null;
+            if (authorId == null) {
+                result.fail(row.getLegacyId(), "작성자를 찾을 수 없습니다: " + row.getAuthor());
+                continue;
+            }
+
+            try {
+                Post post = Post.builder()
+                        .title(row.getTitle())
+                        .content(row.getContent())
+                        .category(row.getCategory())
+                        .author(entityManager.getReference(User.class, authorId))
+                        .isMarkdown(row.getIsMarkdown())
+                        .isNotice(row.getIsNotice())
+                        .createdAt(row.getCreatedAt())
+                        .legacyId(row.getLegacyId())
+                        .build();
+                PostPreview preview = markdownService.extractPreview(post.getContent(), post.getIsMarkdown());
+                post.updatePreview(preview.thumbnailUrl(), preview.excerpt());
+                entityManager.persist(post);
+            } catch (IllegalArgumentException e) {
+                result.fail(row.getLegacyId(), e.getMessage());
+                continue;
+            }
+            flushPeriodically(++result.inserted);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return result;
+    }
+
+    private ChunkResult insertComments(List<CommentImportRow> rows, Map<String, Long> authorIds) {
+        ChunkResult result = new ChunkResult();
+        resolveAuthors(rows.stream().map(CommentImportRow::getAuthor).toList(), authorIds);
+        Map<Long, Long> postIds = toIdMap(postRepository.findIdsByLegacyIdIn(
+                rows.stream().map(CommentImportRow::getPostLegacyId).filter(Objects::nonNull).distinct().toList()));
+
+        // 이미 저장된 댓글(중복 판별)과 이전 chunk 에 있는 부모 댓글을 한 번에 조회
+        Set<Long> commentLegacyIds = new HashSet<>();
+        for (CommentImportRow row : rows) {
+            if (row.getLegacyId() != null) {
+                commentLegacyIds.add(row.getLegacyId());
+            }
+            if (row.getParentLegacyId() != null) {
+                commentLegacyIds.add(row.getParentLegacyId());
+            }
+        }
+        Map<Long, Long> commentIds = toIdMap(commentRepository.findIdsByLegacyIdIn(commentLegacyIds));
+        Map<Long, Comment> insertedInChunk = new HashMap<>();
+
+        for (CommentImportRow row : rows) {
+            if (row.getLegacyId() == null) {
+                result.fail(row.getLegacyId(), "legacyId 가 없습니다");
+                continue;
+            }
+            if (commentIds.containsKey(row.getLegacyId()) || insertedInChunk.containsKey(row.getLegacyId())) {
+                result.skipped++;
+                continue;
+            }
+            Long authorId = row.getAuthor() != null ? authorIds.get(row.getAuthor()) : null;
+            if (authorId == null) {
+                result.fail(row.getLegacyId(), "작성자를 찾을 수 없습니다: " + row.getAuthor());
+                continue;
+            }
+            Long postId = row.getPostLegacyId() != null ? postIds.get(row.getPostLegacyId()) : null;
+            if (postId == null) {
+                result.fail(row.getLegacyId(), "게시글을 찾을 수 없습니다: " + row.getPostLegacyId());
+                continue;
+            }
+
+            Comment parent = null;
+            if (row.getParentLegacyId() != null) {
+                parent = insertedInChunk.get(row.getParentLegacyId());
+                if (parent == null && commentIds.containsKey(row.getParentLegacyId())) {
+                    parent = entityManager.getReference(Comment.class, commentIds.get(row.getParentLegacyId()));
+                }
+                if (parent == null) {
+                    result.fail(row.getLegacyId(), "부모 댓글을 찾을 수 없습니다: " + row.getParentLegacyId());
+                    continue;
+                }
+            }
+
+            try {
+                Comment comment = Comment.builder()
+                        .content(row.getContent())
+                        .post(entityManager.getReference(Post.class, postId))
+                        .author(entityManager.getReference(User.class, authorId))
+                        .parent(parent)
+                        .createdAt(row.getCreatedAt())
+                        .legacyId(row.getLegacyId())
+                        .build();
+                entityManager.persist(comment);
+                insertedInChunk.put(row.getLegacyId(), comment);
+            } catch (IllegalArgumentException e) {
+                result.fail(row.getLegacyId(), e.getMessage());
+                continue;
+            }
+            flushPeriodically(++result.inserted);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return result;
+    }
+
+    /**
+     * JDBC 배치 크기만큼 쌓이면 전송하고 영속성 컨텍스트를 비워 메모리를 일정하게 유지
+     */
+    private void flushPeriodically(int inserted) {
+        if (inserted % flushSize == 0) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    /**
+     * 캐시에 없는 username 만 모아 한 번의 IN 쿼리로 조회
+     */
+    private void resolveAuthors(Collection<String> usernames, Map<String, Long> authorIds) {
+        List<String> missing = usernames.stream()
+                .filter(username -> username != null && !authorIds.containsKey(username))
+                .distinct()
+                .toList();
+        if (!missing.isEmpty()) {
+            for (Object[] row : userRepository.findIdsByUsernameIn(missing)) {
+                authorIds.put((String) row[0], (Long) row[1]);
+            }
+        }
+    }
+
+    private static Map<Long, Long> toIdMap(List<Object[]> rows) {
+        Map<Long, Long> ids = new HashMap<>();
+        for (Object[] row : rows) {
+            ids.put((Long) row[0], (Long) row[1]);
+        }
+        return ids;
+    }
+
+    private static Map<String, Long> newAuthorCache() {
+        return new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > AUTHOR_CACHE_SIZE;
+            }
+        };
+    }
+
+    private Iterator<?> openRows(InputStream input, Format format, Class<?> rowType) throws IOException {
+        if (format == Format.NDJSON) {
+            return objectMapper.readerFor(rowType).readValues(input);
+        }
+
+        CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+        if (!csv.hasNext()) {
+            return csv;
+        }
+        List<String> header = csv.next().stream().map(String::trim).toList();
+        return new Iterator<Object>() {
+            @Override
+            public boolean hasNext() {
+                return csv.hasNext();
+            }
+
+            @Override
+            public Object next() {
+                List<String> fields = csv.next();
+                Map<String, String> values = new HashMap<>();
+                for (int i = 0; i < header.size() && i < fields.size(); i++) {
+                    String value = fields.get(i);
+                    values.put(header.get(i), value.isEmpty() ? null : value);
+                }
+                return objectMapper.convertValue(values, rowType);
+            }
+        };
+    }
+
+    private long readCheckpoint(String jobName) throws IOException {
+        Path file = checkpointDir.resolve(jobName + ".checkpoint");
+        return Files.exists(file) ? Long.parseLong(Files.readString(file).trim()) : 0L;
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 교체해서, 기록 도중 중단되어도 체크포인트 파일이 깨지지 않게 한다
+     */
+    private void writeCheckpoint(String jobName, long processed) throws IOException {
+        Files.createDirectories(checkpointDir);
+        Path temp = checkpointDir.resolve(jobName + ".checkpoint.tmp");
+        Files.writeString(temp, Long.toString(processed));
+        Files.move(temp, checkpointDir.resolve(jobName + ".checkpoint"),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * chunk 하나의 처리 결과
+     */
+    private static class ChunkResult {
+        private int inserted;
+        private int skipped;
+        private int failed;
+
+        private void fail(Long legacyId, String reason) {
+            failed++;
+            log.warn("가져오기 실패 행: legacyId={}, 사유={}", legacyId, reason);
+        }
+    }
+
+    /**
+     * 가져오기 결과
+     */
+    @Getter
+    public static class ImportResult {
+        private final Target target;
+        private final String jobName;
+        private final long resumedFrom;
+        private long processed;
+        private long inserted;
+        private long skipped;
+        private long failed;
+        @Getter(AccessLevel.NONE)
+        private final long startedAt = System.nanoTime();
+        private long elapsedMillis;
+
+        private ImportResult(Target target, String jobName, long resumedFrom) {
+            this.target = target;
+            this.jobName = jobName;
+            this.resumedFrom = resumedFrom;
+        }
+
+        private void add(int rows, ChunkResult chunk) {
+            processed += rows;
+            inserted += chunk.inserted;
+            skipped += chunk.skipped;
+            failed += chunk.failed;
+            elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        }
+
+        /** 체크포인트 - 입력의 처음부터 커밋까지 끝난 행 수 */
+        public long getCheckpoint() {
+            return resumedFrom + processed;
+        }
+
+        public double getRowsPerSecond() {
+            return elapsedMillis == 0 ? 0.0 : processed * 1000.0 / elapsedMillis;
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package com.board.service;
+
+import com.board.domain.entity.User;
+import com.board.domain.enums.ReportStatus;
+import com.board.domain.repository.CommentRepository;
+import com.board.domain.repository.PostRepository;
+import com.board.domain.repository.UserRepository;
+import com.board.dto.ModerationRequest;
+import com.board.event.PostChangedEvent;
+import com.board.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관리자 일괄 관리 (삭제/복원/신고 처리)
+ *
+ * 대상을 ID 순으로 chunk-size 개씩 골라 chunk 하나를 트랜잭션 하나의 집합 UPDATE 로 처리한다.
+ * 엔티티를 읽지 않으므로 수만 건도 UPDATE 몇십 번이면 끝나고, chunk 마다 커밋하므로 잠금도 짧다.
+ * 작업은 전용 스레드 하나에서 차례로 실행되며, 진행 상황은 작업 ID 로 조회하고 chunk 사이에서 취소할 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkModerationService {
+
+    private static final int MAX_KEPT_JOBS = 100;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final ReportService reportService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong nextJobId = new AtomicLong();
+    private final Map<Long, ModerationJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "bulk-moderation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${board.moderation.chunk-size:500}")
+    private int chunkSize;
+
+    /** 일괄 관리 대상 */
+    public enum Target {
+        POSTS, COMMENTS;
+
+        public static Target from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("지원하지 않는 일괄 관리 대상입니다: " + value);
+            }
+        }
+    }
+
+    /** 일괄 관리 작업 */
+    public enum Action {
+        /** 삭제 처리 - 대기중인 신고도 처리됨(RESOLVED)으로 닫고 신고 수를 0 으로 */
+        DELETE,
+        /** 삭제 복원 */
+        RESTORE,
+        /** 대기중인 신고 처리 */
+        RESOLVE_REPORTS,
+        /** 대기중인 신고 기각 - 신고 누적으로 숨겨진 글은 다시 보이게 */
+        DISMISS_REPORTS;
+
+        public static Action from(String value) {
+            try {
+                return valueOf(value.trim().replace('-', '_').toUpperCase());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("지원하지 않는 일괄 관리 작업입니다: " + value);
+            }
+        }
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+
+    /**
+     * 일괄 관리 작업을 등록하고 백그라운드에서 실행한다
+     */
+    public ModerationJob submit(ModerationRequest request, String requestedBy) {
+        ModerationJob job = createJob(request, requestedBy);
+        worker.execute(() -> execute(job));
+        log.info("일괄 관리 작업 등록: job={}, target={}, action={}, by={}",
+                job.getId(), job.getTarget(), job.getAction(), requestedBy);
+        return job;
+    }
+
+    public ModerationJob getJob(Long jobId) {
+        ModerationJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("일괄 관리 작업을 찾을 수 없습니다. ID: " + jobId);
+        }
+        return job;
+    }
+
+    /**
+     * 최근 작업 목록 (최신순)
+     */
+    public List<ModerationJob> getJobs() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(ModerationJob::getId).reversed())
+                .toList();
+    }
+
+    /**
+     * 작업 취소 - 실행 중이면 지금 chunk 까지만 커밋하고 멈춘다 (이미 처리한 chunk 는 되돌리지 않음)
+     */
+    public ModerationJob cancel(Long jobId) {
+        ModerationJob job = getJob(jobId);
+        job.cancelRequested = true;
+        log.info("일괄 관리 작업 취소 요청: job={}", jobId);
+        return job;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobs.values().forEach(job -> job.cancelRequested = true);
+        worker.shutdown();
+    }
+
+    /**
+     * 요청을 검증해 작업을 만들고 목록에 올린다 (실행은 {@link #execute})
+     */
+    ModerationJob createJob(ModerationRequest request, String requestedBy) {
+        Target target = Target.from(request.getTarget());
+        Action action = Action.from(request.getAction());
+        Criteria criteria = toCriteria(request);
+
+        ModerationJob job = new ModerationJob(nextJobId.incrementAndGet(), target, action, criteria, requestedBy);
+        jobs.put(job.getId(), job);
+        evictOldJobs();
+        return job;
+    }
+
+    /**
+     * 작업을 끝까지(또는 취소될 때까지) 실행한다 - chunk 마다 별도 트랜잭션
+     */
+    void execute(ModerationJob job) {
+        if (job.cancelRequested) {
+            job.finish(Status.CANCELLED);
+            return;
+        }
+        try {
+            job.start(countTargets(job));
+            long afterId = 0;
+            while (true) {
+                if (job.cancelRequested) {
+                    job.finish(Status.CANCELLED);
+                    log.info("일괄 관리 작업 취소됨: job={}, 처리 {}/{}건", job.getId(), job.getProcessed(), job.getTotal());
+                    return;
+                }
+
+                List<Long> ids = nextTargetIds(job, afterId);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                int affected = transactionTemplate.execute(status -> applyChunk(job, ids));
+
+                job.advance(ids.size(), affected);
+                afterId = ids.get(ids.size() - 1);
+                meterRegistry.counter("board.moderation.rows",
+                        "target", job.getTarget().name().toLowerCase(),
+                        "action", job.getAction().name().toLowerCase())
+                        .increment(affected);
+            }
+            job.finish(Status.COMPLETED);
+            log.info("일괄 관리 작업 완료: job={}, target={}, action={}, 대상 {}건, 변경 {}건, {}ms",
+                    job.getId(), job.getTarget(), job.getAction(), job.getProcessed(), job.getAffected(),
+                    job.getElapsedMillis());
+        } catch (RuntimeException e) {
+            job.fail(e);
+            log.error("일괄 관리 작업 실패: job={}, 처리 {}/{}건", job.getId(), job.getProcessed(), job.getTotal(), e);
+        }
+    }
+
+    /**
+     * chunk 하나를 집합 UPDATE 로 처리
+     *
+     * @return 변경된 행 수 (게시글/댓글 또는 신고)
+     */
+    private int applyChunk(ModerationJob job, List<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean posts = job.getTarget() == Target.POSTS;
+
+        int affected = switch (job.getAction()) {
+            case DELETE -> {
+                int deleted = posts ? postRepository.softDeleteByIdIn(ids, now)
+                        : commentRepository.softDeleteByIdIn(ids, now);
+                // 지운 글에 남은 신고는 처리된 것으로 닫아 신고 대기열과 신고 수를 맞춘다
+                resolveReports(posts, ids, ReportStatus.RESOLVED);
+                yield deleted;
+            }
+            case RESTORE -> posts ? postRepository.restoreByIdIn(ids, now) : commentRepository.restoreByIdIn(ids, now);
+            case RESOLVE_REPORTS -> resolveReports(posts, ids, ReportStatus.RESOLVED);
+            case DISMISS_REPORTS -> resolveReports(posts, ids, ReportStatus.DISMISSED);
+        };
+
+        if (affected > 0 && (job.getAction() == Action.DELETE || job.getAction() == Action.RESTORE)) {
+            eventPublisher.publishEvent(new PostChangedEvent(null));
+        }
+        return affected;
+    }
+
+    private int resolveReports(boolean posts, List<Long> ids, ReportStatus status) {
+        return posts ? reportService.resolvePostReports(ids, status) : reportService.resolveCommentReports(ids, status);
+    }
+
+    /**
+     * afterId 다음 대상 ID chunk - ID 목록이 주어졌으면 목록에서, 아니면 조건 조회로 (둘 다 ID 순)
+     */
+    private List<Long> nextTargetIds(ModerationJob job, long afterId) {
+        Criteria c = job.criteria;
+        if (c.ids() != null) {
+            List<Long> chunk = new ArrayList<>(chunkSize);
+            for (Long id : c.ids()) {
+                if (id > afterId) {
+                    chunk.add(id);
+                    if (chunk.size() == chunkSize) {
+                        break;
+                    }
+                }
+            }
+            return chunk;
+        }
+
+        PageRequest page = PageRequest.of(0, chunkSize);
+        Boolean deleted = deletedFilter(job.getAction());
+        boolean reportedOnly = reportedOnly(job.getAction());
+        return job.getTarget() == Target.POSTS
+                ? postRepository.findModerationTargetIds(afterId, deleted, reportedOnly, c.authorId(), c.category(),
+                        c.keyword(), c.from(), c.to(), page)
+                : commentRepository.findModerationTargetIds(afterId, deleted, reportedOnly, c.authorId(), c.category(),
+                        c.keyword(), c.from(), c.to(), page);
+    }
+
+    private long countTargets(ModerationJob job) {
+        Criteria c = job.criteria;
+        if (c.ids() != null) {
+            return c.ids().size();
+        }
+        Boolean deleted = deletedFilter(job.getAction());
+        boolean reportedOnly = reportedOnly(job.getAction());
+        return job.getTarget() == Target.POSTS
+                ? postRepository.countModerationTargets(deleted, reportedOnly, c.authorId(), c.category(),
+                        c.keyword(), c.from(), c.to())
+                : commentRepository.countModerationTargets(deleted, reportedOnly, c.authorId(), c.category(),
+                        c.keyword(), c.from(), c.to());
+    }
+
+    /** 삭제는 살아 있는 것만, 복원은 삭제된 것만 고른다 (신고 처리는 숨겨진 것도 포함) */
+    private static Boolean deletedFilter(Action action) {
+        return switch (action) {
+            case DELETE -> false;
+            case RESTORE -> true;
+            case RESOLVE_REPORTS, DISMISS_REPORTS -> null;
+        };
+    }
+
+    private static boolean reportedOnly(Action action) {
+        return action == Action.RESOLVE_REPORTS || action == Action.DISMISS_REPORTS;
+    }
+
+    private Criteria toCriteria(ModerationRequest request) {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean hasFilter = hasText(request.getAuthor()) || hasText(request.getCategory())
+                || hasText(request.getKeyword()) || request.getFrom() != null || request.getTo() != null;
+
+        if (hasIds && hasFilter) {
+            throw new IllegalArgumentException("ID 목록과 검색 조건은 함께 쓸 수 없습니다.");
+        }
+        if (!hasIds && !hasFilter) {
+            throw new IllegalArgumentException("ID 목록이나 검색 조건(작성자, 분류, 검색어, 기간) 중 하나는 있어야 합니다.");
+        }
+        if (request.getFrom() != null && request.getTo() != null && !request.getFrom().isBefore(request.getTo())) {
+            throw new IllegalArgumentException("기간의 시작은 끝보다 앞이어야 합니다.");
+        }
+
+        if (hasIds) {
+            List<Long> ids = request.getIds().stream()
+                    .filter(id -> id != null && id > 0)
+                    .distinct()
+                    .sorted()
+                    .toList();
+            return new Criteria(ids, null, null, null, null, null);
+        }
+
+        Long authorId = null;
+        if (hasText(request.getAuthor())) {
+            authorId = userRepository.findByUsername(request.getAuthor().trim())
+                    .map(User::getId)
+                    .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다: " + request.getAuthor()));
+        }
+        return new Criteria(null, authorId, trimToNull(request.getCategory()), trimToNull(request.getKeyword()),
+                request.getFrom(), request.getTo());
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String trimToNull(String value) {
+        return hasText(value) ? value.trim() : null;
+    }
+
+    /**
+     * 끝난 작업부터 오래된 순으로 정리해 최근 MAX_KEPT_JOBS 개만 남긴다
+     */
+    private void evictOldJobs() {
+        if (jobs.size() <= MAX_KEPT_JOBS) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(ModerationJob::isFinished)
+                .sorted(Comparator.comparing(ModerationJob::getId))
+                .limit(jobs.size() - MAX_KEPT_JOBS)
+                .toList()
+                .forEach(job -> jobs.remove(job.getId()));
+    }
+
+    /**
+     * 대상 선택 조건 - ids 가 있으면 나머지는 모두 null
+     */
+    private record Criteria(List<Long> ids, Long authorId, String category, String keyword,
+                            LocalDateTime from, LocalDateTime to) {
+    }
+
+    /**
+     * 일괄 관리 작업 상태 - 작업 스레드 하나만 갱신하고 관리자 요청 스레드가 읽는다
+     */
+    @Getter
+    public static class ModerationJob {
+        private final Long id;
+        private final Target target;
+        private final Action action;
+        private final String requestedBy;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private volatile Status status = Status.QUEUED;
+        private volatile long total;
+        /** 지금까지 살펴본 대상 수 */
+        private volatile long processed;
+        /** 실제로 바뀐 행 수 (이미 삭제된 글을 다시 삭제하는 등은 제외) */
+        private volatile long affected;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+        @Getter(AccessLevel.NONE)
+        private final Criteria criteria;
+        @Getter(AccessLevel.NONE)
+        private volatile boolean cancelRequested;
+        @Getter(AccessLevel.NONE)
+        private volatile long startedNanos;
+        @Getter(AccessLevel.NONE)
+        private volatile long elapsedNanos;
+
+        private ModerationJob(Long id, Target target, Action action, Criteria criteria, String requestedBy) {
+            this.id = id;
+            this.target = target;
+            this.action = action;
+            this.criteria = criteria;
+            this.requestedBy = requestedBy;
+        }
+
+        private void start(long total) {
+            this.total = total;
+            this.startedAt = LocalDateTime.now();
+            this.startedNanos = System.nanoTime();
+            this.status = Status.RUNNING;
+        }
+
+        private void advance(int rows, int changed) {
+            processed += rows;
+            affected += changed;
+            elapsedNanos = System.nanoTime() - startedNanos;
+        }
+
+        private void finish(Status status) {
+            if (startedNanos != 0) {
+                elapsedNanos = System.nanoTime() - startedNanos;
+            }
+            this.finishedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        private void fail(RuntimeException e) {
+            this.error = e.getMessage();
+            finish(Status.FAILED);
+        }
+
+        public boolean isFinished() {
+            return status == Status.COMPLETED || status == Status.CANCELLED || status == Status.FAILED;
+        }
+
+        /** 진행률 (0~100) - 대상 수는 시작할 때 센 값이라 도중에 바뀌면 어긋날 수 있다 */
+        public int getPercent() {
+            if (total == 0) {
+                return isFinished() ? 100 : 0;
+            }
+            return (int) Math.min(100, processed * 100 / total);
+        }
+
+        public long getElapsedMillis() {
+            return elapsedNanos / 1_000_000;
+        }
+    }
+}
@@ -6,19 +6,28 @@ import com.board.domain.entity.User;
 import com.board.domain.repository.CommentLikeRepository;
 import com.board.domain.repository.CommentRepository;
 import com.board.domain.repository.UserRepository;
+import com.board.event.Outbox;
+import com.board.event.OutboxEventType;
+import com.board.event.PostChangedEvent;
+import com.board.util.IdSet;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-@Slf4j
+import java.util.Collection;
+
 @Service
 @RequiredArgsConstructor
+@Timed("board.service")
 public class CommentLikeService {
 
     private final CommentLikeRepository commentLikeRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Outbox outbox;
 
     /**
      * 댓글 좋아요 토글 (좋아요/좋아요 취소)
@@ -34,13 +43,16 @@ public class CommentLikeService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
 
+        eventPublisher.publishEvent(new PostChangedEvent(comment.getPost().getId(), PostChangedEvent.Scope.DETAIL));
+
         // 기존 좋아요 확인
         return commentLikeRepository.findByCommentAndUser(comment, user)
                 .map(existingLike -> {
                     // 이미 좋아요가 있으면 삭제 (좋아요 취소)
                     commentLikeRepository.delete(existingLike);
                     comment.decreaseLikeCount();
-                    log.info("댓글 좋아요 취소: commentId={}, userId={}", commentId, userId);
+                    outbox.append(OutboxEventType.COMMENT_LIKE_CHANGED, comment.getPost().getId(), commentId,
+                            userId, "cancel");
                     return false;
                 })
                 .orElseGet(() -> {
@@ -51,7 +63,8 @@ public class CommentLikeService {
                             .build();
                     commentLikeRepository.save(commentLike);
                     comment.increaseLikeCount();
-                    log.info("댓글 좋아요 추가: commentId={}, userId={}", commentId, userId);
+                    outbox.append(OutboxEventType.COMMENT_LIKE_CHANGED, comment.getPost().getId(), commentId,
+                            userId, "like");
                     return true;
                 });
     }
@@ -71,4 +84,17 @@ public class CommentLikeService {
     public boolean isLikedByUser(Long commentId, Long userId) {
         return commentLikeRepository.existsByCommentIdAndUserId(commentId, userId);
     }
+
+    /**
+     * 주어진 댓글 중 사용자가 좋아요한 댓글 ID 집합 - 댓글 목록 한 페이지를 쿼리 한 번으로 확인
+     *
+     * @param userId 보는 사람 ID (비로그인이면 null - 조회하지 않고 빈 집합)
+     */
+    @Transactional(readOnly = true)
+    public IdSet findLikedCommentIds(Long userId, Collection<Long> commentIds) {
+        if (userId == null || commentIds.isEmpty()) {
+            return IdSet.empty();
+        }
+        return IdSet.of(commentLikeRepository.findLikedCommentIds(userId, commentIds));
+    }
 }
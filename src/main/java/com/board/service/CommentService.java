@@ -5,19 +5,39 @@ import com.board.domain.entity.Post;
 import com.board.domain.entity.User;
 import com.board.domain.repository.CommentRepository;
 import com.board.domain.repository.PostRepository;
+import com.board.dto.CommentCursor;
+import com.board.dto.CommentDto;
+import com.board.dto.CommentThreadDto;
+import com.board.dto.CursorSlice;
+import com.board.event.Outbox;
+import com.board.event.OutboxEventType;
+import com.board.event.PostChangedEvent;
+import com.board.util.IdSet;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed("board.service")
 public class CommentService {
 
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
+    private final CommentLikeService commentLikeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Outbox outbox;
 
     /**
      * 댓글 생성
@@ -36,7 +56,10 @@ public class CommentService {
                 .author(author)
                 .build();
 
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Scope.DETAIL));
+        outbox.append(OutboxEventType.COMMENT_CREATED, postId, saved.getId(), author.getId(), "comment");
+        return saved;
     }
 
     /**
@@ -61,7 +84,11 @@ public class CommentService {
                 .parent(parentComment)
                 .build();
 
-        return commentRepository.save(reply);
+        Comment saved = commentRepository.save(reply);
+        eventPublisher.publishEvent(new PostChangedEvent(parentComment.getPost().getId(), PostChangedEvent.Scope.DETAIL));
+        outbox.append(OutboxEventType.COMMENT_CREATED, parentComment.getPost().getId(), saved.getId(),
+                author.getId(), "reply");
+        return saved;
     }
 
     /**
@@ -112,6 +139,91 @@ public class CommentService {
         return commentRepository.findByPostOrderByCreatedAtAsc(post, pageable);
     }
 
+    /**
+     * 게시글별 최상위 댓글 목록 (커서 기반) - 댓글마다 앞쪽 대댓글 repliesPerComment 개를 함께 담는다
+     *
+     * 최상위 댓글은 커서 다음부터 size + 1 개를 읽어 다음 페이지 여부를 판단하고 (count 쿼리 없음),
+     * 대댓글은 페이지의 모든 댓글에 대해 한 번의 IN 쿼리로 부모마다 repliesPerComment + 1 개까지만 읽는다.
+     *
+     * 보는 사람의 좋아요 여부는 페이지의 댓글/대댓글 전체에 대해 쿼리 한 번으로 확인한다.
+     *
+     * @param cursor   이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param viewerId 보는 사람 ID (비로그인이면 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<CommentThreadDto> getCommentThreads(Long postId, CommentCursor cursor, int size,
+                                                           int repliesPerComment, Long viewerId) {
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Comment> topLevel = cursor == null
+                ? commentRepository.findTopLevelByPostId(postId, limit)
+                : commentRepository.findTopLevelByPostIdAfter(postId, cursor.createdAt(), cursor.id(), limit);
+        if (topLevel.isEmpty() && !postRepository.existsById(postId)) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다");
+        }
+
+        boolean hasNext = topLevel.size() > size;
+        List<Comment> page = hasNext ? topLevel.subList(0, size) : topLevel;
+
+        Map<Long, List<Comment>> repliesByParent = findRepliesPerParent(page, repliesPerComment + 1);
+        IdSet likedIds = commentLikeService.findLikedCommentIds(viewerId, Stream.concat(
+                page.stream(), repliesByParent.values().stream().flatMap(List::stream))
+                .map(Comment::getId)
+                .toList());
+
+        List<CommentThreadDto> threads = page.stream()
+                .map(comment -> {
+                    List<Comment> replies = repliesByParent.getOrDefault(comment.getId(), List.of());
+                    boolean moreReplies = replies.size() > repliesPerComment;
+                    List<Comment> shown = moreReplies ? replies.subList(0, repliesPerComment) : replies;
+                    // 대댓글을 하나도 싣지 않았으면 커서 없이 처음부터 받는다
+                    String moreRepliesCursor = moreReplies && !shown.isEmpty()
+                            ? CommentCursor.of(shown.get(shown.size() - 1)).encode()
+                            : null;
+                    return new CommentThreadDto(CommentDto.withoutChildren(comment, likedIds),
+                            shown.stream().map(reply -> CommentDto.withoutChildren(reply, likedIds)).toList(),
+                            moreReplies, moreRepliesCursor);
+                })
+                .toList();
+
+        return CursorSlice.of(threads, hasNext ? CommentCursor.of(page.get(page.size() - 1)).encode() : null);
+    }
+
+    /**
+     * 대댓글 목록 (커서 기반) - 댓글 목록의 moreRepliesCursor 로 나머지 대댓글을 이어 받는다
+     *
+     * @param cursor   이전 페이지의 마지막 대댓글 위치 (처음부터 읽으면 null)
+     * @param viewerId 보는 사람 ID (비로그인이면 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<CommentDto> getReplies(Long parentId, CommentCursor cursor, int size, Long viewerId) {
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Comment> replies = cursor == null
+                ? commentRepository.findRepliesByParentId(parentId, limit)
+                : commentRepository.findRepliesByParentIdAfter(parentId, cursor.createdAt(), cursor.id(), limit);
+        if (replies.isEmpty() && !commentRepository.existsById(parentId)) {
+            throw new IllegalArgumentException("댓글을 찾을 수 없습니다");
+        }
+
+        boolean hasNext = replies.size() > size;
+        List<Comment> page = hasNext ? replies.subList(0, size) : replies;
+        IdSet likedIds = commentLikeService.findLikedCommentIds(viewerId, page.stream().map(Comment::getId).toList());
+        return CursorSlice.of(page.stream().map(reply -> CommentDto.withoutChildren(reply, likedIds)).toList(),
+                hasNext ? CommentCursor.of(page.get(page.size() - 1)).encode() : null);
+    }
+
+    private Map<Long, List<Comment>> findRepliesPerParent(List<Comment> parents, int perParent) {
+        if (parents.isEmpty() || perParent <= 0) {
+            return Map.of();
+        }
+        List<Long> parentIds = parents.stream().map(Comment::getId).toList();
+        List<Long> replyIds = commentRepository.findReplyIdsPerParent(parentIds, perParent);
+        if (replyIds.isEmpty()) {
+            return Map.of();
+        }
+        return commentRepository.findWithAuthorByIdIn(replyIds).stream()
+                .collect(Collectors.groupingBy(reply -> reply.getParent().getId()));
+    }
+
     /**
      * 댓글 수정
      */
@@ -123,7 +235,10 @@ public class CommentService {
         }
 
         comment.updateContent(newContent);
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        eventPublisher.publishEvent(new PostChangedEvent(comment.getPost().getId(), PostChangedEvent.Scope.DETAIL));
+        outbox.append(OutboxEventType.COMMENT_UPDATED, comment.getPost().getId(), commentId, user.getId(), null);
+        return saved;
     }
 
     /**
@@ -143,6 +258,8 @@ public class CommentService {
 
         comment.delete();
         commentRepository.save(comment);
+        eventPublisher.publishEvent(new PostChangedEvent(comment.getPost().getId(), PostChangedEvent.Scope.DETAIL));
+        outbox.append(OutboxEventType.COMMENT_DELETED, comment.getPost().getId(), commentId, user.getId(), null);
     }
 
     /**
@@ -152,6 +269,7 @@ public class CommentService {
         Comment comment = findById(commentId);
         comment.increaseLikeCount();
         commentRepository.save(comment);
+        eventPublisher.publishEvent(new PostChangedEvent(comment.getPost().getId(), PostChangedEvent.Scope.DETAIL));
     }
 
     /**
@@ -161,6 +279,7 @@ public class CommentService {
         Comment comment = findById(commentId);
         comment.decreaseLikeCount();
         commentRepository.save(comment);
+        eventPublisher.publishEvent(new PostChangedEvent(comment.getPost().getId(), PostChangedEvent.Scope.DETAIL));
     }
 
     /**
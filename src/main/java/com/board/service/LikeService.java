@@ -6,8 +6,13 @@ import com.board.domain.entity.User;
 import com.board.domain.repository.PostLikeRepository;
 import com.board.domain.repository.PostRepository;
 import com.board.domain.repository.UserRepository;
+import com.board.event.Outbox;
+import com.board.event.OutboxEventType;
+import com.board.event.PostChangedEvent;
 import com.board.exception.ResourceNotFoundException;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,11 +23,14 @@ import java.util.Optional;
 @RequiredArgsConstructor
 @Transactional
 @Slf4j
+@Timed("board.service")
 public class LikeService {
 
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final PostLikeRepository postLikeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Outbox outbox;
 
     /**
      * 게시글 추천
@@ -45,6 +53,7 @@ public class LikeService {
                 // 비추천 -> 추천으로 변경
                 postLike.updateLike(true);
                 post.increaseLikeCount();
+                recordWrite(postId, userId, "like");
                 log.debug("비추천에서 추천으로 변경: postId={}, userId={}", postId, userId);
             }
         } else {
@@ -56,6 +65,7 @@ public class LikeService {
                     .build();
             postLikeRepository.save(newLike);
             post.increaseLikeCount();
+            recordWrite(postId, userId, "like");
             log.debug("새로운 추천 생성: postId={}, userId={}", postId, userId);
         }
     }
@@ -81,6 +91,7 @@ public class LikeService {
                 // 추천 -> 비추천으로 변경
                 postLike.updateLike(false);
                 post.decreaseLikeCount();
+                recordWrite(postId, userId, "dislike");
                 log.debug("추천에서 비추천으로 변경: postId={}, userId={}", postId, userId);
             }
         } else {
@@ -91,6 +102,7 @@ public class LikeService {
                     .isLike(false)
                     .build();
             postLikeRepository.save(newDislike);
+            recordWrite(postId, userId, "dislike");
             log.debug("새로운 비추천 생성: postId={}, userId={}", postId, userId);
         }
     }
@@ -115,6 +127,7 @@ public class LikeService {
             // 비추천인 경우 추천 수는 변경되지 않음
 
             postLikeRepository.delete(postLike);
+            recordWrite(postId, userId, "cancel");
             log.debug("추천/비추천 취소 완료: postId={}, userId={}", postId, userId);
         } else {
             log.debug("취소할 추천/비추천이 없습니다: postId={}, userId={}", postId, userId);
@@ -151,6 +164,14 @@ public class LikeService {
         return postLikeRepository.countDislikesByPost(post);
     }
 
+    /**
+     * 실제로 추천 상태가 바뀐 경우에만 기록 - 쓰기 횟수 집계는 아웃박스 소비자(ActivityLogConsumer)가 한다
+     */
+    private void recordWrite(Long postId, Long userId, String action) {
+        eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Scope.LIKES));
+        outbox.append(OutboxEventType.POST_LIKE_CHANGED, postId, null, userId, action);
+    }
+
     private Post findPostById(Long postId) {
         return postRepository.findById(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다: " + postId));
@@ -1,20 +1,83 @@
 package com.board.service;
 
+import com.board.domain.entity.Post;
+import com.board.dto.PostPreview;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.commonmark.node.AbstractVisitor;
+import org.commonmark.node.Code;
+import org.commonmark.node.FencedCodeBlock;
+import org.commonmark.node.HardLineBreak;
+import org.commonmark.node.Heading;
+import org.commonmark.node.HtmlBlock;
+import org.commonmark.node.HtmlInline;
+import org.commonmark.node.Image;
+import org.commonmark.node.IndentedCodeBlock;
 import org.commonmark.node.Node;
+import org.commonmark.node.Paragraph;
+import org.commonmark.node.SoftLineBreak;
+import org.commonmark.node.Text;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.html.HtmlRenderer;
 import org.owasp.encoder.Encode;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Locale;
+
 @Service
 public class MarkdownService {
 
+    private static final int RENDERED_POST_CACHE_SIZE = 1_000;
+
     private final Parser parser;
     private final HtmlRenderer renderer;
+    private final Timer renderTimer;
 
+    /** 게시글 본문 렌더링 결과 - 보는 사람과 관계없는 공통 조각이라 로그인 사용자 화면에도 재사용 */
+    private final Cache<String, String> renderedPosts;
+
+    /**
+     * 스프링 컨텍스트 밖(벤치마크 등)에서 사용하는 생성자 - 메트릭은 버려진다
+     */
     public MarkdownService() {
+        this(new SimpleMeterRegistry());
+    }
+
+    @Autowired
+    public MarkdownService(MeterRegistry meterRegistry) {
         this.parser = Parser.builder().build();
         this.renderer = HtmlRenderer.builder().build();
+        this.renderTimer = Timer.builder("board.markdown.render")
+                .description("마크다운 파싱 + HTML 렌더링 시간")
+                .register(meterRegistry);
+        this.renderedPosts = Caffeine.newBuilder()
+                .maximumSize(RENDERED_POST_CACHE_SIZE)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, renderedPosts, "board.markdown.rendered");
+    }
+
+    /**
+     * 게시글 본문을 HTML 로 변환 (마크다운이면 마크다운 렌더링, 아니면 이스케이프 + 줄바꿈 처리)
+     * 캐시 키에 수정 시각이 들어가므로 글이 수정되면 따로 지우지 않아도 새로 렌더링된다.
+     */
+    public String renderPostContent(Post post) {
+        if (post.getId() == null || post.getUpdatedAt() == null) {
+            return renderContent(post);
+        }
+        String key = post.getId() + ":" + post.getUpdatedAt() + ":" + post.getIsMarkdown();
+        return renderedPosts.get(key, k -> renderContent(post));
+    }
+
+    private String renderContent(Post post) {
+        return Boolean.TRUE.equals(post.getIsMarkdown())
+                ? markdownToHtml(post.getContent())
+                : convertPlainTextToHtml(post.getContent());
     }
 
     /**
@@ -26,15 +89,18 @@ public class MarkdownService {
             return "";
         }
 
-        // 마크다운 파싱
-        Node document = parser.parse(markdown);
-        
-        // HTML로 렌더링
-        String html = renderer.render(document);
-        
-        // XSS 방지를 위한 추가적인 처리는 여기서 할 수 있지만,
-        // 마크다운 자체가 안전한 HTML을 생성하므로 기본적으로는 필요 없음
-        return html;
+        // 파싱과 렌더링을 함께 측정
+        return renderTimer.record(() -> {
+            // 마크다운 파싱
+            Node document = parser.parse(markdown);
+
+            // HTML로 렌더링
+            String html = renderer.render(document);
+
+            // XSS 방지를 위한 추가적인 처리는 여기서 할 수 있지만,
+            // 마크다운 자체가 안전한 HTML을 생성하므로 기본적으로는 필요 없음
+            return html;
+        });
     }
 
     /**
@@ -66,6 +132,23 @@ public class MarkdownService {
         return htmlContent;
     }
 
+    /**
+     * 목록 화면용 미리보기 추출 (첫 이미지 주소 + 본문 요약) - 글을 쓰거나 고칠 때 한 번만 부른다
+     * 마크다운이면 파싱한 문서를 한 번 훑어 글자만 모으고, 아니면 공백만 정리한다.
+     */
+    public PostPreview extractPreview(String content, Boolean isMarkdown) {
+        PreviewCollector collector = new PreviewCollector();
+        if (content == null || content.isBlank()) {
+            return collector.toPreview();
+        }
+        if (Boolean.TRUE.equals(isMarkdown)) {
+            parser.parse(content).accept(collector);
+        } else {
+            collector.append(content);
+        }
+        return collector.toPreview();
+    }
+
     /**
      * 마크다운에서 첫 번째 이미지 URL 추출 (썸네일용)
      */
@@ -73,15 +156,106 @@ public class MarkdownService {
         if (markdown == null) {
             return null;
         }
+        return extractPreview(markdown, true).thumbnailUrl();
+    }
+
+    /**
+     * 문서를 훑으며 첫 이미지 주소와 본문 글자를 모은다
+     * 이미지 대체 텍스트, 코드 블록, HTML 은 요약에 넣지 않고, 연속된 공백은 하나로 줄인다.
+     */
+    private static class PreviewCollector extends AbstractVisitor {
+
+        private final StringBuilder text = new StringBuilder();
+        private String thumbnailUrl;
+
+        @Override
+        public void visit(Image image) {
+            if (thumbnailUrl == null && isAllowedThumbnail(image.getDestination())) {
+                thumbnailUrl = image.getDestination();
+            }
+        }
+
+        @Override
+        public void visit(Text node) {
+            append(node.getLiteral());
+        }
+
+        @Override
+        public void visit(Code code) {
+            append(code.getLiteral());
+        }
+
+        @Override
+        public void visit(SoftLineBreak softLineBreak) {
+            append(" ");
+        }
+
+        @Override
+        public void visit(HardLineBreak hardLineBreak) {
+            append(" ");
+        }
+
+        @Override
+        public void visit(Paragraph paragraph) {
+            visitChildren(paragraph);
+            append(" ");
+        }
+
+        @Override
+        public void visit(Heading heading) {
+            visitChildren(heading);
+            append(" ");
+        }
+
+        @Override
+        public void visit(FencedCodeBlock fencedCodeBlock) {
+        }
+
+        @Override
+        public void visit(IndentedCodeBlock indentedCodeBlock) {
+        }
+
+        @Override
+        public void visit(HtmlBlock htmlBlock) {
+        }
+
+        @Override
+        public void visit(HtmlInline htmlInline) {
+        }
+
+        void append(String literal) {
+            for (int i = 0; i < literal.length() && text.length() <= PostPreview.EXCERPT_LENGTH; i++) {
+                char c = literal.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    if (!text.isEmpty() && text.charAt(text.length() - 1) != ' ') {
+                        text.append(' ');
+                    }
+                } else {
+                    text.append(c);
+                }
+            }
+        }
+
+        PostPreview toPreview() {
+            String excerpt = text.toString().strip();
+            if (excerpt.length() > PostPreview.EXCERPT_LENGTH) {
+                int end = PostPreview.EXCERPT_LENGTH - 3;
+                if (Character.isHighSurrogate(excerpt.charAt(end - 1))) {
+                    end--;
+                }
+                excerpt = excerpt.substring(0, end).strip() + "...";
+            }
+            return new PostPreview(thumbnailUrl, excerpt);
+        }
 
-        // 마크다운 이미지 패턴: ![alt](url)
-        java.util.regex.Pattern pattern = java.util.regex.Pattern.compile("!\\[.*?\\]\\((.*?)\\)");
-        java.util.regex.Matcher matcher = pattern.matcher(markdown);
-        
-        if (matcher.find()) {
-            return matcher.group(1);
+        // 목록의 <img src> 에 그대로 넣으므로 http(s) 와 같은 사이트 경로만 받는다
+        private static boolean isAllowedThumbnail(String url) {
+            if (url == null || url.isBlank() || url.length() > PostPreview.THUMBNAIL_URL_LENGTH) {
+                return false;
+            }
+            String lower = url.toLowerCase(Locale.ROOT);
+            return lower.startsWith("https://") || lower.startsWith("http://")
+                    || (lower.startsWith("/") && !lower.startsWith("//"));
         }
-        
-        return null;
     }
 }
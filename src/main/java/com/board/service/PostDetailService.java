@@ -0,0 +1,85 @@
+package com.board.service;
+
+import com.board.domain.entity.Comment;
+import com.board.dto.CommentDto;
+import com.board.dto.PostDetailDto;
+import com.board.dto.PostRevision;
+import com.board.util.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 게시글 상세/댓글 목록 조회 - 같은 게시글에 대한 동시 조회를 하나로 합친다
+ *
+ * 인기 게시글에 요청이 몰리면 같은 게시글을 읽고 렌더링하는 쿼리가 요청 수만큼 동시에 실행된다.
+ * 같은 게시글(댓글은 같은 페이지)을 조회 중인 요청이 있으면 새로 읽지 않고 그 결과를 기다렸다가 함께 쓴다.
+ *
+ * 합류 키에는 요청이 ETag 를 만든 검증값({@link PostRevision})을 넣는다. 댓글/추천/수정이 커밋된 뒤에 온 요청은
+ * 검증값이 달라 커밋 전에 시작한 조회에 합류하지 않으므로, 새 ETag 로 이전 화면을 받는 일이 없다.
+ *
+ * 기다리는 요청이 커넥션을 잡고 있지 않도록 이 클래스에는 트랜잭션을 걸지 않는다.
+ */
+@Slf4j
+@Service
+public class PostDetailService {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final PostService postService;
+    private final CommentService commentService;
+    private final SingleFlight<PostRevision, PostDetailDto> detailLoads;
+    private final SingleFlight<CommentPageKey, Page<CommentDto>> commentPageLoads;
+
+    public PostDetailService(PostService postService,
+                             CommentService commentService,
+                             MeterRegistry meterRegistry,
+                             @Value("${board.single-flight.wait-timeout:3s}") Duration waitTimeout) {
+        this.postService = postService;
+        this.commentService = commentService;
+        this.detailLoads = new SingleFlight<>("post-detail", waitTimeout, RETRY_AFTER_SECONDS, meterRegistry);
+        this.commentPageLoads = new SingleFlight<>("comment-page", waitTimeout, RETRY_AFTER_SECONDS, meterRegistry);
+    }
+
+    /**
+     * 게시글 상세 화면 데이터 조회
+     *
+     * @param revision 요청이 ETag 를 만든 검증값 - 같은 검증값으로 시작한 조회에만 합류한다.
+     *                 null 이면(플래시 메시지 응답, 검증값 없음) 합류하지 않고 직접 읽는다
+     * @throws IllegalArgumentException 게시글이 존재하지 않거나 삭제된 경우 (함께 기다린 요청도 같은 예외를 받는다)
+     */
+    public PostDetailDto getDetail(Long id, PostRevision revision) {
+        if (revision == null) {
+            return postService.getPostDetail(id);
+        }
+        return detailLoads.execute(revision, () -> postService.getPostDetail(id));
+    }
+
+    /**
+     * 게시글별 댓글 목록 조회 (삭제된 댓글, 대댓글 포함)
+     *
+     * @param revision 요청이 ETag 를 만든 검증값 - null 이면 합류하지 않고 직접 읽는다
+     * @throws IllegalArgumentException 게시글이 존재하지 않는 경우
+     */
+    public Page<CommentDto> getCommentPage(Long postId, PostRevision revision, int page, int size) {
+        if (revision == null) {
+            return loadCommentPage(postId, page, size);
+        }
+        return commentPageLoads.execute(new CommentPageKey(revision, page, size),
+                () -> loadCommentPage(postId, page, size));
+    }
+
+    private Page<CommentDto> loadCommentPage(Long postId, int page, int size) {
+        Page<Comment> comments = commentService.getCommentsByPost(postId, PageRequest.of(page, size));
+        log.debug("댓글 목록 조회 - 게시글 ID: {}, 페이지: {}, 개수: {}", postId, page, comments.getNumberOfElements());
+        return comments.map(CommentDto::from);
+    }
+
+    private record CommentPageKey(PostRevision revision, int page, int size) {
+    }
+}
@@ -0,0 +1,410 @@
+package com.board.service;
+
+import com.board.domain.entity.Comment;
+import com.board.domain.entity.OutboxEvent;
+import com.board.domain.repository.CommentRepository;
+import com.board.domain.repository.PostLikeRepository;
+import com.board.domain.repository.PostRepository;
+import com.board.dto.PostLiveUpdate;
+import com.board.exception.ResourceNotFoundException;
+import com.board.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글 실시간 갱신 (Server-Sent Events)
+ *
+ * 게시글 상세를 보는 사용자가 GET /posts/{id}/live 로 구독하면 새 댓글, 댓글 삭제, 추천/비추천 수, 댓글 좋아요 수 변화를 받는다.
+ * 쓰기 트랜잭션이 커밋되면 아웃박스 이벤트(같은 인스턴스에서 발행)를 받아 게시글별로 모아 두고,
+ * push-interval 마다 바뀐 게시글만 쿼리 몇 개로 한꺼번에 읽어 구독자에게 보낸다. 따라서 한 게시글에 쓰기가 몰려도
+ * 구독자는 push-interval 에 한 번만 받고, 조회 쿼리 수는 구독자 수와 무관하다.
+ *
+ * 구독자마다 크기가 정해진 전송 대기열과 가상 스레드 하나를 둔다. 느린 클라이언트 때문에 대기열이 차면 그 연결을 끊는다
+ * (브라우저 EventSource 는 다시 연결한다). 요청 스레드는 구독을 시작하면 바로 반환되므로(비동기 서블릿)
+ * 열려 있는 연결이 플랫폼 스레드를 붙잡지 않는다. heartbeat 마다 주석 줄을 보내 끊긴 연결을 정리한다.
+ *
+ * 이 인스턴스에서 커밋된 쓰기만 보낸다. 여러 인스턴스로 운영하면 다른 인스턴스의 쓰기는 다음 새로고침 때 보인다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostLiveService {
+
+    private static final String UPDATE_EVENT = "update";
+
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ConcurrentMap<Long, Changes> pending = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-live");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${board.live.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    @Value("${board.live.buffer-size:16}")
+    private int bufferSize;
+
+    @Value("${board.live.push-interval:500ms}")
+    private Duration pushInterval;
+
+    @Value("${board.live.heartbeat:15s}")
+    private Duration heartbeat;
+
+    @Value("${board.live.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${board.live.reconnect-delay:3s}")
+    private Duration reconnectDelay;
+
+    @PostConstruct
+    void start() {
+        Gauge.builder("board.live.subscribers", subscriberCount, AtomicInteger::get)
+                .description("실시간 갱신 구독 연결 수")
+                .register(meterRegistry);
+        ticker.scheduleWithFixedDelay(this::flushSafely,
+                pushInterval.toMillis(), pushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        ticker.scheduleWithFixedDelay(this::heartbeat,
+                heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ticker.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(Subscriber::close));
+    }
+
+    /**
+     * 게시글 구독
+     *
+     * @throws ResourceNotFoundException  게시글이 없거나 삭제된 경우
+     * @throws ServiceOverloadedException 구독 연결 수가 max-subscribers 에 닿은 경우
+     */
+    public SseEmitter subscribe(Long postId) {
+        if (!postRepository.existsByIdAndDeletedFalse(postId)) {
+            throw new ResourceNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId);
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            meterRegistry.counter("board.live.rejected").increment();
+            throw new ServiceOverloadedException("실시간 갱신 연결이 너무 많습니다.",
+                    Math.max(1, reconnectDelay.toSeconds()));
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(postId, emitter, bufferSize);
+        subscribers.compute(postId, (id, set) -> {
+            Set<Subscriber> current = set != null ? set : ConcurrentHashMap.newKeySet();
+            current.add(subscriber);
+            return current;
+        });
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> {
+            subscriber.close();
+            emitter.complete();
+        });
+        emitter.onError(error -> remove(subscriber));
+
+        // 첫 이벤트로 재연결 간격을 알려 응답을 바로 시작한다
+        subscriber.offer(Message.CONNECTED);
+        subscriber.start();
+        log.debug("실시간 갱신 구독 - Post ID: {}, 전체 구독: {}", postId, subscriberCount.get());
+        return subscriber.emitter;
+    }
+
+    /**
+     * 커밋된 쓰기 이벤트를 게시글별로 모은다 (요청 스레드에서 실행되므로 조회 없이 기록만)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommitted(OutboxEvent event) {
+        Long postId = event.getPostId();
+        if (postId == null || !subscribers.containsKey(postId)) {
+            return;
+        }
+        // flush 가 꺼내 가는 것과 겹치지 않도록 compute 안에서 기록한다
+        pending.compute(postId, (id, changes) -> {
+            Changes current = changes != null ? changes : new Changes();
+            current.apply(event);
+            return current.isEmpty() ? changes : current;
+        });
+    }
+
+    /**
+     * 모아 둔 변경을 읽어 구독자에게 보낸다 (push-interval 마다)
+     */
+    void flush() {
+        Map<Long, Changes> batch = new HashMap<>();
+        for (Long postId : pending.keySet()) {
+            Changes changes = pending.remove(postId);
+            if (changes != null && subscribers.containsKey(postId) && !changes.isEmpty()) {
+                batch.put(postId, changes);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<PostLiveUpdate> updates = load(batch);
+        for (PostLiveUpdate update : updates) {
+            Set<Subscriber> targets = subscribers.getOrDefault(update.postId(), Set.of());
+            for (Subscriber subscriber : targets) {
+                subscriber.offer(new Message(UPDATE_EVENT, update, null));
+            }
+            meterRegistry.counter("board.live.pushes").increment(targets.size());
+        }
+    }
+
+    /**
+     * 바뀐 게시글들의 현재 값을 한 트랜잭션에서 읽는다 (항목마다 쿼리 하나, 게시글 수와 무관)
+     *
+     * 방금 커밋된 값을 읽어야 하므로 읽기 전용으로 표시하지 않는다 (복제본이 아니라 primary 에서 읽음).
+     */
+    private List<PostLiveUpdate> load(Map<Long, Changes> batch) {
+        Set<Long> reactionPosts = new LinkedHashSet<>();
+        Set<Long> commentPosts = new LinkedHashSet<>();
+        Set<Long> createdIds = new LinkedHashSet<>();
+        Set<Long> likedIds = new LinkedHashSet<>();
+        batch.forEach((postId, changes) -> {
+            if (changes.reactions) {
+                reactionPosts.add(postId);
+            }
+            if (!changes.created.isEmpty() || !changes.deleted.isEmpty()) {
+                commentPosts.add(postId);
+            }
+            createdIds.addAll(changes.created);
+            likedIds.addAll(changes.liked);
+        });
+
+        return transactionTemplate.execute(status -> {
+            Map<Long, long[]> reactions = new HashMap<>();
+            if (!reactionPosts.isEmpty()) {
+                for (Object[] row : postLikeRepository.countReactionsByPostIdIn(reactionPosts)) {
+                    reactions.put((Long) row[0], new long[]{((Number) row[1]).longValue(), ((Number) row[2]).longValue()});
+                }
+            }
+            Map<Long, Long> commentCounts = new HashMap<>();
+            if (!commentPosts.isEmpty()) {
+                for (Object[] row : commentRepository.countLiveByPostIdIn(commentPosts)) {
+                    commentCounts.put((Long) row[0], ((Number) row[1]).longValue());
+                }
+            }
+            Map<Long, List<PostLiveUpdate.NewComment>> newComments = new HashMap<>();
+            if (!createdIds.isEmpty()) {
+                for (Comment comment : commentRepository.findWithAuthorByIdIn(createdIds)) {
+                    if (comment.isDeleted()) {
+                        continue;
+                    }
+                    newComments.computeIfAbsent(comment.getPost().getId(), id -> new ArrayList<>())
+                            .add(new PostLiveUpdate.NewComment(comment.getId(),
+                                    comment.getParent() != null ? comment.getParent().getId() : null,
+                                    comment.getAuthor().getNickname(), comment.getContent(), comment.getCreatedAt()));
+                }
+            }
+            Map<Long, Integer> commentLikes = new HashMap<>();
+            if (!likedIds.isEmpty()) {
+                for (Object[] row : commentRepository.findLikeCountsByIdIn(likedIds)) {
+                    commentLikes.put((Long) row[0], (Integer) row[1]);
+                }
+            }
+
+            List<PostLiveUpdate> updates = new ArrayList<>(batch.size());
+            batch.forEach((postId, changes) -> {
+                long[] counts = changes.reactions ? reactions.getOrDefault(postId, new long[2]) : null;
+                Map<Long, Integer> likes = new HashMap<>();
+                changes.liked.forEach(id -> {
+                    Integer count = commentLikes.get(id);
+                    if (count != null) {
+                        likes.put(id, count);
+                    }
+                });
+                updates.add(new PostLiveUpdate(postId,
+                        counts != null ? counts[0] : null,
+                        counts != null ? counts[1] : null,
+                        commentPosts.contains(postId) ? commentCounts.getOrDefault(postId, 0L) : null,
+                        newComments.getOrDefault(postId, List.of()),
+                        List.copyOf(changes.deleted),
+                        likes));
+            });
+            return updates;
+        });
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("실시간 갱신 전송 실패", e);
+        }
+    }
+
+    private void heartbeat() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.offer(Message.HEARTBEAT)));
+    }
+
+    private void remove(Subscriber subscriber) {
+        boolean[] removed = new boolean[1];
+        subscribers.computeIfPresent(subscriber.postId, (id, set) -> {
+            removed[0] = set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+        if (removed[0]) {
+            subscriberCount.decrementAndGet();
+        }
+        subscriber.close();
+    }
+
+    /** 현재 구독 연결 수 */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * 전송 대기열에 넣는 메시지 - name 이 null 이면 주석 줄(heartbeat) 또는 연결 직후 안내
+     */
+    private record Message(String name, Object data, String comment) {
+        static final Message CONNECTED = new Message(null, null, "connected");
+        static final Message HEARTBEAT = new Message(null, null, "ping");
+
+        SseEmitter.SseEventBuilder toEvent(Duration reconnectDelay) {
+            SseEmitter.SseEventBuilder event = SseEmitter.event();
+            if (name == null) {
+                return CONNECTED.equals(this) ? event.reconnectTime(reconnectDelay.toMillis()).comment(comment)
+                        : event.comment(comment);
+            }
+            return event.name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    /**
+     * 구독 연결 하나 - 대기열을 가상 스레드 하나가 비우며 전송한다
+     *
+     * 응답 완료(complete)도 전송 스레드에서만 한다. 느린 연결에 쓰는 중에는 응답이 잠겨 있으므로
+     * 다른 스레드(갱신 전송, heartbeat)는 닫힘 표시와 인터럽트만 하고 기다리지 않는다.
+     */
+    private final class Subscriber {
+
+        private final Long postId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Message> queue;
+        private volatile boolean closed;
+        private volatile Thread sender;
+
+        Subscriber(Long postId, SseEmitter emitter, int bufferSize) {
+            this.postId = postId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void start() {
+            sender = Thread.ofVirtual().name("post-live-" + postId).start(this::run);
+        }
+
+        /**
+         * 대기열에 넣는다 - 가득 차 있으면 느린 연결로 보고 끊는다
+         */
+        void offer(Message message) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(message)) {
+                meterRegistry.counter("board.live.dropped").increment();
+                log.debug("실시간 갱신 전송이 밀려 연결 종료 - Post ID: {}", postId);
+                close();
+            }
+        }
+
+        private void run() {
+            try {
+                while (!closed) {
+                    emitter.send(queue.take().toEvent(reconnectDelay));
+                }
+                emitter.complete();
+            } catch (InterruptedException e) {
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었거나 이미 완료된 연결 - 컨테이너가 오류 콜백으로 정리한다
+                log.debug("실시간 갱신 연결 끊김 - Post ID: {}", postId);
+            } finally {
+                remove(this);
+            }
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            Thread thread = sender;
+            if (thread != null && thread != Thread.currentThread()) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * 한 게시글에 대해 push-interval 동안 모인 변경 - pending 맵의 compute 안에서만 바꾼다
+     */
+    private static final class Changes {
+
+        private boolean reactions;
+        private final Set<Long> created = new LinkedHashSet<>();
+        private final Set<Long> deleted = new LinkedHashSet<>();
+        private final Set<Long> liked = new LinkedHashSet<>();
+
+        void apply(OutboxEvent event) {
+            Long commentId = event.getTargetId();
+            switch (event.getType()) {
+                case POST_LIKE_CHANGED -> reactions = true;
+                case COMMENT_CREATED -> created.add(commentId);
+                case COMMENT_DELETED -> {
+                    created.remove(commentId);
+                    deleted.add(commentId);
+                }
+                case COMMENT_LIKE_CHANGED -> liked.add(commentId);
+                default -> {
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return !reactions && created.isEmpty() && deleted.isEmpty() && liked.isEmpty();
+        }
+    }
+}
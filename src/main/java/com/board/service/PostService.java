@@ -3,13 +3,24 @@ package com.board.service;
 import com.board.domain.entity.Post;
 import com.board.domain.entity.User;
 import com.board.domain.repository.PostRepository;
+import com.board.dto.PostDetailDto;
+import com.board.dto.PostPreview;
+import com.board.dto.PostRevision;
+import com.board.dto.PostSummary;
+import com.board.event.Outbox;
+import com.board.event.OutboxEventType;
+import com.board.event.PostChangedEvent;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 /**
  * Post 도메인 서비스
  *
@@ -20,10 +31,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed("board.service")
 public class PostService {
 
     private final PostRepository postRepository;
     private final MarkdownService markdownService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Outbox outbox;
 
     /**
      * 게시글 생성
@@ -44,8 +58,11 @@ public class PostService {
                 .category(category)
                 .author(author)
                 .build();
+        applyPreview(post);
 
         Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId()));
+        outbox.append(OutboxEventType.POST_CREATED, savedPost.getId(), savedPost.getAuthor().getId());
         log.info("게시글 생성 완료 - ID: {}, 제목: {}", savedPost.getId(), savedPost.getTitle());
 
         return savedPost;
@@ -73,8 +90,11 @@ public class PostService {
                 .author(author)
                 .isMarkdown(isMarkdown)
                 .build();
+        applyPreview(post);
 
         Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId()));
+        outbox.append(OutboxEventType.POST_CREATED, savedPost.getId(), savedPost.getAuthor().getId());
         log.info("게시글 생성 완료 - ID: {}, 제목: {}, 마크다운: {}",
                 savedPost.getId(), savedPost.getTitle(), savedPost.getIsMarkdown());
 
@@ -91,8 +111,26 @@ public class PostService {
     @Transactional(readOnly = true)
     public Post findById(Long id) {
         log.debug("게시글 조회 요청 - ID: {}", id);
+        return requireActive(postRepository.findById(id), id);
+    }
 
-        Post post = postRepository.findById(id)
+    /**
+     * 게시글을 본문과 함께 조회 (수정 화면/수정 처리용)
+     *
+     * 본문은 post_contents 에 따로 있으므로 본문을 쓰는 경로만 이 메서드로 한 번에 읽는다.
+     *
+     * @param id 게시글 ID
+     * @return 본문이 로딩된 게시글
+     * @throws IllegalArgumentException 게시글이 존재하지 않거나 삭제된 경우
+     */
+    @Transactional(readOnly = true)
+    public Post findWithBodyById(Long id) {
+        log.debug("게시글 본문 조회 요청 - ID: {}", id);
+        return requireActive(postRepository.findWithBodyById(id), id);
+    }
+
+    private Post requireActive(Optional<Post> found, Long id) {
+        Post post = found
                 .orElseThrow(() -> {
                     log.warn("게시글 조회 실패 - 존재하지 않는 ID: {}", id);
                     return new IllegalArgumentException("게시글을 찾을 수 없습니다. ID: " + id);
@@ -107,6 +145,33 @@ public class PostService {
         return post;
     }
 
+    /**
+     * 게시글 상세 화면 데이터 조회 (본문 HTML + 댓글/대댓글)
+     *
+     * 엔티티 대신 불변 DTO 로 돌려주므로 여러 요청이 결과를 함께 써도 된다 ({@link PostDetailService} 참고).
+     *
+     * @param id 게시글 ID
+     * @return 상세 화면 데이터
+     * @throws IllegalArgumentException 게시글이 존재하지 않거나 삭제된 경우
+     */
+    @Transactional(readOnly = true)
+    public PostDetailDto getPostDetail(Long id) {
+        // 본문은 렌더링 캐시에 없을 때만 지연 로딩된다 - 캐시가 맞으면 post_contents 를 읽지 않는다
+        Post post = findById(id);
+        return PostDetailDto.from(post, markdownService.renderPostContent(post));
+    }
+
+    /**
+     * 조건부 GET 검증값 조회 (게시글 상세/댓글 목록의 ETag, Last-Modified 계산용)
+     *
+     * @param id 게시글 ID
+     * @return 검증값 (게시글이 없으면 빈 값)
+     */
+    @Transactional(readOnly = true)
+    public Optional<PostRevision> findRevision(Long id) {
+        return postRepository.findRevisionById(id);
+    }
+
     /**
      * 게시글 수정
      *
@@ -121,7 +186,7 @@ public class PostService {
     public Post updatePost(Long id, String title, String content, String category, User requestUser) {
         log.debug("게시글 수정 요청 - ID: {}, 요청자: {}", id, requestUser.getUsername());
 
-        Post post = findById(id);
+        Post post = findWithBodyById(id);
 
         if (!post.canEdit(requestUser)) {
             log.warn("게시글 수정 권한 없음 - 게시글 ID: {}, 요청자: {}, 작성자: {}",
@@ -130,7 +195,10 @@ public class PostService {
         }
 
         post.update(title, content, category, post.getIsMarkdown());
+        applyPreview(post);
         Post updatedPost = postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(id));
+        outbox.append(OutboxEventType.POST_UPDATED, id, requestUser.getId());
 
         log.info("게시글 수정 완료 - ID: {}, 제목: {}", updatedPost.getId(), updatedPost.getTitle());
         return updatedPost;
@@ -151,7 +219,7 @@ public class PostService {
     public Post updatePost(Long id, String title, String content, String category, Boolean isMarkdown, User requestUser) {
         log.debug("게시글 수정 요청 - ID: {}, 요청자: {}, 마크다운: {}", id, requestUser.getUsername(), isMarkdown);
 
-        Post post = findById(id);
+        Post post = findWithBodyById(id);
 
         if (!post.canEdit(requestUser)) {
             log.warn("게시글 수정 권한 없음 - 게시글 ID: {}, 요청자: {}, 작성자: {}",
@@ -160,7 +228,10 @@ public class PostService {
         }
 
         post.update(title, content, category, isMarkdown);
+        applyPreview(post);
         Post updatedPost = postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(id));
+        outbox.append(OutboxEventType.POST_UPDATED, id, requestUser.getId());
 
         log.info("게시글 수정 완료 - ID: {}, 제목: {}, 마크다운: {}",
                 updatedPost.getId(), updatedPost.getTitle(), updatedPost.getIsMarkdown());
@@ -187,6 +258,8 @@ public class PostService {
 
         post.delete();
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(id));
+        outbox.append(OutboxEventType.POST_DELETED, id, requestUser.getId());
 
         log.info("게시글 삭제 완료 (소프트 삭제) - ID: {}, 제목: {}", post.getId(), post.getTitle());
     }
@@ -215,11 +288,11 @@ public class PostService {
      * @return 게시글 목록 (삭제되지 않은 게시글만)
      */
     @Transactional(readOnly = true)
-    public Page<Post> findAll(Pageable pageable) {
+    public Page<PostSummary> findAll(Pageable pageable) {
         log.debug("게시글 목록 조회 요청 - 페이지: {}, 크기: {}",
                 pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<Post> posts = postRepository.findByDeletedFalseOrderByCreatedAtDesc(pageable);
+        Page<PostSummary> posts = postRepository.findSummariesOrderByCreatedAtDesc(pageable);
 
         log.debug("게시글 목록 조회 완료 - 전체: {}, 현재 페이지 게시글 수: {}",
                 posts.getTotalElements(), posts.getNumberOfElements());
@@ -231,11 +304,11 @@ public class PostService {
      * 게시글 목록 조회 (정렬 옵션 지원)
      */
     @Transactional(readOnly = true)
-    public Page<Post> findAllWithSort(Pageable pageable, String sort) {
+    public Page<PostSummary> findAllWithSort(Pageable pageable, String sort) {
         return switch (sort) {
-            case "viewCount" -> postRepository.findByDeletedFalseOrderByViewCountDescCreatedAtDesc(pageable);
-            case "likeCount" -> postRepository.findByDeletedFalseOrderByLikeCountDescCreatedAtDesc(pageable);
-            default -> postRepository.findByDeletedFalseOrderByCreatedAtDesc(pageable); // 기본: 최신순
+            case "viewCount" -> postRepository.findSummariesOrderByViewCountDesc(pageable);
+            case "likeCount" -> postRepository.findSummariesOrderByLikeCountDesc(pageable);
+            default -> postRepository.findSummariesOrderByCreatedAtDesc(pageable); // 기본: 최신순
         };
     }
 
@@ -251,4 +324,12 @@ public class PostService {
             return markdownService.escapeHtml(post.getContent());
         }
     }
+
+    /**
+     * 목록 화면용 미리보기(첫 이미지 주소 + 본문 요약)를 본문에서 뽑아 게시글에 저장
+     */
+    private void applyPreview(Post post) {
+        PostPreview preview = markdownService.extractPreview(post.getContent(), post.getIsMarkdown());
+        post.updatePreview(preview.thumbnailUrl(), preview.excerpt());
+    }
 }
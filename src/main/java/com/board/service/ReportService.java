@@ -3,86 +3,118 @@ package com.board.service;
 import com.board.domain.entity.*;
 import com.board.domain.enums.ReportStatus;
 import com.board.domain.repository.*;
+import com.board.dto.ReportTargetDto;
+import com.board.event.Outbox;
+import com.board.event.OutboxEventType;
+import com.board.event.PostChangedEvent;
 import com.board.exception.AlreadyReportedException;
 import com.board.exception.ResourceNotFoundException;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
+@Timed("board.service")
 public class ReportService {
 
+    private static final String UK_REPORTED_POST = "uk_reported_posts_post_reporter";
+    private static final String UK_REPORTED_COMMENT = "uk_reported_comments_comment_reporter";
+
     private final ReportedPostRepository reportedPostRepository;
     private final ReportedCommentRepository reportedCommentRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Outbox outbox;
+
+    @Value("${board.report.hide-threshold:5}")
+    private int hideThreshold;
 
     /**
      * 게시글 신고
+     *
+     * 게시글의 신고 수를 UPDATE 로 올린 뒤 신고를 INSERT 한다. 게시글/사용자 엔티티는 읽지 않으며,
+     * 같은 사용자의 중복 신고는 (post_id, reporter_id) 유니크 인덱스가 막는다 (동시에 신고해도 한 건만 남음).
+     * 신고 수가 board.report.hide-threshold 에 닿으면 게시글을 숨긴다.
      */
     @Transactional
     public ReportedPost reportPost(Long postId, Long reporterId, String reason) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId));
-
-        User reporter = userRepository.findById(reporterId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. ID: " + reporterId));
-
-        // 중복 신고 방지
-        if (reportedPostRepository.findByPostAndReporter(post, reporter).isPresent()) {
-            throw new AlreadyReportedException("이미 신고한 게시글입니다.");
+        if (postRepository.incrementReportCount(postId) == 0) {
+            throw new ResourceNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId);
         }
 
         ReportedPost reportedPost = ReportedPost.builder()
-                .post(post)
-                .reporter(reporter)
+                .post(postRepository.getReferenceById(postId))
+                .reporter(userRepository.getReferenceById(reporterId))
                 .reason(reason)
                 .status(ReportStatus.PENDING)
                 .build();
 
-        ReportedPost saved = reportedPostRepository.save(reportedPost);
+        ReportedPost saved;
+        try {
+            saved = reportedPostRepository.saveAndFlush(reportedPost);
+        } catch (DataIntegrityViolationException e) {
+            // 트랜잭션이 롤백되므로 위에서 올린 신고 수도 함께 되돌아간다
+            throw duplicateOr(e, UK_REPORTED_POST, "이미 신고한 게시글입니다.");
+        }
         log.info("게시글 신고 완료 - Post ID: {}, Reporter ID: {}, Report ID: {}",
                 postId, reporterId, saved.getId());
+        outbox.append(OutboxEventType.POST_REPORTED, postId, saved.getId(), reporterId, null);
 
+        if (postRepository.hideIfReportedAtLeast(postId, hideThreshold, LocalDateTime.now()) > 0) {
+            log.warn("신고 누적으로 게시글 숨김 - Post ID: {}, 기준: {}건", postId, hideThreshold);
+            eventPublisher.publishEvent(new PostChangedEvent(postId));
+        }
         return saved;
     }
 
     /**
-     * 댓글 신고
+     * 댓글 신고 ({@link #reportPost} 와 같은 방식)
      */
     @Transactional
     public ReportedComment reportComment(Long commentId, Long reporterId, String reason) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new ResourceNotFoundException("댓글을 찾을 수 없습니다. ID: " + commentId));
-
-        User reporter = userRepository.findById(reporterId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. ID: " + reporterId));
-
-        // 중복 신고 방지
-        if (reportedCommentRepository.findByCommentAndReporter(comment, reporter).isPresent()) {
-            throw new AlreadyReportedException("이미 신고한 댓글입니다.");
+        if (commentRepository.incrementReportCount(commentId) == 0) {
+            throw new ResourceNotFoundException("댓글을 찾을 수 없습니다. ID: " + commentId);
         }
 
         ReportedComment reportedComment = ReportedComment.builder()
-                .comment(comment)
-                .reporter(reporter)
+                .comment(commentRepository.getReferenceById(commentId))
+                .reporter(userRepository.getReferenceById(reporterId))
                 .reason(reason)
                 .status(ReportStatus.PENDING)
                 .build();
 
-        ReportedComment saved = reportedCommentRepository.save(reportedComment);
+        ReportedComment saved;
+        try {
+            saved = reportedCommentRepository.saveAndFlush(reportedComment);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateOr(e, UK_REPORTED_COMMENT, "이미 신고한 댓글입니다.");
+        }
         log.info("댓글 신고 완료 - Comment ID: {}, Reporter ID: {}, Report ID: {}",
                 commentId, reporterId, saved.getId());
+        outbox.append(OutboxEventType.COMMENT_REPORTED, null, commentId, reporterId, String.valueOf(saved.getId()));
 
+        if (commentRepository.hideIfReportedAtLeast(commentId, hideThreshold, LocalDateTime.now()) > 0) {
+            log.warn("신고 누적으로 댓글 숨김 - Comment ID: {}, 기준: {}건", commentId, hideThreshold);
+            commentRepository.findPostIdById(commentId)
+                    .ifPresent(postId -> eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Scope.DETAIL)));
+        }
         return saved;
     }
 
@@ -91,56 +123,189 @@ public class ReportService {
      */
     @Transactional
     public ReportedComment reportComment(Long commentId, User reporter, String reason) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new ResourceNotFoundException("댓글을 찾을 수 없습니다. ID: " + commentId));
+        return reportComment(commentId, reporter.getId(), reason);
+    }
 
-        // 중복 신고 방지
-        if (reportedCommentRepository.findByCommentAndReporter(comment, reporter).isPresent()) {
-            throw new AlreadyReportedException("이미 신고한 댓글입니다.");
+    /**
+     * 유니크 인덱스 위반이면 중복 신고, 아니면(예: 없는 사용자) 원래 예외
+     */
+    private static RuntimeException duplicateOr(DataIntegrityViolationException e, String constraintName,
+                                                String message) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String causeMessage = cause.getMessage();
+            if (causeMessage != null && causeMessage.toLowerCase(Locale.ROOT).contains(constraintName)) {
+                return new AlreadyReportedException(message, e);
+            }
         }
-
-        ReportedComment reportedComment = ReportedComment.builder()
-                .comment(comment)
-                .reporter(reporter)
-                .reason(reason)
-                .status(ReportStatus.PENDING)
-                .build();
-
-        ReportedComment saved = reportedCommentRepository.save(reportedComment);
-        log.info("댓글 신고 완료 - Comment ID: {}, Reporter ID: {}, Report ID: {}",
-                commentId, reporter.getId(), saved.getId());
-
-        return saved;
+        return e;
     }
 
     /**
-     * 게시글 신고 상태 변경
+     * 게시글 신고 상태 변경 (신고 하나)
      */
     @Transactional
     public void updatePostReportStatus(Long reportId, ReportStatus status) {
         ReportedPost reportedPost = reportedPostRepository.findById(reportId)
                 .orElseThrow(() -> new ResourceNotFoundException("신고를 찾을 수 없습니다. ID: " + reportId));
 
+        ReportStatus previous = reportedPost.getStatus();
         reportedPost.updateStatus(status);
         reportedPostRepository.save(reportedPost);
 
+        Long postId = reportedPost.getPost().getId();
+        if (previous == ReportStatus.PENDING && status != ReportStatus.PENDING) {
+            postRepository.decrementReportCount(postId);
+        } else if (previous != ReportStatus.PENDING && status == ReportStatus.PENDING) {
+            postRepository.incrementReportCount(postId);
+        }
+
         log.info("게시글 신고 상태 변경 - Report ID: {}, Status: {}", reportId, status);
     }
 
     /**
-     * 댓글 신고 상태 변경
+     * 댓글 신고 상태 변경 (신고 하나)
      */
     @Transactional
     public void updateCommentReportStatus(Long reportId, ReportStatus status) {
         ReportedComment reportedComment = reportedCommentRepository.findById(reportId)
                 .orElseThrow(() -> new ResourceNotFoundException("신고를 찾을 수 없습니다. ID: " + reportId));
 
+        ReportStatus previous = reportedComment.getStatus();
         reportedComment.updateStatus(status);
         reportedCommentRepository.save(reportedComment);
 
+        Long commentId = reportedComment.getComment().getId();
+        if (previous == ReportStatus.PENDING && status != ReportStatus.PENDING) {
+            commentRepository.decrementReportCount(commentId);
+        } else if (previous != ReportStatus.PENDING && status == ReportStatus.PENDING) {
+            commentRepository.incrementReportCount(commentId);
+        }
+
         log.info("댓글 신고 상태 변경 - Report ID: {}, Status: {}", reportId, status);
     }
 
+    /**
+     * 게시글의 대기중인 신고를 한꺼번에 처리하고 신고 수를 0 으로 되돌린다
+     *
+     * 기각(DISMISSED)이면 신고 누적으로 숨겨진 게시글을 다시 보이게 하고, 처리(RESOLVED)면 숨김을 삭제로 확정한다.
+     * 작성자나 관리자가 삭제한 게시글은 어느 쪽이든 그대로 둔다.
+     *
+     * @return 처리한 신고 수
+     */
+    @Transactional
+    public int resolvePostReports(Long postId, ReportStatus status) {
+        validateResolution(status);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (status == ReportStatus.DISMISSED && postRepository.unhideHiddenByReports(postId, now) > 0) {
+            log.info("신고 기각으로 게시글 숨김 해제 - Post ID: {}", postId);
+            eventPublisher.publishEvent(new PostChangedEvent(postId));
+        } else if (status == ReportStatus.RESOLVED) {
+            postRepository.confirmHiddenByReportsByIdIn(List.of(postId), now);
+        }
+        int updated = reportedPostRepository.updatePendingStatusByPostId(postId, status, ReportStatus.PENDING, now);
+        postRepository.resetReportCount(postId);
+
+        log.info("게시글 신고 일괄 처리 - Post ID: {}, Status: {}, {}건", postId, status, updated);
+        return updated;
+    }
+
+    /**
+     * 댓글의 대기중인 신고를 한꺼번에 처리하고 신고 수를 0 으로 되돌린다 ({@link #resolvePostReports} 와 같은 방식)
+     */
+    @Transactional
+    public int resolveCommentReports(Long commentId, ReportStatus status) {
+        validateResolution(status);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (status == ReportStatus.DISMISSED && commentRepository.unhideHiddenByReports(commentId, now) > 0) {
+            log.info("신고 기각으로 댓글 숨김 해제 - Comment ID: {}", commentId);
+            commentRepository.findPostIdById(commentId)
+                    .ifPresent(postId -> eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Scope.DETAIL)));
+        } else if (status == ReportStatus.RESOLVED) {
+            commentRepository.confirmHiddenByReportsByIdIn(List.of(commentId), now);
+        }
+        int updated = reportedCommentRepository.updatePendingStatusByCommentId(
+                commentId, status, ReportStatus.PENDING, now);
+        commentRepository.resetReportCount(commentId);
+
+        log.info("댓글 신고 일괄 처리 - Comment ID: {}, Status: {}, {}건", commentId, status, updated);
+        return updated;
+    }
+
+    /**
+     * 여러 게시글의 대기중인 신고를 한꺼번에 처리 (일괄 관리용, {@link #resolvePostReports(Long, ReportStatus)} 의 일괄 처리판)
+     *
+     * @return 처리한 신고 수
+     */
+    @Transactional
+    public int resolvePostReports(Collection<Long> postIds, ReportStatus status) {
+        validateResolution(status);
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        if (status == ReportStatus.DISMISSED) {
+            int unhidden = postRepository.unhideHiddenByReportsByIdIn(postIds, now);
+            if (unhidden > 0) {
+                log.info("신고 기각으로 게시글 숨김 해제 - {}건", unhidden);
+                eventPublisher.publishEvent(new PostChangedEvent(null));
+            }
+        } else {
+            postRepository.confirmHiddenByReportsByIdIn(postIds, now);
+        }
+        int updated = reportedPostRepository.updatePendingStatusByPostIdIn(postIds, status, ReportStatus.PENDING, now);
+        postRepository.resetReportCountByIdIn(postIds);
+        return updated;
+    }
+
+    /**
+     * 여러 댓글의 대기중인 신고를 한꺼번에 처리 ({@link #resolvePostReports(Collection, ReportStatus)} 와 같은 방식)
+     */
+    @Transactional
+    public int resolveCommentReports(Collection<Long> commentIds, ReportStatus status) {
+        validateResolution(status);
+        if (commentIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        if (status == ReportStatus.DISMISSED) {
+            int unhidden = commentRepository.unhideHiddenByReportsByIdIn(commentIds, now);
+            if (unhidden > 0) {
+                log.info("신고 기각으로 댓글 숨김 해제 - {}건", unhidden);
+                eventPublisher.publishEvent(new PostChangedEvent(null));
+            }
+        } else {
+            commentRepository.confirmHiddenByReportsByIdIn(commentIds, now);
+        }
+        int updated = reportedCommentRepository.updatePendingStatusByCommentIdIn(
+                commentIds, status, ReportStatus.PENDING, now);
+        commentRepository.resetReportCountByIdIn(commentIds);
+        return updated;
+    }
+
+    private void validateResolution(ReportStatus status) {
+        if (status == ReportStatus.PENDING) {
+            throw new IllegalArgumentException("신고 처리 상태는 RESOLVED 또는 DISMISSED 여야 합니다.");
+        }
+    }
+
+    /**
+     * 신고 관리 대기열 - 처리되지 않은 신고가 있는 게시글 (신고 수 많은 순)
+     */
+    public Page<ReportTargetDto> getPostReportQueue(Pageable pageable) {
+        return postRepository.findReportQueue(pageable).map(ReportTargetDto::from);
+    }
+
+    /**
+     * 신고 관리 대기열 - 처리되지 않은 신고가 있는 댓글 (신고 수 많은 순)
+     */
+    public Page<ReportTargetDto> getCommentReportQueue(Pageable pageable) {
+        return commentRepository.findReportQueue(pageable).map(ReportTargetDto::from);
+    }
+
     /**
      * 대기중인 게시글 신고 목록 조회
      */
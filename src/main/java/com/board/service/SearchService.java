@@ -1,7 +1,10 @@
 package com.board.service;
 
-import com.board.domain.entity.Post;
 import com.board.domain.repository.PostRepository;
+import com.board.dto.PostSummary;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -12,19 +15,25 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.Collections;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed("board.service")
 public class SearchService {
 
+    /** 메트릭 태그로 허용하는 검색 타입 (그 외 값은 other 로 묶어 태그 폭증 방지) */
+    private static final Set<String> SEARCH_TYPES = Set.of("title", "content", "author", "category", "comment", "title_content", "all");
+
     private final PostRepository postRepository;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 제목으로 검색 (성능 최적화)
      */
-    public Page<Post> searchByTitle(String keyword, Pageable pageable) {
+    public Page<PostSummary> searchByTitle(String keyword, Pageable pageable) {
         if (!StringUtils.hasText(keyword)) {
             return new PageImpl<>(Collections.emptyList(), pageable, 0);
         }
@@ -42,7 +51,7 @@ public class SearchService {
     /**
      * 내용으로 검색 (성능 최적화)
      */
-    public Page<Post> searchByContent(String keyword, Pageable pageable) {
+    public Page<PostSummary> searchByContent(String keyword, Pageable pageable) {
         if (!StringUtils.hasText(keyword)) {
             return new PageImpl<>(Collections.emptyList(), pageable, 0);
         }
@@ -59,7 +68,7 @@ public class SearchService {
     /**
      * 작성자 닉네임으로 검색
      */
-    public Page<Post> searchByAuthor(String authorName, Pageable pageable) {
+    public Page<PostSummary> searchByAuthor(String authorName, Pageable pageable) {
         if (!StringUtils.hasText(authorName)) {
             return new PageImpl<>(Collections.emptyList(), pageable, 0);
         }
@@ -76,19 +85,19 @@ public class SearchService {
     /**
      * 카테고리로 검색
      */
-    public Page<Post> searchByCategory(String category, Pageable pageable) {
+    public Page<PostSummary> searchByCategory(String category, Pageable pageable) {
         if (!StringUtils.hasText(category)) {
             return new PageImpl<>(Collections.emptyList(), pageable, 0);
         }
 
         log.debug("카테고리 검색 실행: category={}, page={}, size={}", category, pageable.getPageNumber(), pageable.getPageSize());
-        return postRepository.findByCategoryAndDeletedFalseOrderByCreatedAtDesc(category, pageable);
+        return postRepository.findSummariesByCategory(category, pageable);
     }
 
     /**
      * 제목 또는 내용에서 키워드 검색 (복합 검색, 성능 최적화)
      */
-    public Page<Post> searchByTitleOrContent(String keyword, Pageable pageable) {
+    public Page<PostSummary> searchByTitleOrContent(String keyword, Pageable pageable) {
         if (!StringUtils.hasText(keyword)) {
             return new PageImpl<>(Collections.emptyList(), pageable, 0);
         }
@@ -105,7 +114,7 @@ public class SearchService {
     /**
      * 모든 필드에서 키워드 검색 (댓글 내용 포함, 성능 최적화)
      */
-    public Page<Post> searchByAllFields(String keyword, Pageable pageable) {
+    public Page<PostSummary> searchByAllFields(String keyword, Pageable pageable) {
         if (!StringUtils.hasText(keyword)) {
             return new PageImpl<>(Collections.emptyList(), pageable, 0);
         }
@@ -122,7 +131,7 @@ public class SearchService {
     /**
      * 카테고리와 키워드로 복합 검색
      */
-    public Page<Post> searchByCategoryAndKeyword(String category, String keyword, Pageable pageable) {
+    public Page<PostSummary> searchByCategoryAndKeyword(String category, String keyword, Pageable pageable) {
         if (!StringUtils.hasText(category) || !StringUtils.hasText(keyword)) {
             return new PageImpl<>(Collections.emptyList(), pageable, 0);
         }
@@ -132,7 +141,7 @@ public class SearchService {
     /**
      * 작성자와 키워드로 복합 검색
      */
-    public Page<Post> searchByAuthorAndKeyword(String authorName, String keyword, Pageable pageable) {
+    public Page<PostSummary> searchByAuthorAndKeyword(String authorName, String keyword, Pageable pageable) {
         if (!StringUtils.hasText(authorName) || !StringUtils.hasText(keyword)) {
             return new PageImpl<>(Collections.emptyList(), pageable, 0);
         }
@@ -142,15 +151,15 @@ public class SearchService {
     /**
      * 통합 검색 (검색 타입에 따른 분기 처리, 성능 최적화)
      */
-    public Page<Post> search(String searchType, String keyword, String category, String author, Pageable pageable) {
+    public Page<PostSummary> search(String searchType, String keyword, String category, String author, Pageable pageable) {
         if (!StringUtils.hasText(keyword)) {
             return new PageImpl<>(Collections.emptyList(), pageable, 0);
         }
 
         // 검색 실행 시간 측정 시작
-        long startTime = System.currentTimeMillis();
+        Timer.Sample sample = Timer.start(meterRegistry);
 
-        Page<Post> result = switch (searchType) {
+        Page<PostSummary> result = switch (searchType) {
             case "title" -> searchByTitle(keyword, pageable);
             case "content" -> searchByContent(keyword, pageable);
             case "author" -> searchByAuthor(keyword, pageable);
@@ -161,8 +170,11 @@ public class SearchService {
             default -> searchByTitleOrContent(keyword, pageable); // 기본값
         };
 
-        // 검색 실행 시간 로깅
-        long executionTime = System.currentTimeMillis() - startTime;
+        // 검색 실행 시간 기록 (searchType 태그)
+        long executionTime = sample.stop(Timer.builder("board.search")
+                .description("검색 실행 시간")
+                .tag("searchType", SEARCH_TYPES.contains(searchType) ? searchType : "other")
+                .register(meterRegistry)) / 1_000_000;
         log.info("검색 실행 완료: type={}, keyword={}, resultCount={}, executionTime={}",
                 searchType, keyword, result.getTotalElements(), executionTime);
 
@@ -171,8 +183,9 @@ public class SearchService {
 
     /**
      * 검색어 전처리 (성능 최적화)
+     * JMH 벤치마크에서 직접 호출할 수 있도록 package-private으로 둔다.
      */
-    private String preprocessKeyword(String keyword) {
+    String preprocessKeyword(String keyword) {
         if (!StringUtils.hasText(keyword)) {
             return "";
         }
@@ -223,7 +236,7 @@ public class SearchService {
     /**
      * 댓글 내용으로 검색 (성능 최적화)
      */
-    public Page<Post> searchByComments(String keyword, Pageable pageable) {
+    public Page<PostSummary> searchByComments(String keyword, Pageable pageable) {
         if (!StringUtils.hasText(keyword)) {
             return new PageImpl<>(Collections.emptyList(), pageable, 0);
         }
@@ -1,12 +1,13 @@
 package com.board.service;
 
 import com.board.domain.entity.Comment;
-import com.board.domain.entity.Post;
 import com.board.domain.entity.User;
 import com.board.domain.repository.CommentRepository;
 import com.board.domain.repository.PostRepository;
 import com.board.domain.repository.UserRepository;
+import com.board.dto.PostSummary;
 import com.board.exception.ResourceNotFoundException;
+import io.micrometer.core.annotation.Timed;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -17,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed("board.service")
 public class UserProfileService {
 
     private final UserRepository userRepository;
@@ -36,8 +38,8 @@ public class UserProfileService {
     /**
      * 사용자의 게시글 목록 조회 (페이징)
      */
-    public Page<Post> getUserPosts(String username, Pageable pageable) {
-        return postRepository.findByAuthorUsernameAndDeletedFalseOrderByCreatedAtDesc(username, pageable);
+    public Page<PostSummary> getUserPosts(String username, Pageable pageable) {
+        return postRepository.findSummariesByAuthorUsername(username, pageable);
     }
 
     /**
@@ -55,8 +57,8 @@ public class UserProfileService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다: " + username));
 
-        long postCount = postRepository.findByAuthorUsernameAndDeletedFalseOrderByCreatedAtDesc(username, Pageable.unpaged()).getTotalElements();
-        long commentCount = commentRepository.findByAuthorUsernameAndDeletedFalseOrderByCreatedAtDesc(username, Pageable.unpaged()).getTotalElements();
+        long postCount = postRepository.countByAuthorUsernameAndDeletedFalse(username);
+        long commentCount = commentRepository.countByAuthorUsernameAndDeletedFalse(username);
         
         return new UserStats(postCount, commentCount);
     }
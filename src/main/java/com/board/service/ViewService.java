@@ -1,8 +1,9 @@
 package com.board.service;
 
-import com.board.domain.entity.Post;
 import com.board.domain.repository.PostRepository;
 import com.board.exception.ResourceNotFoundException;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,29 +16,38 @@ import jakarta.servlet.http.HttpSession;
 @RequiredArgsConstructor
 @Transactional
 @Slf4j
+@Timed("board.service")
 public class ViewService {
 
     private final PostRepository postRepository;
+    private final MeterRegistry meterRegistry;
 
     private static final String VIEW_SESSION_PREFIX = "viewed_post_";
 
     /**
      * 게시글 조회수 증가 (중복 조회 방지)
-     * 세션 기반으로 중복 조회를 방지합니다.
+     * 세션 기반으로 중복 조회를 방지하며, 상세 페이지가 보내는 조회 비콘(POST /posts/{id}/view)에서 호출합니다.
+     * 상세 페이지가 304 로 응답되어도 브라우저가 비콘을 보내므로 조회수가 빠지지 않습니다.
+     *
+     * @return 현재 조회수
      */
-    public void increaseViewCount(Long postId, HttpServletRequest request) {
+    public Integer increaseViewCount(Long postId, HttpServletRequest request) {
         log.debug("조회수 증가 시도: postId={}", postId);
 
-        Post post = findPostById(postId);
-
         // 세션에서 이미 조회한 게시글인지 확인
         if (!hasViewedPost(postId, request)) {
-            post.increaseViewCount();
+            if (postRepository.incrementViewCount(postId) == 0) {
+                throw new ResourceNotFoundException("게시글을 찾을 수 없습니다: " + postId);
+            }
             markAsViewed(postId, request);
-            log.debug("조회수 증가 완료: postId={}, newViewCount={}", postId, post.getViewCount());
+            meterRegistry.counter("board.views", "result", "counted").increment();
+            log.debug("조회수 증가 완료: postId={}", postId);
         } else {
+            meterRegistry.counter("board.views", "result", "duplicate").increment();
             log.debug("이미 조회한 게시글입니다: postId={}", postId);
         }
+
+        return getViewCount(postId);
     }
 
     /**
@@ -70,12 +80,7 @@ public class ViewService {
      */
     @Transactional(readOnly = true)
     public Integer getViewCount(Long postId) {
-        Post post = findPostById(postId);
-        return post.getViewCount();
-    }
-
-    private Post findPostById(Long postId) {
-        return postRepository.findById(postId)
+        return postRepository.findViewCountById(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다: " + postId));
     }
 }
@@ -0,0 +1,115 @@
+package com.board.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 측정한 응답 시간에 맞춰 동시 처리 한도를 조절하는 제한기 (gradient 방식)
+ *
+ * 평소 응답 시간(longRtt, 지수 이동 평균)과 방금 끝난 요청의 응답 시간(shortRtt)을 비교한다.
+ * 응답이 평소보다 느려지면(DB 지연, 커넥션 대기) 그 비율만큼 한도를 줄이고, 평소와 같으면
+ * 한도에 sqrt(한도) 만큼 여유를 더해 천천히 늘린다. 한도를 넘는 요청은 기다리게 하지 않고 바로 거절한다.
+ *
+ * 요청 종류마다 share(한도 중 쓸 수 있는 비율)를 달리 주면, 한도가 줄어들 때 share 가 작은 종류부터 거절된다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final double longRttWeight;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile double limit;
+    private volatile double longRttNanos;
+
+    /**
+     * @param smoothing    새 한도를 반영하는 비율 (0~1, 클수록 빠르게 반응)
+     * @param rttTolerance 평소 응답 시간의 몇 배까지를 정상으로 볼지
+     * @param longWindow   평소 응답 시간을 계산할 표본 수
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double smoothing,
+                                      double rttTolerance, int longWindow) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("동시 처리 한도 설정이 올바르지 않습니다: min=" + minLimit
+                    + ", initial=" + initialLimit + ", max=" + maxLimit);
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+        this.longRttWeight = 2.0 / (longWindow + 1);
+    }
+
+    /**
+     * 처리 시작 - 현재 처리 중인 요청 수가 limit * share 보다 적을 때만 허용한다
+     *
+     * @return 허용이면 시작 시점의 처리 중 요청 수(자신 포함), 거절이면 -1
+     */
+    public int tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                return -1;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * 처리 완료 - 응답 시간을 한도 계산에 반영한다
+     *
+     * @param inflightAtStart {@link #tryAcquire} 가 돌려준 값
+     */
+    public void onSuccess(long rttNanos, int inflightAtStart) {
+        inflight.decrementAndGet();
+        update(rttNanos, inflightAtStart);
+    }
+
+    /**
+     * 처리 완료 - 응답 시간을 반영하지 않는다 (비동기 응답처럼 처리 시간이 부하와 무관한 경우)
+     */
+    public void onIgnore() {
+        inflight.decrementAndGet();
+    }
+
+    private synchronized void update(long rttNanos, int inflightAtStart) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        double shortRtt = rttNanos;
+        longRttNanos = longRttNanos == 0 ? shortRtt : longRttNanos + longRttWeight * (shortRtt - longRttNanos);
+
+        // 부하가 오래 높았다가 풀리면 평소 응답 시간이 느린 쪽에 머물러 있으므로 천천히 되돌린다
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        // 한도의 절반도 쓰지 않을 때는 응답 시간이 한도와 무관하므로 늘리지 않는다
+        double current = limit;
+        if (inflightAtStart < current / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / shortRtt));
+        double newLimit = current * gradient + Math.sqrt(current);
+        newLimit = current * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public double getLongRttMillis() {
+        return longRttNanos / 1_000_000.0;
+    }
+}
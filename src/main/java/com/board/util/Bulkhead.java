@@ -0,0 +1,106 @@
+package com.board.util;
+
+import com.board.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 격리 구역(bulkhead) - 비싼 요청 종류가 동시에 쓸 수 있는 자원(요청 스레드, DB 커넥션)의 상한
+ *
+ * 한도까지는 바로 실행하고, 넘치면 정해진 수만큼만 정해진 시간 동안 대기시킨다.
+ * 대기열이 차 있거나 대기 시간이 지나면 {@link ServiceOverloadedException} 으로 바로 거절해서
+ * 나머지 요청(목록, 상세, 쓰기)이 쓸 커넥션을 남겨 둔다.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final Duration queueTimeout;
+    private final long retryAfterSeconds;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final MeterRegistry meterRegistry;
+
+    public Bulkhead(String name, int maxConcurrent, int maxQueue, Duration queueTimeout, long retryAfterSeconds,
+                    MeterRegistry meterRegistry) {
+        if (maxConcurrent < 1 || maxQueue < 0) {
+            throw new IllegalArgumentException("격리 구역 설정이 올바르지 않습니다: " + name);
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.queueTimeout = queueTimeout;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("board.bulkhead.active", this, Bulkhead::getActive)
+                .description("격리 구역에서 실행 중인 요청 수")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("board.bulkhead.waiting", waiting, AtomicInteger::get)
+                .description("격리 구역에서 대기 중인 요청 수")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 실행 허가를 얻는다 - 성공하면 반드시 {@link #release()} 를 호출해야 한다
+     *
+     * @throws ServiceOverloadedException 대기열이 차 있거나 대기 시간 안에 허가를 얻지 못한 경우
+     */
+    public void acquire() {
+        if (permits.tryAcquire()) {
+            count("accepted");
+            return;
+        }
+        if (waiting.incrementAndGet() > maxQueue) {
+            waiting.decrementAndGet();
+            throw reject("queue-full");
+        }
+        try {
+            if (!permits.tryAcquire(queueTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw reject("timeout");
+            }
+            count("queued");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("interrupted");
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    private ServiceOverloadedException reject(String reason) {
+        count("rejected-" + reason);
+        return new ServiceOverloadedException(
+                "격리 구역 포화: " + name + " (동시 " + maxConcurrent + ", 대기 " + maxQueue + ", " + reason + ")",
+                retryAfterSeconds);
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("board.bulkhead.calls", "bulkhead", name, "result", result).increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+}
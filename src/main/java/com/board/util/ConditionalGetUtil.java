@@ -0,0 +1,46 @@
+package com.board.util;
+
+import com.board.domain.entity.User;
+import com.board.dto.PostRevision;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 조건부 GET(ETag / Last-Modified) 유틸리티 클래스
+ */
+public final class ConditionalGetUtil {
+
+    /** 브라우저는 저장하되 매번 검증하고, 공유 캐시(프록시)는 저장하지 않는다 */
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private ConditionalGetUtil() {
+    }
+
+    /**
+     * If-None-Match / If-Modified-Since 를 검증값과 비교한다.
+     * true 면 304 가 이미 설정된 것이므로 컨트롤러는 아무것도 읽지 않고 null 을 반환하면 된다.
+     * false 여도 ETag / Last-Modified 헤더는 응답에 설정된다.
+     *
+     * @param variant 같은 게시글이라도 내용이 달라지는 응답 구분값 (화면 종류, 보는 사람, 페이지 등)
+     */
+    public static boolean checkNotModified(WebRequest webRequest, PostRevision revision, String variant) {
+        if (webRequest instanceof ServletWebRequest servletWebRequest && servletWebRequest.getResponse() != null) {
+            servletWebRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        return webRequest.checkNotModified(revision.etag(variant), revision.lastModified());
+    }
+
+    /**
+     * 보는 사람 구분값 - 수정/삭제 버튼, 관리자 메뉴, 세션별 CSRF 토큰이 화면에 들어가므로
+     * 세션과 사용자/권한이 바뀌면 다른 ETag 가 되도록 한다 (세션 ID 는 ETag 안에서 해시된다)
+     */
+    public static String viewerKey(HttpServletRequest request, User currentUser) {
+        HttpSession session = request.getSession(false);
+        String sessionId = session != null ? session.getId() : "-";
+        String user = currentUser != null ? currentUser.getId() + ":" + currentUser.getRole() : "anonymous";
+        return sessionId + ":" + user;
+    }
+}
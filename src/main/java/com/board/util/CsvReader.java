@@ -0,0 +1,98 @@
+package com.board.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * RFC 4180 형식 CSV 를 한 레코드씩 읽는 스트리밍 리더
+ *
+ * 파일 전체를 메모리에 올리지 않으며, 따옴표로 감싼 필드 안의 쉼표/줄바꿈/이중 따옴표("")를 처리한다.
+ */
+public class CsvReader implements Iterator<List<String>> {
+
+    private final Reader reader;
+    private List<String> next;
+    private boolean finished;
+
+    public CsvReader(Reader reader) {
+        // 이중 따옴표 판별에 한 글자 미리보기(mark/reset)가 필요하다
+        this.reader = reader.markSupported() ? reader : new BufferedReader(reader);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readRecord();
+            finished = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public List<String> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<String> record = next;
+        next = null;
+        return record;
+    }
+
+    private List<String> readRecord() {
+        try {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean any = false;
+
+            int c;
+            while ((c = reader.read()) != -1) {
+                any = true;
+                char ch = (char) c;
+                if (quoted) {
+                    if (ch == '"') {
+                        reader.mark(1);
+                        int peek = reader.read();
+                        if (peek == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (peek != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        field.append(ch);
+                    }
+                } else if (ch == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (ch == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (ch == '\n') {
+                    fields.add(field.toString());
+                    return fields;
+                } else if (ch != '\r') {
+                    field.append(ch);
+                }
+            }
+
+            if (quoted) {
+                throw new IllegalArgumentException("CSV 따옴표가 닫히지 않았습니다");
+            }
+            if (!any) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.board.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 정렬된 long 배열로 만든 읽기 전용 ID 집합
+ *
+ * 화면 하나에 필요한 ID(예: 내가 좋아요한 댓글 ID)를 담아 두고 항목마다 포함 여부만 확인하는 용도다.
+ * HashSet&lt;Long&gt; 처럼 항목마다 박싱된 Long 과 엔트리 객체를 만들지 않고, 조회는 이진 탐색으로 한다.
+ */
+public final class IdSet {
+
+    private static final IdSet EMPTY = new IdSet(new long[0]);
+
+    private final long[] ids;
+
+    private IdSet(long[] ids) {
+        this.ids = ids;
+    }
+
+    public static IdSet empty() {
+        return EMPTY;
+    }
+
+    public static IdSet of(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return EMPTY;
+        }
+        long[] sorted = ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return new IdSet(sorted);
+    }
+
+    public boolean contains(Long id) {
+        return id != null && Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+}
@@ -0,0 +1,74 @@
+package com.board.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키(사용자/IP)별 토큰 버킷 요청 제한기
+ *
+ * 버킷은 최대 capacity 개의 토큰을 담고 분당 refillPerMinute 개씩 다시 채워진다. 요청 하나가 토큰 하나를 쓴다.
+ * 버킷 상태는 "버킷이 다시 가득 차는 시각" 하나(long)로 표현하고 CAS 로 바꾸므로 잠금 없이 동작한다
+ * (GCRA - 토큰 버킷과 같은 결과를 낸다). 버킷 수는 maxKeys 로 제한되며, idleExpiry 동안 요청이 없던 키의
+ * 버킷은 버린다 (버려진 키는 다시 가득 찬 버킷으로 시작한다).
+ */
+public class RateLimiter {
+
+    /** 토큰 하나가 다시 채워지는 데 걸리는 시간 */
+    private final long nanosPerToken;
+    /** 가득 찬 버킷을 비우는 데 필요한 시간 - 이만큼 앞당겨 쓰는 것까지 허용한다 */
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+    private final Cache<String, AtomicLong> buckets;
+
+    public RateLimiter(int capacity, int refillPerMinute, long maxKeys, Duration idleExpiry) {
+        this(capacity, refillPerMinute, maxKeys, idleExpiry, System::nanoTime);
+    }
+
+    RateLimiter(int capacity, int refillPerMinute, long maxKeys, Duration idleExpiry, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerMinute < 1) {
+            throw new IllegalArgumentException("요청 제한 설정이 올바르지 않습니다: capacity=" + capacity
+                    + ", refillPerMinute=" + refillPerMinute);
+        }
+        this.nanosPerToken = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+        this.burstNanos = nanosPerToken * (capacity - 1);
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleExpiry)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 토큰 하나를 쓴다
+     *
+     * @return 허용이면 0, 거절이면 다음 토큰이 생길 때까지 남은 나노초
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong fullAt = buckets.get(key, k -> new AtomicLong(now));
+        while (true) {
+            long current = fullAt.get();
+            long base = Math.max(current, now);
+            long ahead = base - now;
+            if (ahead > burstNanos) {
+                return ahead - burstNanos;
+            }
+            if (fullAt.compareAndSet(current, base + nanosPerToken)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 버킷 캐시 - 메트릭(버킷 수, 만료 수) 등록용
+     */
+    public Cache<String, ?> getBuckets() {
+        return buckets;
+    }
+}
@@ -0,0 +1,37 @@
+package com.board.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+/**
+ * 요청 종류 판별 유틸리티 클래스
+ *
+ * 필터와 GlobalExceptionHandler 가 같은 기준으로 JSON 응답 여부를 정하도록 한 곳에 둔다.
+ */
+public final class RequestUtil {
+
+    private static final String X_REQUESTED_WITH = "X-Requested-With";
+
+    private RequestUtil() {
+    }
+
+    /**
+     * 컨텍스트 경로를 뺀 요청 경로
+     */
+    public static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /**
+     * 오류 화면 대신 JSON 으로 응답해야 하는 요청 - /api/** 경로이거나 JSON 을 주고받는 요청, fetch/XHR 요청
+     */
+    public static boolean wantsJson(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        String contentType = request.getContentType();
+        return path(request).startsWith("/api/")
+                || (accept != null && accept.contains(MediaType.APPLICATION_JSON_VALUE))
+                || (contentType != null && contentType.startsWith(MediaType.APPLICATION_JSON_VALUE))
+                || "XMLHttpRequest".equals(request.getHeader(X_REQUESTED_WITH));
+    }
+}
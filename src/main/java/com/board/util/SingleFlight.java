@@ -0,0 +1,100 @@
+package com.board.util;
+
+import com.board.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 조회를 하나로 합치는 도구 (single-flight)
+ *
+ * 같은 키를 처음 요청한 스레드(leader)가 직접 조회하고, 그 사이에 들어온 같은 키의 요청은 leader 의 결과를
+ * 기다렸다가 그대로 받는다. 조회가 끝나면 바로 잊어버리므로 캐시가 아니며, 결과는 조회 중에 들어온 요청끼리만 공유한다.
+ * 따라서 결과는 여러 스레드가 함께 읽어도 되는 불변 객체여야 한다 (영속성 컨텍스트에 묶인 엔티티는 안 된다).
+ *
+ * leader 의 조회가 예외로 끝나면 기다리던 요청도 같은 예외를 받는다.
+ * 기다리는 시간은 waitTimeout 으로 제한하며, 넘으면 {@link ServiceOverloadedException}(503)으로 응답한다.
+ */
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final Duration waitTimeout;
+    private final long retryAfterSeconds;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlight(String name, Duration waitTimeout, long retryAfterSeconds, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.waitTimeout = waitTimeout;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 같은 키로 진행 중인 조회가 있으면 그 결과를 기다리고, 없으면 loader 를 현재 스레드에서 실행한다
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        count("leader");
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private V await(CompletableFuture<V> call) {
+        try {
+            V value = call.get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            count("shared");
+            return value;
+        } catch (ExecutionException e) {
+            count("shared-error");
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException e) {
+            count("timeout");
+            throw new ServiceOverloadedException(
+                    "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            count("interrupted");
+            throw new ServiceOverloadedException(
+                    "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+    }
+
+    /**
+     * 현재 진행 중인 조회 수 (테스트/모니터링용)
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("board.singleflight.calls", "name", name, "result", result).increment();
+    }
+}
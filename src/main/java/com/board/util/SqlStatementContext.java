@@ -0,0 +1,107 @@
+package com.board.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문 집계
+ *
+ * 요청 필터나 테스트 확장이 {@link #begin()} 으로 측정 구간을 열면, Hibernate 가 실행하는 SQL 문의 개수와
+ * DB 실행 시간, 동일 SQL 반복 횟수가 구간에 쌓인다. 구간은 중첩될 수 있으며 안쪽 구간의 기록은 바깥 구간에도 합산된다.
+ */
+public final class SqlStatementContext {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementContext() {
+    }
+
+    /**
+     * 새 측정 구간 시작
+     */
+    public static Scope begin() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 측정 구간 종료 - 바깥 구간이 있으면 바깥 구간이 다시 현재 구간이 된다
+     */
+    public static void end(Scope scope) {
+        if (CURRENT.get() != scope) {
+            throw new IllegalStateException("SQL 측정 구간이 올바르게 중첩되지 않았습니다");
+        }
+        if (scope.parent != null) {
+            CURRENT.set(scope.parent);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * SQL 문 실행 기록 (StatementInspector 에서 호출)
+     */
+    public static void recordStatement(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statementCount++;
+            scope.countsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * JDBC 실행 시간 기록 (세션 이벤트 리스너에서 호출)
+     */
+    public static void recordExecutionTime(long nanos) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.executionNanos += nanos;
+        }
+    }
+
+    /**
+     * 하나의 측정 구간
+     */
+    public static final class Scope {
+
+        private final Scope parent;
+        private final Map<String, Integer> countsBySql = new HashMap<>();
+        private int statementCount;
+        private long executionNanos;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        public long getExecutionNanos() {
+            return executionNanos;
+        }
+
+        /**
+         * 바인드 값만 다르고 같은 SQL 이 threshold 회 이상 실행된 문장들 (많이 반복된 순)
+         * N+1 조회의 전형적인 흔적이다.
+         */
+        public List<RepeatedStatement> getRepeatedStatements(int threshold) {
+            List<RepeatedStatement> repeated = new ArrayList<>();
+            countsBySql.forEach((sql, count) -> {
+                if (count >= threshold) {
+                    repeated.add(new RepeatedStatement(sql, count));
+                }
+            });
+            repeated.sort(Comparator.comparingInt(RepeatedStatement::count).reversed());
+            return repeated;
+        }
+    }
+
+    /**
+     * 반복 실행된 SQL 문
+     */
+    public record RepeatedStatement(String sql, int count) {
+    }
+}
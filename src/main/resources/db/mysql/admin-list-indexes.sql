@@ -0,0 +1,19 @@
+-- 관리자 게시글/댓글 목록(커서 기반, AdminSort) 인덱스 추가 스크립트 (MySQL)
+--
+-- 목록은 항상 deleted 로 거르고 (정렬 컬럼, id) 순으로 읽는다. 커서 다음 행부터 인덱스 범위로 읽으므로
+-- 정렬마다 (deleted, 정렬 컬럼, id) 인덱스가 있어야 filesort 와 OFFSET 없이 한 페이지만 읽는다.
+-- 게시글 최신/오래된순과 작성자 조건은 기존 idx_search_deleted_created / idx_author_deleted_created 를 쓴다.
+-- 새 버전 배포 전에 애플리케이션을 내린 상태에서 한 번만 실행한다.
+
+USE board_db;
+
+ALTER TABLE posts
+    ADD INDEX idx_posts_deleted_views (deleted, view_count, id),
+    ADD INDEX idx_posts_deleted_likes (deleted, like_count, id),
+    ADD INDEX idx_posts_deleted_reports (deleted, report_count, id);
+
+ALTER TABLE comments
+    ADD INDEX idx_comments_deleted_created (deleted, created_at, id),
+    ADD INDEX idx_comments_author_deleted_created (author_id, deleted, created_at, id),
+    ADD INDEX idx_comments_deleted_likes (deleted, like_count, id),
+    ADD INDEX idx_comments_deleted_reports (deleted, report_count, id);
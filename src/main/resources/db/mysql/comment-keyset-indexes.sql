@@ -0,0 +1,16 @@
+-- 댓글 커서 기반 목록용 복합 인덱스 전환 스크립트 (MySQL)
+--
+-- 최상위 댓글: WHERE post_id = ? AND parent_id IS NULL ORDER BY created_at, id  -> idx_comments_post_parent_created
+-- 대댓글:      WHERE parent_id IN (...) ORDER BY created_at, id (부모별)         -> idx_comments_parent_created
+-- 새 인덱스가 기존 idx_post_id / idx_parent_id 의 앞부분을 포함하므로(외래 키 인덱스 역할도 대신함) 기존 인덱스는 지운다.
+-- 새 버전 배포 전에 애플리케이션을 내린 상태에서 한 번만 실행한다.
+
+USE board_db;
+
+ALTER TABLE comments
+    ADD INDEX idx_comments_post_parent_created (post_id, parent_id, created_at, id),
+    ADD INDEX idx_comments_parent_created (parent_id, created_at, id);
+
+ALTER TABLE comments
+    DROP INDEX idx_post_id,
+    DROP INDEX idx_parent_id;
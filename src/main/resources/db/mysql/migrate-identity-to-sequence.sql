@@ -0,0 +1,32 @@
+-- IDENTITY -> pooled 시퀀스 ID 전환 스크립트 (MySQL)
+--
+-- MySQL 에는 시퀀스가 없어 Hibernate 가 <테이블>_seq(next_val) 테이블로 시퀀스를 에뮬레이션한다.
+-- 기존 데이터가 있는 DB 에서는 새 버전 배포 전에 한 번 실행해, 시퀀스가 기존 최대 ID 이후부터 할당되도록 맞춘다.
+-- (allocationSize = 50 이므로 MAX(id) + 51 부터 시작하면 첫 블록도 기존 ID 와 겹치지 않는다)
+-- 여러 번 실행해도 안전하다. 단, 실행 중에는 애플리케이션을 내려 두어야 한다.
+
+USE board_db;
+
+CREATE TABLE IF NOT EXISTS posts_seq (next_val BIGINT) ENGINE = InnoDB;
+DELETE FROM posts_seq;
+INSERT INTO posts_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM posts;
+
+CREATE TABLE IF NOT EXISTS comments_seq (next_val BIGINT) ENGINE = InnoDB;
+DELETE FROM comments_seq;
+INSERT INTO comments_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM comments;
+
+CREATE TABLE IF NOT EXISTS post_likes_seq (next_val BIGINT) ENGINE = InnoDB;
+DELETE FROM post_likes_seq;
+INSERT INTO post_likes_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM post_likes;
+
+CREATE TABLE IF NOT EXISTS comment_likes_seq (next_val BIGINT) ENGINE = InnoDB;
+DELETE FROM comment_likes_seq;
+INSERT INTO comment_likes_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM comment_likes;
+
+CREATE TABLE IF NOT EXISTS reported_posts_seq (next_val BIGINT) ENGINE = InnoDB;
+DELETE FROM reported_posts_seq;
+INSERT INTO reported_posts_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM reported_posts;
+
+CREATE TABLE IF NOT EXISTS reported_comments_seq (next_val BIGINT) ENGINE = InnoDB;
+DELETE FROM reported_comments_seq;
+INSERT INTO reported_comments_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM reported_comments;
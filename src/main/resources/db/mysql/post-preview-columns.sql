@@ -0,0 +1,17 @@
+-- 게시글 목록 미리보기(썸네일/본문 요약) 컬럼 추가 스크립트 (MySQL)
+--
+-- 목록/검색/프로필 화면은 본문(content) 대신 글을 쓸 때 뽑아 둔 thumbnail_url / excerpt 를 읽는다.
+-- 보관 테이블도 posts 와 컬럼이 같아야 INSERT ... SELECT 로 옮길 수 있으므로 함께 추가한다.
+-- 마크다운을 SQL 로 파싱할 수 없으므로 기존 글의 값은 채우지 않는다. 스크립트 실행 후
+-- --board.post-preview.backfill=true 로 애플리케이션을 한 번 실행해 채운다 (PostPreviewBackfillRunner).
+-- 새 버전 배포 전에 애플리케이션을 내린 상태에서 한 번만 실행한다.
+
+USE board_db;
+
+ALTER TABLE posts
+    ADD COLUMN thumbnail_url VARCHAR(500) NULL AFTER category,
+    ADD COLUMN excerpt VARCHAR(200) NULL AFTER thumbnail_url;
+
+ALTER TABLE posts_archive
+    ADD COLUMN thumbnail_url VARCHAR(500) NULL AFTER category,
+    ADD COLUMN excerpt VARCHAR(200) NULL AFTER thumbnail_url;
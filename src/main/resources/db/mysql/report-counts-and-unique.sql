@@ -0,0 +1,45 @@
+-- 신고 중복 방지 유니크 인덱스와 게시글/댓글 신고 수 컬럼 추가 스크립트 (MySQL)
+--
+-- 같은 사용자의 중복 신고는 (대상, 신고자) 유니크 인덱스로 막는다. 인덱스를 만들기 전에 이미 쌓인 중복 신고는
+-- 가장 먼저 접수된 한 건만 남기고 지운다. 신고 수(report_count)는 대기중(PENDING) 신고 수로 채운다.
+-- 새 버전 배포 전에 애플리케이션을 내린 상태에서 한 번만 실행한다.
+
+USE board_db;
+
+DELETE r FROM reported_posts r
+    JOIN reported_posts keep
+      ON keep.post_id = r.post_id AND keep.reporter_id = r.reporter_id AND keep.id < r.id;
+
+DELETE r FROM reported_comments r
+    JOIN reported_comments keep
+      ON keep.comment_id = r.comment_id AND keep.reporter_id = r.reporter_id AND keep.id < r.id;
+
+ALTER TABLE reported_posts
+    ADD UNIQUE INDEX uk_reported_posts_post_reporter (post_id, reporter_id);
+
+ALTER TABLE reported_comments
+    ADD UNIQUE INDEX uk_reported_comments_comment_reporter (comment_id, reporter_id);
+
+ALTER TABLE posts
+    ADD COLUMN report_count INT NOT NULL DEFAULT 0,
+    ADD INDEX idx_posts_report_count (report_count);
+
+ALTER TABLE comments
+    ADD COLUMN report_count INT NOT NULL DEFAULT 0,
+    ADD INDEX idx_comments_report_count (report_count);
+
+ALTER TABLE posts_archive
+    ADD COLUMN report_count INT NOT NULL DEFAULT 0;
+
+ALTER TABLE comments_archive
+    ADD COLUMN report_count INT NOT NULL DEFAULT 0;
+
+UPDATE posts p
+    JOIN (SELECT post_id, COUNT(*) AS cnt FROM reported_posts WHERE status = 'PENDING' GROUP BY post_id) r
+      ON r.post_id = p.id
+SET p.report_count = r.cnt;
+
+UPDATE comments c
+    JOIN (SELECT comment_id, COUNT(*) AS cnt FROM reported_comments WHERE status = 'PENDING' GROUP BY comment_id) r
+      ON r.comment_id = c.id
+SET c.report_count = r.cnt;
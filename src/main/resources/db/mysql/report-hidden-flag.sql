@@ -0,0 +1,14 @@
+-- 신고 누적 자동 숨김 표시 컬럼 추가 스크립트 (MySQL)
+--
+-- 신고 누적으로 숨긴 글/댓글은 hidden_by_reports 로 작성자/관리자 삭제와 구분한다. 신고가 기각되면 이 표시가
+-- 있는 행만 되살리고, 보관 작업도 이 행은 건너뛴다.
+-- 이전 버전에서 자동 숨김된 행은 삭제와 구분할 수 없으므로 채우지 않는다 (기각해도 삭제 상태로 남는다).
+-- 새 버전 배포 전에 애플리케이션을 내린 상태에서 한 번만 실행한다.
+
+USE board_db;
+
+ALTER TABLE posts
+    ADD COLUMN hidden_by_reports BOOLEAN NOT NULL DEFAULT FALSE;
+
+ALTER TABLE comments
+    ADD COLUMN hidden_by_reports BOOLEAN NOT NULL DEFAULT FALSE;
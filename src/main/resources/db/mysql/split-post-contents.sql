@@ -0,0 +1,37 @@
+-- 게시글 본문 분리 스크립트 (MySQL)
+--
+-- 본문(TEXT)을 posts 에서 post_contents 로 옮긴다. 목록/정렬/검색 쿼리가 posts 를 훑을 때
+-- 큰 본문이 버퍼 풀에 함께 올라오지 않게 하려는 것으로, 상세/수정 화면만 본문을 읽는다 (PostContent).
+-- 기존 글은 게시글 ID 를 그대로 본문 ID 로 쓰고, 본문 시퀀스는 보관 글까지 포함한 최대 ID 다음부터 시작한다.
+-- 보관 테이블은 본문 텍스트를 그대로 두고 복원할 때 쓸 content_id 만 추가한다.
+-- 새 버전 배포 전에 애플리케이션을 내린 상태에서 한 번만 실행한다.
+
+USE board_db;
+
+CREATE TABLE post_contents (
+    id BIGINT NOT NULL,
+    content TEXT NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+INSERT INTO post_contents (id, content)
+SELECT id, content FROM posts;
+
+ALTER TABLE posts ADD COLUMN content_id BIGINT NULL AFTER title;
+UPDATE posts SET content_id = id;
+
+ALTER TABLE posts
+    MODIFY content_id BIGINT NOT NULL,
+    ADD UNIQUE INDEX uk_posts_content_id (content_id),
+    ADD CONSTRAINT fk_posts_content FOREIGN KEY (content_id) REFERENCES post_contents (id),
+    DROP COLUMN content;
+
+ALTER TABLE posts_archive ADD COLUMN content_id BIGINT NULL AFTER title;
+UPDATE posts_archive SET content_id = id;
+ALTER TABLE posts_archive MODIFY content_id BIGINT NOT NULL;
+
+-- allocationSize(50) 만큼 여유를 두어 기존 본문 ID 와 겹치지 않게 한다
+CREATE TABLE post_contents_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO post_contents_seq (next_val)
+SELECT GREATEST(COALESCE((SELECT MAX(id) FROM posts), 0),
+                COALESCE((SELECT MAX(id) FROM posts_archive), 0)) + 51;
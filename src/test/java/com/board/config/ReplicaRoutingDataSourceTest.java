@@ -0,0 +1,183 @@
+package com.board.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 H2 인스턴스(primary 1개, 복제본 2개)로 라우팅 규칙 검증
+ * 각 DB 의 node 테이블에 자기 이름을 넣어 두고, 조회 결과로 어느 DB 로 갔는지 확인한다.
+ */
+@DisplayName("읽기 복제본 라우팅 DataSource 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT seconds FROM replica_lag";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private DataSource primary;
+    private DataSource replica1;
+    private DataSource replica2;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica1 = h2("replica-1");
+        replica2 = h2("replica-2");
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, LAG_QUERY, 5, Duration.ofSeconds(10), meterRegistry);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        routingDataSource.close();
+    }
+
+    @Test
+    @DisplayName("첫 상태 확인 전에는 읽기 전용 트랜잭션도 primary 로")
+    void beforeFirstCheck_Primary() {
+        assertThat(readOnlyNode()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본에 번갈아, 쓰기/트랜잭션 밖 조회는 primary 로")
+    void routesByReadOnly() {
+        routingDataSource.checkReplicas();
+
+        assertThat(readOnlyNode()).isEqualTo("replica-1");
+        assertThat(readOnlyNode()).isEqualTo("replica-2");
+        assertThat(readOnlyNode()).isEqualTo("replica-1");
+        String writeNode = readWrite.execute(status -> currentNode());
+        assertThat(writeNode).isEqualTo("primary");
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 기준을 넘은 복제본은 빼고, 모두 빠지면 primary 로")
+    void laggingReplica_Skipped() {
+        setLag(replica1, 30);
+        routingDataSource.checkReplicas();
+
+        assertThat(readOnlyNode()).isEqualTo("replica-2");
+        assertThat(readOnlyNode()).isEqualTo("replica-2");
+
+        setLag(replica2, null);  // 복제 중지
+        routingDataSource.checkReplicas();
+        assertThat(readOnlyNode()).isEqualTo("primary");
+
+        setLag(replica1, 1);
+        routingDataSource.checkReplicas();
+        assertThat(readOnlyNode()).isEqualTo("replica-1");
+        assertThat(meterRegistry.get("board.datasource.replica.available").tag("replica", "replica-2").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("응답하지 않는 복제본은 제외")
+    void unreachableReplica_Skipped() {
+        Map<String, DataSource> replicas = Map.of("replica-1",
+                new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/unreachable", "sa", ""));
+        try (ReplicaRoutingDataSource unreachable = new ReplicaRoutingDataSource(
+                primary, replicas, LAG_QUERY, 5, Duration.ofSeconds(10), meterRegistry)) {
+            unreachable.afterPropertiesSet();
+            unreachable.checkReplicas();
+
+            DataSource dataSource = new LazyConnectionDataSourceProxy(unreachable);
+            TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            template.setReadOnly(true);
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            String node = template.execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class));
+            assertThat(node).isEqualTo("primary");
+        }
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자는 read-your-writes 구간 동안 primary 에서 읽음")
+    void readYourWrites() {
+        routingDataSource.checkReplicas();
+        authenticate("writer");
+
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO node (name) VALUES ('new')"));
+        assertThat(readOnlyNode()).isEqualTo("primary");
+
+        // 다른 사용자는 계속 복제본에서 읽는다
+        authenticate("reader");
+        assertThat(readOnlyNode()).startsWith("replica-");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 read-your-writes 구간을 만들지 않음")
+    void rolledBackWrite_NoReadYourWrites() {
+        routingDataSource.checkReplicas();
+        authenticate("writer");
+
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO node (name) VALUES ('new')");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnlyNode()).startsWith("replica-");
+    }
+
+    private String readOnlyNode() {
+        return readOnly.execute(status -> currentNode());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node FETCH FIRST 1 ROWS ONLY", String.class);
+    }
+
+    private static void setLag(DataSource replica, Integer seconds) {
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = ?", seconds);
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP ALL OBJECTS");
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        jdbc.execute("CREATE TABLE replica_lag (seconds INT)");
+        jdbc.update("INSERT INTO replica_lag (seconds) VALUES (0)");
+        return dataSource;
+    }
+}
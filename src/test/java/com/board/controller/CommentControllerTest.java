@@ -1,13 +1,17 @@
 package com.board.controller;
 
 import com.board.domain.entity.Comment;
+import com.board.domain.entity.CommentLike;
 import com.board.domain.entity.Post;
 import com.board.domain.entity.User;
 import com.board.domain.enums.Role;
+import com.board.domain.repository.CommentLikeRepository;
 import com.board.domain.repository.CommentRepository;
 import com.board.domain.repository.PostRepository;
 import com.board.domain.repository.UserRepository;
+import com.board.support.SqlStatementBudget;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +24,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -43,12 +48,18 @@ class CommentControllerTest {
     @Autowired
     private CommentRepository commentRepository;
 
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
     @Autowired
     private PostRepository postRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private User author;
     private User otherUser;
     private Post post;
@@ -163,6 +174,7 @@ class CommentControllerTest {
 
     @Test
     @DisplayName("댓글 목록 조회 - GET /posts/{postId}/comments")
+    @SqlStatementBudget(8)
     void getComments_Success() throws Exception {
         // given
         Comment comment1 = Comment.builder()
@@ -191,6 +203,75 @@ class CommentControllerTest {
                 .andExpect(jsonPath("$.content[1].content").value("두 번째 댓글"));
     }
 
+    @Test
+    @DisplayName("댓글 목록 조회 - 변경이 없으면 304, 댓글 추천이 바뀌면 다시 조회")
+    @WithMockUser(username = "testuser", roles = "USER")
+    void getComments_ConditionalGet() throws Exception {
+        // given
+        Comment comment = commentRepository.save(Comment.builder()
+                .content("댓글")
+                .post(post)
+                .author(author)
+                .build());
+        String etag = mockMvc.perform(get("/posts/{postId}/comments", post.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then - 변경 없음
+        mockMvc.perform(get("/posts/{postId}/comments", post.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        // 다른 페이지 크기는 다른 응답
+        mockMvc.perform(get("/posts/{postId}/comments", post.getId()).param("size", "20").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+
+        // 댓글 추천 수가 바뀌면 다시 조회
+        comment.increaseLikeCount();
+        commentRepository.saveAndFlush(comment);
+        mockMvc.perform(get("/posts/{postId}/comments", post.getId()).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].likeCount").value(1));
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회 - 내 추천 취소와 다른 사람의 추천이 겹쳐 합계가 같아도 다시 조회")
+    @WithMockUser(username = "testuser", roles = "USER")
+    void getComments_ConditionalGet_LikeSwap() throws Exception {
+        // given - 내가 첫 댓글을 추천한 상태
+        Comment first = commentRepository.save(Comment.builder().content("첫 댓글").post(post).author(author).build());
+        Comment second = commentRepository.save(Comment.builder().content("둘째 댓글").post(post).author(author).build());
+        CommentLike myLike = commentLikeRepository.save(CommentLike.builder().comment(first).user(author).build());
+        first.increaseLikeCount();
+        commentRepository.saveAndFlush(first);
+        LocalDateTime before = LocalDateTime.now().minusMinutes(1);
+        entityManager.createNativeQuery("UPDATE comment_likes SET created_at = :createdAt WHERE id = :id")
+                .setParameter("createdAt", before)
+                .setParameter("id", myLike.getId())
+                .executeUpdate();
+        pinCommentUpdatedAt(before);
+        String etag = mockMvc.perform(get("/posts/{postId}/comments", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].likedByCurrentUser").value(true))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when - 내 추천을 취소하고 다른 사람이 둘째 댓글을 추천 (추천 합계는 1 그대로)
+        commentLikeRepository.deleteById(myLike.getId());
+        Comment unliked = commentRepository.findById(first.getId()).orElseThrow();
+        unliked.decreaseLikeCount();
+        Comment liked = commentRepository.findById(second.getId()).orElseThrow();
+        commentLikeRepository.save(CommentLike.builder().comment(liked).user(otherUser).build());
+        liked.increaseLikeCount();
+        commentRepository.saveAndFlush(liked);
+        // 댓글 수정 시각은 그대로 두고 추천만으로 검증값이 바뀌는지 본다
+        pinCommentUpdatedAt(before);
+
+        // then
+        mockMvc.perform(get("/posts/{postId}/comments", post.getId()).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].likedByCurrentUser").value(false))
+                .andExpect(jsonPath("$.content[1].likeCount").value(1));
+    }
+
     @Test
     @DisplayName("댓글 단건 조회 - GET /comments/{id}")
     void getComment_Success() throws Exception {
@@ -320,4 +401,71 @@ class CommentControllerTest {
                 .andDo(print())
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @DisplayName("커서 기반 댓글 목록 - GET /api/posts/{postId}/comments")
+    @WithMockUser(username = "testuser", roles = "USER")
+    void getCommentThreads_Success() throws Exception {
+        // given
+        Comment parent = commentRepository.save(Comment.builder()
+                .content("첫 번째 댓글")
+                .post(post)
+                .author(author)
+                .build());
+        commentRepository.save(Comment.builder()
+                .content("대댓글")
+                .post(post)
+                .author(otherUser)
+                .parent(parent)
+                .build());
+        commentRepository.save(Comment.builder()
+                .content("두 번째 댓글")
+                .post(post)
+                .author(otherUser)
+                .build());
+        commentLikeRepository.save(CommentLike.builder().comment(parent).user(author).build());
+        // 요청처럼 DB 에 저장된 값을 읽도록 영속성 컨텍스트를 비운다
+        entityManager.flush();
+        entityManager.clear();
+
+        // when & then
+        String nextCursor = objectMapper.readTree(mockMvc.perform(get("/api/posts/{postId}/comments", post.getId())
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].comment.content").value("첫 번째 댓글"))
+                .andExpect(jsonPath("$.content[0].comment.likedByCurrentUser").value(true))
+                .andExpect(jsonPath("$.content[0].replies[0].content").value("대댓글"))
+                .andExpect(jsonPath("$.content[0].replies[0].likedByCurrentUser").value(false))
+                .andExpect(jsonPath("$.content[0].moreRepliesCursor").doesNotExist())
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString()).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/posts/{postId}/comments", post.getId())
+                        .param("size", "1")
+                        .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].comment.content").value("두 번째 댓글"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("커서 기반 댓글 목록 - 잘못된 커서는 400, 없는 게시글은 404")
+    @WithMockUser(username = "testuser", roles = "USER")
+    void getCommentThreads_BadRequest() throws Exception {
+        mockMvc.perform(get("/api/posts/{postId}/comments", post.getId()).param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/posts/{postId}/comments", 999_999L))
+                .andExpect(status().isNotFound());
+    }
+
+    private void pinCommentUpdatedAt(LocalDateTime updatedAt) {
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE comments SET updated_at = :updatedAt WHERE post_id = :postId")
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("postId", post.getId())
+                .executeUpdate();
+        entityManager.clear();
+    }
 }
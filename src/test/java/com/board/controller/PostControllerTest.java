@@ -1,17 +1,22 @@
 package com.board.controller;
 
+import com.board.domain.entity.Comment;
 import com.board.domain.entity.Post;
 import com.board.domain.entity.User;
 import com.board.domain.enums.Role;
+import com.board.domain.repository.CommentRepository;
 import com.board.domain.repository.PostRepository;
 import com.board.domain.repository.UserRepository;
+import com.board.support.SqlStatementBudget;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -43,6 +48,9 @@ class PostControllerTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CommentRepository commentRepository;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -73,6 +81,7 @@ class PostControllerTest {
 
     @Test
     @DisplayName("GET /posts - 게시글 목록 조회")
+    @SqlStatementBudget(5)
     void getPosts() throws Exception {
         mockMvc.perform(get("/posts"))
                 .andDo(print())
@@ -82,8 +91,45 @@ class PostControllerTest {
                 .andExpect(model().attribute("posts", hasProperty("content", hasSize(greaterThan(0)))));
     }
 
+    /**
+     * 작성자가 여러 명인 목록 - 준비 단계의 저장 SQL 이 예산에 섞이지 않도록 @BeforeEach 에서 만든다
+     */
+    @Nested
+    @DisplayName("작성자가 여러 명인 목록")
+    class MultipleAuthors {
+
+        @BeforeEach
+        void setUpAuthors() {
+            for (int i = 0; i < 5; i++) {
+                User author = userRepository.save(User.builder()
+                        .username("author" + i)
+                        .email("author" + i + "@example.com")
+                        .password("password123")
+                        .nickname("작성자" + i)
+                        .role(Role.USER)
+                        .build());
+                postRepository.save(Post.builder()
+                        .title("작성자별 게시글 " + i)
+                        .content("내용 " + i)
+                        .category("일반")
+                        .author(author)
+                        .build());
+            }
+        }
+
+        @Test
+        @DisplayName("GET /posts - 작성자가 여러 명이어도 작성자 조회가 게시글마다 반복되지 않음 (N+1)")
+        @SqlStatementBudget(5)
+        void getPosts_NoNPlusOneOnAuthor() throws Exception {
+            mockMvc.perform(get("/posts"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(containsString("작성자4")));
+        }
+    }
+
     @Test
     @DisplayName("GET /posts/{id} - 게시글 상세 조회")
+    @SqlStatementBudget(12)
     void getPost() throws Exception {
         mockMvc.perform(get("/posts/{id}", testPost.getId()))
                 .andDo(print())
@@ -101,6 +147,58 @@ class PostControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("GET /posts/{id} - 변경이 없으면 If-None-Match 에 304 로 응답하고 렌더링하지 않음")
+    void getPost_NotModified() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        String etag = mockMvc.perform(get("/posts/{id}", testPost.getId()).session(session))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "private, no-cache"))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/posts/{id}", testPost.getId()).session(session).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /posts/{id} - 댓글이 추가되면 ETag 가 바뀌어 다시 렌더링")
+    void getPost_ModifiedAfterNewComment() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        String etag = mockMvc.perform(get("/posts/{id}", testPost.getId()).session(session))
+                .andReturn().getResponse().getHeader("ETag");
+
+        commentRepository.save(Comment.builder()
+                .content("새 댓글")
+                .post(testPost)
+                .author(testUser)
+                .build());
+
+        mockMvc.perform(get("/posts/{id}", testPost.getId()).session(session).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(view().name("posts/detail"))
+                .andExpect(header().string("ETag", not(etag)));
+    }
+
+    @Test
+    @DisplayName("POST /posts/{id}/view - 조회 비콘은 세션당 한 번만 조회수를 올리고 ETag 는 바꾸지 않음")
+    void recordView() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        String etag = mockMvc.perform(get("/posts/{id}", testPost.getId()).session(session))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(post("/posts/{id}/view", testPost.getId()).session(session).with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.viewCount").value(1));
+        mockMvc.perform(post("/posts/{id}/view", testPost.getId()).session(session).with(csrf()))
+                .andExpect(jsonPath("$.viewCount").value(1));
+
+        mockMvc.perform(get("/posts/{id}", testPost.getId()).session(session).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     @DisplayName("GET /posts/new - 게시글 작성 폼")
     @WithMockUser(username = "testuser", roles = "USER")
@@ -3,6 +3,7 @@ package com.board.domain.repository;
 import com.board.domain.entity.Post;
 import com.board.domain.entity.User;
 import com.board.domain.enums.Role;
+import com.board.dto.PostSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -67,12 +68,12 @@ class PostRepositoryTest {
         postRepository.save(post2);
 
         // when
-        Page<Post> posts = postRepository.findByDeletedFalseOrderByCreatedAtDesc(PageRequest.of(0, 10));
+        Page<PostSummary> posts = postRepository.findSummariesOrderByCreatedAtDesc(PageRequest.of(0, 10));
 
         // then
         assertThat(posts.getContent()).hasSize(1);
         assertThat(posts.getContent().get(0).getTitle()).isEqualTo("첫 번째 게시글");
-        assertThat(posts.getContent().get(0).isDeleted()).isFalse();
+        assertThat(posts.getTotalElements()).isEqualTo(1);
     }
 
     @Test
@@ -97,8 +98,7 @@ class PostRepositoryTest {
         postRepository.save(post2);
 
         // when
-        Page<Post> freePosts = postRepository.findByCategoryAndDeletedFalseOrderByCreatedAtDesc(
-                "자유게시판", PageRequest.of(0, 10));
+        Page<PostSummary> freePosts = postRepository.findSummariesByCategory("자유게시판", PageRequest.of(0, 10));
 
         // then
         assertThat(freePosts.getContent()).hasSize(1);
@@ -0,0 +1,273 @@
+package com.board.event;
+
+import com.board.domain.entity.OutboxEvent;
+import com.board.domain.entity.Post;
+import com.board.domain.entity.User;
+import com.board.domain.enums.Role;
+import com.board.domain.repository.OutboxEventRepository;
+import com.board.domain.repository.ProcessedOutboxEventRepository;
+import com.board.domain.repository.UserRepository;
+import com.board.service.LikeService;
+import com.board.service.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@TestPropertySource(properties = "board.outbox.max-attempts=2")
+class OutboxDispatcherTest {
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ProcessedOutboxEventRepository processedOutboxEventRepository;
+
+    @Autowired
+    private PoisonConsumer poisonConsumer;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User author;
+    private User reader;
+
+    @BeforeEach
+    void setUp() {
+        // 다른 테스트가 커밋한 이벤트가 섞이지 않도록 비운다 (테스트 트랜잭션이 끝나면 되돌아감)
+        outboxEventRepository.deleteAllInBatch();
+        processedOutboxEventRepository.deleteAllInBatch();
+        author = userRepository.save(User.builder()
+                .username("outboxauthor")
+                .email("outboxauthor@example.com")
+                .password("password123")
+                .nickname("아웃박스작성자")
+                .role(Role.USER)
+                .build());
+        reader = userRepository.save(User.builder()
+                .username("outboxreader")
+                .email("outboxreader@example.com")
+                .password("password123")
+                .nickname("아웃박스독자")
+                .role(Role.USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        poisonConsumer.poisonPostIds.clear();
+    }
+
+    @Test
+    @DisplayName("게시글을 쓰면 같은 트랜잭션에서 PENDING 이벤트가 기록된다")
+    void write_AppendsPendingEvent() {
+        // when
+        Post post = postService.createPost("아웃박스 글", "내용", null, author);
+
+        // then
+        OutboxEvent event = findEvent(OutboxEventType.POST_CREATED, post.getId());
+        assertThat(event.getStatus()).isEqualTo(OutboxEvent.Status.PENDING);
+        assertThat(event.getActorId()).isEqualTo(author.getId());
+    }
+
+    @Test
+    @DisplayName("전달하면 DISPATCHED 로 바뀌고 쓰기 집계는 그때 올라간다")
+    void dispatchPending_MarksDispatchedAndCounts() {
+        // given
+        Post post = postService.createPost("추천할 글", "내용", null, author);
+        double before = likeWrites();
+        likeService.likePost(post.getId(), reader.getId());
+        assertThat(likeWrites()).isEqualTo(before);
+
+        // when
+        outboxDispatcher.dispatchPending();
+
+        // then
+        entityManager.clear();
+        assertThat(findEvent(OutboxEventType.POST_LIKE_CHANGED, post.getId()).getStatus())
+                .isEqualTo(OutboxEvent.Status.DISPATCHED);
+        assertThat(findEvent(OutboxEventType.POST_CREATED, post.getId()).getDispatchedAt()).isNotNull();
+        assertThat(likeWrites()).isEqualTo(before + 1);
+        assertThat(outboxDispatcher.getLagSeconds()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패한 이벤트만 다시 시도하고 max-attempts 번 실패하면 FAILED 로 남는다")
+    void dispatchPending_RetriesOnlyFailedEventThenGivesUp() {
+        // given
+        Post poisoned = postService.createPost("실패할 글", "내용", null, author);
+        Post healthy = postService.createPost("정상 글", "내용", null, author);
+        poisonConsumer.poisonPostIds.add(poisoned.getId());
+
+        // when
+        OutboxDispatcher.RunResult first = outboxDispatcher.dispatchPending();
+
+        // then - 같은 배치의 다른 이벤트는 전달된다
+        entityManager.clear();
+        assertThat(first.failed()).isEqualTo(1);
+        OutboxEvent failed = findEvent(OutboxEventType.POST_CREATED, poisoned.getId());
+        assertThat(failed.getStatus()).isEqualTo(OutboxEvent.Status.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).contains("poison");
+        assertThat(findEvent(OutboxEventType.POST_CREATED, healthy.getId()).getStatus())
+                .isEqualTo(OutboxEvent.Status.DISPATCHED);
+
+        // when - 두 번째 실패에서 포기
+        outboxDispatcher.dispatchPending();
+        entityManager.clear();
+        assertThat(findEvent(OutboxEventType.POST_CREATED, poisoned.getId()).getStatus())
+                .isEqualTo(OutboxEvent.Status.FAILED);
+
+        // when - 포기한 이벤트는 더 넘기지 않는다
+        assertThat(outboxDispatcher.dispatchPending().failed()).isZero();
+    }
+
+    @Test
+    @DisplayName("전달 완료를 기록하지 못해 다시 전달되어도 처리한 소비자에게는 넘기지 않는다")
+    void dispatchPending_SkipsEventsAlreadyProcessedByConsumer() {
+        // given
+        Post post = postService.createPost("중복 전달", "내용", null, author);
+        likeService.likePost(post.getId(), reader.getId());
+        double before = likeWrites();
+        outboxDispatcher.dispatchPending();
+
+        // when - 전달 완료를 기록하기 전에 죽은 것처럼 되돌린다
+        entityManager.createQuery("UPDATE OutboxEvent e SET e.status = :status, e.dispatchedAt = null")
+                .setParameter("status", OutboxEvent.Status.PENDING)
+                .executeUpdate();
+        OutboxDispatcher.RunResult redelivered = outboxDispatcher.dispatchPending();
+
+        // then
+        entityManager.clear();
+        assertThat(redelivered.dispatched()).isEqualTo(2);
+        assertThat(findEvent(OutboxEventType.POST_LIKE_CHANGED, post.getId()).getStatus())
+                .isEqualTo(OutboxEvent.Status.DISPATCHED);
+        assertThat(likeWrites()).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 점유한 이벤트는 넘기지 않고, 점유가 만료되면 넘긴다")
+    void dispatchPending_SkipsEventsClaimedByAnotherInstance() {
+        // given - 다른 인스턴스가 방금 점유
+        Post post = postService.createPost("점유된 글", "내용", null, author);
+        OutboxEvent event = findEvent(OutboxEventType.POST_CREATED, post.getId());
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.claim(List.of(event.getId()), "other-instance", now.plusMinutes(5), now);
+
+        // when / then
+        assertThat(outboxDispatcher.dispatchPending().dispatched()).isZero();
+        assertThat(outboxDispatcher.getLagSeconds()).isGreaterThanOrEqualTo(0);
+        entityManager.clear();
+        assertThat(outboxEventRepository.findById(event.getId()).orElseThrow().getStatus())
+                .isEqualTo(OutboxEvent.Status.PENDING);
+
+        // when - 점유한 인스턴스가 죽어 점유가 만료됨
+        entityManager.createQuery("UPDATE OutboxEvent e SET e.claimedUntil = :past WHERE e.id = :id")
+                .setParameter("past", now.minusSeconds(1))
+                .setParameter("id", event.getId())
+                .executeUpdate();
+
+        // then
+        assertThat(outboxDispatcher.dispatchPending().dispatched()).isEqualTo(1);
+        entityManager.clear();
+        OutboxEvent dispatched = outboxEventRepository.findById(event.getId()).orElseThrow();
+        assertThat(dispatched.getStatus()).isEqualTo(OutboxEvent.Status.DISPATCHED);
+        assertThat(dispatched.getClaimToken()).isNull();
+    }
+
+    @Test
+    @DisplayName("전달 지연은 DB 의 가장 오래된 대기 이벤트로 계산한다")
+    void lagSeconds_ReadsOldestPendingEvent() {
+        // given - 전달이 한 번도 돌지 않은 상태
+        assertThat(outboxDispatcher.getLagSeconds()).isZero();
+        postService.createPost("대기 중인 글", "내용", null, author);
+        entityManager.createQuery("UPDATE OutboxEvent e SET e.createdAt = :createdAt")
+                .setParameter("createdAt", LocalDateTime.now().minusMinutes(1))
+                .executeUpdate();
+        entityManager.clear();
+
+        // when / then
+        assertThat(outboxDispatcher.getLagSeconds()).isGreaterThanOrEqualTo(60);
+    }
+
+    private OutboxEvent findEvent(OutboxEventType type, Long postId) {
+        return outboxEventRepository.findAll().stream()
+                .filter(event -> event.getType() == type && postId.equals(event.getPostId()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private double likeWrites() {
+        return meterRegistry.counter("board.like.writes", "target", "post", "action", "like").count();
+    }
+
+    /**
+     * 지정한 게시글의 생성 이벤트가 들어 있으면 배치째 실패하는 소비자
+     */
+    static class PoisonConsumer implements OutboxConsumer {
+
+        final Set<Long> poisonPostIds = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public String name() {
+            return "poison";
+        }
+
+        @Override
+        public Set<OutboxEventType> types() {
+            return Set.of(OutboxEventType.POST_CREATED);
+        }
+
+        @Override
+        public void handle(List<OutboxEvent> events) {
+            for (OutboxEvent event : events) {
+                if (poisonPostIds.contains(event.getPostId())) {
+                    throw new IllegalStateException("poison event " + event.getId());
+                }
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class PoisonConsumerConfig {
+
+        @Bean
+        PoisonConsumer poisonConsumer() {
+            return new PoisonConsumer();
+        }
+    }
+}
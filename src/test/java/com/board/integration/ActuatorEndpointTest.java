@@ -0,0 +1,76 @@
+package com.board.integration;
+
+import com.board.service.SearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureObservability
+@DisplayName("Actuator 엔드포인트 테스트")
+class ActuatorEndpointTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private SearchService searchService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    @DisplayName("헬스체크는 인증 없이 접근 가능")
+    void healthIsPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+
+    @Test
+    @DisplayName("Prometheus 엔드포인트에 검색/커넥션 풀/Hibernate 메트릭 노출")
+    void prometheusExposesHotPathMetrics() throws Exception {
+        searchService.search("title", "스프링", null, null, PageRequest.of(0, 10));
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("board_search_seconds_count{")))
+                .andExpect(content().string(containsString("searchType=\"title\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("hibernate_statements_total")));
+    }
+
+    @Test
+    @DisplayName("메트릭 상세 조회는 관리자만 가능")
+    void metricsRequireAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().is3xxRedirection());
+
+        mockMvc.perform(get("/actuator/metrics").with(user("user").roles("USER")))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/metrics/board.search").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk());
+    }
+}
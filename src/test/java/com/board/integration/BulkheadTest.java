@@ -0,0 +1,168 @@
+package com.board.integration;
+
+import com.board.domain.entity.Post;
+import com.board.domain.entity.User;
+import com.board.domain.enums.Role;
+import com.board.domain.repository.PostRepository;
+import com.board.domain.repository.UserRepository;
+import com.board.exception.ServiceOverloadedException;
+import com.board.util.Bulkhead;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@TestPropertySource(properties = {
+        "board.bulkhead.search.max-concurrent=1",
+        "board.bulkhead.search.max-queue=0",
+        "board.bulkhead.admin.max-concurrent=1",
+        "board.bulkhead.admin.max-queue=0"
+})
+@DisplayName("격리 구역 테스트")
+class BulkheadTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("searchBulkhead")
+    private Bulkhead searchBulkhead;
+
+    @Autowired
+    @Qualifier("adminBulkhead")
+    private Bulkhead adminBulkhead;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        User author = userRepository.save(User.builder()
+                .username("bulkheaduser")
+                .email("bulkhead@example.com")
+                .password("password123")
+                .nickname("격리유저")
+                .role(Role.USER)
+                .build());
+        post = postRepository.save(Post.builder()
+                .title("격리 테스트 게시글")
+                .content("격리 테스트 내용")
+                .category("자유")
+                .author(author)
+                .build());
+    }
+
+    @Test
+    @DisplayName("검색 구역이 가득 차면 검색은 503 + Retry-After, 목록/상세/카테고리 목록은 정상")
+    void searchSaturated_OtherPathsServed() throws Exception {
+        searchBulkhead.acquire();
+        try {
+            mockMvc.perform(get("/posts/search").param("searchType", "all").param("keyword", "격리"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                    .andExpect(view().name("error/503"));
+            // fetch/API 호출에는 오류 화면 대신 JSON
+            mockMvc.perform(get("/posts/search").param("searchType", "all").param("keyword", "격리")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.success").value(false));
+
+            mockMvc.perform(get("/posts"))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/posts/" + post.getId()))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/posts/search").param("searchType", "category").param("keyword", "자유"))
+                    .andExpect(status().isOk());
+        } finally {
+            searchBulkhead.release();
+        }
+
+        mockMvc.perform(get("/posts/search").param("searchType", "all").param("keyword", "격리"))
+                .andExpect(status().isOk());
+        assertThat(searchBulkhead.getActive()).isZero();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("관리자 구역은 검색 구역과 따로 센다")
+    void adminSaturated_SearchServed() throws Exception {
+        adminBulkhead.acquire();
+        try {
+            mockMvc.perform(get("/admin/reports"))
+                    .andExpect(status().isServiceUnavailable());
+            mockMvc.perform(get("/posts/search").param("keyword", "격리"))
+                    .andExpect(status().isOk());
+        } finally {
+            adminBulkhead.release();
+        }
+    }
+
+    @Test
+    @DisplayName("대기열 - 한도만큼 기다린 뒤 허가를 얻거나, 시간이 지나면 거절")
+    void queueTimeout() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1, Duration.ofMillis(50), 1, new SimpleMeterRegistry());
+        bulkhead.acquire();
+
+        // 대기 시간 안에 반납되지 않으면 거절
+        assertThatThrownBy(bulkhead::acquire).isInstanceOf(ServiceOverloadedException.class);
+
+        // 대기 중에 반납되면 허가를 얻는다
+        Bulkhead waiting = new Bulkhead("test-wait", 1, 1, Duration.ofSeconds(5), 1, new SimpleMeterRegistry());
+        waiting.acquire();
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Void> queued = CompletableFuture.runAsync(() -> {
+            started.countDown();
+            waiting.acquire();
+        });
+        started.await();
+        Thread.sleep(50);
+        waiting.release();
+        queued.get(5, TimeUnit.SECONDS);
+        assertThat(waiting.getActive()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 바로 거절")
+    void queueFull_RejectedImmediately() {
+        Bulkhead bulkhead = new Bulkhead("test", 1, 0, Duration.ofSeconds(10), 1, new SimpleMeterRegistry());
+        bulkhead.acquire();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(bulkhead::acquire)
+                .isInstanceOf(ServiceOverloadedException.class)
+                .hasMessageContaining("queue-full");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,240 @@
+package com.board.integration;
+
+import com.board.cache.PageCache;
+import com.board.domain.entity.Post;
+import com.board.domain.entity.User;
+import com.board.domain.enums.Role;
+import com.board.domain.repository.PostRepository;
+import com.board.domain.repository.UserRepository;
+import com.board.event.PostChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@TestPropertySource(properties = "board.page-cache.enabled=true")
+@DisplayName("비로그인 페이지 캐시 테스트")
+class PageCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PageCache pageCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        pageCache.invalidateAll();
+
+        User author = userRepository.save(User.builder()
+                .username("cacheuser")
+                .email("cache@example.com")
+                .password("password123")
+                .nickname("캐시유저")
+                .role(Role.USER)
+                .build());
+        post = postRepository.save(Post.builder()
+                .title("캐시 테스트 게시글")
+                .content("캐시 테스트 내용 ".repeat(200))
+                .category("자유")
+                .author(author)
+                .build());
+    }
+
+    @Test
+    @DisplayName("비로그인 목록 - 첫 요청은 MISS, 같은 파라미터의 다음 요청은 HIT")
+    void anonymousList_MissThenHit() throws Exception {
+        String body = mockMvc.perform(get("/posts"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Page-Cache", "MISS"))
+                .andReturn().getResponse().getContentAsString();
+
+        // 기본값과 같은 파라미터는 같은 캐시 항목을 쓴다
+        mockMvc.perform(get("/posts").param("page", "0").param("sort", "latest"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Page-Cache", "HIT"))
+                .andExpect(content().string(body));
+    }
+
+    @Test
+    @DisplayName("gzip 을 받는 클라이언트에는 압축된 본문으로 응답")
+    void cachedDetail_Gzip() throws Exception {
+        String path = "/posts/" + post.getId();
+        String body = mockMvc.perform(get(path))
+                .andExpect(header().string("X-Page-Cache", "MISS"))
+                .andReturn().getResponse().getContentAsString();
+
+        byte[] gzipped = mockMvc.perform(get(path).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(header().string("X-Page-Cache", "HIT"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(gunzip(gzipped)).isEqualTo(body);
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("로그인 사용자 요청은 캐시하지 않음")
+    void authenticated_NotCached() throws Exception {
+        mockMvc.perform(get("/posts"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Page-Cache"));
+
+        assertThat(pageCache.get("/posts?page=0&size=10&sort=latest&")).isNull();
+    }
+
+    @Test
+    @DisplayName("검색어/큰 페이지 번호/모르는 파라미터 요청은 캐시하지 않음")
+    void uncacheableRequests() throws Exception {
+        mockMvc.perform(get("/posts/search").param("searchType", "title").param("keyword", "캐시"))
+                .andExpect(header().doesNotExist("X-Page-Cache"));
+        mockMvc.perform(get("/posts").param("page", "100"))
+                .andExpect(header().doesNotExist("X-Page-Cache"));
+        mockMvc.perform(get("/posts").param("debug", "true"))
+                .andExpect(header().doesNotExist("X-Page-Cache"));
+    }
+
+    @Test
+    @DisplayName("게시글 변경 이벤트 - 해당 상세와 목록은 지우고 다른 게시글 상세는 유지")
+    void postChanged_EvictsDetailAndLists() throws Exception {
+        Post other = postRepository.save(Post.builder()
+                .title("다른 게시글")
+                .content("다른 내용")
+                .author(post.getAuthor())
+                .build());
+        mockMvc.perform(get("/posts"));
+        mockMvc.perform(get("/posts/" + post.getId()));
+        mockMvc.perform(get("/posts/" + other.getId()));
+
+        // 테스트 트랜잭션은 커밋되지 않으므로 커밋 이후 처리를 직접 호출
+        pageCache.onPostChanged(new PostChangedEvent(post.getId()));
+
+        mockMvc.perform(get("/posts"))
+                .andExpect(header().string("X-Page-Cache", "MISS"));
+        mockMvc.perform(get("/posts/" + post.getId()))
+                .andExpect(header().string("X-Page-Cache", "MISS"));
+        mockMvc.perform(get("/posts/" + other.getId()))
+                .andExpect(header().string("X-Page-Cache", "HIT"));
+    }
+
+    @Test
+    @DisplayName("댓글 변경은 상세만, 추천 변경은 그 게시글이 실린 목록과 추천순 목록까지 지움")
+    void postChanged_EvictsOnlyAffectedLists() throws Exception {
+        postRepository.save(Post.builder()
+                .title("질문 게시글")
+                .content("질문 내용")
+                .category("질문")
+                .author(post.getAuthor())
+                .build());
+        String listedPage = "/posts/search?searchType=category&keyword=자유";
+        String otherPage = "/posts/search?searchType=category&keyword=질문";
+        mockMvc.perform(get("/posts/" + post.getId()));
+        mockMvc.perform(get(listedPage));
+        mockMvc.perform(get(otherPage));
+        mockMvc.perform(get("/posts").param("sort", "likeCount"));
+
+        pageCache.onPostChanged(new PostChangedEvent(post.getId(), PostChangedEvent.Scope.DETAIL));
+
+        mockMvc.perform(get("/posts/" + post.getId()))
+                .andExpect(header().string("X-Page-Cache", "MISS"));
+        mockMvc.perform(get(listedPage))
+                .andExpect(header().string("X-Page-Cache", "HIT"));
+
+        pageCache.onPostChanged(new PostChangedEvent(post.getId(), PostChangedEvent.Scope.LIKES));
+
+        mockMvc.perform(get(listedPage))
+                .andExpect(header().string("X-Page-Cache", "MISS"));
+        mockMvc.perform(get("/posts").param("sort", "likeCount"))
+                .andExpect(header().string("X-Page-Cache", "MISS"));
+        mockMvc.perform(get(otherPage))
+                .andExpect(header().string("X-Page-Cache", "HIT"));
+    }
+
+    @Test
+    @DisplayName("비로그인 상세 페이지에는 세션의 CSRF 토큰을 넣지 않음")
+    void anonymousDetail_HasNoCsrfToken() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        mockMvc.perform(get("/login").session(session));
+
+        mockMvc.perform(get("/posts/" + post.getId()).session(session))
+                .andExpect(header().string("X-Page-Cache", "MISS"))
+                .andExpect(content().string(not(containsString("_csrf"))));
+        mockMvc.perform(get("/posts/" + post.getId()))
+                .andExpect(header().string("X-Page-Cache", "HIT"));
+    }
+
+    @Test
+    @DisplayName("캐시에서 응답할 때도 ETag 를 보내고, If-None-Match 가 맞으면 304")
+    void cachedDetail_ConditionalGet() throws Exception {
+        String path = "/posts/" + post.getId();
+        String etag = mockMvc.perform(get(path))
+                .andExpect(header().string("X-Page-Cache", "MISS"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Page-Cache", "HIT"))
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+
+        byte[] body = mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("X-Page-Cache", "HIT"))
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(body).isEmpty();
+    }
+
+    @Test
+    @DisplayName("렌더링 도중 무효화되면 그 결과는 저장하지 않음")
+    void put_RejectedAfterInvalidation() {
+        long generation = pageCache.currentGeneration();
+        pageCache.onPostChanged(new PostChangedEvent(post.getId()));
+
+        boolean stored = pageCache.put("/posts?page=0&", generation, "old".getBytes(StandardCharsets.UTF_8), "text/html",
+                null, -1, null);
+
+        assertThat(stored).isFalse();
+        assertThat(pageCache.get("/posts?page=0&")).isNull();
+    }
+
+    private static String gunzip(byte[] gzipped) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.board.domain.enums.Role;
 import com.board.domain.repository.PostRepository;
 import com.board.domain.repository.UserRepository;
 import com.board.domain.repository.CommentRepository;
+import com.board.dto.PostSummary;
 import com.board.service.PostService;
 import com.board.service.SearchService;
 import org.junit.jupiter.api.BeforeEach;
@@ -110,19 +111,19 @@ class PerformanceTest {
         // 첫 번째 페이지 조회 (가장 빠름)
         stopWatch.start("첫 번째 페이지 조회");
         Pageable pageable1 = PageRequest.of(0, 20);
-        Page<Post> page1 = postRepository.findByDeletedFalseOrderByCreatedAtDesc(pageable1);
+        Page<PostSummary> page1 = postRepository.findSummariesOrderByCreatedAtDesc(pageable1);
         stopWatch.stop();
 
         // 중간 페이지 조회
         stopWatch.start("중간 페이지 조회 (25페이지)");
         Pageable pageable25 = PageRequest.of(24, 20);
-        Page<Post> page25 = postRepository.findByDeletedFalseOrderByCreatedAtDesc(pageable25);
+        Page<PostSummary> page25 = postRepository.findSummariesOrderByCreatedAtDesc(pageable25);
         stopWatch.stop();
 
         // 마지막 페이지 조회 (가장 느림)
         stopWatch.start("마지막 페이지 조회 (50페이지)");
         Pageable pageable50 = PageRequest.of(49, 20);
-        Page<Post> page50 = postRepository.findByDeletedFalseOrderByCreatedAtDesc(pageable50);
+        Page<PostSummary> page50 = postRepository.findSummariesOrderByCreatedAtDesc(pageable50);
         stopWatch.stop();
 
         System.out.println(stopWatch.prettyPrint());
@@ -145,22 +146,22 @@ class PerformanceTest {
 
         // 제목 검색
         stopWatch.start("제목 검색");
-        Page<Post> titleResults = searchService.searchByTitle("성능", pageable);
+        Page<PostSummary> titleResults = searchService.searchByTitle("성능", pageable);
         stopWatch.stop();
 
         // 내용 검색
         stopWatch.start("내용 검색");
-        Page<Post> contentResults = searchService.searchByContent("Spring", pageable);
+        Page<PostSummary> contentResults = searchService.searchByContent("Spring", pageable);
         stopWatch.stop();
 
         // 복합 검색 (제목 + 내용)
         stopWatch.start("복합 검색 (제목+내용)");
-        Page<Post> complexResults = searchService.searchByTitleOrContent("Java", pageable);
+        Page<PostSummary> complexResults = searchService.searchByTitleOrContent("Java", pageable);
         stopWatch.stop();
 
         // 전체 검색 (모든 필드)
         stopWatch.start("전체 검색 (모든 필드)");
-        Page<Post> allFieldResults = searchService.searchByAllFields("Performance", pageable);
+        Page<PostSummary> allFieldResults = searchService.searchByAllFields("Performance", pageable);
         stopWatch.stop();
 
         System.out.println(stopWatch.prettyPrint());
@@ -229,13 +230,13 @@ class PerformanceTest {
         // 조회수 기준 정렬 조회
         stopWatch.start("조회수 기준 정렬 조회");
         Pageable viewCountPageable = PageRequest.of(0, 50);
-        Page<Post> popularPosts = postRepository.findByDeletedFalseOrderByViewCountDescCreatedAtDesc(viewCountPageable);
+        Page<PostSummary> popularPosts = postRepository.findSummariesOrderByViewCountDesc(viewCountPageable);
         stopWatch.stop();
 
         // 좋아요 수 기준 정렬 조회
         stopWatch.start("좋아요 수 기준 정렬 조회");
         Pageable likeCountPageable = PageRequest.of(0, 50);
-        Page<Post> likedPosts = postRepository.findByDeletedFalseOrderByLikeCountDescCreatedAtDesc(likeCountPageable);
+        Page<PostSummary> likedPosts = postRepository.findSummariesOrderByLikeCountDesc(likeCountPageable);
         stopWatch.stop();
 
         System.out.println(stopWatch.prettyPrint());
@@ -258,14 +259,14 @@ class PerformanceTest {
         stopWatch.start("페이지네이션 조회 (20개)");
 
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Post> pagedResults = postRepository.findByDeletedFalseOrderByCreatedAtDesc(pageable);
+        Page<PostSummary> pagedResults = postRepository.findSummariesOrderByCreatedAtDesc(pageable);
 
         stopWatch.stop();
 
         // 전체 조회 (메모리 사용량 많음) - 제한된 수량만 조회
         stopWatch.start("제한된 조회 (100개)");
         Pageable limitedPageable = PageRequest.of(0, 100);
-        Page<Post> limitedResults = postRepository.findByDeletedFalseOrderByCreatedAtDesc(limitedPageable);
+        Page<PostSummary> limitedResults = postRepository.findSummariesOrderByCreatedAtDesc(limitedPageable);
         stopWatch.stop();
 
         System.out.println(stopWatch.prettyPrint());
@@ -0,0 +1,106 @@
+package com.board.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@TestPropertySource(properties = {
+        "board.rate-limit.enabled=true",
+        "board.rate-limit.search.capacity=2",
+        "board.rate-limit.search.refill-per-minute=1",
+        "board.rate-limit.comment.capacity=1",
+        "board.rate-limit.comment.refill-per-minute=1"
+})
+@DisplayName("요청 제한 필터 테스트")
+class RateLimitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("IP 별 검색 한도를 넘으면 429 + Retry-After, 다른 IP 와 카테고리 목록은 영향 없음")
+    void searchLimitedPerIp() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/posts/search").param("keyword", "스프링" + i).with(remoteAddr("10.0.0.1")))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/posts/search").param("keyword", "스프링").with(remoteAddr("10.0.0.1")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "60"))
+                .andExpect(content().string(containsString("60초 후에")));
+
+        mockMvc.perform(get("/posts/search").param("keyword", "스프링").with(remoteAddr("10.0.0.2")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/posts/search").param("searchType", "category").param("keyword", "자유")
+                        .with(remoteAddr("10.0.0.1")))
+                .andExpect(status().isOk());
+
+        assertThat(meterRegistry.get("board.ratelimit.rejected").tag("policy", "search").tag("client", "ip")
+                .counter().count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("X-Requested-With 로 보낸 AJAX 요청은 한도를 넘으면 JSON 으로 응답")
+    void searchLimitedAjaxGetsJson() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/posts/search").param("keyword", "스프링" + i).with(remoteAddr("10.0.0.3")))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/posts/search").param("keyword", "스프링").with(remoteAddr("10.0.0.3"))
+                        .header("X-Requested-With", "XMLHttpRequest"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @WithMockUser(username = "spammer")
+    @DisplayName("로그인 사용자의 댓글 작성은 사용자별로 제한하고, API 요청에는 JSON 으로 응답")
+    void commentLimitedPerUser() throws Exception {
+        // 한도 안의 요청은 컨트롤러까지 전달된다 (없는 게시글이라 400)
+        mockMvc.perform(post("/api/posts/999999/comments").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"content\":\"첫 댓글\",\"authorId\":1}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/posts/999999/comments").with(csrf()).param("content", "두 번째 댓글")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
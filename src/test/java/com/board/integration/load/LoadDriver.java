@@ -0,0 +1,302 @@
+package com.board.integration.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.CookieManager;
+import java.net.CookiePolicy;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 오픈 루프 HTTP 부하 생성기
+ *
+ * 요청은 고정 도착률로 "예정 시각"에 발행되고, 지연시간은 실제 전송 시각이 아닌 예정 시각부터 측정한다.
+ * 서버가 느려져도 발행 속도를 늦추지 않으므로 coordinated omission 으로 꼬리 지연이 가려지지 않는다.
+ */
+public class LoadDriver {
+
+    /** 측정 대상 엔드포인트 */
+    public enum Endpoint {
+        BROWSE, DETAIL, LIKE, COMMENT, SEARCH
+    }
+
+    private static final Pattern FORM_CSRF = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final Pattern META_CSRF = Pattern.compile("<meta name=\"_csrf\" content=\"([^\"]+)\"");
+    private static final Pattern META_CSRF_HEADER = Pattern.compile("<meta name=\"_csrf_header\" content=\"([^\"]+)\"");
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final String[] SEARCH_KEYWORDS = {"성능", "테스트", "게시글", "스프링", "부하"};
+
+    private final URI baseUri;
+    private final LoadSettings settings;
+    private final List<Long> postIds;
+    private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, AtomicLong> errors = new EnumMap<>(Endpoint.class);
+    private final AtomicLong dropped = new AtomicLong();
+
+    public LoadDriver(URI baseUri, LoadSettings settings, List<Long> postIds) {
+        this.baseUri = baseUri;
+        this.settings = settings;
+        this.postIds = List.copyOf(postIds);
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(endpoint, new AtomicLong());
+        }
+    }
+
+    /**
+     * 가상 사용자를 로그인시킨 뒤 워밍업과 본 측정을 차례로 수행한다.
+     * 워밍업 구간의 기록은 버린다.
+     */
+    public LoadReport run(List<Credentials> users) throws Exception {
+        BlockingQueue<VirtualUser> pool = new ArrayBlockingQueue<>(users.size());
+        for (Credentials credentials : users) {
+            pool.add(login(credentials));
+        }
+
+        if (settings.warmupSeconds() > 0) {
+            drive(pool, Duration.ofSeconds(settings.warmupSeconds()));
+            histograms.values().forEach(Histogram::reset);
+            errors.values().forEach(counter -> counter.set(0));
+            dropped.set(0);
+        }
+
+        Duration measured = Duration.ofSeconds(settings.durationSeconds());
+        drive(pool, measured);
+        return new LoadReport(histograms, errors, dropped.get(), measured);
+    }
+
+    private void drive(BlockingQueue<VirtualUser> pool, Duration duration) throws InterruptedException {
+        int workers = settings.concurrency();
+        // 큐가 가득 차면 요청을 버리고 dropped 로 집계한다 (부하 생성기 자체가 병목이 되지 않도록)
+        ExecutorService executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers * 64), new ThreadPoolExecutor.AbortPolicy());
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.ratePerSecond();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        try {
+            for (long i = 0; ; i++) {
+                long scheduledAt = start + i * intervalNanos;
+                if (scheduledAt >= end) {
+                    break;
+                }
+                long waitNanos = scheduledAt - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+
+                Endpoint endpoint = settings.pickEndpoint(ThreadLocalRandom.current());
+                try {
+                    executor.execute(() -> execute(pool, endpoint, scheduledAt));
+                } catch (RejectedExecutionException e) {
+                    dropped.incrementAndGet();
+                }
+            }
+        } finally {
+            executor.shutdown();
+            if (!executor.awaitTermination(settings.requestTimeoutSeconds() * 2L, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private void execute(BlockingQueue<VirtualUser> pool, Endpoint endpoint, long scheduledAt) {
+        VirtualUser user = null;
+        boolean success = false;
+        try {
+            user = pool.take();
+            HttpResponse<String> response = user.client.send(buildRequest(user, endpoint), HttpResponse.BodyHandlers.ofString());
+            success = isSuccess(endpoint, response);
+        } catch (IOException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (user != null) {
+                pool.add(user);
+            }
+            long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledAt);
+            histograms.get(endpoint).recordValue(Math.min(elapsedMicros, HIGHEST_TRACKABLE_MICROS));
+            if (!success) {
+                errors.get(endpoint).incrementAndGet();
+            }
+        }
+    }
+
+    private HttpRequest buildRequest(VirtualUser user, Endpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long postId = postIds.get(random.nextInt(postIds.size()));
+
+        return switch (endpoint) {
+            case BROWSE -> get("/posts?page=" + random.nextInt(settings.browsePages()));
+            case DETAIL -> get("/posts/" + postId);
+            case SEARCH -> get("/posts/search?searchType=title_content&keyword="
+                    + URLEncoder.encode(SEARCH_KEYWORDS[random.nextInt(SEARCH_KEYWORDS.length)], StandardCharsets.UTF_8));
+            case LIKE -> request("/posts/" + postId + "/like")
+                    .header(user.csrfHeader, user.csrfToken)
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+            case COMMENT -> request("/api/posts/" + postId + "/comments")
+                    .header(user.csrfHeader, user.csrfToken)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"content\":\"부하 테스트 댓글\",\"authorId\":" + user.userId + "}"))
+                    .build();
+        };
+    }
+
+    private boolean isSuccess(Endpoint endpoint, HttpResponse<String> response) {
+        int status = response.statusCode();
+        return switch (endpoint) {
+            case COMMENT -> status == 201;
+            // 추천 API는 실패해도 200 + success:false 를 돌려준다
+            case LIKE -> status == 200 && response.body().contains("\"success\":true");
+            default -> status == 200;
+        };
+    }
+
+    /**
+     * Spring Security 폼 로그인으로 세션을 만들고, AJAX 호출에 쓸 CSRF 토큰을 상세 페이지에서 읽어 둔다.
+     */
+    private VirtualUser login(Credentials credentials) throws IOException, InterruptedException {
+        CookieManager cookies = new CookieManager(null, CookiePolicy.ACCEPT_ALL);
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(cookies)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(settings.requestTimeoutSeconds()))
+                .build();
+
+        String loginPage = client.send(get("/login"), HttpResponse.BodyHandlers.ofString()).body();
+        String formToken = extract(FORM_CSRF, loginPage, "로그인 폼 CSRF 토큰");
+
+        String form = "username=" + URLEncoder.encode(credentials.username(), StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(credentials.password(), StandardCharsets.UTF_8)
+                + "&_csrf=" + URLEncoder.encode(formToken, StandardCharsets.UTF_8);
+        HttpResponse<Void> loginResponse = client.send(request("/login")
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        String location = loginResponse.headers().firstValue("Location").orElse("");
+        if (loginResponse.statusCode() != 302 || location.contains("error")) {
+            throw new IllegalStateException("부하 테스트 사용자 로그인 실패: " + credentials.username());
+        }
+
+        String detailPage = client.send(get("/posts/" + postIds.get(0)), HttpResponse.BodyHandlers.ofString()).body();
+        return new VirtualUser(client, credentials.userId(),
+                extract(META_CSRF, detailPage, "CSRF 토큰"),
+                extract(META_CSRF_HEADER, detailPage, "CSRF 헤더"));
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(settings.requestTimeoutSeconds()));
+    }
+
+    private static String extract(Pattern pattern, String html, String what) {
+        Matcher matcher = pattern.matcher(html);
+        if (!matcher.find()) {
+            throw new IllegalStateException(what + "을(를) 찾을 수 없습니다");
+        }
+        return matcher.group(1);
+    }
+
+    /** 로그인에 사용할 사용자 정보 */
+    public record Credentials(Long userId, String username, String password) {
+    }
+
+    private record VirtualUser(HttpClient client, Long userId, String csrfToken, String csrfHeader) {
+    }
+
+    /**
+     * 부하 측정 결과
+     */
+    public record LoadReport(Map<Endpoint, Histogram> histograms, Map<Endpoint, AtomicLong> errors,
+                             long dropped, Duration duration) {
+
+        public double errorRate(Endpoint endpoint) {
+            long total = histograms.get(endpoint).getTotalCount();
+            return total == 0 ? 0.0 : (double) errors.get(endpoint).get() / total;
+        }
+
+        public double percentileMillis(Endpoint endpoint, double percentile) {
+            return histograms.get(endpoint).getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        public void print(PrintStream out) {
+            out.printf("%n=== 부하 테스트 결과 (%ds, dropped=%d) ===%n", duration.toSeconds(), dropped);
+            out.printf("%-8s %8s %8s %10s %10s %10s %10s%n", "endpoint", "count", "errors", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+            for (Endpoint endpoint : Endpoint.values()) {
+                Histogram histogram = histograms.get(endpoint);
+                out.printf("%-8s %8d %8d %10.1f %10.1f %10.1f %10.1f%n", endpoint, histogram.getTotalCount(),
+                        errors.get(endpoint).get(), percentileMillis(endpoint, 50), percentileMillis(endpoint, 99),
+                        percentileMillis(endpoint, 99.9), histogram.getMaxValue() / 1000.0);
+            }
+        }
+
+        /**
+         * 엔드포인트별 HdrHistogram 분포(.hgrm)를 저장한다. HdrHistogram plotter 로 그려볼 수 있다.
+         */
+        public void writeDistributions(Path directory) throws IOException {
+            Files.createDirectories(directory);
+            for (Endpoint endpoint : Endpoint.values()) {
+                Path file = directory.resolve(endpoint.name().toLowerCase() + ".hgrm");
+                try (PrintStream out = new PrintStream(Files.newOutputStream(file), true, StandardCharsets.UTF_8)) {
+                    histograms.get(endpoint).outputPercentileDistribution(out, 1000.0);
+                }
+            }
+        }
+
+        public List<String> sloViolations(LoadSettings settings) {
+            List<String> violations = new ArrayList<>();
+            for (Endpoint endpoint : Endpoint.values()) {
+                if (histograms.get(endpoint).getTotalCount() == 0) {
+                    continue;
+                }
+                LoadSettings.Slo slo = settings.slo(endpoint);
+                double p99 = percentileMillis(endpoint, 99);
+                double p999 = percentileMillis(endpoint, 99.9);
+                if (p99 > slo.p99Millis()) {
+                    violations.add(String.format("%s p99 %.1fms > %dms", endpoint, p99, slo.p99Millis()));
+                }
+                if (p999 > slo.p999Millis()) {
+                    violations.add(String.format("%s p99.9 %.1fms > %dms", endpoint, p999, slo.p999Millis()));
+                }
+                if (errorRate(endpoint) > settings.maxErrorRate()) {
+                    violations.add(String.format("%s 오류율 %.2f%% > %.2f%%", endpoint,
+                            errorRate(endpoint) * 100, settings.maxErrorRate() * 100));
+                }
+            }
+            return violations;
+        }
+    }
+}
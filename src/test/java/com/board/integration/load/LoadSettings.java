@@ -0,0 +1,95 @@
+package com.board.integration.load;
+
+import com.board.integration.load.LoadDriver.Endpoint;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 부하 테스트 설정
+ *
+ * 모든 값은 시스템 프로퍼티(load.*)로 덮어쓸 수 있다. Gradle 에서는 -Pload.rate=200 처럼 넘긴다.
+ */
+public record LoadSettings(
+        int ratePerSecond,
+        int concurrency,
+        int durationSeconds,
+        int warmupSeconds,
+        int requestTimeoutSeconds,
+        int users,
+        int posts,
+        int browsePages,
+        double maxErrorRate,
+        Map<Endpoint, Integer> weights,
+        Map<Endpoint, Slo> slos) {
+
+    /** 엔드포인트별 지연시간 목표 */
+    public record Slo(long p99Millis, long p999Millis) {
+    }
+
+    private static final Map<Endpoint, Integer> DEFAULT_WEIGHTS = Map.of(
+            Endpoint.BROWSE, 40,
+            Endpoint.DETAIL, 35,
+            Endpoint.SEARCH, 15,
+            Endpoint.LIKE, 5,
+            Endpoint.COMMENT, 5);
+
+    private static final Map<Endpoint, Slo> DEFAULT_SLOS = Map.of(
+            Endpoint.BROWSE, new Slo(500, 1500),
+            Endpoint.DETAIL, new Slo(500, 1500),
+            Endpoint.SEARCH, new Slo(1000, 2500),
+            Endpoint.LIKE, new Slo(500, 1500),
+            Endpoint.COMMENT, new Slo(800, 2000));
+
+    public static LoadSettings fromSystemProperties() {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        Map<Endpoint, Slo> slos = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            String key = endpoint.name().toLowerCase();
+            weights.put(endpoint, intProperty("load.mix." + key, DEFAULT_WEIGHTS.get(endpoint)));
+            Slo defaults = DEFAULT_SLOS.get(endpoint);
+            slos.put(endpoint, new Slo(
+                    intProperty("load.slo." + key + ".p99", (int) defaults.p99Millis()),
+                    intProperty("load.slo." + key + ".p999", (int) defaults.p999Millis())));
+        }
+
+        int concurrency = intProperty("load.concurrency", 16);
+        return new LoadSettings(
+                intProperty("load.rate", 50),
+                concurrency,
+                intProperty("load.duration", 20),
+                intProperty("load.warmup", 5),
+                intProperty("load.timeout", 10),
+                concurrency,
+                intProperty("load.posts", 300),
+                intProperty("load.browsePages", 10),
+                Double.parseDouble(System.getProperty("load.maxErrorRate", "0.01")),
+                weights,
+                slos);
+    }
+
+    public Slo slo(Endpoint endpoint) {
+        return slos.get(endpoint);
+    }
+
+    /**
+     * 가중치에 비례해 엔드포인트를 하나 고른다.
+     */
+    public Endpoint pickEndpoint(Random random) {
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        int pick = random.nextInt(total);
+        for (Map.Entry<Endpoint, Integer> entry : weights.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("엔드포인트 가중치가 올바르지 않습니다");
+    }
+
+    private static int intProperty(String key, int defaultValue) {
+        String value = System.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
@@ -0,0 +1,116 @@
+package com.board.integration.load;
+
+import com.board.domain.entity.Comment;
+import com.board.domain.entity.Post;
+import com.board.domain.entity.User;
+import com.board.domain.enums.Role;
+import com.board.domain.repository.CommentRepository;
+import com.board.domain.repository.PostRepository;
+import com.board.domain.repository.UserRepository;
+import com.board.integration.load.LoadDriver.Credentials;
+import com.board.integration.load.LoadDriver.LoadReport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 서블릿 컨테이너 위에서 혼합 워크로드를 돌리고 엔드포인트별 SLO 를 검증한다.
+ * 기본 test 태스크에서는 제외되며 ./gradlew loadTest 로 실행한다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loaddb;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.thymeleaf.cache=true",
+        // test 프로필은 동시 처리 한도를 끄지만, 부하 테스트는 배포 설정과 같이 한도를 켠 상태로 측정한다
+        "board.concurrency-limit.enabled=true",
+        "logging.level.com.board=warn",
+        "logging.level.org.springframework.security=warn"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("HTTP 부하 테스트")
+class LoadTest {
+
+    private static final String PASSWORD = "password123";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final LoadSettings settings = LoadSettings.fromSystemProperties();
+    private final List<Credentials> credentials = new ArrayList<>();
+    private final List<Long> postIds = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        String encoded = passwordEncoder.encode(PASSWORD);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < settings.users(); i++) {
+            users.add(userRepository.save(User.builder()
+                    .username("loaduser" + i)
+                    .email("load" + i + "@example.com")
+                    .password(encoded)
+                    .nickname("부하유저" + i)
+                    .role(Role.USER)
+                    .build()));
+        }
+        users.forEach(user -> credentials.add(new Credentials(user.getId(), user.getUsername(), PASSWORD)));
+
+        String[] categories = {"자유", "질문", "정보"};
+        for (int i = 0; i < settings.posts(); i++) {
+            User author = users.get(i % users.size());
+            Post post = postRepository.save(Post.builder()
+                    .title("부하 테스트 게시글 " + i + (i % 5 == 0 ? " 성능" : ""))
+                    .content("## 스프링 게시판\n\n부하 테스트용 본문입니다. " + "내용 ".repeat(50 + i % 50))
+                    .category(categories[i % categories.length])
+                    .author(author)
+                    .build());
+            postIds.add(post.getId());
+
+            for (int c = 0; c < i % 8; c++) {
+                commentRepository.save(Comment.builder()
+                        .content("부하 테스트 댓글 " + c)
+                        .post(post)
+                        .author(users.get((i + c) % users.size()))
+                        .build());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("혼합 워크로드에서 엔드포인트별 p99/p99.9 지연시간과 오류율이 SLO 이내")
+    void mixedWorkloadMeetsSlo() throws Exception {
+        LoadDriver driver = new LoadDriver(URI.create("http://localhost:" + port), settings, postIds);
+
+        LoadReport report = driver.run(credentials);
+
+        report.print(System.out);
+        report.writeDistributions(Path.of(System.getProperty("load.reportDir", "build/reports/load")));
+        assertThat(report.sloViolations(settings)).isEmpty();
+    }
+}
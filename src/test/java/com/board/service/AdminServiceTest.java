@@ -3,10 +3,14 @@ package com.board.service;
 import com.board.domain.entity.Comment;
 import com.board.domain.entity.Post;
 import com.board.domain.entity.User;
+import com.board.domain.enums.AdminSort;
 import com.board.domain.enums.Role;
 import com.board.domain.repository.CommentRepository;
 import com.board.domain.repository.PostRepository;
 import com.board.domain.repository.UserRepository;
+import com.board.dto.AdminCursor;
+import com.board.dto.AdminListPage;
+import com.board.dto.AdminListRequest;
 import com.board.exception.ResourceNotFoundException;
 import com.board.exception.UnauthorizedException;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,12 +18,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 
 @SpringBootTest
@@ -48,8 +53,8 @@ class AdminServiceTest {
     void setUp() {
         // 관리자 사용자 생성
         adminUser = User.builder()
-                .username("admin")
-                .email("admin@example.com")
+                .username("testadmin")
+                .email("testadmin@example.com")
                 .password("password123")
                 .nickname("관리자")
                 .role(Role.ADMIN)
@@ -145,49 +150,50 @@ class AdminServiceTest {
     }
 
     @Test
-    @DisplayName("관리자는 모든 게시글을 조회할 수 있다")
+    @DisplayName("관리자는 삭제된 게시글도 조회할 수 있다")
     void adminCanViewAllPosts() {
         // given
         testPost.delete(); // 삭제된 게시글도 포함
-        postRepository.save(testPost);
+        postRepository.saveAndFlush(testPost);
 
-        Pageable pageable = PageRequest.of(0, 10);
+        AdminListRequest request = new AdminListRequest();
+        request.setStatus("deleted");
 
         // when
-        Page<Post> allPosts = adminService.getAllPosts(adminUser.getUsername(), pageable);
+        AdminListPage<Post> deletedPosts = adminService.getPostList(adminUser.getUsername(), request);
 
         // then
-        assertThat(allPosts.getContent()).hasSize(1);
-        assertThat(allPosts.getContent().get(0).getDeleted()).isTrue(); // 삭제된 게시글도 포함
+        assertThat(deletedPosts.content()).hasSize(1);
+        assertThat(deletedPosts.content().get(0).getDeleted()).isTrue(); // 삭제된 게시글도 포함
+        assertThat(deletedPosts.total()).isEqualTo(1);
     }
 
     @Test
-    @DisplayName("일반 사용자는 모든 게시글을 조회할 수 없다")
+    @DisplayName("일반 사용자는 관리자 게시글 목록을 조회할 수 없다")
     void normalUserCannotViewAllPosts() {
-        // given
-        Pageable pageable = PageRequest.of(0, 10);
-
         // when & then
-        assertThatThrownBy(() -> adminService.getAllPosts(normalUser.getUsername(), pageable))
+        assertThatThrownBy(() -> adminService.getPostList(normalUser.getUsername(), new AdminListRequest()))
                 .isInstanceOf(UnauthorizedException.class)
                 .hasMessageContaining("관리자 권한이 필요합니다");
     }
 
     @Test
-    @DisplayName("관리자는 모든 댓글을 조회할 수 있다")
+    @DisplayName("관리자는 삭제된 댓글도 조회할 수 있다")
     void adminCanViewAllComments() {
         // given
         testComment.delete(); // 삭제된 댓글도 포함
-        commentRepository.save(testComment);
+        commentRepository.saveAndFlush(testComment);
 
-        Pageable pageable = PageRequest.of(0, 10);
+        AdminListRequest request = new AdminListRequest();
+        request.setStatus("deleted");
 
         // when
-        Page<Comment> allComments = adminService.getAllComments(adminUser.getUsername(), pageable);
+        AdminListPage<Comment> deletedComments = adminService.getCommentList(adminUser.getUsername(), request);
 
         // then
-        assertThat(allComments.getContent()).hasSize(1);
-        assertThat(allComments.getContent().get(0).getDeleted()).isTrue(); // 삭제된 댓글도 포함
+        assertThat(deletedComments.content()).hasSize(1);
+        assertThat(deletedComments.content().get(0).getDeleted()).isTrue(); // 삭제된 댓글도 포함
+        assertThat(deletedComments.total()).isEqualTo(1);
     }
 
     @Test
@@ -216,4 +222,84 @@ class AdminServiceTest {
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("사용자를 찾을 수 없습니다");
     }
+
+    @Test
+    @DisplayName("관리자 게시글 목록은 커서로 끝까지 읽어도 빠지거나 겹치는 글이 없다")
+    void getPostList_KeysetPagesByLikes() {
+        // given - 좋아요 수가 같은 글이 섞여 있어도 id 로 순서가 정해진다
+        List<Long> expected = new ArrayList<>(List.of(testPost.getId()));
+        for (int i = 0; i < 5; i++) {
+            Post post = postRepository.save(Post.builder().title("글 " + i).content("내용").author(normalUser).build());
+            for (int like = 0; like < i % 3; like++) {
+                post.increaseLikeCount();
+            }
+            expected.add(post.getId());
+        }
+        postRepository.flush();
+
+        AdminListRequest request = new AdminListRequest();
+        request.setSort("likes");
+        request.setSize(2);
+
+        // when
+        List<Post> seen = new ArrayList<>();
+        AdminListPage<Post> page;
+        do {
+            page = adminService.getPostList(adminUser.getUsername(), request);
+            seen.addAll(page.content());
+            request.setCursor(page.nextCursor());
+        } while (page.hasNext());
+
+        // then
+        assertThat(seen).extracting(Post::getId).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(seen).isSortedAccordingTo(Comparator.comparing(Post::getLikeCount).reversed()
+                .thenComparing(Post::getId, Comparator.reverseOrder()));
+        assertThat(page.total()).isEqualTo(6);
+        assertThat(page.totalCapped()).isFalse();
+    }
+
+    @Test
+    @DisplayName("관리자 목록은 삭제 여부와 작성자로 나눠 본다")
+    void getPostList_FiltersByStatusAndAuthor() {
+        // given
+        Post deleted = postRepository.save(Post.builder().title("삭제 글").content("내용").author(normalUser).build());
+        deleted.delete();
+        postRepository.save(Post.builder().title("관리자 글").content("내용").author(adminUser).build());
+        postRepository.flush();
+
+        AdminListRequest request = new AdminListRequest();
+        request.setStatus("deleted");
+
+        // when
+        AdminListPage<Post> deletedPosts = adminService.getPostList(adminUser.getUsername(), request);
+        request.setStatus("active");
+        request.setAuthor(normalUser.getUsername());
+        AdminListPage<Post> activeByUser = adminService.getPostList(adminUser.getUsername(), request);
+        request.setAuthor("nobody");
+        AdminListPage<Post> unknownAuthor = adminService.getPostList(adminUser.getUsername(), request);
+
+        // then
+        assertThat(deletedPosts.content()).extracting(Post::getId).containsExactly(deleted.getId());
+        assertThat(activeByUser.content()).extracting(Post::getId).containsExactly(testPost.getId());
+        assertThat(unknownAuthor.content()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("허용하지 않은 정렬이나 다른 정렬의 커서는 거부한다")
+    void getCommentList_RejectsUnknownSortAndForeignCursor() {
+        AdminListRequest request = new AdminListRequest();
+        request.setSort("content");
+        assertThatThrownBy(() -> adminService.getCommentList(adminUser.getUsername(), request))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        request.setSort("views");
+        assertThatThrownBy(() -> adminService.getCommentList(adminUser.getUsername(), request))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        request.setSort("newest");
+        request.setCursor(new AdminCursor(AdminSort.MOST_LIKED, "0", 1L).encode());
+        assertThatThrownBy(() -> adminService.getCommentList(adminUser.getUsername(), request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 커서");
+    }
 }
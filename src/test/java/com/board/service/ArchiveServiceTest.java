@@ -0,0 +1,289 @@
+package com.board.service;
+
+import com.board.domain.entity.ArchivedComment;
+import com.board.domain.entity.Comment;
+import com.board.domain.entity.CommentLike;
+import com.board.domain.entity.Post;
+import com.board.domain.entity.PostLike;
+import com.board.domain.entity.ReportedPost;
+import com.board.domain.entity.User;
+import com.board.domain.enums.ReportStatus;
+import com.board.domain.enums.Role;
+import com.board.domain.repository.ArchivedCommentRepository;
+import com.board.domain.repository.ArchivedPostRepository;
+import com.board.domain.repository.CommentLikeRepository;
+import com.board.domain.repository.CommentRepository;
+import com.board.domain.repository.PostLikeRepository;
+import com.board.domain.repository.PostRepository;
+import com.board.domain.repository.ReportedPostRepository;
+import com.board.domain.repository.UserRepository;
+import com.board.exception.ResourceNotFoundException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@TestPropertySource(properties = {
+        "board.archive.retention=30d",
+        "board.archive.max-db-time-ratio=1.0"
+})
+class ArchiveServiceTest {
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    @Autowired
+    private ReportedPostRepository reportedPostRepository;
+
+    @Autowired
+    private ArchivedPostRepository archivedPostRepository;
+
+    @Autowired
+    private ArchivedCommentRepository archivedCommentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User admin;
+    private User user;
+    private Post livePost;
+
+    @BeforeEach
+    void setUp() {
+        admin = userRepository.save(User.builder()
+                .username("archiveadmin")
+                .email("archiveadmin@example.com")
+                .password("password123")
+                .nickname("보관관리자")
+                .role(Role.ADMIN)
+                .build());
+        user = userRepository.save(User.builder()
+                .username("archiveuser")
+                .email("archiveuser@example.com")
+                .password("password123")
+                .nickname("보관사용자")
+                .role(Role.USER)
+                .build());
+        livePost = postRepository.save(Post.builder()
+                .title("살아 있는 게시글")
+                .content("내용")
+                .author(user)
+                .build());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 삭제 게시글은 댓글/추천/신고와 함께 보관 테이블로 옮겨진다")
+    void archiveExpired_MovesOldDeletedPostWithChildren() {
+        // given
+        Post post = postRepository.save(Post.builder().title("오래된 글").content("내용").author(user).build());
+        Comment comment = commentRepository.save(Comment.builder().content("댓글").post(post).author(user).build());
+        Comment reply = commentRepository.save(Comment.builder().content("대댓글").post(post).author(user).parent(comment).build());
+        postLikeRepository.save(PostLike.builder().post(post).user(admin).isLike(true).build());
+        commentLikeRepository.save(CommentLike.builder().comment(reply).user(admin).build());
+        reportedPostRepository.save(ReportedPost.builder()
+                .post(post).reporter(admin).reason("신고 사유").status(ReportStatus.RESOLVED).build());
+        post.delete();
+        expireDeletion("posts", post.getId(), 31);
+
+        // when
+        ArchiveService.RunResult result = archiveService.archiveExpired();
+
+        // then
+        assertThat(result.getPosts()).isEqualTo(1);
+        assertThat(postRepository.existsById(post.getId())).isFalse();
+        assertThat(commentRepository.existsById(comment.getId())).isFalse();
+        assertThat(commentRepository.existsById(reply.getId())).isFalse();
+        assertThat(postLikeRepository.count()).isZero();
+        assertThat(commentLikeRepository.count()).isZero();
+        assertThat(reportedPostRepository.count()).isZero();
+        assertThat(archivedPostRepository.findById(post.getId())).isPresent();
+        assertThat(archivedCommentRepository.findIdsByPostId(post.getId()))
+                .containsExactlyInAnyOrder(comment.getId(), reply.getId());
+        assertThat(postRepository.existsById(livePost.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("처리되지 않은 신고가 남은 삭제 게시글은 보관 기간이 지나도 그대로 둔다")
+    void archiveExpired_KeepsPostWithPendingReports() {
+        // given
+        Post post = postRepository.save(Post.builder().title("신고된 글").content("내용").author(user).build());
+        reportedPostRepository.save(ReportedPost.builder()
+                .post(post).reporter(admin).reason("신고 사유").status(ReportStatus.PENDING).build());
+        post.delete();
+        expireDeletion("posts", post.getId(), 31);
+
+        // when
+        ArchiveService.RunResult result = archiveService.archiveExpired();
+
+        // then
+        assertThat(result.getPosts()).isZero();
+        assertThat(postRepository.existsById(post.getId())).isTrue();
+        assertThat(reportedPostRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("신고 누적으로 숨겨진 게시글은 보관하지 않는다")
+    void archiveExpired_KeepsPostHiddenByReports() {
+        // given
+        Post post = postRepository.save(Post.builder().title("숨겨진 글").content("내용").author(user).build());
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE posts SET deleted = TRUE, hidden_by_reports = TRUE, updated_at = :updatedAt " +
+                        "WHERE id = :id")
+                .setParameter("updatedAt", LocalDateTime.now().minusDays(31))
+                .setParameter("id", post.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        // when
+        ArchiveService.RunResult result = archiveService.archiveExpired();
+
+        // then
+        assertThat(result.getPosts()).isZero();
+        assertThat(postRepository.existsById(post.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지나지 않은 삭제 게시글은 그대로 둔다")
+    void archiveExpired_KeepsRecentlyDeletedPost() {
+        // given
+        Post post = postRepository.save(Post.builder().title("최근 삭제").content("내용").author(user).build());
+        post.delete();
+        expireDeletion("posts", post.getId(), 29);
+
+        // when
+        ArchiveService.RunResult result = archiveService.archiveExpired();
+
+        // then
+        assertThat(result.getPosts()).isZero();
+        assertThat(postRepository.existsById(post.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("대댓글이 남아 있는 삭제 댓글은 보관하지 않고, 대댓글이 없는 삭제 댓글만 보관한다")
+    void archiveExpired_KeepsDeletedParentWithReplies() {
+        // given
+        Comment parent = commentRepository.save(Comment.builder().content("부모").post(livePost).author(user).build());
+        commentRepository.save(Comment.builder().content("대댓글").post(livePost).author(user).parent(parent).build());
+        Comment lonely = commentRepository.save(Comment.builder().content("혼자").post(livePost).author(user).build());
+        parent.delete();
+        lonely.delete();
+        expireDeletion("comments", parent.getId(), 31);
+        expireDeletion("comments", lonely.getId(), 31);
+
+        // when
+        ArchiveService.RunResult result = archiveService.archiveExpired();
+
+        // then
+        assertThat(result.getComments()).isEqualTo(1);
+        assertThat(commentRepository.existsById(parent.getId())).isTrue();
+        assertThat(commentRepository.existsById(lonely.getId())).isFalse();
+        assertThat(archivedCommentRepository.findById(lonely.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("관리자는 보관된 게시글을 원래 ID 로 복원할 수 있다")
+    void restoreArchivedPost_RestoresPostAndComments() {
+        // given
+        Post post = postRepository.save(Post.builder().title("복원할 글").content("내용").author(user).build());
+        Comment comment = commentRepository.save(Comment.builder().content("댓글").post(post).author(user).build());
+        Comment reply = commentRepository.save(Comment.builder().content("대댓글").post(post).author(user).parent(comment).build());
+        postLikeRepository.save(PostLike.builder().post(post).user(admin).isLike(true).build());
+        post.delete();
+        expireDeletion("posts", post.getId(), 31);
+        archiveService.archiveExpired();
+        entityManager.clear();
+
+        // when
+        Post restored = adminService.restoreArchivedPost(post.getId(), admin.getUsername());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(restored.getId()).isEqualTo(post.getId());
+        Post reloaded = postRepository.findById(post.getId()).orElseThrow();
+        assertThat(reloaded.getDeleted()).isFalse();
+        assertThat(reloaded.getContent()).isEqualTo("내용");
+        assertThat(commentRepository.findById(reply.getId()).orElseThrow().getParent().getId()).isEqualTo(comment.getId());
+        assertThat(postLikeRepository.count()).isEqualTo(1);
+        assertThat(archivedPostRepository.existsById(post.getId())).isFalse();
+        assertThat(archivedCommentRepository.findIdsByPostId(post.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("보관된 대댓글을 복원하면 보관된 부모 댓글도 함께 돌아온다")
+    void restoreArchivedComment_RestoresArchivedParent() {
+        // given
+        Comment parent = commentRepository.save(Comment.builder().content("부모").post(livePost).author(user).build());
+        Comment reply = commentRepository.save(Comment.builder().content("대댓글").post(livePost).author(user).parent(parent).build());
+        parent.delete();
+        reply.delete();
+        expireDeletion("comments", parent.getId(), 31);
+        expireDeletion("comments", reply.getId(), 31);
+        archiveService.archiveExpired();
+        entityManager.clear();
+        assertThat(archivedCommentRepository.findAllById(List.of(parent.getId(), reply.getId())))
+                .extracting(ArchivedComment::getId)
+                .containsExactlyInAnyOrder(parent.getId(), reply.getId());
+
+        // when
+        adminService.restoreArchivedComment(reply.getId(), admin.getUsername());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        Comment restoredReply = commentRepository.findById(reply.getId()).orElseThrow();
+        assertThat(restoredReply.getDeleted()).isFalse();
+        assertThat(restoredReply.getParent().getId()).isEqualTo(parent.getId());
+        assertThat(commentRepository.findById(parent.getId()).orElseThrow().getDeleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("보관되지 않은 ID 를 복원하면 예외가 발생한다")
+    void restoreArchivedPost_NotArchived() {
+        assertThatThrownBy(() -> adminService.restoreArchivedPost(livePost.getId(), admin.getUsername()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    /**
+     * 삭제 시각을 days 일 전으로 옮기고 영속성 컨텍스트를 비운다 (보관 작업은 SQL 로 행을 옮기므로)
+     */
+    private void expireDeletion(String table, Long id, int days) {
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE " + table + " SET deleted_at = :deletedAt WHERE id = :id")
+                .setParameter("deletedAt", LocalDateTime.now().minusDays(days))
+                .setParameter("id", id)
+                .executeUpdate();
+        entityManager.clear();
+    }
+}
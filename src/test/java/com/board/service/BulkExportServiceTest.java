@@ -0,0 +1,180 @@
+package com.board.service;
+
+import com.board.domain.entity.Comment;
+import com.board.domain.entity.Post;
+import com.board.domain.entity.PostLike;
+import com.board.domain.entity.ReportedPost;
+import com.board.domain.entity.User;
+import com.board.domain.enums.Role;
+import com.board.domain.repository.CommentRepository;
+import com.board.domain.repository.PostLikeRepository;
+import com.board.domain.repository.PostRepository;
+import com.board.domain.repository.ReportedPostRepository;
+import com.board.domain.repository.UserRepository;
+import com.board.service.BulkExportService.Format;
+import com.board.service.BulkExportService.Target;
+import com.board.util.CsvReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@TestPropertySource(properties = "board.export.flush-rows=2")
+@DisplayName("대량 내보내기 서비스 테스트")
+class BulkExportServiceTest {
+
+    @Autowired
+    private BulkExportService bulkExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private ReportedPostRepository reportedPostRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User author;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.builder()
+                .username("exportuser")
+                .email("export@example.com")
+                .password("password123")
+                .nickname("내보내기유저")
+                .role(Role.USER)
+                .build());
+
+        post = postRepository.save(Post.builder()
+                .title("쉼표, 포함 제목")
+                .content("여러 줄\n본문 \"인용\"")
+                .category("자유")
+                .author(author)
+                .build());
+        for (int i = 1; i <= 4; i++) {
+            postRepository.save(Post.builder()
+                    .title("게시글 " + i)
+                    .content("본문 " + i)
+                    .category("자유")
+                    .author(author)
+                    .build());
+        }
+
+        Comment parent = commentRepository.save(Comment.builder()
+                .content("원댓글")
+                .post(post)
+                .author(author)
+                .build());
+        commentRepository.save(Comment.builder()
+                .content("답글")
+                .post(post)
+                .author(author)
+                .parent(parent)
+                .build());
+
+        postLikeRepository.save(PostLike.builder().post(post).user(author).isLike(true).build());
+        reportedPostRepository.save(ReportedPost.builder().post(post).reporter(author).reason("스팸").build());
+    }
+
+    @Test
+    @DisplayName("CSV 게시글 내보내기 - 헤더와 전체 행, 특수문자 필드를 CsvReader 로 되읽을 수 있음")
+    void exportPosts_Csv() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long rows = bulkExportService.export(Target.POSTS, Format.CSV, output);
+
+        List<List<String>> records = readCsv(output);
+        assertThat(rows).isEqualTo(5);
+        assertThat(records).hasSize(6);
+        assertThat(records.get(0)).startsWith("id", "legacyId", "title", "content");
+
+        List<String> first = records.get(1);
+        assertThat(first.get(0)).isEqualTo(post.getId().toString());
+        assertThat(first.get(2)).isEqualTo("쉼표, 포함 제목");
+        assertThat(first.get(3)).isEqualTo("여러 줄\n본문 \"인용\"");
+        assertThat(first.get(6)).isEqualTo("exportuser");
+    }
+
+    @Test
+    @DisplayName("NDJSON 댓글 내보내기 - 한 줄에 하나의 JSON, 부모 댓글은 ID 로 표현")
+    void exportComments_Ndjson() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long rows = bulkExportService.export(Target.COMMENTS, Format.NDJSON, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+
+        JsonNode parent = objectMapper.readTree(lines[0]);
+        JsonNode reply = objectMapper.readTree(lines[1]);
+        assertThat(parent.get("parentId").isNull()).isTrue();
+        assertThat(reply.get("parentId").asLong()).isEqualTo(parent.get("id").asLong());
+        assertThat(reply.get("postId").asLong()).isEqualTo(post.getId());
+        assertThat(reply.get("authorUsername").asText()).isEqualTo("exportuser");
+    }
+
+    @Test
+    @DisplayName("추천/신고 내보내기")
+    void exportLikesAndReports() throws IOException {
+        ByteArrayOutputStream likes = new ByteArrayOutputStream();
+        ByteArrayOutputStream reports = new ByteArrayOutputStream();
+
+        bulkExportService.export(Target.POST_LIKES, Format.NDJSON, likes);
+        bulkExportService.export(Target.POST_REPORTS, Format.CSV, reports);
+
+        JsonNode like = objectMapper.readTree(likes.toString(StandardCharsets.UTF_8).trim());
+        assertThat(like.get("isLike").asBoolean()).isTrue();
+        assertThat(like.get("username").asText()).isEqualTo("exportuser");
+
+        List<List<String>> records = readCsv(reports);
+        assertThat(records).hasSize(2);
+        assertThat(records.get(1)).contains("스팸", "PENDING");
+    }
+
+    @Test
+    @DisplayName("대상/형식 이름은 대소문자와 하이픈을 허용하고, 모르는 값은 거부")
+    void parseTargetAndFormat() {
+        assertThat(Target.from("post-likes")).isEqualTo(Target.POST_LIKES);
+        assertThat(Target.POST_LIKES.getFileName()).isEqualTo("post-likes");
+        assertThat(Format.from("CSV")).isEqualTo(Format.CSV);
+        assertThatThrownBy(() -> Target.from("users")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Format.from("xml")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<List<String>> readCsv(ByteArrayOutputStream output) {
+        List<List<String>> records = new ArrayList<>();
+        new CsvReader(new StringReader(output.toString(StandardCharsets.UTF_8))).forEachRemaining(records::add);
+        return records;
+    }
+}
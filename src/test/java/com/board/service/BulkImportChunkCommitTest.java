@@ -0,0 +1,116 @@
+package com.board.service;
+
+import com.board.domain.entity.User;
+import com.board.domain.enums.Role;
+import com.board.domain.repository.PostRepository;
+import com.board.domain.repository.UserRepository;
+import com.board.service.BulkImportService.Format;
+import com.board.service.BulkImportService.ImportResult;
+import com.board.service.BulkImportService.Target;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * chunk 단위 커밋 테스트 - 테스트 트랜잭션 없이 실행해서 chunk 마다 실제로 커밋되는지 확인한다
+ * (BulkImportServiceTest 는 테스트 트랜잭션 안에서 돌아 chunk 트랜잭션이 거기에 합류하므로 커밋을 확인할 수 없다)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "board.import.checkpoint-dir=build/tmp/import-checkpoints",
+        "board.import.chunk-size=2"
+})
+@DisplayName("대량 가져오기 chunk 커밋 테스트")
+class BulkImportChunkCommitTest {
+
+    private static final List<Long> LEGACY_IDS = List.of(901L, 902L, 903L, 904L);
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .username("chunkuser")
+                .email("chunkuser@example.com")
+                .password("password123")
+                .nickname("청크유저")
+                .role(Role.USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 커밋된 데이터이므로 직접 지운다
+        postRepository.deleteAllById(importedPostIds());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("뒤쪽 chunk 가 실패해도 앞서 커밋된 chunk 는 남고, 다시 실행하면 실패한 chunk 부터 이어서 처리")
+    void importPosts_FailedChunkKeepsEarlierChunks() throws IOException {
+        // given - 두 번째 chunk 의 마지막 행은 분류가 컬럼 길이(50)를 넘어 저장 시 DB 오류가 난다
+        String firstChunk = """
+                {"legacyId": 901, "title": "글1", "content": "본문", "author": "chunkuser"}
+                {"legacyId": 902, "title": "글2", "content": "본문", "author": "chunkuser"}
+                """;
+        String job = "test-" + System.nanoTime();
+        String broken = firstChunk + """
+                {"legacyId": 903, "title": "글3", "content": "본문", "author": "chunkuser"}
+                {"legacyId": 904, "title": "글4", "content": "본문", "author": "chunkuser", "category": "%s"}
+                """.formatted("가".repeat(60));
+
+        // when
+        assertThatThrownBy(() -> bulkImportService.importData(Target.POSTS, Format.NDJSON, stream(broken), job))
+                .isInstanceOf(RuntimeException.class);
+
+        // then - 첫 chunk 는 커밋되어 있고, 실패한 chunk 는 통째로 롤백
+        assertThat(importedLegacyIds()).containsExactlyInAnyOrder(901L, 902L);
+
+        // when - 고친 입력으로 다시 실행
+        String fixed = firstChunk + """
+                {"legacyId": 903, "title": "글3", "content": "본문", "author": "chunkuser"}
+                {"legacyId": 904, "title": "글4", "content": "본문", "author": "chunkuser", "category": "자유"}
+                """;
+        ImportResult resumed = bulkImportService.importData(Target.POSTS, Format.NDJSON, stream(fixed), job);
+
+        // then
+        assertThat(resumed.getResumedFrom()).isEqualTo(2);
+        assertThat(resumed.getInserted()).isEqualTo(2);
+        assertThat(importedLegacyIds()).containsExactlyInAnyOrderElementsOf(LEGACY_IDS);
+    }
+
+    private List<Long> importedLegacyIds() {
+        return postRepository.findIdsByLegacyIdIn(LEGACY_IDS).stream().map(row -> (Long) row[0]).toList();
+    }
+
+    private List<Long> importedPostIds() {
+        return postRepository.findIdsByLegacyIdIn(LEGACY_IDS).stream().map(row -> (Long) row[1]).toList();
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
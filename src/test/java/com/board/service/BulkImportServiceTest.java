@@ -0,0 +1,185 @@
+package com.board.service;
+
+import com.board.domain.entity.Comment;
+import com.board.domain.entity.Post;
+import com.board.domain.entity.User;
+import com.board.domain.enums.Role;
+import com.board.domain.repository.CommentRepository;
+import com.board.domain.repository.PostRepository;
+import com.board.domain.repository.UserRepository;
+import com.board.service.BulkImportService.Format;
+import com.board.service.BulkImportService.ImportResult;
+import com.board.service.BulkImportService.Target;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@TestPropertySource(properties = {
+        "board.import.checkpoint-dir=build/tmp/import-checkpoints",
+        "board.import.chunk-size=2"
+})
+@DisplayName("대량 가져오기 서비스 테스트")
+class BulkImportServiceTest {
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder()
+                .username("legacyuser")
+                .email("legacy@example.com")
+                .password("password123")
+                .nickname("이전유저")
+                .role(Role.USER)
+                .build());
+    }
+
+    @Test
+    @DisplayName("NDJSON 게시글 가져오기 - 원래 작성 시각과 원본 ID 보존")
+    void importPosts_Ndjson() throws IOException {
+        String ndjson = """
+                {"legacyId": 101, "title": "첫 글", "content": "본문1", "category": "자유", "author": "legacyuser", "createdAt": "2019-03-01T09:30:00"}
+                {"legacyId": 102, "title": "둘째 글", "content": "본문2", "author": "legacyuser", "isMarkdown": true, "createdAt": "2019-03-02T10:00:00"}
+                {"legacyId": 103, "title": "셋째 글", "content": "본문3", "author": "legacyuser"}
+                """;
+
+        ImportResult result = bulkImportService.importData(Target.POSTS, Format.NDJSON, stream(ndjson), uniqueJob());
+
+        assertThat(result.getProcessed()).isEqualTo(3);
+        assertThat(result.getInserted()).isEqualTo(3);
+        assertThat(result.getFailed()).isZero();
+
+        Post first = postRepository.findById(postIdsByLegacyId(101L, 102L).get(101L)).orElseThrow();
+        assertThat(first.getCreatedAt()).isEqualTo(LocalDateTime.of(2019, 3, 1, 9, 30));
+        assertThat(first.getLegacyId()).isEqualTo(101L);
+        assertThat(first.getAuthor().getUsername()).isEqualTo("legacyuser");
+    }
+
+    @Test
+    @DisplayName("댓글 가져오기 - 게시글/부모 댓글을 원본 ID로 연결 (chunk 경계를 넘어도 연결)")
+    void importComments_ResolvesPostAndParent() throws IOException {
+        bulkImportService.importData(Target.POSTS, Format.NDJSON, stream("""
+                {"legacyId": 201, "title": "댓글 대상", "content": "본문", "author": "legacyuser"}
+                """), uniqueJob());
+
+        String ndjson = """
+                {"legacyId": 1, "postLegacyId": 201, "author": "legacyuser", "content": "원댓글", "createdAt": "2020-01-01T00:00:00"}
+                {"legacyId": 2, "postLegacyId": 201, "parentLegacyId": 1, "author": "legacyuser", "content": "같은 chunk 답글"}
+                {"legacyId": 3, "postLegacyId": 201, "parentLegacyId": 1, "author": "legacyuser", "content": "다음 chunk 답글"}
+                {"legacyId": 4, "postLegacyId": 999, "author": "legacyuser", "content": "없는 게시글"}
+                """;
+
+        ImportResult result = bulkImportService.importData(Target.COMMENTS, Format.NDJSON, stream(ndjson), uniqueJob());
+
+        assertThat(result.getInserted()).isEqualTo(3);
+        assertThat(result.getFailed()).isEqualTo(1);
+
+        Map<Long, Long> ids = commentRepository.findIdsByLegacyIdIn(List.of(1L, 2L, 3L)).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+        Comment reply = commentRepository.findById(ids.get(3L)).orElseThrow();
+        assertThat(reply.getParent().getId()).isEqualTo(ids.get(1L));
+        assertThat(reply.getPost().getLegacyId()).isEqualTo(201L);
+    }
+
+    @Test
+    @DisplayName("같은 작업 이름으로 다시 실행하면 체크포인트 이후부터 이어서 처리")
+    void importPosts_ResumeFromCheckpoint() throws IOException {
+        String job = uniqueJob();
+        String ndjson = """
+                {"legacyId": 301, "title": "글1", "content": "본문", "author": "legacyuser"}
+                {"legacyId": 302, "title": "글2", "content": "본문", "author": "legacyuser"}
+                """;
+        bulkImportService.importData(Target.POSTS, Format.NDJSON, stream(ndjson), job);
+
+        String extended = ndjson + """
+                {"legacyId": 303, "title": "글3", "content": "본문", "author": "legacyuser"}
+                """;
+        ImportResult resumed = bulkImportService.importData(Target.POSTS, Format.NDJSON, stream(extended), job);
+
+        assertThat(resumed.getResumedFrom()).isEqualTo(2);
+        assertThat(resumed.getProcessed()).isEqualTo(1);
+        assertThat(resumed.getInserted()).isEqualTo(1);
+        assertThat(resumed.getCheckpoint()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이미 가져온 원본 ID는 중복으로 건너뜀")
+    void importPosts_SkipsDuplicates() throws IOException {
+        String ndjson = """
+                {"legacyId": 401, "title": "글", "content": "본문", "author": "legacyuser"}
+                """;
+        bulkImportService.importData(Target.POSTS, Format.NDJSON, stream(ndjson), uniqueJob());
+
+        ImportResult again = bulkImportService.importData(Target.POSTS, Format.NDJSON, stream(ndjson), uniqueJob());
+
+        assertThat(again.getInserted()).isZero();
+        assertThat(again.getSkipped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("CSV 가져오기 - 따옴표 안의 쉼표/줄바꿈/이중 따옴표 처리, 없는 작성자는 실패 처리")
+    void importPosts_Csv() throws IOException {
+        String csv = "legacyId,title,content,category,author,createdAt\r\n"
+                + "501,\"쉼표, 포함\",\"여러 줄\n본문 \"\"인용\"\"\",자유,legacyuser,2018-05-05T12:00:00\r\n"
+                + "502,없는 작성자,본문,,ghost,\r\n";
+
+        ImportResult result = bulkImportService.importData(Target.POSTS, Format.CSV, stream(csv), uniqueJob());
+
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+
+        Post post = postRepository.findById(postIdsByLegacyId(501L).get(501L)).orElseThrow();
+        assertThat(post.getTitle()).isEqualTo("쉼표, 포함");
+        assertThat(post.getContent()).isEqualTo("여러 줄\n본문 \"인용\"");
+        assertThat(post.getCreatedAt()).isEqualTo(LocalDateTime.of(2018, 5, 5, 12, 0));
+    }
+
+    @Test
+    @DisplayName("작업 이름에 경로 문자가 있으면 거부")
+    void importData_InvalidJobName() {
+        assertThatThrownBy(() -> bulkImportService.importData(Target.POSTS, Format.NDJSON, stream(""), "../etc"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Map<Long, Long> postIdsByLegacyId(Long... legacyIds) {
+        return postRepository.findIdsByLegacyIdIn(List.of(legacyIds)).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String uniqueJob() {
+        return "test-" + System.nanoTime();
+    }
+}
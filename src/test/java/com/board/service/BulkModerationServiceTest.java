@@ -0,0 +1,187 @@
+package com.board.service;
+
+import com.board.domain.entity.Comment;
+import com.board.domain.entity.Post;
+import com.board.domain.entity.ReportedPost;
+import com.board.domain.entity.User;
+import com.board.domain.enums.ReportStatus;
+import com.board.domain.repository.CommentRepository;
+import com.board.domain.repository.PostRepository;
+import com.board.domain.repository.ReportedPostRepository;
+import com.board.domain.repository.UserRepository;
+import com.board.dto.ModerationRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 작업 스레드 대신 테스트 스레드에서 createJob/execute 를 직접 호출한다 (chunk 트랜잭션이 테스트 트랜잭션에 참여)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@TestPropertySource(properties = "board.moderation.chunk-size=2")
+@DisplayName("일괄 관리 서비스 테스트")
+class BulkModerationServiceTest {
+
+    @Autowired
+    private BulkModerationService bulkModerationService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ReportedPostRepository reportedPostRepository;
+
+    private User spammer;
+    private User member;
+
+    @BeforeEach
+    void setUp() {
+        spammer = userRepository.save(user("spammer"));
+        member = userRepository.save(user("member"));
+    }
+
+    @Test
+    @DisplayName("작성자 조건으로 여러 chunk 에 걸쳐 삭제하고, 남은 신고는 처리완료로 닫는다")
+    void delete_ByAuthorInChunks() {
+        // given
+        List<Long> spamIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            spamIds.add(postRepository.save(post("광고 " + i, spammer)).getId());
+        }
+        Post normal = postRepository.save(post("일반 글", member));
+        reportService.reportPost(spamIds.get(0), member.getId(), "스팸");
+
+        // when
+        BulkModerationService.ModerationJob job = run(request("posts", "delete", r -> r.setAuthor("spammer")));
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(BulkModerationService.Status.COMPLETED);
+        assertThat(job.getTotal()).isEqualTo(5);
+        assertThat(job.getProcessed()).isEqualTo(5);
+        assertThat(job.getAffected()).isEqualTo(5);
+        assertThat(job.getPercent()).isEqualTo(100);
+        assertThat(postRepository.findAllById(spamIds)).extracting(Post::getDeleted).containsOnly(true);
+        assertThat(postRepository.findById(normal.getId()).orElseThrow().getDeleted()).isFalse();
+        assertThat(postRepository.findById(spamIds.get(0)).orElseThrow().getReportCount()).isZero();
+        assertThat(reportedPostRepository.findAll()).extracting(ReportedPost::getStatus)
+                .containsOnly(ReportStatus.RESOLVED);
+    }
+
+    @Test
+    @DisplayName("ID 목록으로 복원하면 삭제된 것만 바뀐다")
+    void restore_ByIds() {
+        // given
+        Post deleted = postRepository.save(post("삭제된 글", member));
+        deleted.delete();
+        Post alive = postRepository.save(post("살아 있는 글", member));
+        postRepository.flush();
+
+        // when
+        BulkModerationService.ModerationJob job = run(request("posts", "restore",
+                r -> r.setIds(List.of(alive.getId(), deleted.getId(), deleted.getId()))));
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(BulkModerationService.Status.COMPLETED);
+        assertThat(job.getTotal()).isEqualTo(2);
+        assertThat(job.getAffected()).isEqualTo(1);
+        assertThat(postRepository.findById(deleted.getId()).orElseThrow().getDeleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("댓글은 내용 검색어로 골라 삭제한다")
+    void delete_CommentsByKeyword() {
+        // given
+        Post target = postRepository.save(post("게시글", member));
+        Comment spam = commentRepository.save(Comment.builder().content("무료 쿠폰 받으세요").post(target).author(spammer).build());
+        Comment normal = commentRepository.save(Comment.builder().content("좋은 글이네요").post(target).author(member).build());
+
+        // when
+        BulkModerationService.ModerationJob job = run(request("comments", "delete", r -> r.setKeyword("쿠폰")));
+
+        // then
+        assertThat(job.getAffected()).isEqualTo(1);
+        assertThat(commentRepository.findById(spam.getId()).orElseThrow().getDeleted()).isTrue();
+        assertThat(commentRepository.findById(normal.getId()).orElseThrow().getDeleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("시작 전에 취소한 작업은 아무것도 바꾸지 않는다")
+    void cancel_BeforeStart() {
+        // given
+        Post spam = postRepository.save(post("광고", spammer));
+        BulkModerationService.ModerationJob job = bulkModerationService.createJob(
+                request("posts", "delete", r -> r.setAuthor("spammer")), "admin");
+
+        // when
+        bulkModerationService.cancel(job.getId());
+        bulkModerationService.execute(job);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(BulkModerationService.Status.CANCELLED);
+        assertThat(postRepository.findById(spam.getId()).orElseThrow().getDeleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("대상 조건이 없거나 ID 목록과 조건을 섞으면 거부한다")
+    void createJob_InvalidCriteria() {
+        assertThatThrownBy(() -> bulkModerationService.createJob(request("posts", "delete", r -> { }), "admin"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bulkModerationService.createJob(request("posts", "delete", r -> {
+            r.setIds(List.of(1L));
+            r.setCategory("자유");
+        }), "admin")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bulkModerationService.createJob(
+                request("posts", "purge", r -> r.setIds(List.of(1L))), "admin"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("purge");
+    }
+
+    private BulkModerationService.ModerationJob run(ModerationRequest request) {
+        BulkModerationService.ModerationJob job = bulkModerationService.createJob(request, "admin");
+        bulkModerationService.execute(job);
+        return job;
+    }
+
+    private static ModerationRequest request(String target, String action, Consumer<ModerationRequest> criteria) {
+        ModerationRequest request = new ModerationRequest();
+        request.setTarget(target);
+        request.setAction(action);
+        criteria.accept(request);
+        return request;
+    }
+
+    private static Post post(String title, User author) {
+        return Post.builder().title(title).content("내용").author(author).build();
+    }
+
+    private static User user(String username) {
+        return User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("password123")
+                .nickname(username)
+                .build();
+    }
+}
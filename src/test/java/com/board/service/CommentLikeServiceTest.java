@@ -8,6 +8,7 @@ import com.board.domain.repository.CommentLikeRepository;
 import com.board.domain.repository.CommentRepository;
 import com.board.domain.repository.PostRepository;
 import com.board.domain.repository.UserRepository;
+import com.board.util.IdSet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +17,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 
 @SpringBootTest
@@ -128,4 +132,29 @@ class CommentLikeServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("사용자를 찾을 수 없습니다");
     }
+
+    @Test
+    @DisplayName("댓글 목록의 좋아요 여부를 쿼리 한 번으로 확인할 수 있다")
+    void findLikedCommentIdsInBatch() {
+        // given - 댓글 300개 중 3개에 좋아요
+        List<Long> commentIds = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            commentIds.add(commentRepository.save(Comment.builder()
+                    .content("댓글 " + i)
+                    .post(post)
+                    .author(user)
+                    .build()).getId());
+        }
+        List<Long> liked = List.of(commentIds.get(0), commentIds.get(150), commentIds.get(299));
+        liked.forEach(commentId -> commentLikeService.toggleLike(commentId, user.getId()));
+
+        // when
+        IdSet likedIds = commentLikeService.findLikedCommentIds(user.getId(), commentIds);
+
+        // then
+        assertThat(likedIds.size()).isEqualTo(3);
+        assertThat(commentIds).allSatisfy(commentId ->
+                assertThat(likedIds.contains(commentId)).isEqualTo(liked.contains(commentId)));
+        assertThat(commentLikeService.findLikedCommentIds(null, commentIds).isEmpty()).isTrue();
+    }
 }
@@ -7,6 +7,10 @@ import com.board.domain.enums.Role;
 import com.board.domain.repository.CommentRepository;
 import com.board.domain.repository.PostRepository;
 import com.board.domain.repository.UserRepository;
+import com.board.dto.CommentCursor;
+import com.board.dto.CommentDto;
+import com.board.dto.CommentThreadDto;
+import com.board.dto.CursorSlice;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +21,9 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
 import static org.assertj.core.api.Assertions.*;
 
 @SpringBootTest
@@ -398,4 +405,88 @@ class CommentServiceTest {
         assertThat(retrievedDeletedComment.isDeleted()).isTrue();
         assertThat(retrievedDeletedComment.getDisplayContent()).isEqualTo("삭제된 댓글입니다.");
     }
+
+    @Test
+    @DisplayName("커서 기반 댓글 목록 - 같은 작성 시각도 ID 로 이어서 중복/누락 없이 페이지를 넘김")
+    void getCommentThreads_CursorPaging() {
+        // given - 같은 시각에 작성된 최상위 댓글 5개
+        LocalDateTime sameTime = LocalDateTime.of(2025, 1, 1, 12, 0);
+        for (int i = 1; i <= 5; i++) {
+            commentRepository.save(Comment.builder()
+                    .content("댓글 " + i)
+                    .post(post)
+                    .author(author)
+                    .createdAt(sameTime)
+                    .build());
+        }
+
+        // when
+        CursorSlice<CommentThreadDto> first = commentService.getCommentThreads(post.getId(), null, 2, 3, null);
+        CursorSlice<CommentThreadDto> second = commentService.getCommentThreads(
+                post.getId(), CommentCursor.decode(first.nextCursor()), 2, 3, null);
+        CursorSlice<CommentThreadDto> last = commentService.getCommentThreads(
+                post.getId(), CommentCursor.decode(second.nextCursor()), 2, 3, null);
+
+        // then
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.hasNext()).isTrue();
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+        assertThat(Stream.of(first, second, last)
+                .flatMap(slice -> slice.content().stream())
+                .map(thread -> thread.comment().getContent()))
+                .containsExactly("댓글 1", "댓글 2", "댓글 3", "댓글 4", "댓글 5");
+    }
+
+    @Test
+    @DisplayName("커서 기반 댓글 목록 - 대댓글은 댓글마다 지정한 개수까지만, 나머지는 moreRepliesCursor 로 이어 받음")
+    void getCommentThreads_RepliesCappedPerParent() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0);
+        Comment busy = commentRepository.save(Comment.builder()
+                .content("대댓글 많은 댓글").post(post).author(author).createdAt(base).build());
+        Comment quiet = commentRepository.save(Comment.builder()
+                .content("대댓글 하나인 댓글").post(post).author(author).createdAt(base.plusMinutes(1)).build());
+        for (int i = 1; i <= 4; i++) {
+            commentRepository.save(Comment.builder()
+                    .content("대댓글 " + i).post(post).author(otherUser).parent(busy)
+                    .createdAt(base.plusMinutes(10 + i)).build());
+        }
+        commentRepository.save(Comment.builder()
+                .content("유일한 대댓글").post(post).author(otherUser).parent(quiet)
+                .createdAt(base.plusMinutes(20)).build());
+
+        // when
+        CursorSlice<CommentThreadDto> threads = commentService.getCommentThreads(post.getId(), null, 10, 2, null);
+
+        // then - 대댓글은 최상위 목록에 섞이지 않는다
+        assertThat(threads.content()).hasSize(2);
+        CommentThreadDto busyThread = threads.content().get(0);
+        assertThat(busyThread.replies()).extracting(CommentDto::getContent).containsExactly("대댓글 1", "대댓글 2");
+        assertThat(busyThread.hasMoreReplies()).isTrue();
+        assertThat(busyThread.moreRepliesCursor()).isNotNull();
+        CommentThreadDto quietThread = threads.content().get(1);
+        assertThat(quietThread.replies()).extracting(CommentDto::getContent).containsExactly("유일한 대댓글");
+        assertThat(quietThread.hasMoreReplies()).isFalse();
+        assertThat(quietThread.moreRepliesCursor()).isNull();
+
+        CursorSlice<CommentDto> rest = commentService.getReplies(
+                busy.getId(), CommentCursor.decode(busyThread.moreRepliesCursor()), 10, null);
+        assertThat(rest.content()).extracting(CommentDto::getContent).containsExactly("대댓글 3", "대댓글 4");
+        assertThat(rest.hasNext()).isFalse();
+
+        // 대댓글을 싣지 않으면 커서 없이 더 있다는 표시만 주고, 처음부터 받는다
+        CommentThreadDto withoutReplies = commentService.getCommentThreads(post.getId(), null, 10, 0, null)
+                .content().get(0);
+        assertThat(withoutReplies.replies()).isEmpty();
+        assertThat(withoutReplies.hasMoreReplies()).isTrue();
+        assertThat(withoutReplies.moreRepliesCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("커서 기반 댓글 목록 - 없는 게시글이면 예외")
+    void getCommentThreads_PostNotFound() {
+        assertThatThrownBy(() -> commentService.getCommentThreads(999_999L, null, 10, 3, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
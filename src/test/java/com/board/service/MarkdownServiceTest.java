@@ -1,5 +1,6 @@
 package com.board.service;
 
+import com.board.dto.PostPreview;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -92,6 +93,38 @@ class MarkdownServiceTest {
         assertThat(imageUrl).isNull();
     }
 
+    @Test
+    @DisplayName("마크다운 미리보기는 서식과 코드 블록을 뺀 글자와 첫 이미지를 뽑는다")
+    void extractPreview_Markdown() {
+        // given
+        String markdown = "# 제목\n\n**굵은** 글씨와 `코드`\n\n```java\nint x = 1;\n```\n\n" +
+                "![대체 텍스트](javascript:alert(1))\n\n![첫 이미지](/uploads/a.png) ![둘째](https://example.com/b.png)";
+
+        // when
+        PostPreview preview = markdownService.extractPreview(markdown, true);
+
+        // then
+        assertThat(preview.excerpt()).isEqualTo("제목 굵은 글씨와 코드");
+        assertThat(preview.thumbnailUrl()).isEqualTo("/uploads/a.png");
+    }
+
+    @Test
+    @DisplayName("긴 본문의 요약은 공백을 줄이고 정해진 길이로 자른다")
+    void extractPreview_PlainTextIsAbbreviated() {
+        // given
+        String plainText = "![이미지](https://example.com/a.png)\n\n" + "가나다   라마\n".repeat(50);
+
+        // when
+        PostPreview preview = markdownService.extractPreview(plainText, false);
+
+        // then
+        assertThat(preview.thumbnailUrl()).isNull();
+        assertThat(preview.excerpt()).hasSizeLessThanOrEqualTo(PostPreview.EXCERPT_LENGTH)
+                .startsWith("![이미지](https://example.com/a.png) 가나다 라마 가나다")
+                .endsWith("...")
+                .doesNotContain("  ");
+    }
+
     @Test
     @DisplayName("일반 텍스트의 줄바꿈을 HTML로 변환할 수 있다")
     void convertPlainTextToHtml_withLineBreaks() {
@@ -0,0 +1,72 @@
+package com.board.service;
+
+import com.board.dto.PostDetailDto;
+import com.board.dto.PostRevision;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("게시글 상세 동시 조회 합치기 테스트")
+class PostDetailServiceTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private final PostService postService = mock(PostService.class);
+    private final PostDetailService postDetailService = new PostDetailService(
+            postService, mock(CommentService.class), new SimpleMeterRegistry(), Duration.ofSeconds(5));
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("검증값이 바뀐 뒤의 요청은 그 전에 시작한 조회에 합류하지 않음")
+    void newerRevision_DoesNotJoinOlderLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        when(postService.getPostDetail(1L)).thenAnswer(invocation -> {
+            if (loads.incrementAndGet() == 1) {
+                loading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return detail("댓글 작성 전");
+            }
+            return detail("댓글 작성 후");
+        });
+
+        Future<PostDetailDto> before = executor.submit(() -> postDetailService.getDetail(1L, revision(0L)));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 댓글이 커밋된 뒤의 요청 - 이전 조회를 기다리지 않고 새로 읽는다
+        PostDetailDto after = postDetailService.getDetail(1L, revision(1L));
+        release.countDown();
+
+        assertThat(after.getTitle()).isEqualTo("댓글 작성 후");
+        assertThat(before.get(5, TimeUnit.SECONDS).getTitle()).isEqualTo("댓글 작성 전");
+        assertThat(loads).hasValue(2);
+    }
+
+    private static PostRevision revision(Long commentCount) {
+        return new PostRevision(1L, UPDATED_AT, 0, null, commentCount, 0L, null);
+    }
+
+    private static PostDetailDto detail(String title) {
+        return PostDetailDto.builder().id(1L).title(title).build();
+    }
+}
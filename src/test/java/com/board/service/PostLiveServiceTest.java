@@ -0,0 +1,161 @@
+package com.board.service;
+
+import com.board.domain.entity.Comment;
+import com.board.domain.entity.OutboxEvent;
+import com.board.domain.entity.Post;
+import com.board.domain.entity.PostLike;
+import com.board.domain.entity.User;
+import com.board.domain.enums.Role;
+import com.board.domain.repository.CommentRepository;
+import com.board.domain.repository.PostLikeRepository;
+import com.board.domain.repository.PostRepository;
+import com.board.domain.repository.UserRepository;
+import com.board.event.OutboxEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 실시간 갱신 테스트 - 주기 전송은 끄고 flush() 를 직접 호출한다
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@TestPropertySource(properties = {
+        "board.live.push-interval=1h",
+        "board.live.heartbeat=1h"
+})
+class PostLiveServiceTest {
+
+    private static final long WAIT_MILLIS = 5000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostLiveService postLiveService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private User user;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .username("liveuser")
+                .email("liveuser@example.com")
+                .password("password123")
+                .nickname("실시간사용자")
+                .role(Role.USER)
+                .build());
+        post = postRepository.save(Post.builder()
+                .title("실시간 게시글")
+                .content("내용")
+                .author(user)
+                .build());
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자도 구독할 수 있고 연결 직후 재연결 간격을 받는다")
+    void subscribe_StartsEventStream() throws Exception {
+        MvcResult result = mockMvc.perform(get("/posts/{id}/live", post.getId()))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("X-Accel-Buffering", "no"))
+                .andReturn();
+
+        assertThat(awaitContent(result, ":connected")).contains("retry:3000");
+    }
+
+    @Test
+    @DisplayName("없는 게시글은 구독할 수 없다")
+    void subscribe_UnknownPost() throws Exception {
+        mockMvc.perform(get("/posts/{id}/live", 999999L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("같은 주기의 변경은 하나의 갱신으로 묶여 전송된다")
+    void flush_CoalescesChangesPerPost() throws Exception {
+        // given
+        MvcResult result = mockMvc.perform(get("/posts/{id}/live", post.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitContent(result, ":connected");
+
+        postLikeRepository.save(PostLike.builder().post(post).user(user).isLike(true).build());
+        Comment comment = commentRepository.save(Comment.builder().content("새 댓글입니다").post(post).author(user).build());
+        Comment removed = commentRepository.save(Comment.builder().content("지울 댓글").post(post).author(user).build());
+        removed.delete();
+        commentRepository.flush();
+
+        // when
+        postLiveService.onCommitted(event(OutboxEventType.POST_LIKE_CHANGED, null));
+        postLiveService.onCommitted(event(OutboxEventType.POST_LIKE_CHANGED, null));
+        postLiveService.onCommitted(event(OutboxEventType.COMMENT_CREATED, comment.getId()));
+        postLiveService.onCommitted(event(OutboxEventType.COMMENT_CREATED, removed.getId()));
+        postLiveService.onCommitted(event(OutboxEventType.COMMENT_DELETED, removed.getId()));
+        postLiveService.flush();
+
+        // then
+        String content = awaitContent(result, "event:update");
+        assertThat(content.split("event:update", -1)).hasSize(2);
+        assertThat(content)
+                .contains("\"likeCount\":1")
+                .contains("\"dislikeCount\":0")
+                .contains("\"commentCount\":1")
+                .contains("새 댓글입니다")
+                .doesNotContain("지울 댓글")
+                .contains("\"deletedCommentIds\":[" + removed.getId() + "]");
+    }
+
+    private OutboxEvent event(OutboxEventType type, Long targetId) {
+        return OutboxEvent.builder().type(type).postId(post.getId()).targetId(targetId).actorId(user.getId()).build();
+    }
+
+    /**
+     * 전송은 구독자별 가상 스레드에서 하므로 응답에 나타날 때까지 기다린다
+     *
+     * 이벤트는 이름/데이터/빈 줄을 따로 쓰므로, expected 로 시작한 이벤트가 빈 줄로 끝날 때까지 기다린다.
+     */
+    private String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        String content = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        while (!containsEvent(content, expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        assertThat(content).contains(expected);
+        return content;
+    }
+
+    private static boolean containsEvent(String content, String expected) {
+        int start = content.indexOf(expected);
+        return start >= 0 && content.indexOf("\n\n", start) >= 0;
+    }
+}
@@ -5,6 +5,9 @@ import com.board.domain.entity.User;
 import com.board.domain.enums.Role;
 import com.board.domain.repository.PostRepository;
 import com.board.domain.repository.UserRepository;
+import com.board.dto.PostSummary;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,6 +33,9 @@ class PostPaginationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private User author;
 
     @BeforeEach
@@ -65,6 +71,22 @@ class PostPaginationTest {
         }
     }
 
+    @Test
+    @DisplayName("목록은 작성자까지 한 번에 읽고 엔티티를 영속성 컨텍스트에 올리지 않는다")
+    void findAllWithSort_ReturnsDetachedSummaries() {
+        // given
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Page<PostSummary> posts = postService.findAllWithSort(PageRequest.of(0, 10), "latest");
+
+        // then
+        assertThat(posts.getContent()).hasSize(10)
+                .allMatch(post -> "테스트유저".equals(post.getAuthor().getNickname()));
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
     @Test
     @DisplayName("게시글 목록 페이징 - 기본 최신순")
     void findAllWithPagination_Latest() {
@@ -72,7 +94,7 @@ class PostPaginationTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // when
-        Page<Post> posts = postService.findAll(pageable);
+        Page<PostSummary> posts = postService.findAll(pageable);
 
         // then
         assertThat(posts).isNotNull();
@@ -94,7 +116,7 @@ class PostPaginationTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // when
-        Page<Post> posts = postService.findAllWithSort(pageable, "viewCount");
+        Page<PostSummary> posts = postService.findAllWithSort(pageable, "viewCount");
 
         // then
         assertThat(posts).isNotNull();
@@ -117,7 +139,7 @@ class PostPaginationTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // when
-        Page<Post> posts = postService.findAllWithSort(pageable, "likeCount");
+        Page<PostSummary> posts = postService.findAllWithSort(pageable, "likeCount");
 
         // then
         assertThat(posts).isNotNull();
@@ -140,7 +162,7 @@ class PostPaginationTest {
         Pageable pageable = PageRequest.of(1, 10);
 
         // when
-        Page<Post> posts = postService.findAll(pageable);
+        Page<PostSummary> posts = postService.findAll(pageable);
 
         // then
         assertThat(posts).isNotNull();
@@ -159,7 +181,7 @@ class PostPaginationTest {
         Pageable pageable = PageRequest.of(2, 10);
 
         // when
-        Page<Post> posts = postService.findAll(pageable);
+        Page<PostSummary> posts = postService.findAll(pageable);
 
         // then
         assertThat(posts).isNotNull();
@@ -180,7 +202,7 @@ class PostPaginationTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // when
-        Page<Post> posts = postService.findAll(pageable);
+        Page<PostSummary> posts = postService.findAll(pageable);
 
         // then
         assertThat(posts).isNotNull();
@@ -199,7 +221,7 @@ class PostPaginationTest {
         Pageable pageable = PageRequest.of(0, 5);
 
         // when
-        Page<Post> posts = postService.findAll(pageable);
+        Page<PostSummary> posts = postService.findAll(pageable);
 
         // then
         assertThat(posts).isNotNull();
@@ -216,7 +238,7 @@ class PostPaginationTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // when
-        Page<Post> posts = postService.findAllWithSort(pageable, "invalidSort");
+        Page<PostSummary> posts = postService.findAllWithSort(pageable, "invalidSort");
 
         // then
         assertThat(posts).isNotNull();
@@ -175,6 +175,24 @@ class PostServiceTest {
                 .hasMessage("삭제된 게시글입니다. ID: " + postId);
     }
 
+    @Test
+    @DisplayName("글을 쓰고 고칠 때 목록용 썸네일과 요약을 저장한다")
+    void createAndUpdatePost_StoresPreview() {
+        // given
+        Post createdPost = postService.createPost("마크다운 글", "## 소개\n\n![사진](https://example.com/a.png)\n\n본문입니다",
+                "자유", testUser, true);
+        assertThat(createdPost.getThumbnailUrl()).isEqualTo("https://example.com/a.png");
+        assertThat(createdPost.getExcerpt()).isEqualTo("소개 본문입니다");
+
+        // when
+        Post updatedPost = postService.updatePost(createdPost.getId(), "마크다운 글", "이미지를 뺐습니다",
+                "자유", true, testUser);
+
+        // then
+        assertThat(updatedPost.getThumbnailUrl()).isNull();
+        assertThat(updatedPost.getExcerpt()).isEqualTo("이미지를 뺐습니다");
+    }
+
     @Test
     @DisplayName("작성자가 게시글 수정 성공")
     void updatePost_Success() {
@@ -0,0 +1,154 @@
+package com.board.service;
+
+import com.board.domain.entity.Post;
+import com.board.domain.entity.ReportedPost;
+import com.board.domain.entity.User;
+import com.board.domain.enums.ReportStatus;
+import com.board.domain.repository.PostRepository;
+import com.board.domain.repository.ReportedPostRepository;
+import com.board.domain.repository.UserRepository;
+import com.board.dto.ReportTargetDto;
+import com.board.exception.AlreadyReportedException;
+import com.board.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@TestPropertySource(properties = "board.report.hide-threshold=2")
+class ReportServiceIntegrationTest {
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private ReportedPostRepository reportedPostRepository;
+
+    private User author;
+    private User reporter1;
+    private User reporter2;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(user("reportauthor"));
+        reporter1 = userRepository.save(user("reporter1"));
+        reporter2 = userRepository.save(user("reporter2"));
+        post = postRepository.save(Post.builder().title("신고 대상").content("내용").author(author).build());
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 같은 게시글을 다시 신고하면 유니크 인덱스로 막힌다")
+    void reportPost_Duplicate() {
+        reportService.reportPost(post.getId(), reporter1.getId(), "스팸");
+
+        assertThatThrownBy(() -> reportService.reportPost(post.getId(), reporter1.getId(), "또 스팸"))
+                .isInstanceOf(AlreadyReportedException.class)
+                .hasMessageContaining("이미 신고한 게시글입니다");
+    }
+
+    @Test
+    @DisplayName("신고 수가 기준에 닿으면 게시글이 숨겨지고, 기각하면 다시 보인다")
+    void reportPost_HideAtThresholdAndDismiss() {
+        // when
+        reportService.reportPost(post.getId(), reporter1.getId(), "스팸");
+        reportService.reportPost(post.getId(), reporter2.getId(), "광고");
+
+        // then
+        Post hidden = postRepository.findById(post.getId()).orElseThrow();
+        assertThat(hidden.getReportCount()).isEqualTo(2);
+        assertThat(hidden.getDeleted()).isTrue();
+        assertThat(hidden.getHiddenByReports()).isTrue();
+
+        Page<ReportTargetDto> queue = reportService.getPostReportQueue(PageRequest.of(0, 10));
+        assertThat(queue.getContent()).extracting(ReportTargetDto::getTargetId).containsExactly(post.getId());
+        assertThat(queue.getContent().get(0).isHidden()).isTrue();
+
+        // when
+        int resolved = reportService.resolvePostReports(post.getId(), ReportStatus.DISMISSED);
+
+        // then
+        assertThat(resolved).isEqualTo(2);
+        Post restored = postRepository.findById(post.getId()).orElseThrow();
+        assertThat(restored.getDeleted()).isFalse();
+        assertThat(restored.getHiddenByReports()).isFalse();
+        assertThat(restored.getReportCount()).isZero();
+        assertThat(reportedPostRepository.findAll()).extracting(ReportedPost::getStatus)
+                .containsOnly(ReportStatus.DISMISSED);
+        assertThat(reportService.getPostReportQueue(PageRequest.of(0, 10)).getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("숨겨진 뒤 관리자가 삭제한 게시글은 신고를 기각해도 되살아나지 않는다")
+    void resolvePostReports_DismissKeepsDeletedPost() {
+        // given
+        reportService.reportPost(post.getId(), reporter1.getId(), "스팸");
+        reportService.reportPost(post.getId(), reporter2.getId(), "광고");
+        Post hidden = postRepository.findById(post.getId()).orElseThrow();
+        hidden.delete();
+        postRepository.saveAndFlush(hidden);
+
+        // when
+        reportService.resolvePostReports(post.getId(), ReportStatus.DISMISSED);
+
+        // then
+        Post deleted = postRepository.findById(post.getId()).orElseThrow();
+        assertThat(deleted.getDeleted()).isTrue();
+        assertThat(deleted.getDeletedAt()).isNotNull();
+        assertThat(deleted.getHiddenByReports()).isFalse();
+    }
+
+    @Test
+    @DisplayName("신고를 처리 완료하면 숨김이 삭제로 확정된다")
+    void resolvePostReports_ResolveConfirmsDeletion() {
+        // given
+        reportService.reportPost(post.getId(), reporter1.getId(), "스팸");
+        reportService.reportPost(post.getId(), reporter2.getId(), "광고");
+
+        // when
+        reportService.resolvePostReports(post.getId(), ReportStatus.RESOLVED);
+
+        // then
+        Post deleted = postRepository.findById(post.getId()).orElseThrow();
+        assertThat(deleted.getDeleted()).isTrue();
+        assertThat(deleted.getDeletedAt()).isNotNull();
+        assertThat(deleted.getHiddenByReports()).isFalse();
+    }
+
+    @Test
+    @DisplayName("숨겨진 게시글은 더 신고할 수 없다")
+    void reportPost_HiddenPost() {
+        reportService.reportPost(post.getId(), reporter1.getId(), "스팸");
+        reportService.reportPost(post.getId(), reporter2.getId(), "광고");
+        User reporter3 = userRepository.save(user("reporter3"));
+
+        assertThatThrownBy(() -> reportService.reportPost(post.getId(), reporter3.getId(), "욕설"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private User user(String username) {
+        return User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("password123")
+                .nickname(username)
+                .build();
+    }
+}
@@ -3,6 +3,8 @@ package com.board.service;
 import com.board.domain.entity.*;
 import com.board.domain.enums.ReportStatus;
 import com.board.domain.repository.*;
+import com.board.event.Outbox;
+import com.board.event.PostChangedEvent;
 import com.board.exception.AlreadyReportedException;
 import com.board.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,12 +13,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -41,6 +47,12 @@ class ReportServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Outbox outbox;
+
     @InjectMocks
     private ReportService reportService;
 
@@ -51,6 +63,8 @@ class ReportServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(reportService, "hideThreshold", 3);
+
         reporter = User.builder()
                 .username("reporter")
                 .email("reporter@test.com")
@@ -85,9 +99,9 @@ class ReportServiceTest {
         Long reporterId = 2L;
         String reason = "부적절한 내용";
 
-        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(userRepository.findById(reporterId)).thenReturn(Optional.of(reporter));
-        when(reportedPostRepository.findByPostAndReporter(post, reporter)).thenReturn(Optional.empty());
+        when(postRepository.incrementReportCount(postId)).thenReturn(1);
+        when(postRepository.getReferenceById(postId)).thenReturn(post);
+        when(userRepository.getReferenceById(reporterId)).thenReturn(reporter);
 
         ReportedPost savedReport = ReportedPost.builder()
                 .post(post)
@@ -95,7 +109,8 @@ class ReportServiceTest {
                 .reason(reason)
                 .status(ReportStatus.PENDING)
                 .build();
-        when(reportedPostRepository.save(any(ReportedPost.class))).thenReturn(savedReport);
+        when(reportedPostRepository.saveAndFlush(any(ReportedPost.class))).thenReturn(savedReport);
+        when(postRepository.hideIfReportedAtLeast(eq(postId), eq(3), any())).thenReturn(0);
 
         // when
         ReportedPost result = reportService.reportPost(postId, reporterId, reason);
@@ -106,7 +121,9 @@ class ReportServiceTest {
         assertThat(result.getReason()).isEqualTo(reason);
         assertThat(result.getStatus()).isEqualTo(ReportStatus.PENDING);
 
-        verify(reportedPostRepository).save(any(ReportedPost.class));
+        verify(reportedPostRepository).saveAndFlush(any(ReportedPost.class));
+        verify(postRepository, never()).findById(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -116,23 +133,55 @@ class ReportServiceTest {
         Long reporterId = 2L;
         String reason = "부적절한 내용";
 
-        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(userRepository.findById(reporterId)).thenReturn(Optional.of(reporter));
-
-        ReportedPost existingReport = ReportedPost.builder()
-                .post(post)
-                .reporter(reporter)
-                .reason("이전 신고")
-                .status(ReportStatus.PENDING)
-                .build();
-        when(reportedPostRepository.findByPostAndReporter(post, reporter)).thenReturn(Optional.of(existingReport));
+        when(postRepository.incrementReportCount(postId)).thenReturn(1);
+        when(postRepository.getReferenceById(postId)).thenReturn(post);
+        when(userRepository.getReferenceById(reporterId)).thenReturn(reporter);
+        // 같은 (게시글, 신고자) 신고가 이미 있으면 INSERT 가 유니크 인덱스에 걸린다
+        when(reportedPostRepository.saveAndFlush(any(ReportedPost.class))).thenThrow(
+                new DataIntegrityViolationException("Duplicate entry '1-2' for key 'reported_posts.uk_reported_posts_post_reporter'"));
 
         // when & then
         assertThatThrownBy(() -> reportService.reportPost(postId, reporterId, reason))
                 .isInstanceOf(AlreadyReportedException.class)
                 .hasMessageContaining("이미 신고한 게시글입니다");
 
-        verify(reportedPostRepository, never()).save(any(ReportedPost.class));
+        verify(postRepository, never()).hideIfReportedAtLeast(any(), anyInt(), any());
+    }
+
+    @Test
+    void 유니크_인덱스가_아닌_무결성_오류는_그대로_전달() {
+        // given
+        Long postId = 1L;
+        Long reporterId = 999L;
+
+        when(postRepository.incrementReportCount(postId)).thenReturn(1);
+        when(postRepository.getReferenceById(postId)).thenReturn(post);
+        when(userRepository.getReferenceById(reporterId)).thenReturn(reporter);
+        when(reportedPostRepository.saveAndFlush(any(ReportedPost.class))).thenThrow(
+                new DataIntegrityViolationException("Cannot add or update a child row: a foreign key constraint fails"));
+
+        // when & then
+        assertThatThrownBy(() -> reportService.reportPost(postId, reporterId, "부적절한 내용"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void 신고_누적시_게시글_숨김() {
+        // given
+        Long postId = 1L;
+        Long reporterId = 2L;
+
+        when(postRepository.incrementReportCount(postId)).thenReturn(1);
+        when(postRepository.getReferenceById(postId)).thenReturn(post);
+        when(userRepository.getReferenceById(reporterId)).thenReturn(reporter);
+        when(reportedPostRepository.saveAndFlush(any(ReportedPost.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(postRepository.hideIfReportedAtLeast(eq(postId), eq(3), any())).thenReturn(1);
+
+        // when
+        reportService.reportPost(postId, reporterId, "부적절한 내용");
+
+        // then
+        verify(eventPublisher).publishEvent(new PostChangedEvent(postId));
     }
 
     @Test
@@ -142,9 +191,9 @@ class ReportServiceTest {
         Long reporterId = 2L;
         String reason = "부적절한 댓글";
 
-        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
-        when(userRepository.findById(reporterId)).thenReturn(Optional.of(reporter));
-        when(reportedCommentRepository.findByCommentAndReporter(comment, reporter)).thenReturn(Optional.empty());
+        when(commentRepository.incrementReportCount(commentId)).thenReturn(1);
+        when(commentRepository.getReferenceById(commentId)).thenReturn(comment);
+        when(userRepository.getReferenceById(reporterId)).thenReturn(reporter);
 
         ReportedComment savedReport = ReportedComment.builder()
                 .comment(comment)
@@ -152,7 +201,8 @@ class ReportServiceTest {
                 .reason(reason)
                 .status(ReportStatus.PENDING)
                 .build();
-        when(reportedCommentRepository.save(any(ReportedComment.class))).thenReturn(savedReport);
+        when(reportedCommentRepository.saveAndFlush(any(ReportedComment.class))).thenReturn(savedReport);
+        when(commentRepository.hideIfReportedAtLeast(eq(commentId), eq(3), any())).thenReturn(0);
 
         // when
         ReportedComment result = reportService.reportComment(commentId, reporterId, reason);
@@ -163,7 +213,7 @@ class ReportServiceTest {
         assertThat(result.getReason()).isEqualTo(reason);
         assertThat(result.getStatus()).isEqualTo(ReportStatus.PENDING);
 
-        verify(reportedCommentRepository).save(any(ReportedComment.class));
+        verify(reportedCommentRepository).saveAndFlush(any(ReportedComment.class));
     }
 
     @Test
@@ -185,9 +235,43 @@ class ReportServiceTest {
 
         // then
         verify(reportedPostRepository).save(reportedPost);
+        verify(postRepository).decrementReportCount(any());
         assertThat(reportedPost.getStatus()).isEqualTo(ReportStatus.RESOLVED);
     }
 
+    @Test
+    void 신고_일괄_기각시_숨김_해제와_신고수_초기화() {
+        // given
+        Long postId = 1L;
+        when(postRepository.unhideHiddenByReports(eq(postId), any())).thenReturn(1);
+        when(reportedPostRepository.updatePendingStatusByPostId(
+                eq(postId), eq(ReportStatus.DISMISSED), eq(ReportStatus.PENDING), any())).thenReturn(4);
+
+        // when
+        int updated = reportService.resolvePostReports(postId, ReportStatus.DISMISSED);
+
+        // then
+        assertThat(updated).isEqualTo(4);
+        verify(postRepository).resetReportCount(postId);
+        verify(eventPublisher).publishEvent(new PostChangedEvent(postId));
+    }
+
+    @Test
+    void 신고_일괄_처리완료는_숨김을_유지() {
+        // given
+        Long postId = 1L;
+        when(reportedPostRepository.updatePendingStatusByPostId(
+                eq(postId), eq(ReportStatus.RESOLVED), eq(ReportStatus.PENDING), any())).thenReturn(2);
+
+        // when
+        reportService.resolvePostReports(postId, ReportStatus.RESOLVED);
+
+        // then
+        verify(postRepository, never()).unhideHiddenByReports(any(), any());
+        verify(postRepository).confirmHiddenByReportsByIdIn(eq(List.of(postId)), any());
+        verify(postRepository).resetReportCount(postId);
+    }
+
     @Test
     void 대기중인_신고_목록_조회() {
         // given
@@ -224,11 +308,13 @@ class ReportServiceTest {
         Long reporterId = 2L;
         String reason = "부적절한 내용";
 
-        when(postRepository.findById(nonExistentPostId)).thenReturn(Optional.empty());
+        when(postRepository.incrementReportCount(nonExistentPostId)).thenReturn(0);
 
         // when & then
         assertThatThrownBy(() -> reportService.reportPost(nonExistentPostId, reporterId, reason))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("게시글을 찾을 수 없습니다");
+
+        verify(reportedPostRepository, never()).saveAndFlush(any(ReportedPost.class));
     }
 }
@@ -5,6 +5,7 @@ import com.board.domain.entity.User;
 import com.board.domain.enums.Role;
 import com.board.domain.repository.PostRepository;
 import com.board.domain.repository.UserRepository;
+import com.board.dto.PostSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -90,7 +91,7 @@ class SearchServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // when
-        Page<Post> result = searchService.searchByTitle(keyword, pageable);
+        Page<PostSummary> result = searchService.searchByTitle(keyword, pageable);
 
         // then
         assertThat(result.getContent()).hasSize(1);
@@ -105,11 +106,11 @@ class SearchServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // when
-        Page<Post> result = searchService.searchByContent(keyword, pageable);
+        Page<PostSummary> result = searchService.searchByContent(keyword, pageable);
 
         // then
         assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getContent()).contains("자바");
+        assertThat(result.getContent().get(0).getId()).isEqualTo(post2.getId());
     }
 
     @Test
@@ -120,7 +121,7 @@ class SearchServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // when
-        Page<Post> result = searchService.searchByAuthor(authorName, pageable);
+        Page<PostSummary> result = searchService.searchByAuthor(authorName, pageable);
 
         // then
         assertThat(result.getContent()).hasSize(4);
@@ -136,7 +137,7 @@ class SearchServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // when
-        Page<Post> result = searchService.searchByCategory(category, pageable);
+        Page<PostSummary> result = searchService.searchByCategory(category, pageable);
 
         // then
         assertThat(result.getContent()).hasSize(2);
@@ -152,7 +153,7 @@ class SearchServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // when
-        Page<Post> result = searchService.searchByTitleOrContent(keyword, pageable);
+        Page<PostSummary> result = searchService.searchByTitleOrContent(keyword, pageable);
 
         // then
         assertThat(result.getContent()).hasSize(1);
@@ -167,7 +168,7 @@ class SearchServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // when
-        Page<Post> result = searchService.searchByAllFields(keyword, pageable);
+        Page<PostSummary> result = searchService.searchByAllFields(keyword, pageable);
 
         // then
         assertThat(result.getTotalElements()).isGreaterThanOrEqualTo(2);
@@ -181,7 +182,7 @@ class SearchServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // when
-        Page<Post> result = searchService.searchByTitle(keyword, pageable);
+        Page<PostSummary> result = searchService.searchByTitle(keyword, pageable);
 
         // then
         assertThat(result.getContent()).isEmpty();
@@ -195,7 +196,7 @@ class SearchServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // when
-        Page<Post> result = searchService.searchByTitle(keyword, pageable);
+        Page<PostSummary> result = searchService.searchByTitle(keyword, pageable);
 
         // then
         assertThat(result.getContent()).isEmpty();
@@ -209,7 +210,7 @@ class SearchServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // when
-        Page<Post> result = searchService.searchByTitle(keyword, pageable);
+        Page<PostSummary> result = searchService.searchByTitle(keyword, pageable);
 
         // then
         assertThat(result.getContent()).isEmpty();
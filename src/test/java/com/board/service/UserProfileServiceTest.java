@@ -7,6 +7,7 @@ import com.board.domain.enums.Role;
 import com.board.domain.repository.CommentRepository;
 import com.board.domain.repository.PostRepository;
 import com.board.domain.repository.UserRepository;
+import com.board.dto.PostSummary;
 import com.board.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -120,7 +121,7 @@ class UserProfileServiceTest {
         Pageable pageable = PageRequest.of(0, 3);
 
         // when
-        Page<Post> posts = userProfileService.getUserPosts("testuser", pageable);
+        Page<PostSummary> posts = userProfileService.getUserPosts("testuser", pageable);
 
         // then
         assertThat(posts).isNotNull();
@@ -150,19 +151,20 @@ class UserProfileServiceTest {
     @DisplayName("삭제된 게시글은 조회되지 않는다")
     void getUserPosts_ExcludeDeleted() {
         // given
-        Post post = postRepository.findByAuthorUsernameAndDeletedFalseOrderByCreatedAtDesc("testuser", PageRequest.of(0, 1))
-                .getContent().get(0);
+        Long postId = postRepository.findSummariesByAuthorUsername("testuser", PageRequest.of(0, 1))
+                .getContent().get(0).getId();
+        Post post = postRepository.findById(postId).orElseThrow();
         post.delete();
         postRepository.save(post);
 
         Pageable pageable = PageRequest.of(0, 10);
 
         // when
-        Page<Post> posts = userProfileService.getUserPosts("testuser", pageable);
+        Page<PostSummary> posts = userProfileService.getUserPosts("testuser", pageable);
 
         // then
         assertThat(posts.getTotalElements()).isEqualTo(4); // 삭제된 것 제외
-        assertThat(posts.getContent()).noneMatch(Post::getDeleted);
+        assertThat(posts.getContent()).extracting(PostSummary::getId).doesNotContain(post.getId());
     }
 
     @Test
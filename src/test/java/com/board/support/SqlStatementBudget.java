@@ -0,0 +1,30 @@
+package com.board.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 실행 중 허용하는 SQL 문 예산
+ *
+ * 테스트 본문(@BeforeEach 이후)에서 실행된 SQL 문이 예산을 넘거나, 같은 SQL 이 maxRepeats 회를 넘게
+ * 반복되면(N+1) 테스트가 실패한다. 기본적으로 시작 전에 영속성 컨텍스트를 비워서,
+ * 준비 단계에서 저장한 엔티티가 1차 캐시에 남아 지연 로딩을 가리지 않도록 한다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlStatementBudgetExtension.class)
+public @interface SqlStatementBudget {
+
+    /** 허용하는 최대 SQL 문 수 */
+    int value();
+
+    /** 동일한 SQL 의 최대 반복 횟수 */
+    int maxRepeats() default 3;
+
+    /** 측정 전에 flush + clear 할지 여부 */
+    boolean clearPersistenceContext() default true;
+}
@@ -0,0 +1,85 @@
+package com.board.support;
+
+import com.board.util.SqlStatementContext;
+import com.board.util.SqlStatementContext.RepeatedStatement;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link SqlStatementBudget} 을 검사하는 JUnit 확장
+ */
+public class SqlStatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(SqlStatementBudgetExtension.class);
+    private static final String SCOPE_KEY = "scope";
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        Optional<SqlStatementBudget> budget = findBudget(context);
+        if (budget.isEmpty()) {
+            return;
+        }
+        if (budget.get().clearPersistenceContext()) {
+            flushAndClear(context);
+        }
+        context.getStore(NAMESPACE).put(SCOPE_KEY, SqlStatementContext.begin());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatementContext.Scope scope = context.getStore(NAMESPACE).remove(SCOPE_KEY, SqlStatementContext.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        SqlStatementContext.end(scope);
+
+        // 테스트 자체가 실패했다면 원래 실패 원인을 가리지 않는다
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+
+        SqlStatementBudget budget = findBudget(context).orElseThrow();
+        List<RepeatedStatement> repeated = scope.getRepeatedStatements(budget.maxRepeats() + 1);
+        if (scope.getStatementCount() <= budget.value() && repeated.isEmpty()) {
+            return;
+        }
+
+        StringBuilder message = new StringBuilder()
+                .append("SQL 문 예산 초과: ").append(scope.getStatementCount()).append("건 실행 (예산 ")
+                .append(budget.value()).append("건, 동일 SQL 최대 ").append(budget.maxRepeats()).append("회)");
+        for (RepeatedStatement statement : repeated) {
+            message.append("\n  ").append(statement.count()).append("회 반복: ").append(statement.sql());
+        }
+        throw new AssertionFailedError(message.toString());
+    }
+
+    private Optional<SqlStatementBudget> findBudget(ExtensionContext context) {
+        Optional<SqlStatementBudget> onMethod = context.getTestMethod()
+                .flatMap(method -> AnnotationSupport.findAnnotation(method, SqlStatementBudget.class));
+        return onMethod.isPresent()
+                ? onMethod
+                : context.getTestClass().flatMap(type -> AnnotationSupport.findAnnotation(type, SqlStatementBudget.class));
+    }
+
+    /**
+     * 테스트 트랜잭션에 묶인 영속성 컨텍스트를 비워 실제 요청처럼 DB 에서 다시 읽게 한다
+     */
+    private void flushAndClear(ExtensionContext context) {
+        EntityManagerFactory emf = SpringExtension.getApplicationContext(context).getBean(EntityManagerFactory.class);
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(emf);
+        if (entityManager != null) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.board.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("동시 처리 한도 제한기 테스트")
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    @DisplayName("한도를 다 쓰는 동안 응답 시간이 그대로면 한도가 늘어남")
+    void growsWhileRttIsSteady() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 200, 0.2, 1.5, 600);
+
+        for (int i = 0; i < 50; i++) {
+            sample(limiter, 10, limiter.getLimit());
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(20);
+        assertThat(limiter.getLongRttMillis()).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("응답 시간이 평소보다 크게 늘면 한도가 min-limit 까지 줄어듦")
+    void shrinksWhenRttRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(40, 5, 200, 0.2, 1.5, 600);
+        for (int i = 0; i < 20; i++) {
+            sample(limiter, 10, limiter.getLimit());
+        }
+        int before = limiter.getLimit();
+
+        for (int i = 0; i < 100; i++) {
+            sample(limiter, 200, limiter.getLimit());
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(before).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("한도의 절반도 쓰지 않을 때는 한도를 바꾸지 않음")
+    void ignoresSamplesWhenUnderused() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 200, 0.2, 1.5, 600);
+
+        for (int i = 0; i < 50; i++) {
+            sample(limiter, 10, 1);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("share 가 작은 요청부터 거절되고, 끝난 요청만큼 다시 허용")
+    void sharesRejectLowPriorityFirst() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 8, 0.2, 1.5, 600);
+
+        // 관리자(25%)는 2개, 검색(50%)은 4개까지
+        assertThat(limiter.tryAcquire(0.25)).isEqualTo(1);
+        assertThat(limiter.tryAcquire(0.25)).isEqualTo(2);
+        assertThat(limiter.tryAcquire(0.25)).isEqualTo(-1);
+        assertThat(limiter.tryAcquire(0.5)).isEqualTo(3);
+        assertThat(limiter.tryAcquire(0.5)).isEqualTo(4);
+        assertThat(limiter.tryAcquire(0.5)).isEqualTo(-1);
+
+        // 목록/상세(100%)는 한도 전체를 쓸 수 있다
+        for (int i = 5; i <= 8; i++) {
+            assertThat(limiter.tryAcquire(1.0)).isEqualTo(i);
+        }
+        assertThat(limiter.tryAcquire(1.0)).isEqualTo(-1);
+        assertThat(limiter.getInflight()).isEqualTo(8);
+
+        limiter.onIgnore();
+        assertThat(limiter.tryAcquire(1.0)).isEqualTo(8);
+    }
+
+    private static void sample(AdaptiveConcurrencyLimiter limiter, long rttMillis, int inflightAtStart) {
+        assertThat(limiter.tryAcquire(1.0)).isPositive();
+        limiter.onSuccess(TimeUnit.MILLISECONDS.toNanos(rttMillis), inflightAtStart);
+    }
+}
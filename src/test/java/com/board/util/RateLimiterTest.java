@@ -0,0 +1,62 @@
+package com.board.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("토큰 버킷 요청 제한기 테스트")
+class RateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    @DisplayName("capacity 만큼 연속 허용 후 거절, 거절 시 다음 토큰까지 남은 시간 반환")
+    void burstThenReject() {
+        RateLimiter limiter = new RateLimiter(3, 60, 100, Duration.ofMinutes(10), now::get);
+
+        assertThat(limiter.tryAcquire("ip:1")).isZero();
+        assertThat(limiter.tryAcquire("ip:1")).isZero();
+        assertThat(limiter.tryAcquire("ip:1")).isZero();
+
+        // 분당 60개 = 1초에 1개
+        assertThat(limiter.tryAcquire("ip:1")).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        // 다른 키는 따로 센다
+        assertThat(limiter.tryAcquire("ip:2")).isZero();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 비율대로 다시 채워지고 capacity 를 넘지 않음")
+    void refill() {
+        RateLimiter limiter = new RateLimiter(2, 60, 100, Duration.ofMinutes(10), now::get);
+        limiter.tryAcquire("user:a");
+        limiter.tryAcquire("user:a");
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(limiter.tryAcquire("user:a")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(limiter.tryAcquire("user:a")).isZero();
+
+        now.addAndGet(TimeUnit.HOURS.toNanos(1));
+        assertThat(limiter.tryAcquire("user:a")).isZero();
+        assertThat(limiter.tryAcquire("user:a")).isZero();
+        assertThat(limiter.tryAcquire("user:a")).isPositive();
+    }
+
+    @Test
+    @DisplayName("버킷 수는 maxKeys 로 제한")
+    void boundedKeys() {
+        RateLimiter limiter = new RateLimiter(1, 1, 10, Duration.ofMinutes(10), now::get);
+        for (int i = 0; i < 1000; i++) {
+            limiter.tryAcquire("ip:" + i);
+        }
+        limiter.getBuckets().cleanUp();
+
+        assertThat(limiter.getBuckets().estimatedSize()).isLessThanOrEqualTo(10);
+    }
+}
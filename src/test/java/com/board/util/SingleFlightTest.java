@@ -0,0 +1,151 @@
+package com.board.util;
+
+import com.board.exception.ResourceNotFoundException;
+import com.board.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("동시 조회 합치기(single-flight) 테스트")
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger threadNumber = new AtomicInteger();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8,
+            runnable -> new Thread(runnable, "single-flight-test-" + threadNumber.incrementAndGet()));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 한 번만 조회하고 같은 결과를 받음")
+    void coalescesConcurrentLoads() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), 1, meterRegistry);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "post-1";
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                loads.incrementAndGet();
+                return "duplicate";
+            })));
+        }
+        waitForFollowers(5);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("post-1");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("post-1");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.getInFlightCount()).isZero();
+
+        // 조회가 끝난 뒤의 요청은 새로 읽는다 (캐시가 아님)
+        assertThat(singleFlight.execute(1L, () -> "post-1-again")).isEqualTo("post-1-again");
+    }
+
+    @Test
+    @DisplayName("조회가 예외로 끝나면 기다리던 요청도 같은 예외를 받음")
+    void propagatesLeaderFailure() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), 1, meterRegistry);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute(7L, () -> {
+            loading.countDown();
+            await(release);
+            throw new ResourceNotFoundException("게시글을 찾을 수 없습니다. ID: 7");
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> follower = executor.submit(() -> singleFlight.execute(7L, () -> "unexpected"));
+        waitForFollowers(1);
+        release.countDown();
+
+        for (Future<String> call : List.of(leader, follower)) {
+            assertThatThrownBy(() -> call.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause()
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessageContaining("ID: 7");
+        }
+        assertThat(singleFlight.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("먼저 시작한 조회가 wait-timeout 안에 끝나지 않으면 503 예외")
+    void boundedWait() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofMillis(50), 2, meterRegistry);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute(3L, () -> {
+            loading.countDown();
+            await(release);
+            return "slow";
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> singleFlight.execute(3L, () -> "unexpected"))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .satisfies(e -> assertThat(((ServiceOverloadedException) e).getRetryAfterSeconds()).isEqualTo(2));
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        assertThat(meterRegistry.get("board.singleflight.calls").tag("result", "timeout").counter().count())
+                .isEqualTo(1);
+    }
+
+    /**
+     * 기다리는 요청이 모두 leader 의 결과를 기다리기 시작할 때까지 대기 (waiting 상태의 스레드 수로 판단)
+     */
+    private void waitForFollowers(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            long waiting = Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> thread.getState() == Thread.State.TIMED_WAITING)
+                    .filter(thread -> thread.getName().startsWith("single-flight-test-"))
+                    .count();
+            // leader 는 latch.await() 로 WAITING 상태이므로 세지 않는다
+            if (waiting >= count) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}